@@ -0,0 +1,34 @@
+package com.auction.benchmark;
+
+import com.auction.service.AuctionItemService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경매 마감 일괄 처리 벤치마크
+ * - 매 측정 전에 상품 1,000개를 모두 "마감 시간이 지난 OPEN" 상태로 되돌린 뒤 processAuctionEndings 1회 실행
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class AuctionEndingBenchmark {
+
+    private AuctionItemService auctionItemService;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDataset dataset) {
+        auctionItemService = dataset.context.getBean(AuctionItemService.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void reopen(BenchmarkDataset dataset) {
+        dataset.jdbcTemplate.update("update auction_item set status = 'OPEN', winner_id = null, "
+                + "end_time = dateadd('MINUTE', -1, current_timestamp)");
+    }
+
+    @Benchmark
+    public int processAuctionEndings() {
+        return auctionItemService.processAuctionEndings();
+    }
+}
@@ -0,0 +1,102 @@
+package com.auction.benchmark;
+
+import com.auction.AuctionApplication;
+import com.auction.domain.AuctionItem;
+import com.auction.domain.User;
+import com.auction.repository.AuctionItemRepository;
+import com.auction.repository.UserRepository;
+import com.auction.service.AuctionItemReconciliationService;
+import com.auction.service.AuctionSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * 벤치마크 공용 데이터셋
+ * - 애플리케이션 컨텍스트를 H2 인메모리 DB(MySQL 호환 모드)로 띄우고 합성 데이터를 적재
+ * - 사용자 1,000명, 경매 상품 1,000개에 bidCount 개의 입찰을 고르게 분배
+ * - 입찰 요약 컬럼은 운영과 같은 정합성 점검 서비스로 채움
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDataset {
+
+    static final int USERS = 1_000;
+    static final int ITEMS = 1_000;
+    static final int START_PRICE = 1_000;
+
+    @Param({"10000", "100000", "1000000"})
+    public int bidCount;
+
+    ConfigurableApplicationContext context;
+    JdbcTemplate jdbcTemplate;
+    List<AuctionItem> items;
+    List<Long> itemIds;
+    User bidder;
+
+    @Setup(Level.Trial)
+    public void start() {
+        // ✅ 명령행 인자로 전달해야 application.yml 설정(MySQL)보다 우선 적용됨
+        context = new SpringApplicationBuilder(AuctionApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.thymeleaf.cache=true",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.orm.deprecation=ERROR",
+                "--auction.reconcile.cron=-",
+                "--auction.close.sweep-interval-ms=3600000",
+                "--auction.mail.poll-interval-ms=3600000");
+        try {
+            jdbcTemplate = context.getBean(JdbcTemplate.class);
+            seed();
+            context.getBean(AuctionItemReconciliationService.class).reconcile();
+            context.getBean(AuctionSearchIndex.class).rebuild(); // 시작 시 생성된 색인은 적재 전 데이터 기준
+
+            AuctionItemRepository auctionItemRepository = context.getBean(AuctionItemRepository.class);
+            items = auctionItemRepository.findAll(Sort.by("endTime", "id"));
+            itemIds = items.stream().map(AuctionItem::getId).toList();
+            bidder = context.getBean(UserRepository.class).findByEmail("bench-bidder@example.com").orElseThrow();
+        } catch (RuntimeException e) {
+            context.close(); // 준비 실패 시에도 작업 스레드를 정리해야 포크된 JVM 이 종료됨
+            throw e;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    private void seed() {
+        // ✅ 한 건씩 저장하면 100만 건 적재에 수 분이 걸리므로 H2 의 SYSTEM_RANGE 로 일괄 생성
+        jdbcTemplate.update("insert into users (email, password, name, points, is_admin, is_banned) "
+                + "select 'bench' || x || '@example.com', 'x', 'bench' || x, 1000000000, false, false "
+                + "from system_range(1, ?)", USERS);
+        jdbcTemplate.update("insert into users (email, password, name, points, is_admin, is_banned) "
+                + "values ('bench-bidder@example.com', 'x', 'bench-bidder', 2000000000, false, false)");
+
+        Long sellerId = jdbcTemplate.queryForObject("select min(id) from users where email like 'bench%'", Long.class);
+        jdbcTemplate.update("insert into auction_item (name, description, start_price, end_time, user_id, purchased, "
+                + "current_price, bid_count, status) "
+                + "select '벤치마크 상품 ' || x, '합성 데이터', ?, dateadd('MINUTE', 43200 + x, current_timestamp), "
+                + "?, false, ?, 0, 'OPEN' from system_range(1, ?)", START_PRICE, sellerId, START_PRICE, ITEMS);
+
+        Long firstUserId = sellerId;
+        Long firstItemId = jdbcTemplate.queryForObject("select min(id) from auction_item", Long.class);
+        jdbcTemplate.update("insert into bids (id, user_id, auction_item_id, bid_amount, bid_time) "
+                + "select x, ? + mod(x, ?), ? + mod(x, ?), ? + x, current_timestamp from system_range(1, ?)",
+                firstUserId, USERS, firstItemId, ITEMS, START_PRICE, bidCount);
+        // ✅ 입찰 ID 는 시퀀스로 발급되므로 직접 넣은 ID 뒤에서 이어지도록 조정
+        jdbcTemplate.execute("alter sequence bid_seq restart with " + (bidCount + 1));
+    }
+}
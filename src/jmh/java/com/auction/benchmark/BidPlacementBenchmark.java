@@ -0,0 +1,61 @@
+package com.auction.benchmark;
+
+import com.auction.domain.AuctionItem;
+import com.auction.service.BidEngine;
+import com.auction.service.BidResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입찰 처리 벤치마크
+ * - accepted: 매번 현재가보다 높은 금액으로 입찰 (장부 락 + DB 기록 + 포인트 예치)
+ * - rejected: 현재가 이하 입찰 (락/DB 없이 메모리에서 거절되는 경로)
+ * - batched: 대량 입찰 API 경로, 한 상품에 BATCH 건을 한 번에 입찰 (장부 락 1회 + 트랜잭션 1회 + 배치 INSERT)
+ *   처리량은 입찰 1건 기준으로 환산됨
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class BidPlacementBenchmark {
+
+    private static final int BATCH = 20;
+
+    private BidEngine bidEngine;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDataset dataset) {
+        bidEngine = dataset.context.getBean(BidEngine.class);
+    }
+
+    @Benchmark
+    public BidResult accepted(BenchmarkDataset dataset) {
+        AuctionItem item = nextItem(dataset);
+        return bidEngine.placeBid(dataset.bidder, item.getId(), bidEngine.getCurrentPrice(item) + 1);
+    }
+
+    @Benchmark
+    public BidResult rejected(BenchmarkDataset dataset) {
+        return bidEngine.placeBid(dataset.bidder, nextItem(dataset).getId(), BenchmarkDataset.START_PRICE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<BidResult> batched(BenchmarkDataset dataset) {
+        AuctionItem item = nextItem(dataset);
+        int price = bidEngine.getCurrentPrice(item);
+        List<Integer> amounts = new ArrayList<>(BATCH);
+        for (int i = 1; i <= BATCH; i++) {
+            amounts.add(price + i);
+        }
+        return bidEngine.placeBids(dataset.bidder, item.getId(), amounts);
+    }
+
+    private AuctionItem nextItem(BenchmarkDataset dataset) {
+        cursor = (cursor + 1) % dataset.items.size();
+        return dataset.items.get(cursor);
+    }
+}
@@ -0,0 +1,67 @@
+package com.auction.benchmark;
+
+import com.auction.controller.AuctionItemController;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.ui.ExtendedModelMap;
+import org.springframework.ui.Model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경매 상품 목록 화면 모델 구성 벤치마크 (상품 조회 + 현재가 일괄 조회)
+ * - 첫 페이지와 중간 페이지의 비용이 같은지 확인하기 위해 목록 중간 지점의 커서도 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ListingBenchmark {
+
+    private AuctionItemController auctionItemController;
+    private String middleCursor;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDataset dataset) {
+        auctionItemController = dataset.context.getBean(AuctionItemController.class);
+
+        // ✅ 목록의 절반 지점까지 페이지를 넘겨 중간 페이지 커서를 확보
+        String cursor = null;
+        int seen = 0;
+        while (seen < BenchmarkDataset.ITEMS / 2) {
+            Model model = new ExtendedModelMap();
+            auctionItemController.auctionItems(null, null, cursor, model, new MockHttpServletResponse());
+            seen += ((List<?>) model.getAttribute("items")).size();
+            cursor = (String) model.getAttribute("nextCursor");
+        }
+        middleCursor = cursor;
+    }
+
+    @Benchmark
+    public Model firstPage() {
+        Model model = new ExtendedModelMap();
+        auctionItemController.auctionItems(null, null, null, model, new MockHttpServletResponse());
+        return model;
+    }
+
+    @Benchmark
+    public Model middlePage() {
+        Model model = new ExtendedModelMap();
+        auctionItemController.auctionItems(null, null, middleCursor, model, new MockHttpServletResponse());
+        return model;
+    }
+
+    @Benchmark
+    public Model openOnly() {
+        Model model = new ExtendedModelMap();
+        auctionItemController.auctionItems(null, "open", null, model, new MockHttpServletResponse());
+        return model;
+    }
+
+    @Benchmark
+    public Model search() {
+        Model model = new ExtendedModelMap();
+        auctionItemController.auctionItems("상품 12", null, null, model, new MockHttpServletResponse());
+        return model;
+    }
+}
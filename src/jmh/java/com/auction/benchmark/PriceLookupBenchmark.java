@@ -0,0 +1,39 @@
+package com.auction.benchmark;
+
+import com.auction.repository.BidRepository;
+import com.auction.service.AuctionPriceService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 최고 입찰가 조회 벤치마크 (상품 1,000개 기준)
+ * - currentPrices: 목록/마이페이지/관리자 화면이 사용하는 경로 (입찰 장부 + 요약 컬럼, 쿼리 없음)
+ * - bidSummary: bids 테이블 집계 (정합성 점검 경로, 입찰 수에 비례)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PriceLookupBenchmark {
+
+    private AuctionPriceService auctionPriceService;
+    private BidRepository bidRepository;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDataset dataset) {
+        auctionPriceService = dataset.context.getBean(AuctionPriceService.class);
+        bidRepository = dataset.context.getBean(BidRepository.class);
+    }
+
+    @Benchmark
+    public Map<Long, Integer> currentPrices(BenchmarkDataset dataset) {
+        return auctionPriceService.getCurrentPrices(dataset.items);
+    }
+
+    @Benchmark
+    public List<BidRepository.BidSummary> bidSummary(BenchmarkDataset dataset) {
+        return bidRepository.summarizeByAuctionItemIds(dataset.itemIds);
+    }
+}
@@ -0,0 +1,19 @@
+package com.auction.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * 시계 설정 클래스
+ * - 임대 / 생존 신호처럼 만료 시간을 따지는 컴포넌트가 현재 시각을 이 시계에서 읽음 (테스트에서 시간을 앞당길 수 있도록)
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
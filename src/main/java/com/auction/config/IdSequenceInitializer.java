@@ -0,0 +1,70 @@
+package com.auction.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.util.Map;
+
+/**
+ * ID 시퀀스 초기화 클래스 - 시퀀스 식별자로 바꾼 테이블의 다음 ID 를 기존 데이터 뒤로 맞춥니다.
+ * MySQL 은 시퀀스가 없어 Hibernate 가 시퀀스 테이블(next_val 한 행)로 대신하며, 처음 생성될 때 1 부터 시작하므로
+ * 자동 증가(IDENTITY)로 저장된 기존 행과 ID 가 겹치지 않도록 시작 시 한 번 보정합니다.
+ * 스키마 마이그레이션(Flyway)과 JPA 초기화가 끝난 뒤 실행되도록 entityManagerFactory 에 의존합니다.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class IdSequenceInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceInitializer.class);
+
+    // 시퀀스 테이블 → 해당 시퀀스로 ID 를 발급하는 테이블
+    private static final Map<String, String> SEQUENCE_TABLES = Map.of(
+            "bid_seq", "bids",
+            "charge_history_seq", "charge_history");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * IdSequenceInitializer 생성자
+     *
+     * @param jdbcTemplate JDBC 템플릿
+     */
+    public IdSequenceInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 애플리케이션 실행 시, 시퀀스 테이블의 다음 값이 기존 최대 ID 이하이면 최대 ID + 1 로 올립니다.
+     * 실제 시퀀스를 지원하는 DB(H2 등)는 시퀀스 테이블이 없으므로 아무것도 하지 않습니다.
+     */
+    @PostConstruct
+    public void init() {
+        SEQUENCE_TABLES.forEach((sequenceTable, table) -> {
+            if (!tableExists(sequenceTable)) {
+                return;
+            }
+            int updated = jdbcTemplate.update("update " + sequenceTable
+                    + " set next_val = (select coalesce(max(id), 0) + 1 from " + table + ")"
+                    + " where next_val <= (select coalesce(max(id), 0) from " + table + ")");
+            if (updated > 0) {
+                logger.info("✅ ID 시퀀스 보정 완료 - {} (대상 테이블: {})", sequenceTable, table);
+            }
+        });
+    }
+
+    private boolean tableExists(String tableName) {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            try (ResultSet tables = connection.getMetaData()
+                    .getTables(connection.getCatalog(), null, tableName, new String[]{"TABLE"})) {
+                return tables.next();
+            }
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+}
@@ -0,0 +1,44 @@
+package com.auction.config;
+
+import com.auction.metrics.AuctionMetrics;
+import com.auction.metrics.QueryCountInspector;
+import com.auction.metrics.QueryCountInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 운영 지표 설정 클래스
+ * - Hibernate 에 SQL 집계용 StatementInspector 등록
+ * - 컨트롤러 요청마다 실행된 SQL 수를 기록하는 인터셉터 등록
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final AuctionMetrics auctionMetrics;
+    private final int queryWarnThreshold;
+
+    public MetricsConfig(AuctionMetrics auctionMetrics,
+                         @Value("${auction.metrics.query-warn-threshold:20}") int queryWarnThreshold) {
+        this.auctionMetrics = auctionMetrics;
+        this.queryWarnThreshold = queryWarnThreshold;
+    }
+
+    /**
+     * SQL 실행 수 집계를 위한 StatementInspector 등록
+     */
+    @Bean
+    public HibernatePropertiesCustomizer queryCountCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryCountInterceptor(auctionMetrics, queryWarnThreshold))
+                .excludePathPatterns("/css/**", "/js/**", "/actuator/**");
+    }
+}
@@ -4,11 +4,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
 /**
  * Spring Security 설정 클래스 - 인증 및 권한 관리를 담당합니다.
@@ -58,9 +62,18 @@ public class SecurityConfig {
                         .requestMatchers("/dashboard", "/charge", "/charge-history", "/mypage").authenticated()
                         // 🔹 관리자 페이지 접근 제한
                         .requestMatchers("/admin/**").hasAuthority("ADMIN") // ✅ "ROLE_" prefix 필요 없음
+                        // 🔹 운영 지표(actuator)는 관리자만 조회
+                        .requestMatchers("/actuator/**").hasAuthority("ADMIN")
+                        // 🔹 노드 간 입찰 / 이벤트 전달은 사용자 인증 대신 공유 비밀 값으로 확인 (ClusterBidController, ClusterEventController)
+                        .requestMatchers("/internal/cluster/**").permitAll()
                         // 🔹 기타 모든 요청은 인증 필요
                         .anyRequest().authenticated()
                 )
+                // 🔹 대량 입찰 API 등 봇 / 제휴사 호출은 HTTP Basic 인증 허용
+                .httpBasic(Customizer.withDefaults())
+                // 🔹 API 는 로그인 페이지로 리디렉션하지 않고 401 응답
+                .exceptionHandling(exception -> exception.defaultAuthenticationEntryPointFor(
+                        new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED), new AntPathRequestMatcher("/api/**")))
                 .formLogin(form -> form
                         .loginPage("/login") // 커스텀 로그인 페이지 설정
                         .defaultSuccessUrl("/", true) // 로그인 성공 시 홈으로 이동
@@ -0,0 +1,22 @@
+package com.auction.config;
+
+/**
+ * 🚦 애플리케이션 시작(ApplicationReadyEvent) 작업 순서 (@Order 값, 작은 값부터 같은 스레드에서 차례로 실행)
+ * 1. 입찰 요약 컬럼 정합성 점검 - 이후 작업이 읽는 현재가 / 입찰 수 / 최고 입찰자를 먼저 보정
+ * 2. 사용자 통계 재구성 - 마감 처리가 시작되기 전에 끝내야 마감으로 반영되는 통계가 재구성 결과와 겹치지 않음
+ * 3. 홈 피드 적재, 검색 색인 생성(별도 스레드) - 보정된 상품 정보로 메모리 상태를 만듦
+ * 4. 마감 스케줄러 시작 - 지난 마감을 처리하며 발행하는 마감 이벤트를 이미 적재된 홈 피드 / 색인이 받음
+ * - 입찰 저널 복구는 빈 초기화(@PostConstruct) 단계에서 이미 끝나며,
+ *   입찰 장부(BidBook)는 미리 적재하지 않고 상품별 첫 입찰 때 보정된 DB 상태로 적재됨
+ */
+public final class StartupOrder {
+
+    public static final int RECONCILE = 100;
+    public static final int USER_STATS = 200;
+    public static final int HOME_FEED = 300;
+    public static final int SEARCH_INDEX = 310;
+    public static final int CLOSE_SCHEDULER = 400;
+
+    private StartupOrder() {
+    }
+}
@@ -0,0 +1,43 @@
+package com.auction.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 작업 스레드 생성기 - 마감 처리, 메일 발송 등 애플리케이션이 직접 만드는 작업 스레드의 종류를 결정합니다.
+ * spring.threads.virtual.enabled 가 true 이면 요청 처리(Tomcat)와 마찬가지로 가상 스레드를 사용하고,
+ * 아니면 기존과 같은 플랫폼 스레드를 사용합니다.
+ * 작업 풀의 크기는 그대로 유지되므로 가상 스레드에서도 동시에 DB 를 사용하는 작업 수는 늘어나지 않습니다.
+ */
+@Component
+public class WorkerThreads {
+
+    private final boolean virtual;
+
+    /**
+     * WorkerThreads 생성자
+     *
+     * @param virtual 가상 스레드 사용 여부
+     */
+    public WorkerThreads(@Value("${spring.threads.virtual.enabled:false}") boolean virtual) {
+        this.virtual = virtual;
+    }
+
+    /**
+     * 지정한 이름의 작업 스레드를 만드는 ThreadFactory 를 반환합니다.
+     *
+     * @param name 스레드 이름
+     * @return 가상 스레드 또는 플랫폼 스레드 생성기
+     */
+    public ThreadFactory factory(String name) {
+        return virtual
+                ? Thread.ofVirtual().name(name).factory()
+                : Thread.ofPlatform().name(name).factory();
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+}
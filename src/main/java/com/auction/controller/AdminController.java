@@ -2,12 +2,31 @@ package com.auction.controller;
 
 import com.auction.domain.AuctionItem;
 import com.auction.domain.User;
+import com.auction.event.AuctionItemDeletedEvent;
 import com.auction.repository.AuctionItemRepository;
+import com.auction.repository.AuctionItemRepository.CatalogEntry;
 import com.auction.repository.BidRepository;
 import com.auction.repository.UserRepository;
+import com.auction.repository.UserRepository.UserRow;
+import com.auction.service.AuctionCatalogService;
+import com.auction.service.AuctionCatalogService.CatalogPage;
+import com.auction.service.AuctionCatalogService.StatusFilter;
+import com.auction.service.AuctionPriceService;
+import com.auction.service.UserCacheService;
+import com.auction.service.BidEngine;
+import com.auction.service.ConflictRetry;
+import com.auction.service.PointLedgerService;
+import com.auction.service.UserService;
+import com.auction.service.UserStatsService;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
@@ -15,9 +34,14 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * 관리자 컨트롤러 - 회원 및 경매 상품을 관리하는 기능 제공
@@ -30,6 +54,15 @@ public class AdminController {
     private final UserRepository userRepository;
     private final AuctionItemRepository auctionItemRepository;
     private final BidRepository bidRepository;
+    private final BidEngine bidEngine;
+    private final PointLedgerService pointLedgerService;
+    private final AuctionPriceService auctionPriceService;
+    private final UserCacheService userCacheService;
+    private final AuctionCatalogService auctionCatalogService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserService userService;
+    private final ConflictRetry conflictRetry;
+    private final UserStatsService userStatsService;
 
     /**
      * AdminController 생성자
@@ -37,23 +70,53 @@ public class AdminController {
      * @param userRepository 사용자 레포지토리
      * @param auctionItemRepository 경매 상품 레포지토리
      * @param bidRepository 입찰 레포지토리
+     * @param bidEngine 메모리 상주 입찰 엔진
+     * @param pointLedgerService 포인트 원장 서비스
+     * @param auctionPriceService 현재가 일괄 조회 서비스
+     * @param userCacheService 사용자 조회 캐시
+     * @param auctionCatalogService 경매 상품 / 사용자 목록 조회 서비스
+     * @param eventPublisher 이벤트 발행기 (상품 삭제 알림)
+     * @param userService 사용자 서비스 (정지 / 정지 해제)
+     * @param conflictRetry 동시 수정 충돌 재시도
+     * @param userStatsService 판매자 / 입찰자 통계 서비스
      */
-    public AdminController(UserRepository userRepository, AuctionItemRepository auctionItemRepository, BidRepository bidRepository) {
+    public AdminController(UserRepository userRepository, AuctionItemRepository auctionItemRepository,
+                           BidRepository bidRepository, BidEngine bidEngine,
+                           PointLedgerService pointLedgerService, AuctionPriceService auctionPriceService,
+                           UserCacheService userCacheService, AuctionCatalogService auctionCatalogService,
+                           ApplicationEventPublisher eventPublisher, UserService userService,
+                           ConflictRetry conflictRetry, UserStatsService userStatsService) {
         this.userRepository = userRepository;
         this.auctionItemRepository = auctionItemRepository;
         this.bidRepository = bidRepository;
+        this.bidEngine = bidEngine;
+        this.pointLedgerService = pointLedgerService;
+        this.auctionPriceService = auctionPriceService;
+        this.userCacheService = userCacheService;
+        this.auctionCatalogService = auctionCatalogService;
+        this.eventPublisher = eventPublisher;
+        this.userService = userService;
+        this.conflictRetry = conflictRetry;
+        this.userStatsService = userStatsService;
     }
 
     /**
-     * 관리자 페이지 - 모든 회원 및 경매 상품 조회
+     * 관리자 페이지 - 회원 및 경매 상품 목록 조회 (각각 키셋 페이지네이션)
      *
      * @param userDetails 로그인한 관리자 정보
+     * @param userCursor  사용자 목록 다음 페이지 커서 (첫 페이지는 생략)
+     * @param itemCursor  경매 상품 목록 다음 페이지 커서 (첫 페이지는 생략)
+     * @param status      경매 상품 상태 필터 (all, open, closed, sold / 기본값 all)
      * @param model       템플릿에 전달할 데이터
      * @return 관리자 페이지 (admin.html)
      */
     @GetMapping("/admin")
-    public String adminPage(@AuthenticationPrincipal UserDetails userDetails, Model model) {
-        Optional<User> adminUser = userRepository.findByEmail(userDetails.getUsername());
+    public String adminPage(@AuthenticationPrincipal UserDetails userDetails,
+                            @RequestParam(value = "userCursor", required = false) String userCursor,
+                            @RequestParam(value = "itemCursor", required = false) String itemCursor,
+                            @RequestParam(value = "status", required = false) String status,
+                            Model model) {
+        Optional<User> adminUser = userCacheService.getCurrentUser(userDetails);
 
         // 🔹 현재 로그인한 사용자가 관리자인지 확인
         if (adminUser.isEmpty() || !adminUser.get().isAdmin()) {
@@ -61,17 +124,54 @@ public class AdminController {
             return "error"; // 관리자가 아니라면 접근 차단
         }
 
-        // 🔹 모든 사용자 및 경매 상품 목록 조회
-        List<User> users = userRepository.findAllByOrderByIdAsc();
-        List<AuctionItem> items = auctionItemRepository.findAllByOrderByEndTimeAsc();
+        // 🔹 사용자 및 경매 상품 목록을 한 페이지씩 조회
+        StatusFilter filter = StatusFilter.from(status);
+        CatalogPage<UserRow> users;
+        CatalogPage<CatalogEntry> items;
+        try {
+            users = auctionCatalogService.getUserPage(userCursor);
+            items = auctionCatalogService.getAdminItemPage(filter, itemCursor);
+        } catch (IllegalArgumentException e) {
+            model.addAttribute("errorMessage", e.getMessage());
+            return "error";
+        }
 
-        model.addAttribute("users", users);
-        model.addAttribute("items", items);
+        model.addAttribute("users", users.items());
+        model.addAttribute("items", items.items());
+        model.addAttribute("highestBids", auctionPriceService.getCatalogPrices(items.items()));
+        model.addAttribute("status", filter.getParam());
+        model.addAttribute("userCursor", userCursor);
+        model.addAttribute("itemCursor", itemCursor);
+        model.addAttribute("nextUserCursor", users.nextCursor());
+        model.addAttribute("nextItemCursor", items.nextCursor());
 
-        logger.info("✅ 관리자 페이지 로드 완료 (사용자: {}, 경매 상품: {})", users.size(), items.size());
+        logger.info("✅ 관리자 페이지 로드 완료 (사용자: {}, 경매 상품: {})", users.items().size(), items.items().size());
         return "admin";
     }
 
+    /**
+     * 사용자 목록 CSV 내보내기
+     * - 전체 사용자를 DB 커서로 읽으며 바로 응답에 출력 (전체 목록을 메모리에 올리지 않음)
+     *
+     * @return 사용자 목록 CSV
+     */
+    @GetMapping("/admin/export/users.csv")
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        return csv("users.csv", auctionCatalogService::exportUsers);
+    }
+
+    /**
+     * 경매 상품 목록 CSV 내보내기
+     *
+     * @param status 경매 상품 상태 필터 (all, open, closed, sold / 기본값 all)
+     * @return 경매 상품 목록 CSV
+     */
+    @GetMapping("/admin/export/items.csv")
+    public ResponseEntity<StreamingResponseBody> exportItems(@RequestParam(value = "status", required = false) String status) {
+        StatusFilter filter = StatusFilter.from(status);
+        return csv("auction-items.csv", writer -> auctionCatalogService.exportItems(filter, writer));
+    }
+
     /**
      * 사용자 정지 처리
      *
@@ -80,14 +180,18 @@ public class AdminController {
      * @return 관리자 페이지로 리디렉션
      */
     @PostMapping("/admin/ban-user")
-    @Transactional
     public String banUser(@RequestParam("userId") Long userId, Model model) {
-        Optional<User> userOptional = userRepository.findById(userId);
+        Optional<User> userOptional;
+        try {
+            userOptional = conflictRetry.execute("ban", () -> userService.updateBanned(userId, true)); // 🔹 사용자 정지 처리
+        } catch (ConcurrencyFailureException e) {
+            model.addAttribute("errorMessage", "다른 요청과 동시에 처리되어 변경하지 못했습니다. 다시 시도해 주세요.");
+            return "error";
+        }
 
         if (userOptional.isPresent()) {
             User user = userOptional.get();
-            user.setBanned(true); // 🔹 사용자 정지 처리
-            userRepository.save(user);
+            userCacheService.evict(userId);
             logger.info("🚫 사용자 정지됨: {} (ID: {})", user.getEmail(), userId);
         } else {
             model.addAttribute("errorMessage", "사용자를 찾을 수 없습니다.");
@@ -104,14 +208,18 @@ public class AdminController {
      * @return 관리자 페이지로 리디렉션
      */
     @PostMapping("/admin/unban-user")
-    @Transactional
     public String unbanUser(@RequestParam("userId") Long userId, Model model) {
-        Optional<User> userOptional = userRepository.findById(userId);
+        Optional<User> userOptional;
+        try {
+            userOptional = conflictRetry.execute("unban", () -> userService.updateBanned(userId, false)); // 🔹 사용자 정지 해제
+        } catch (ConcurrencyFailureException e) {
+            model.addAttribute("errorMessage", "다른 요청과 동시에 처리되어 변경하지 못했습니다. 다시 시도해 주세요.");
+            return "error";
+        }
 
         if (userOptional.isPresent()) {
             User user = userOptional.get();
-            user.setBanned(false); // 🔹 사용자 정지 해제
-            userRepository.save(user);
+            userCacheService.evict(userId);
             logger.info("✅ 사용자 정지 해제됨: {} (ID: {})", user.getEmail(), userId);
         } else {
             model.addAttribute("errorMessage", "사용자를 찾을 수 없습니다.");
@@ -120,6 +228,33 @@ public class AdminController {
         return "redirect:/admin";
     }
 
+    /**
+     * 판매자 / 입찰자 통계를 원본 테이블로부터 다시 구성
+     * - 증분 반영이 어긋났을 때(입찰 요약 컬럼 보정 등) 사용
+     *
+     * @return 관리자 페이지로 리디렉션
+     */
+    @PostMapping("/admin/stats/rebuild")
+    public String rebuildStats() {
+        int users = userStatsService.rebuild();
+        logger.info("📊 관리자 요청으로 사용자 통계 재구성: {}명", users);
+        return "redirect:/admin";
+    }
+
+    private ResponseEntity<StreamingResponseBody> csv(String filename, Consumer<Writer> exporter) {
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writer.write('\uFEFF'); // ✅ 엑셀에서 한글이 깨지지 않도록 BOM 출력
+            exporter.accept(writer);
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     /**
      * 경매 상품 삭제 처리
      *
@@ -135,11 +270,19 @@ public class AdminController {
         if (auctionItemOptional.isPresent()) {
             AuctionItem auctionItem = auctionItemOptional.get();
 
+            // 🔹 진행 중인 입찰 예치 반환
+            pointLedgerService.releaseAllForItem(itemId);
+
+            // 🔹 상품이 판매자 / 입찰자 통계에 반영한 값 되돌림 (입찰 내역을 지우기 전에 입찰자별 입찰 수를 셈)
+            userStatsService.recordItemRemoved(auctionItem);
+
             // 🔹 해당 상품의 모든 입찰 내역 삭제
             bidRepository.deleteByAuctionItem(auctionItem);
 
             // 🔹 경매 상품 삭제
             auctionItemRepository.delete(auctionItem);
+            bidEngine.evict(itemId);
+            eventPublisher.publishEvent(new AuctionItemDeletedEvent(itemId)); // 커밋 후 검색 색인에서 제거
 
             logger.info("🗑️ 경매 상품 삭제됨: {} (ID: {})", auctionItem.getName(), itemId);
         } else {
@@ -1,19 +1,33 @@
 package com.auction.controller;
 
 import com.auction.domain.AuctionItem;
-import com.auction.domain.Bid;
+import com.auction.domain.AuctionStatus;
 import com.auction.domain.User;
 import com.auction.repository.AuctionItemRepository;
-import com.auction.repository.BidRepository;
-import com.auction.repository.UserRepository;
+import com.auction.repository.AuctionItemRepository.CatalogEntry;
+import com.auction.service.AuctionCatalogService;
+import com.auction.service.AuctionCatalogService.CatalogPage;
+import com.auction.service.AuctionCatalogService.StatusFilter;
 import com.auction.service.AuctionItemService;
+import com.auction.service.AuctionPriceService;
+import com.auction.service.BidBook;
+import com.auction.service.BidEngine;
+import com.auction.service.ConflictRetry;
+import com.auction.service.LivePriceBroadcaster;
+import com.auction.service.UserCacheService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -28,37 +42,65 @@ public class AuctionItemController {
 
     private final AuctionItemRepository auctionItemRepository;
     private final AuctionItemService auctionItemService;
-    private final UserRepository userRepository;
-    private final BidRepository bidRepository;
+    private final UserCacheService userCacheService;
+    private final BidEngine bidEngine;
+    private final AuctionPriceService auctionPriceService;
+    private final LivePriceBroadcaster livePriceBroadcaster;
+    private final AuctionCatalogService auctionCatalogService;
+    private final ConflictRetry conflictRetry;
 
     /**
      * AuctionItemController 생성자
      *
      * @param auctionItemRepository 경매 상품 리포지토리
-     * @param userRepository 사용자 리포지토리
-     * @param bidRepository 입찰 리포지토리
+     * @param userCacheService 사용자 조회 캐시
      * @param auctionItemService 경매 상품 서비스
+     * @param bidEngine 메모리 상주 입찰 엔진
+     * @param auctionPriceService 현재가 일괄 조회 서비스
+     * @param livePriceBroadcaster 실시간 시세 방송 서비스
+     * @param auctionCatalogService 경매 상품 목록 조회 서비스
+     * @param conflictRetry 동시 수정 충돌 재시도
      */
-    public AuctionItemController(AuctionItemRepository auctionItemRepository, UserRepository userRepository,
-                                 BidRepository bidRepository, AuctionItemService auctionItemService) {
+    public AuctionItemController(AuctionItemRepository auctionItemRepository, UserCacheService userCacheService,
+                                 AuctionItemService auctionItemService,
+                                 BidEngine bidEngine, AuctionPriceService auctionPriceService,
+                                 LivePriceBroadcaster livePriceBroadcaster,
+                                 AuctionCatalogService auctionCatalogService,
+                                 ConflictRetry conflictRetry) {
         this.auctionItemRepository = auctionItemRepository;
-        this.userRepository = userRepository;
-        this.bidRepository = bidRepository;
+        this.userCacheService = userCacheService;
         this.auctionItemService = auctionItemService;
+        this.bidEngine = bidEngine;
+        this.auctionPriceService = auctionPriceService;
+        this.livePriceBroadcaster = livePriceBroadcaster;
+        this.auctionCatalogService = auctionCatalogService;
+        this.conflictRetry = conflictRetry;
     }
 
     /**
-     * 경매 상품 목록 페이지 (검색 기능 포함)
+     * 경매 상품 목록 페이지 (검색 / 상태 필터 / 키셋 페이지네이션)
      *
      * @param search 검색어 (선택 사항)
+     * @param status 상태 필터 (all, open, closed, sold / 기본값 all)
+     * @param cursor 다음 페이지 커서 (첫 페이지는 생략)
      * @param model  템플릿에 전달할 모델 객체
+     * @param response 커서가 잘못된 경우 응답 상태를 400 으로 지정
      * @return 경매 상품 목록 페이지
      */
     @GetMapping("/auction-items")
-    public String auctionItems(@RequestParam(value = "search", required = false) String search, Model model) {
-        List<AuctionItem> items = (search != null && !search.trim().isEmpty())
-                ? auctionItemRepository.findByNameContainingIgnoreCaseOrderByEndTimeAsc(search)
-                : auctionItemRepository.findAllByOrderByEndTimeAsc();
+    public String auctionItems(@RequestParam(value = "search", required = false) String search,
+                               @RequestParam(value = "status", required = false) String status,
+                               @RequestParam(value = "cursor", required = false) String cursor,
+                               Model model, HttpServletResponse response) {
+        StatusFilter filter = StatusFilter.from(status);
+        CatalogPage<CatalogEntry> page;
+        try {
+            page = auctionCatalogService.getItemPage(filter, search, cursor);
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST); // ✅ 잘못된 커서는 400
+            model.addAttribute("errorMessage", e.getMessage());
+            return "error";
+        }
 
         // ✅ 검색어가 있을 경우 로깅
         if (search != null && !search.trim().isEmpty()) {
@@ -66,15 +108,11 @@ public class AuctionItemController {
             model.addAttribute("searchKeyword", search);
         }
 
-        // ✅ 각 경매 상품의 최고 입찰가 조회
-        Map<Long, Integer> highestBids = new HashMap<>();
-        for (AuctionItem item : items) {
-            Bid highestBid = bidRepository.findTopByAuctionItemOrderByBidAmountDesc(item);
-            highestBids.put(item.getId(), (highestBid != null) ? highestBid.getBidAmount() : item.getStartPrice());
-        }
-
-        model.addAttribute("items", items);
-        model.addAttribute("highestBids", highestBids);
+        // ✅ 현재 페이지 상품의 최고 입찰가를 일괄 조회 (N+1 쿼리 방지)
+        model.addAttribute("items", page.items());
+        model.addAttribute("highestBids", auctionPriceService.getCatalogPrices(page.items()));
+        model.addAttribute("status", filter.getParam());
+        model.addAttribute("nextCursor", page.nextCursor());
         return "auction-items";
     }
 
@@ -96,6 +134,8 @@ public class AuctionItemController {
      * @param description 상품 설명
      * @param startPrice  시작 가격
      * @param endTime     마감 시간 (String -> LocalDateTime 변환)
+     * @param model       템플릿에 전달할 모델 객체
+     * @param response    HTTP 응답 (잘못된 마감 시간이면 400)
      * @return 경매 상품 목록 페이지로 리디렉션
      */
     @PostMapping("/auction-item/new")
@@ -103,27 +143,28 @@ public class AuctionItemController {
                                     @RequestParam("name") String name,
                                     @RequestParam("description") String description,
                                     @RequestParam("startPrice") int startPrice,
-                                    @RequestParam("endTime") String endTime) {
+                                    @RequestParam("endTime") String endTime,
+                                    Model model,
+                                    HttpServletResponse response) {
 
         if (userDetails == null) {
             return "redirect:/login";
         }
 
-        Optional<User> userOptional = userRepository.findByEmail(userDetails.getUsername());
+        Optional<User> userOptional = userCacheService.getCurrentUser(userDetails);
         if (userOptional.isEmpty()) {
             logger.warn("🚨 사용자 정보 없음 - 상품 등록 실패");
             return "error";
         }
 
         User seller = userOptional.get();
-        AuctionItem item = AuctionItem.builder()
-                .name(name)
-                .description(description)
-                .startPrice(startPrice)
-                .endTime(LocalDateTime.parse(endTime))
-                .seller(seller)
-                .build();
-        auctionItemRepository.save(item);
+        try {
+            auctionItemService.registerAuctionItem(seller, name, description, startPrice, LocalDateTime.parse(endTime));
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST); // ✅ 허용 기간을 넘는 마감 시간은 400
+            model.addAttribute("errorMessage", e.getMessage());
+            return "error";
+        }
 
         logger.info("📦 상품 등록 완료 - 상품명: {}, 등록자: {}", name, seller.getEmail());
         return "redirect:/auction-items";
@@ -139,7 +180,7 @@ public class AuctionItemController {
      */
     @GetMapping("/auction-item/{id}")
     public String auctionItemDetail(@PathVariable Long id, Model model, @AuthenticationPrincipal UserDetails userDetails) {
-        Optional<AuctionItem> itemOptional = auctionItemRepository.findById(id);
+        Optional<AuctionItem> itemOptional = auctionItemRepository.findWithWinnerById(id); // 템플릿이 낙찰자 이메일을 읽음
         if (itemOptional.isEmpty()) {
             model.addAttribute("errorMessage", "해당 상품을 찾을 수 없습니다.");
             return "error";
@@ -148,14 +189,12 @@ public class AuctionItemController {
         AuctionItem item = itemOptional.get();
         model.addAttribute("item", item);
 
-        // ✅ 최고 입찰가 조회
-        Bid highestBid = bidRepository.findTopByAuctionItemOrderByBidAmountDesc(item);
-        int highestBidAmount = (highestBid != null) ? highestBid.getBidAmount() : item.getStartPrice();
-        model.addAttribute("highestBidAmount", highestBidAmount);
+        // ✅ 최고 입찰가 조회 (입찰 엔진의 메모리 장부 사용)
+        model.addAttribute("highestBidAmount", bidEngine.getCurrentPrice(item));
 
         // ✅ 로그인한 사용자 정보 추가 (보유 포인트 포함)
         if (userDetails != null) {
-            Optional<User> userOptional = userRepository.findByEmail(userDetails.getUsername());
+            Optional<User> userOptional = userCacheService.getCurrentUser(userDetails);
             if (userOptional.isPresent()) {
                 User user = userOptional.get();
                 model.addAttribute("user", user);
@@ -166,6 +205,38 @@ public class AuctionItemController {
         return "auction-item-detail";
     }
 
+    /**
+     * 특정 경매 상품의 실시간 시세 구독 (Server-Sent Events)
+     * 입찰 수락, 남은 시간, 마감 결과가 푸시되므로 상세 페이지를 새로고침할 필요가 없다.
+     *
+     * @param id 경매 상품 ID
+     * @return SSE 연결 또는 404/503 응답
+     */
+    @GetMapping(value = "/auction-item/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public ResponseEntity<SseEmitter> streamPrice(@PathVariable Long id) {
+        try {
+            // ✅ 입찰 장부가 메모리에 있으면 DB 를 거치지 않음 (장부는 마감 시 제거되므로 진행 중인 경매)
+            BidBook book = bidEngine.peekBook(id);
+            if (book != null) {
+                return ResponseEntity.ok(livePriceBroadcaster.subscribe(id, book.getHighestAmount(),
+                        book.getBidCount(), book.getEndTime(), AuctionStatus.OPEN));
+            }
+
+            Optional<AuctionItem> itemOptional = auctionItemRepository.findById(id);
+            if (itemOptional.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            AuctionItem item = itemOptional.get();
+            int price = (item.getStatus() == AuctionStatus.OPEN) ? bidEngine.getCurrentPrice(item) : item.getCurrentPrice();
+            return ResponseEntity.ok(livePriceBroadcaster.subscribe(id, price,
+                    item.getBidCount(), item.getEndTime(), item.getStatus()));
+        } catch (IllegalStateException e) {
+            logger.warn("⚠ 실시간 시세 구독 거절 - 상품 ID: {}, 사유: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
     /**
      * 경매 상품 구매 확정 요청 처리
      *
@@ -180,7 +251,7 @@ public class AuctionItemController {
             return "redirect:/login";
         }
 
-        Optional<User> userOptional = userRepository.findByEmail(userDetails.getUsername());
+        Optional<User> userOptional = userCacheService.getCurrentUser(userDetails);
         if (userOptional.isEmpty()) {
             model.addAttribute("errorMessage", "사용자 정보를 찾을 수 없습니다.");
             return "error";
@@ -188,13 +259,16 @@ public class AuctionItemController {
 
         User buyer = userOptional.get();
         try {
-            auctionItemService.confirmPurchase(id, buyer);
+            conflictRetry.run("confirm", () -> auctionItemService.confirmPurchase(id, buyer));
             logger.info("✅ 구매 확정 완료 - 상품 ID: {}, 구매자: {}", id, buyer.getEmail());
             return "redirect:/auction-item/" + id;
         } catch (IllegalStateException | IllegalArgumentException e) {
             model.addAttribute("errorMessage", e.getMessage());
             logger.warn("⚠ 구매 확정 실패 - 상품 ID: {}, 오류: {}", id, e.getMessage());
             return "error";
+        } catch (ConcurrencyFailureException e) {
+            model.addAttribute("errorMessage", "다른 요청과 동시에 처리되어 구매 확정을 완료하지 못했습니다. 다시 시도해 주세요.");
+            return "error";
         }
     }
 }
\ No newline at end of file
@@ -1,11 +1,13 @@
 package com.auction.controller;
 
-import com.auction.domain.AuctionItem;
-import com.auction.domain.Bid;
 import com.auction.domain.User;
 import com.auction.repository.AuctionItemRepository;
+import com.auction.repository.AuctionItemRepository.CatalogEntry;
 import com.auction.repository.BidRepository;
-import com.auction.repository.UserRepository;
+import com.auction.repository.BidRepository.BidRow;
+import com.auction.service.BidRouter;
+import com.auction.service.BidResult;
+import com.auction.service.UserCacheService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -27,19 +29,23 @@ public class BidController {
 
     private final BidRepository bidRepository;
     private final AuctionItemRepository auctionItemRepository;
-    private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
+    private final BidRouter bidRouter;
 
     /**
      * BidController 생성자
      *
      * @param bidRepository        입찰 리포지토리
      * @param auctionItemRepository 경매 상품 리포지토리
-     * @param userRepository       사용자 리포지토리
+     * @param userCacheService     사용자 조회 캐시
+     * @param bidRouter            입찰 라우터 (담당 노드의 입찰 엔진으로 처리)
      */
-    public BidController(BidRepository bidRepository, AuctionItemRepository auctionItemRepository, UserRepository userRepository) {
+    public BidController(BidRepository bidRepository, AuctionItemRepository auctionItemRepository,
+                         UserCacheService userCacheService, BidRouter bidRouter) {
         this.bidRepository = bidRepository;
         this.auctionItemRepository = auctionItemRepository;
-        this.userRepository = userRepository;
+        this.userCacheService = userCacheService;
+        this.bidRouter = bidRouter;
     }
 
     /**
@@ -51,14 +57,15 @@ public class BidController {
      */
     @GetMapping("/auction-item/{id}/bids")
     public String viewBids(@PathVariable Long id, Model model) {
-        Optional<AuctionItem> auctionItemOptional = auctionItemRepository.findById(id);
+        Optional<CatalogEntry> auctionItemOptional = auctionItemRepository.findCatalogEntryById(id);
         if (auctionItemOptional.isEmpty()) {
             model.addAttribute("errorMessage", "해당 상품을 찾을 수 없습니다.");
             return "error";
         }
 
-        AuctionItem auctionItem = auctionItemOptional.get();
-        List<Bid> bidList = bidRepository.findByAuctionItemOrderByBidAmountDesc(auctionItem);
+        // ✅ 입찰자 이름까지 조인으로 읽은 프로젝션 (뷰 렌더링 중 지연 로딩 없음)
+        CatalogEntry auctionItem = auctionItemOptional.get();
+        List<BidRow> bidList = bidRepository.findBidRows(id);
 
         model.addAttribute("auctionItem", auctionItem);
         model.addAttribute("bidList", bidList);
@@ -85,51 +92,112 @@ public class BidController {
         }
 
         // ✅ 사용자 정보 가져오기
-        Optional<User> userOptional = userRepository.findByEmail(userDetails.getUsername());
-        Optional<AuctionItem> auctionItemOptional = auctionItemRepository.findById(auctionItemId);
-
-        if (userOptional.isEmpty() || auctionItemOptional.isEmpty()) {
+        Optional<User> userOptional = userCacheService.getCurrentUser(userDetails);
+        if (userOptional.isEmpty()) {
             model.addAttribute("errorMessage", "사용자 또는 경매 상품을 찾을 수 없습니다.");
             return "error";
         }
 
         User bidder = userOptional.get();
-        AuctionItem auctionItem = auctionItemOptional.get();
-
-        // ✅ 현재 최고 입찰가 확인
-        Bid highestBid = bidRepository.findTopByAuctionItemOrderByBidAmountDesc(auctionItem);
-        int currentHighestBid = (highestBid != null) ? highestBid.getBidAmount() : auctionItem.getStartPrice();
 
-        // ✅ 입찰 금액 유효성 검사
-        if (bidAmount <= currentHighestBid) {
-            model.addAttribute("errorMessage", "입찰 금액은 현재 최고 입찰가보다 높아야 합니다.");
-            logger.warn("❌ 입찰 실패 - 상품 ID: {}, 입력 금액: {}, 현재 최고가: {}", auctionItemId, bidAmount, currentHighestBid);
+        // ✅ 담당 노드의 입찰 엔진에서 메모리 장부 기준으로 수락/거절 판단 (수락 시 DB 기록)
+        BidResult result;
+        try {
+            result = bidRouter.placeBid(bidder, auctionItemId, bidAmount);
+        } catch (IllegalStateException e) {
+            model.addAttribute("errorMessage", e.getMessage());
             return "error";
         }
 
-        if (bidder.getPoints() < bidAmount) {
-            model.addAttribute("errorMessage", "보유 포인트가 부족합니다.");
-            logger.warn("❌ 입찰 실패 - 포인트 부족 (사용자: {}, 보유 포인트: {}, 입찰 금액: {})", bidder.getEmail(), bidder.getPoints(), bidAmount);
-            return "error";
+        switch (result.getStatus()) {
+            case ITEM_NOT_FOUND -> {
+                model.addAttribute("errorMessage", "사용자 또는 경매 상품을 찾을 수 없습니다.");
+                return "error";
+            }
+            case AUCTION_ENDED -> {
+                model.addAttribute("errorMessage", "이미 마감된 경매입니다.");
+                logger.warn("❌ 입찰 실패 - 마감된 경매 (상품 ID: {})", auctionItemId);
+                return "error";
+            }
+            case AMOUNT_TOO_LOW -> {
+                model.addAttribute("errorMessage", "입찰 금액은 현재 최고 입찰가보다 높아야 합니다.");
+                logger.warn("❌ 입찰 실패 - 상품 ID: {}, 입력 금액: {}, 현재 최고가: {}", auctionItemId, bidAmount, result.getCurrentPrice());
+                return "error";
+            }
+            case INSUFFICIENT_POINTS -> {
+                model.addAttribute("errorMessage", "보유 포인트가 부족합니다.");
+                logger.warn("❌ 입찰 실패 - 포인트 부족 (사용자: {}, 보유 포인트: {}, 입찰 금액: {})", bidder.getEmail(), bidder.getPoints(), bidAmount);
+                return "error";
+            }
+            case OUTBID -> {
+                model.addAttribute("errorMessage", "입찰이 다른 사용자의 자동 입찰에 즉시 상회되었습니다. 현재가: " + result.getCurrentPrice() + "P");
+                logger.info("🤖 입찰 즉시 상회 - 상품 ID: {}, 입찰자: {}, 입찰 금액: {}, 현재가: {}", auctionItemId, bidder.getEmail(), bidAmount, result.getCurrentPrice());
+                return "error";
+            }
+            case ACCEPTED -> logger.info("✅ 입찰 성공 - 상품 ID: {}, 입찰자: {}, 입찰 금액: {}", auctionItemId, bidder.getEmail(), bidAmount);
         }
+        return "redirect:/auction-item/" + auctionItemId;
+    }
 
-        // ✅ 이전 최고 입찰자의 포인트 환불 (있을 경우)
-        if (highestBid != null) {
-            User previousBidder = highestBid.getBidder();
-            previousBidder.setPoints(previousBidder.getPoints() + highestBid.getBidAmount());
-            userRepository.save(previousBidder);
-            logger.info("🔄 이전 최고 입찰자 포인트 반환 - 사용자: {}, 반환 금액: {}", previousBidder.getEmail(), highestBid.getBidAmount());
+    /**
+     * 사용자의 자동 입찰(최대 입찰가) 등록
+     * 입찰 엔진이 최대 금액까지 대신 응찰하므로 마감 직전에 입찰을 반복해서 보낼 필요가 없다.
+     *
+     * @param userDetails    로그인한 사용자 정보
+     * @param auctionItemId  경매 상품 ID
+     * @param maxAmount      최대 입찰 금액
+     * @param model          템플릿에 전달할 모델 객체
+     * @return 상품 상세 페이지로 리디렉션 또는 오류 페이지
+     */
+    @PostMapping("/bid/proxy")
+    public String placeProxyBid(@AuthenticationPrincipal UserDetails userDetails,
+                                @RequestParam("auctionItemId") Long auctionItemId,
+                                @RequestParam("maxAmount") int maxAmount,
+                                Model model) {
+
+        if (userDetails == null) {
+            return "redirect:/login";
         }
 
-        // ✅ 새로운 입찰 진행 (포인트 차감)
-        bidder.setPoints(bidder.getPoints() - bidAmount);
-        userRepository.save(bidder);
+        Optional<User> userOptional = userCacheService.getCurrentUser(userDetails);
+        if (userOptional.isEmpty()) {
+            model.addAttribute("errorMessage", "사용자 또는 경매 상품을 찾을 수 없습니다.");
+            return "error";
+        }
 
-        // ✅ 새로운 입찰 저장
-        Bid newBid = Bid.createBid(bidder, auctionItem, bidAmount);
-        bidRepository.save(newBid);
+        User bidder = userOptional.get();
+        BidResult result;
+        try {
+            result = bidRouter.placeProxyBid(bidder, auctionItemId, maxAmount);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            model.addAttribute("errorMessage", e.getMessage());
+            return "error";
+        }
 
-        logger.info("✅ 입찰 성공 - 상품 ID: {}, 입찰자: {}, 입찰 금액: {}", auctionItemId, bidder.getEmail(), bidAmount);
+        switch (result.getStatus()) {
+            case ITEM_NOT_FOUND -> {
+                model.addAttribute("errorMessage", "사용자 또는 경매 상품을 찾을 수 없습니다.");
+                return "error";
+            }
+            case AUCTION_ENDED -> {
+                model.addAttribute("errorMessage", "이미 마감된 경매입니다.");
+                return "error";
+            }
+            case AMOUNT_TOO_LOW -> {
+                model.addAttribute("errorMessage", "최대 입찰가는 현재 최고 입찰가와 기존 최대 입찰가보다 높아야 합니다.");
+                return "error";
+            }
+            case INSUFFICIENT_POINTS -> {
+                model.addAttribute("errorMessage", "보유 포인트가 부족합니다.");
+                return "error";
+            }
+            case OUTBID -> {
+                model.addAttribute("errorMessage", "다른 사용자의 최대 입찰가가 더 높습니다. 현재가: " + result.getCurrentPrice() + "P");
+                logger.info("🤖 자동 입찰 상회됨 - 상품 ID: {}, 입찰자: {}, 최대 금액: {}", auctionItemId, bidder.getEmail(), maxAmount);
+                return "error";
+            }
+            case ACCEPTED -> logger.info("🤖 자동 입찰 등록 - 상품 ID: {}, 입찰자: {}, 최대 금액: {}, 현재가: {}", auctionItemId, bidder.getEmail(), maxAmount, result.getCurrentPrice());
+        }
         return "redirect:/auction-item/" + auctionItemId;
     }
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.auction.controller;
+
+import com.auction.domain.User;
+import com.auction.service.BulkBidService;
+import com.auction.service.UserCacheService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 대량 입찰 API 컨트롤러 (봇 / 제휴사용)
+ * 요청 본문은 {"auctionItemId": 1, "bidAmount": 1500} 형식 입찰의 JSON 배열 또는 줄 단위 JSON 이며,
+ * 결과는 경매 상품 하나의 처리가 끝날 때마다 줄 단위 JSON(application/x-ndjson)으로 내보낸다.
+ */
+@RestController
+public class BulkBidController {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkBidController.class);
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final BulkBidService bulkBidService;
+    private final UserCacheService userCacheService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * BulkBidController 생성자
+     *
+     * @param bulkBidService   대량 입찰 처리 서비스
+     * @param userCacheService 사용자 조회 캐시
+     * @param objectMapper     결과 직렬화용 ObjectMapper
+     */
+    public BulkBidController(BulkBidService bulkBidService, UserCacheService userCacheService,
+                             ObjectMapper objectMapper) {
+        this.bulkBidService = bulkBidService;
+        this.userCacheService = userCacheService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 대량 입찰 처리
+     * 같은 상품에 대한 입찰은 본문 순서대로 처리되며, 각 결과 줄의 index 는 본문에서의 순서(0부터)이다.
+     * 처리하지 못한 입찰의 결과 줄에는 status 대신 error 가 있고, 처리가 중단되면 마지막 줄에 error 만 있는 줄을 보낸다.
+     *
+     * @param userDetails 로그인한 사용자 정보 (폼 로그인 세션 또는 HTTP Basic)
+     * @param body        요청 본문
+     * @return 입찰별 처리 결과 스트림 또는 오류 응답
+     */
+    @PostMapping("/api/bids/batch")
+    public ResponseEntity<StreamingResponseBody> placeBids(@AuthenticationPrincipal UserDetails userDetails,
+                                                           InputStream body) {
+        Optional<User> userOptional = (userDetails != null)
+                ? userCacheService.getCurrentUser(userDetails)
+                : Optional.empty();
+        if (userOptional.isEmpty()) {
+            return error(HttpStatus.UNAUTHORIZED, "사용자를 찾을 수 없습니다.");
+        }
+        User bidder = userOptional.get();
+
+        List<BulkBidService.BulkBid> bids;
+        try {
+            bids = bulkBidService.read(body);
+        } catch (IllegalArgumentException e) {
+            logger.warn("❌ 대량 입찰 요청 거절 - 사용자: {}, 사유: {}", bidder.getEmail(), e.getMessage());
+            return error(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        StreamingResponseBody stream = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            try {
+                bulkBidService.process(bidder, bids, results -> {
+                    try {
+                        for (BulkBidService.BulkBidResult result : results) {
+                            writer.write(objectMapper.writeValueAsString(result));
+                            writer.write('\n');
+                        }
+                        writer.flush(); // ✅ 상품 하나가 끝날 때마다 클라이언트로 내보냄
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("대량 입찰 결과 출력 실패", e);
+                    }
+                });
+            } catch (IllegalStateException e) {
+                // ✅ 이미 200 으로 응답 중이므로, 결과가 중간에 끊긴 것이 아니라 실패했음을 마지막 줄로 알림
+                logger.error("❌ 대량 입찰 처리 중단 - 사용자: {}, 사유: {}", bidder.getEmail(), e.getMessage(), e);
+                writer.write(objectMapper.writeValueAsString(Map.of("error", e.getMessage())));
+                writer.write('\n');
+            }
+            writer.flush();
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(stream);
+    }
+
+    private ResponseEntity<StreamingResponseBody> error(HttpStatus status, String message) {
+        StreamingResponseBody body = outputStream -> objectMapper.writeValue(outputStream, Map.of("error", message));
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+}
@@ -3,7 +3,7 @@ package com.auction.controller;
 import com.auction.domain.ChargeHistory;
 import com.auction.domain.User;
 import com.auction.repository.ChargeHistoryRepository;
-import com.auction.repository.UserRepository;
+import com.auction.service.UserCacheService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -23,17 +23,17 @@ public class ChargeHistoryController {
 
     private static final Logger logger = LoggerFactory.getLogger(ChargeHistoryController.class);
 
-    private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
     private final ChargeHistoryRepository chargeHistoryRepository;
 
     /**
      * ChargeHistoryController 생성자
      *
-     * @param userRepository 사용자 리포지토리
+     * @param userCacheService 사용자 조회 캐시
      * @param chargeHistoryRepository 포인트 충전 내역 리포지토리
      */
-    public ChargeHistoryController(UserRepository userRepository, ChargeHistoryRepository chargeHistoryRepository) {
-        this.userRepository = userRepository;
+    public ChargeHistoryController(UserCacheService userCacheService, ChargeHistoryRepository chargeHistoryRepository) {
+        this.userCacheService = userCacheService;
         this.chargeHistoryRepository = chargeHistoryRepository;
     }
 
@@ -52,7 +52,7 @@ public class ChargeHistoryController {
         }
 
         // ✅ 사용자 정보 조회
-        Optional<User> userOptional = userRepository.findByEmail(userDetails.getUsername());
+        Optional<User> userOptional = userCacheService.getCurrentUser(userDetails);
         if (userOptional.isEmpty()) {
             model.addAttribute("errorMessage", "사용자 정보를 찾을 수 없습니다.");
             logger.warn("❌ 포인트 충전 내역 조회 실패 - 사용자 정보를 찾을 수 없음 (이메일: {})", userDetails.getUsername());
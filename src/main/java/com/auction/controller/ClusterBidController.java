@@ -0,0 +1,79 @@
+package com.auction.controller;
+
+import com.auction.domain.User;
+import com.auction.repository.UserRepository;
+import com.auction.service.BidRouter;
+import com.auction.service.BidRouter.ForwardedBid;
+import com.auction.service.ClusterMembership;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 노드 간 입찰 전달 API 컨트롤러 (입찰 라우팅 사용 시)
+ * 다른 노드가 받은 입찰 중 이 노드가 담당하는 상품의 입찰을 받아 이 노드의 입찰 엔진으로 처리한다.
+ * 사용자 인증 대신 노드 간 공유 비밀 값(X-Cluster-Secret 헤더)으로 요청을 확인한다.
+ */
+@RestController
+public class ClusterBidController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterBidController.class);
+
+    private final BidRouter bidRouter;
+    private final ClusterMembership clusterMembership;
+    private final UserRepository userRepository;
+
+    /**
+     * ClusterBidController 생성자
+     *
+     * @param bidRouter         입찰 라우터
+     * @param clusterMembership 클러스터 구성원 관리
+     * @param userRepository    사용자 리포지토리
+     */
+    public ClusterBidController(BidRouter bidRouter, ClusterMembership clusterMembership,
+                                UserRepository userRepository) {
+        this.bidRouter = bidRouter;
+        this.clusterMembership = clusterMembership;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * 전달된 입찰 처리
+     * 이 노드가 담당하지 않는 상품이면 421 을 응답하여, 보낸 노드가 구성원 목록을 다시 읽고 담당 노드로 보내게 한다.
+     *
+     * @param secret 노드 간 공유 비밀 값
+     * @param bid    전달된 입찰
+     * @return 입찰 금액 순서대로의 처리 결과 또는 오류 응답
+     */
+    @PostMapping(BidRouter.FORWARD_PATH)
+    public ResponseEntity<?> placeForwardedBid(@RequestHeader(value = BidRouter.SECRET_HEADER, required = false) String secret,
+                                               @RequestBody ForwardedBid bid) {
+        if (!bidRouter.isTrusted(secret)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (bid.auctionItemId() == null || !clusterMembership.isLocal(bid.auctionItemId())) {
+            return ResponseEntity.status(HttpStatusCode.valueOf(BidRouter.MISDIRECTED)).build();
+        }
+
+        // ✅ 포인트는 보낸 노드의 캐시가 아니라 DB 의 최신 값으로 판단
+        Optional<User> bidder = (bid.bidderId() != null) ? userRepository.findById(bid.bidderId()) : Optional.empty();
+        if (bidder.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "사용자를 찾을 수 없습니다."));
+        }
+        try {
+            return ResponseEntity.ok(bidRouter.placeForwarded(bidder.get(), bid));
+        } catch (IllegalArgumentException e) {
+            logger.warn("❌ 전달된 입찰 거절 - 상품 ID: {}, 사유: {}", bid.auctionItemId(), e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
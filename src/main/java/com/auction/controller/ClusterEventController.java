@@ -0,0 +1,51 @@
+package com.auction.controller;
+
+import com.auction.service.BidRouter;
+import com.auction.service.ClusterEventRelay;
+import com.auction.service.ClusterEventRelay.RelayedEvents;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 노드 간 이벤트 전달 API 컨트롤러 (입찰 라우팅 사용 시)
+ * 다른 노드에서 발행된 입찰 / 상품 등록 / 마감 / 삭제 이벤트를 받아 이 노드의 검색 색인, 홈 피드, 실시간 시세 구독에 반영한다.
+ * 입찰 전달과 같이 노드 간 공유 비밀 값(X-Cluster-Secret 헤더)으로 요청을 확인한다.
+ */
+@RestController
+public class ClusterEventController {
+
+    private final BidRouter bidRouter;
+    private final ClusterEventRelay clusterEventRelay;
+
+    /**
+     * ClusterEventController 생성자
+     *
+     * @param bidRouter         입찰 라우터 (공유 비밀 값 확인)
+     * @param clusterEventRelay 클러스터 이벤트 전달
+     */
+    public ClusterEventController(BidRouter bidRouter, ClusterEventRelay clusterEventRelay) {
+        this.bidRouter = bidRouter;
+        this.clusterEventRelay = clusterEventRelay;
+    }
+
+    /**
+     * 전달된 이벤트를 이 노드에 다시 발행
+     *
+     * @param secret 노드 간 공유 비밀 값
+     * @param events 전달된 이벤트 묶음
+     * @return 204 또는 403 응답
+     */
+    @PostMapping(ClusterEventRelay.EVENTS_PATH)
+    public ResponseEntity<Void> receiveEvents(@RequestHeader(value = BidRouter.SECRET_HEADER, required = false) String secret,
+                                              @RequestBody RelayedEvents events) {
+        if (!bidRouter.isTrusted(secret)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        clusterEventRelay.replay(events);
+        return ResponseEntity.noContent().build();
+    }
+}
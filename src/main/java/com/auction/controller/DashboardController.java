@@ -1,7 +1,8 @@
 package com.auction.controller;
 
 import com.auction.domain.User;
-import com.auction.repository.UserRepository;
+import com.auction.service.UserCacheService;
+import com.auction.service.UserStatsService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -19,15 +20,18 @@ import java.util.Optional;
 public class DashboardController {
 
     private static final Logger logger = LoggerFactory.getLogger(DashboardController.class);
-    private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
+    private final UserStatsService userStatsService;
 
     /**
      * DashboardController 생성자
      *
-     * @param userRepository 사용자 리포지토리
+     * @param userCacheService 사용자 조회 캐시
+     * @param userStatsService 판매자 / 입찰자 통계 서비스
      */
-    public DashboardController(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public DashboardController(UserCacheService userCacheService, UserStatsService userStatsService) {
+        this.userCacheService = userCacheService;
+        this.userStatsService = userStatsService;
     }
 
     /**
@@ -45,13 +49,14 @@ public class DashboardController {
         }
 
         // ✅ 사용자 정보 조회
-        Optional<User> userOptional = userRepository.findByEmail(userDetails.getUsername());
+        Optional<User> userOptional = userCacheService.getCurrentUser(userDetails);
 
         if (userOptional.isPresent()) {
             User user = userOptional.get();
             model.addAttribute("userName", user.getName());
             model.addAttribute("email", user.getEmail());
             model.addAttribute("points", user.getPoints());
+            model.addAttribute("stats", userStatsService.getStats(user.getId())); // ✅ 미리 집계된 판매 / 입찰 통계
 
             logger.info("✅ 대시보드 접근 - 사용자: {}, 포인트: {}", user.getEmail(), user.getPoints());
         } else {
@@ -1,11 +1,9 @@
 package com.auction.controller;
 
-import com.auction.domain.AuctionItem;
-import com.auction.domain.Bid;
 import com.auction.domain.User;
-import com.auction.repository.AuctionItemRepository;
-import com.auction.repository.BidRepository;
-import com.auction.repository.UserRepository;
+import com.auction.service.MyPageService;
+import com.auction.service.UserCacheService;
+import com.auction.service.UserStatsService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -14,8 +12,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 /**
  * 마이페이지 컨트롤러 - 사용자의 등록 상품 및 낙찰 상품 조회
@@ -25,21 +22,22 @@ public class MyPageController {
 
     private static final Logger logger = LoggerFactory.getLogger(MyPageController.class);
 
-    private final UserRepository userRepository;
-    private final AuctionItemRepository auctionItemRepository;
-    private final BidRepository bidRepository;
+    private final UserCacheService userCacheService;
+    private final MyPageService myPageService;
+    private final UserStatsService userStatsService;
 
     /**
      * MyPageController 생성자
      *
-     * @param userRepository       사용자 리포지토리
-     * @param auctionItemRepository 경매 상품 리포지토리
-     * @param bidRepository         입찰 리포지토리
+     * @param userCacheService 사용자 조회 캐시
+     * @param myPageService    마이페이지 조회 서비스
+     * @param userStatsService 판매자 / 입찰자 통계 서비스
      */
-    public MyPageController(UserRepository userRepository, AuctionItemRepository auctionItemRepository, BidRepository bidRepository) {
-        this.userRepository = userRepository;
-        this.auctionItemRepository = auctionItemRepository;
-        this.bidRepository = bidRepository;
+    public MyPageController(UserCacheService userCacheService, MyPageService myPageService,
+                            UserStatsService userStatsService) {
+        this.userCacheService = userCacheService;
+        this.myPageService = myPageService;
+        this.userStatsService = userStatsService;
     }
 
     /**
@@ -55,7 +53,7 @@ public class MyPageController {
             return "redirect:/login"; // 로그인하지 않은 경우 로그인 페이지로 이동
         }
 
-        Optional<User> userOptional = userRepository.findByEmail(userDetails.getUsername());
+        Optional<User> userOptional = userCacheService.getCurrentUser(userDetails);
         if (userOptional.isEmpty()) {
             model.addAttribute("errorMessage", "사용자 정보를 찾을 수 없습니다.");
             return "error"; // 사용자 정보가 없는 경우 오류 페이지로 이동
@@ -64,60 +62,19 @@ public class MyPageController {
         User user = userOptional.get();
         logger.info("✅ 마이페이지 접근 - 사용자: {}", user.getEmail());
 
-        // ✅ 사용자가 등록한 경매 상품 조회
-        List<AuctionItem> myAuctionItems = auctionItemRepository.findBySeller(user);
-        logger.info("📦 사용자가 등록한 경매 상품 개수: {}", myAuctionItems.size());
-
-        // ✅ 사용자가 낙찰받은 경매 상품 조회
-        List<AuctionItem> wonAuctionItems = auctionItemRepository.findByWinner(user);
-        logger.info("🏆 사용자가 낙찰받은 경매 상품 개수: {}", wonAuctionItems.size());
-
-        // ✅ 사용자가 입찰한 경매 상품 조회 (현재 진행 중인 경매만)
-        List<AuctionItem> participatingAuctionItems = getParticipatingAuctionItems(user);
-        logger.info("🎯 사용자가 참여한 경매 상품 개수: {}", participatingAuctionItems.size());
-
-        // ✅ 각 상품의 현재 최고 입찰가 조회
-        model.addAttribute("highestBids", getHighestBids(myAuctionItems, wonAuctionItems, participatingAuctionItems));
+        // ✅ 등록한 상품 / 참여 중인 상품 / 낙찰받은 상품을 동시에 조회 (현재가 포함)
+        MyPageService.MyPage myPage = myPageService.getMyPage(user.getId());
+        logger.info("📦 등록 상품: {}개, 🎯 참여 상품: {}개, 🏆 낙찰 상품: {}개", myPage.listedItems().size(),
+                myPage.participatingItems().size(), myPage.wonItems().size());
 
+        model.addAttribute("highestBids", myPage.prices());
         model.addAttribute("email", user.getEmail());
         model.addAttribute("points", user.getPoints());
-        model.addAttribute("myAuctionItems", myAuctionItems);
-        model.addAttribute("wonAuctionItems", wonAuctionItems);
-        model.addAttribute("participatingAuctionItems", participatingAuctionItems);
+        model.addAttribute("stats", userStatsService.getStats(user.getId())); // ✅ 미리 집계된 판매 / 입찰 통계
+        model.addAttribute("myAuctionItems", myPage.listedItems());
+        model.addAttribute("wonAuctionItems", myPage.wonItems());
+        model.addAttribute("participatingAuctionItems", myPage.participatingItems());
 
         return "mypage";
     }
-
-    /**
-     * 사용자가 참여 중인 경매 상품 목록 조회 (입찰했지만 낙찰되지 않은 상품)
-     *
-     * @param user 사용자 객체
-     * @return 사용자가 입찰한 경매 상품 목록
-     */
-    private List<AuctionItem> getParticipatingAuctionItems(User user) {
-        return bidRepository.findByBidder(user).stream()
-                .map(Bid::getAuctionItem)
-                .filter(item -> item.getWinner() == null) // 낙찰되지 않은 상품만 필터링
-                .distinct()
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * 각 경매 상품의 최고 입찰가 조회
-     *
-     * @param auctionItemLists 여러 리스트를 포함하는 경매 상품 목록
-     * @return 경매 상품 ID별 최고 입찰가 매핑
-     */
-    private Map<Long, Integer> getHighestBids(List<AuctionItem>... auctionItemLists) {
-        Map<Long, Integer> highestBids = new HashMap<>();
-
-        Arrays.stream(auctionItemLists)
-                .flatMap(Collection::stream)
-                .forEach(item -> {
-                    Bid highestBid = bidRepository.findTopByAuctionItemOrderByBidAmountDesc(item);
-                    highestBids.put(item.getId(), highestBid != null ? highestBid.getBidAmount() : item.getStartPrice());
-                });
-
-        return highestBids;
-    }
 }
\ No newline at end of file
@@ -1,9 +1,10 @@
 package com.auction.controller;
 
-import com.auction.domain.ChargeHistory;
 import com.auction.domain.User;
-import com.auction.repository.ChargeHistoryRepository;
-import com.auction.repository.UserRepository;
+import com.auction.service.ConflictRetry;
+import com.auction.service.PointLedgerService;
+import com.auction.service.UserCacheService;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
@@ -11,7 +12,6 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -21,12 +21,15 @@ import java.util.Optional;
 @Controller
 public class PointChargeController {
 
-    private final UserRepository userRepository;
-    private final ChargeHistoryRepository chargeHistoryRepository;
+    private final UserCacheService userCacheService;
+    private final PointLedgerService pointLedgerService;
+    private final ConflictRetry conflictRetry;
 
-    public PointChargeController(UserRepository userRepository, ChargeHistoryRepository chargeHistoryRepository) {
-        this.userRepository = userRepository;
-        this.chargeHistoryRepository = chargeHistoryRepository;
+    public PointChargeController(UserCacheService userCacheService, PointLedgerService pointLedgerService,
+                                 ConflictRetry conflictRetry) {
+        this.userCacheService = userCacheService;
+        this.pointLedgerService = pointLedgerService;
+        this.conflictRetry = conflictRetry;
     }
 
     /**
@@ -39,7 +42,7 @@ public class PointChargeController {
     @GetMapping("/charge")
     public String chargePage(@AuthenticationPrincipal UserDetails userDetails, Model model) {
         if (userDetails != null) {
-            Optional<User> userOptional = userRepository.findByEmail(userDetails.getUsername());
+            Optional<User> userOptional = userCacheService.getCurrentUser(userDetails);
             userOptional.ifPresent(user -> model.addAttribute("points", user.getPoints()));
         }
         return "charge";
@@ -54,25 +57,30 @@ public class PointChargeController {
      * @return 포인트 충전 후 다시 충전 페이지로 이동
      */
     @PostMapping("/charge")
-    @Transactional
     public String chargePoints(@AuthenticationPrincipal UserDetails userDetails,
                                @RequestParam("amount") int amount, Model model) {
         if (userDetails == null) {
             return "redirect:/login"; // 로그인하지 않은 경우 로그인 페이지로 이동
         }
 
-        Optional<User> userOptional = userRepository.findByEmail(userDetails.getUsername());
+        Optional<User> userOptional = userCacheService.getCurrentUser(userDetails);
         if (userOptional.isPresent()) {
             User user = userOptional.get();
-            user.setPoints(user.getPoints() + amount); // ✅ 기존 방식 유지 (포인트 직접 변경)
-            userRepository.save(user);
+            if (amount <= 0) {
+                model.addAttribute("message", "충전 금액은 0보다 커야 합니다.");
+                model.addAttribute("points", user.getPoints());
+                return "charge";
+            }
 
-            // ✅ 충전 내역 저장
-            ChargeHistory chargeHistory = ChargeHistory.createChargeHistory(user, amount);
-            chargeHistoryRepository.save(chargeHistory);
-
-            model.addAttribute("message", "포인트 충전이 완료되었습니다!");
-            model.addAttribute("points", user.getPoints());
+            // ✅ 포인트 원장에 적립하고 충전 내역 저장 (원자적 UPDATE, 교착 상태로 롤백되면 다시 시도)
+            try {
+                int balance = conflictRetry.execute("charge", () -> pointLedgerService.charge(user.getId(), amount));
+                model.addAttribute("message", "포인트 충전이 완료되었습니다!");
+                model.addAttribute("points", balance);
+            } catch (ConcurrencyFailureException e) {
+                model.addAttribute("message", "다른 요청과 동시에 처리되어 충전하지 못했습니다. 다시 시도해 주세요.");
+                model.addAttribute("points", pointLedgerService.getBalance(user.getId()));
+            }
         }
         return "charge";
     }
@@ -2,19 +2,30 @@ package com.auction.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 /**
  * 경매 상품 엔티티 클래스
+ * - 입찰 요약 컬럼과 상태는 조건부 UPDATE 로 갱신되므로, 엔티티 저장 시에는 변경된 컬럼만 UPDATE 함 (@DynamicUpdate)
+ * - 조건부 UPDATE 도 버전을 올리므로, 엔티티 저장은 읽은 뒤 입찰 / 마감이 반영되었으면 낙관적 잠금 실패로 롤백됨
  */
 @Entity
+@DynamicUpdate
 @Getter
 @Setter // ✅ 엔티티 클래스에서 Setter 허용
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "auction_item") // 기존 테이블 유지
+@Table(name = "auction_item", // 기존 테이블 유지
+        indexes = {
+                @Index(name = "idx_auction_item_end_time_id", columnList = "end_time, id"),
+                @Index(name = "idx_auction_item_status_end_time_id", columnList = "status, end_time, id"),
+                @Index(name = "idx_auction_item_seller_end_time", columnList = "user_id, end_time, id"), // 판매자의 등록 상품
+                @Index(name = "idx_auction_item_winner_end_time", columnList = "winner_id, end_time, id") // 낙찰자의 낙찰 상품
+        })
 public class AuctionItem {
 
     @Id
@@ -44,6 +55,41 @@ public class AuctionItem {
     @Column(nullable = false)
     private boolean purchased = false; // 🔹 구매 확정 여부 (기본값 false)
 
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int currentPrice; // 🔹 현재가 (입찰이 없으면 시작 가격, 입찰 시 조건부 UPDATE 로 갱신)
+
+    @Column(name = "highest_bidder_id")
+    private Long highestBidderId; // 🔹 현재 최고 입찰자 ID (없으면 null)
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int bidCount; // 🔹 입찰 수
+
+    private LocalDateTime lastBidAt; // 🔹 마지막 입찰 시각 (없으면 null)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @ColumnDefault("'OPEN'")
+    @Builder.Default
+    private AuctionStatus status = AuctionStatus.OPEN; // 🔹 경매 상태 (마감 처리 후 SOLD/UNSOLD 로 종결)
+
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Setter(AccessLevel.NONE)
+    private long version; // 🔹 낙관적 잠금 버전 (엔티티 저장과 조건부 UPDATE 마다 증가)
+
+    /**
+     * 신규 등록 시 현재가를 시작 가격으로 초기화
+     */
+    @PrePersist
+    void initCurrentPrice() {
+        if (this.currentPrice < this.startPrice) {
+            this.currentPrice = this.startPrice;
+        }
+    }
+
     /**
      * 경매가 마감되었는지 여부를 반환
      *
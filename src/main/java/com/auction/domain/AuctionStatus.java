@@ -0,0 +1,10 @@
+package com.auction.domain;
+
+/**
+ * 경매 진행 상태
+ */
+public enum AuctionStatus {
+    OPEN,   // 진행 중 (마감 처리 전)
+    SOLD,   // 낙찰 (낙찰자 결정됨)
+    UNSOLD  // 유찰 (입찰 없이 마감됨)
+}
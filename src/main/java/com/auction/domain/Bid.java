@@ -14,12 +14,17 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "bids")
+@Table(name = "bids",
+        indexes = {
+                @Index(name = "idx_bids_user_item", columnList = "user_id, auction_item_id"), // 참여한 상품 조회 (마이페이지)
+                @Index(name = "idx_bids_item_amount", columnList = "auction_item_id, bid_amount, bid_time") // 입찰 내역 / 최고 입찰 / 요약 집계
+        })
 public class Bid {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id; // 입찰 ID (자동 증가)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bid_seq")
+    @SequenceGenerator(name = "bid_seq", sequenceName = "bid_seq", allocationSize = 50)
+    private Long id; // 입찰 ID (시퀀스에서 50개씩 미리 할당 → INSERT 를 JDBC 배치로 묶을 수 있음)
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -44,11 +49,25 @@ public class Bid {
      * @return 생성된 입찰 객체
      */
     public static Bid createBid(User bidder, AuctionItem auctionItem, int bidAmount) {
+        return createBid(bidder, auctionItem, bidAmount, LocalDateTime.now());
+    }
+
+    /**
+     * 입찰 시각을 지정하여 새로운 입찰 객체를 생성하는 정적 메서드
+     * - 경매 상품의 마지막 입찰 시각과 같은 값을 기록할 때 사용
+     *
+     * @param bidder 입찰자
+     * @param auctionItem 경매 상품
+     * @param bidAmount 입찰 금액
+     * @param bidTime 입찰 시각
+     * @return 생성된 입찰 객체
+     */
+    public static Bid createBid(User bidder, AuctionItem auctionItem, int bidAmount, LocalDateTime bidTime) {
         return Bid.builder()
                 .bidder(bidder)
                 .auctionItem(auctionItem)
                 .bidAmount(bidAmount)
-                .bidTime(LocalDateTime.now())
+                .bidTime(bidTime)
                 .build();
     }
 }
\ No newline at end of file
@@ -13,12 +13,14 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "charge_history")
+@Table(name = "charge_history",
+        indexes = @Index(name = "idx_charge_history_user_charged_at", columnList = "user_id, charged_at")) // 사용자별 충전 내역
 public class ChargeHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id; // 기본 키
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "charge_history_seq")
+    @SequenceGenerator(name = "charge_history_seq", sequenceName = "charge_history_seq", allocationSize = 50)
+    private Long id; // 기본 키 (시퀀스에서 50개씩 미리 할당)
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
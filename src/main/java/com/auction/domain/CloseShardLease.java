@@ -0,0 +1,61 @@
+package com.auction.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마감 처리 샤드 임대(lease) 엔티티
+ * - 경매 상품 ID 를 샤드 수로 나눈 나머지로 분할하고, 샤드마다 한 노드만 임대하여 마감 처리를 담당
+ * - 임대는 만료 시각 전에 계속 갱신해야 유지되며, 노드가 멈추면 만료 후 다른 노드가 가져감
+ * - ID(샤드 번호)를 직접 지정하므로 새 행은 항상 INSERT 로 저장 (merge 로 다른 노드의 임대를 덮어쓰지 않도록)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "close_shard_lease")
+public class CloseShardLease implements Persistable<Integer> {
+
+    @Id
+    private Integer shardId; // 샤드 번호 (0 ~ 샤드 수 - 1)
+
+    @Column(length = 100)
+    private String owner; // 임대한 노드 ID (비어 있으면 null)
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt; // 임대 만료 시각
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newLease; // 아직 저장되지 않은 행 여부 (true 면 save 가 persist 로 처리)
+
+    /**
+     * 🔹 아무도 임대하지 않은 샤드 생성
+     * - 이미 같은 샤드 행이 있으면 저장 시 키 중복 예외 발생 (기존 임대는 그대로)
+     */
+    public static CloseShardLease vacant(int shardId, LocalDateTime now) {
+        CloseShardLease lease = new CloseShardLease();
+        lease.shardId = shardId;
+        lease.expiresAt = now;
+        lease.newLease = true;
+        return lease;
+    }
+
+    @Override
+    public Integer getId() {
+        return shardId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newLease;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        newLease = false;
+    }
+}
@@ -0,0 +1,29 @@
+package com.auction.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 클러스터 노드 엔티티
+ * - 노드는 주기적으로 생존 신호(heartbeat)를 기록하며, 생존 신호가 만료 시간 안에 있는 노드가 클러스터 구성원
+ * - 구성원 수로 노드별 마감 샤드 수를 정하고, 구성원 주소로 입찰을 담당 노드에 전달
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "cluster_node")
+public class ClusterNode {
+
+    @Id
+    @Column(length = 100)
+    private String nodeId; // 노드 ID
+
+    @Column(name = "base_url")
+    private String baseUrl; // 다른 노드가 입찰을 전달할 주소 (예: http://10.0.0.5:8080, 입찰 라우팅을 쓰지 않으면 null)
+
+    @Column(nullable = false)
+    private LocalDateTime heartbeatAt; // 마지막 생존 신호 시각
+}
@@ -0,0 +1,84 @@
+package com.auction.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메일 발송 대기열(outbox) 엔티티
+ * - 메일 발송 요청은 업무 트랜잭션 안에서 이 테이블에 기록만 하고 즉시 반환
+ * - 실제 SMTP 발송은 별도 작업 스레드가 커밋된 행을 꺼내 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "mail_outbox",
+        indexes = @Index(name = "idx_mail_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+public class MailOutbox {
+
+    /**
+     * 발송 상태
+     */
+    public enum Status {
+        PENDING,  // 발송 대기 (재시도 대기 포함)
+        SENDING,  // 작업 스레드가 가져가 발송 중
+        SENT,     // 발송 완료
+        DEAD      // 재시도 한도 초과로 발송 포기
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 기본 키
+
+    @Column(nullable = false)
+    private String recipient; // 받는 사람 이메일
+
+    @Column(nullable = false)
+    private String subject; // 제목
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body; // 본문 (HTML)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status; // 발송 상태
+
+    @Column(nullable = false)
+    private int attempts; // 발송 시도 횟수
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt; // 다음 발송 가능 시각 (발송 중이면 점유 만료 시각)
+
+    @Column(length = 500)
+    private String lastError; // 마지막 발송 오류
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt; // 요청 시각
+
+    private LocalDateTime sentAt; // 발송 완료 시각
+
+    /**
+     * 🔹 발송 대기 상태의 메일을 생성하는 정적 팩토리 메서드
+     *
+     * @param recipient 받는 사람 이메일
+     * @param subject 제목
+     * @param body 본문 (HTML)
+     * @return PENDING 상태의 MailOutbox 객체
+     */
+    public static MailOutbox pending(String recipient, String subject, String body) {
+        LocalDateTime now = LocalDateTime.now();
+        return MailOutbox.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .status(Status.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.auction.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 원장 엔티티 (추가 전용)
+ * - 모든 포인트 이동을 한 줄씩 기록하며, 수정/삭제하지 않음
+ * - 사용 가능 잔액은 users.points 에 원자적 UPDATE 로 반영됨
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "point_ledger")
+public class PointLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 기본 키
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user; // 대상 사용자
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PointLedgerType type; // 원장 항목 유형
+
+    @Column(nullable = false)
+    private int amount; // 이동 금액 (항상 양수)
+
+    @Column(name = "auction_item_id")
+    private Long auctionItemId; // 관련 경매 상품 ID (충전은 null)
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt; // 기록 시각
+
+    /**
+     * 🔹 원장 항목을 생성하는 정적 팩토리 메서드
+     *
+     * @param user 대상 사용자
+     * @param type 원장 항목 유형
+     * @param amount 이동 금액
+     * @param auctionItemId 관련 경매 상품 ID (없으면 null)
+     * @return 새로운 PointLedgerEntry 객체
+     */
+    public static PointLedgerEntry create(User user, PointLedgerType type, int amount, Long auctionItemId) {
+        return PointLedgerEntry.builder()
+                .user(user)
+                .type(type)
+                .amount(amount)
+                .auctionItemId(auctionItemId)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.auction.domain;
+
+/**
+ * 포인트 원장 항목 유형
+ */
+public enum PointLedgerType {
+    CREDIT,  // 포인트 적립 (충전, 판매 대금)
+    DEBIT,   // 포인트 사용 확정 (낙찰 구매 확정)
+    HOLD,    // 입찰 시 포인트 예치
+    RELEASE  // 예치 포인트 반환 (상위 입찰 발생, 상품 삭제)
+}
@@ -0,0 +1,69 @@
+package com.auction.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 예치(입찰 보증) 엔티티
+ * - 최고 입찰자의 입찰 금액만큼 사용 가능 잔액에서 떼어 보관
+ * - 상위 입찰이 들어오면 RELEASED, 구매 확정 시 CAPTURED 로 전이
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "point_reservation",
+        indexes = @Index(name = "idx_point_reservation_item_status", columnList = "auction_item_id, status")) // 상품별 예치금 해제
+public class PointReservation {
+
+    /**
+     * 예치 상태
+     */
+    public enum Status {
+        HELD,      // 예치 중
+        RELEASED,  // 반환됨
+        CAPTURED   // 사용 확정됨
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 기본 키
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user; // 예치한 사용자
+
+    @Column(name = "auction_item_id", nullable = false)
+    private Long auctionItemId; // 입찰한 경매 상품 ID
+
+    @Column(nullable = false)
+    private int amount; // 예치 금액
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status; // 예치 상태
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt; // 예치 시각
+
+    /**
+     * 🔹 새로운 예치를 생성하는 정적 팩토리 메서드
+     *
+     * @param user 예치한 사용자
+     * @param auctionItemId 경매 상품 ID
+     * @param amount 예치 금액
+     * @return HELD 상태의 PointReservation 객체
+     */
+    public static PointReservation hold(User user, Long auctionItemId, int amount) {
+        return PointReservation.builder()
+                .user(user)
+                .auctionItemId(auctionItemId)
+                .amount(amount)
+                .status(Status.HELD)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
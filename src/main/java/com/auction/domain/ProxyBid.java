@@ -0,0 +1,75 @@
+package com.auction.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 자동 입찰(최대 입찰가) 엔티티
+ * - 사용자가 정한 최대 금액까지 입찰 엔진이 대신 최소 단위로 응찰
+ * - 사용자·상품마다 1건이며, 최대 금액을 올리면 같은 행을 갱신
+ * - 다른 자동 입찰에 상회되면 OUTBID, 포인트 부족으로 응찰하지 못하면 CANCELLED, 경매가 마감되면 ENDED
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "proxy_bid",
+        uniqueConstraints = @UniqueConstraint(name = "uk_proxy_bid_item_user", columnNames = {"auction_item_id", "user_id"}),
+        indexes = @Index(name = "idx_proxy_bid_item_status", columnList = "auction_item_id, status"))
+public class ProxyBid {
+
+    /**
+     * 자동 입찰 상태
+     */
+    public enum Status {
+        ACTIVE,     // 응찰 중
+        OUTBID,     // 최대 금액을 넘는 입찰이 들어옴
+        CANCELLED,  // 포인트 부족으로 응찰 불가
+        ENDED       // 경매 마감
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 기본 키
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user; // 자동 입찰을 등록한 사용자
+
+    @Column(name = "auction_item_id", nullable = false)
+    private Long auctionItemId; // 경매 상품 ID
+
+    @Setter
+    @Column(nullable = false)
+    private int maxAmount; // 최대 입찰 금액
+
+    @Setter
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status; // 자동 입찰 상태
+
+    @Setter
+    @Column(nullable = false)
+    private LocalDateTime registeredAt; // 최대 금액 등록(변경) 시각 - 최대 금액이 같으면 먼저 등록한 쪽이 우선
+
+    /**
+     * 🔹 새로운 자동 입찰을 생성하는 정적 팩토리 메서드
+     *
+     * @param user 등록한 사용자
+     * @param auctionItemId 경매 상품 ID
+     * @param maxAmount 최대 입찰 금액
+     * @return ACTIVE 상태의 ProxyBid 객체
+     */
+    public static ProxyBid register(User user, Long auctionItemId, int maxAmount) {
+        return ProxyBid.builder()
+                .user(user)
+                .auctionItemId(auctionItemId)
+                .maxAmount(maxAmount)
+                .status(Status.ACTIVE)
+                .registeredAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -1,13 +1,16 @@
 package com.auction.domain;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * 사용자 엔티티 클래스
+ * - 포인트는 조건부 UPDATE 로만 변경되며 그때마다 버전도 올라가므로, 엔티티 저장(정지 등)이 동시 포인트 변경을 덮어쓰지 않음
  */
 @Getter
 @Setter
@@ -38,6 +41,12 @@ public class User {
     @Column(nullable = false)
     private boolean isBanned = false; // 정지된 사용자 여부 (기본값: false)
 
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Setter(AccessLevel.NONE)
+    private long version; // 낙관적 잠금 버전
+
     /**
      * 🔹 생성자 (회원가입 시 사용)
      */
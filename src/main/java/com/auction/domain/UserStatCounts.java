@@ -0,0 +1,115 @@
+package com.auction.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+/**
+ * 판매자 / 입찰자 통계 값
+ * - 누적 통계(user_stats)와 증분(user_stats_delta)이 같은 컬럼을 사용하며, 누적 통계 = 증분의 합
+ * - 증분은 음수일 수 있음 (마감 시 진행 중 입찰 수 차감, 상품 삭제 시 반영분 되돌림)
+ */
+@Embeddable
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStatCounts {
+
+    // 🔹 판매자 통계
+    @Column(nullable = false)
+    private long soldCount; // 낙찰된 상품 수
+
+    @Column(nullable = false)
+    private long unsoldCount; // 유찰된 상품 수
+
+    @Column(nullable = false)
+    private long hammerTotal; // 낙찰가 합계
+
+    @Column(nullable = false)
+    private long salesTotal; // 구매 확정된 판매 대금 합계
+
+    @Column(nullable = false)
+    private long openBidCount; // 진행 중인 상품에 들어온 입찰 수
+
+    // 🔹 입찰자 통계
+    @Column(nullable = false)
+    private long bidsPlaced; // 입찰 수
+
+    @Column(nullable = false)
+    private long wonCount; // 낙찰받은 상품 수
+
+    @Column(nullable = false)
+    private long spentTotal; // 구매 확정한 낙찰가 합계
+
+    /**
+     * 🔹 모두 0 인 통계
+     */
+    public static UserStatCounts zero() {
+        return new UserStatCounts();
+    }
+
+    /**
+     * 🔹 두 통계의 합
+     */
+    public UserStatCounts plus(UserStatCounts other) {
+        return new UserStatCounts(
+                soldCount + other.soldCount,
+                unsoldCount + other.unsoldCount,
+                hammerTotal + other.hammerTotal,
+                salesTotal + other.salesTotal,
+                openBidCount + other.openBidCount,
+                bidsPlaced + other.bidsPlaced,
+                wonCount + other.wonCount,
+                spentTotal + other.spentTotal);
+    }
+
+    /**
+     * 🔹 부호를 바꾼 통계 (반영분 되돌림)
+     */
+    public UserStatCounts negate() {
+        return new UserStatCounts(-soldCount, -unsoldCount, -hammerTotal, -salesTotal,
+                -openBidCount, -bidsPlaced, -wonCount, -spentTotal);
+    }
+
+    public boolean isZero() {
+        return equals(zero());
+    }
+
+    /**
+     * 🔹 판매율 (마감된 상품 중 낙찰된 비율, 0 ~ 1, 마감된 상품이 없으면 0)
+     */
+    public double getSellThroughRate() {
+        long closed = soldCount + unsoldCount;
+        return (closed > 0) ? (double) soldCount / closed : 0;
+    }
+
+    /**
+     * 🔹 평균 낙찰가 (낙찰된 상품이 없으면 0)
+     */
+    public long getAverageHammerPrice() {
+        return (soldCount > 0) ? hammerTotal / soldCount : 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof UserStatCounts other
+                && soldCount == other.soldCount && unsoldCount == other.unsoldCount
+                && hammerTotal == other.hammerTotal && salesTotal == other.salesTotal
+                && openBidCount == other.openBidCount && bidsPlaced == other.bidsPlaced
+                && wonCount == other.wonCount && spentTotal == other.spentTotal;
+    }
+
+    @Override
+    public int hashCode() {
+        return java.util.Objects.hash(soldCount, unsoldCount, hammerTotal, salesTotal,
+                openBidCount, bidsPlaced, wonCount, spentTotal);
+    }
+
+    @Override
+    public String toString() {
+        return "UserStatCounts(sold=" + soldCount + ", unsold=" + unsoldCount + ", hammerTotal=" + hammerTotal
+                + ", salesTotal=" + salesTotal + ", openBids=" + openBidCount + ", bidsPlaced=" + bidsPlaced
+                + ", won=" + wonCount + ", spentTotal=" + spentTotal + ")";
+    }
+}
@@ -0,0 +1,31 @@
+package com.auction.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자별 누적 통계 엔티티 (판매자 / 입찰자 대시보드)
+ * - 입찰 / 마감 / 구매 확정 시 쌓인 증분({@link UserStatsDelta})을 주기적으로 합산한 결과
+ * - 아직 합산되지 않은 증분과 더해야 최신 값이 됨
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "user_stats")
+public class UserStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId; // 사용자 ID
+
+    @Embedded
+    private UserStatCounts counts; // 누적 통계
+
+    /**
+     * 🔹 증분 합산
+     */
+    public void add(UserStatCounts delta) {
+        this.counts = counts.plus(delta);
+    }
+}
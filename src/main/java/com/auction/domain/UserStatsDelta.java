@@ -0,0 +1,34 @@
+package com.auction.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자별 통계 증분 엔티티
+ * - 입찰 / 마감 / 구매 확정 / 상품 삭제 트랜잭션에서 INSERT 만 수행하므로 인기 판매자의 누적 통계 행에 잠금이 몰리지 않음
+ * - 합산 작업이 compactionId 로 가져간 뒤 누적 통계에 더하고 삭제함
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "user_stats_delta")
+public class UserStatsDelta {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 기본 키
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId; // 사용자 ID
+
+    @Embedded
+    private UserStatCounts counts; // 증분
+
+    @Column(length = 36)
+    private String compactionId; // 합산 작업 ID (아직 가져가지 않았으면 null)
+
+    public UserStatsDelta(Long userId, UserStatCounts counts) {
+        this(null, userId, counts, null);
+    }
+}
@@ -0,0 +1,18 @@
+package com.auction.event;
+
+import com.auction.domain.AuctionStatus;
+
+/**
+ * 🔨 경매 마감 이벤트
+ * - 마감 처리(낙찰/유찰) 트랜잭션 커밋 이후 발행됨
+ *
+ * @param auctionItemId 마감된 경매 상품 ID
+ * @param status 마감 결과 (SOLD 또는 UNSOLD)
+ * @param winnerId 낙찰자 ID (유찰이면 null)
+ * @param finalPrice 낙찰 가격 (유찰이면 시작 가격)
+ * @param sellerId 판매자 ID
+ * @param bidCount 마감 시점의 입찰 수
+ */
+public record AuctionClosedEvent(Long auctionItemId, AuctionStatus status, Long winnerId, int finalPrice,
+                                 Long sellerId, int bidCount) {
+}
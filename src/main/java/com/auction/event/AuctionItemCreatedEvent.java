@@ -0,0 +1,17 @@
+package com.auction.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📦 경매 상품 등록 이벤트
+ * - 상품 등록 트랜잭션 커밋 이후 마감 스케줄러, 검색 색인, 홈 피드 등에 전달됨
+ *
+ * @param auctionItemId 등록된 경매 상품 ID
+ * @param name 상품명
+ * @param description 상품 설명
+ * @param startPrice 시작 가격
+ * @param endTime 마감 시간
+ */
+public record AuctionItemCreatedEvent(Long auctionItemId, String name, String description, int startPrice,
+                                      LocalDateTime endTime) {
+}
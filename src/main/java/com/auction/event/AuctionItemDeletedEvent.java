@@ -0,0 +1,10 @@
+package com.auction.event;
+
+/**
+ * 🗑️ 경매 상품 삭제 이벤트
+ * - 관리자 삭제 트랜잭션 커밋 이후 검색 색인 등에 전달됨
+ *
+ * @param auctionItemId 삭제된 경매 상품 ID
+ */
+public record AuctionItemDeletedEvent(Long auctionItemId) {
+}
@@ -0,0 +1,13 @@
+package com.auction.event;
+
+/**
+ * 🧾 구매 확정 이벤트
+ * - 구매 확정 트랜잭션 안에서 발행됨 (판매자 / 구매자 통계 반영)
+ *
+ * @param auctionItemId 구매 확정된 경매 상품 ID
+ * @param sellerId 판매자 ID
+ * @param buyerId 구매자(낙찰자) ID
+ * @param price 낙찰 가격
+ */
+public record AuctionPurchaseConfirmedEvent(Long auctionItemId, Long sellerId, Long buyerId, int price) {
+}
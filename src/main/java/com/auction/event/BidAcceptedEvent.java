@@ -0,0 +1,16 @@
+package com.auction.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 💸 입찰 수락 이벤트
+ * - 입찰이 DB 에 기록되고 입찰 장부에 반영된 직후 발행됨
+ *
+ * @param auctionItemId 경매 상품 ID
+ * @param amount 수락된 입찰 금액 (새 현재가)
+ * @param bidderId 입찰자 ID
+ * @param bidCount 누적 입찰 수
+ * @param endTime 마감 시간
+ */
+public record BidAcceptedEvent(Long auctionItemId, int amount, Long bidderId, int bidCount, LocalDateTime endTime) {
+}
@@ -0,0 +1,15 @@
+package com.auction.event;
+
+/**
+ * 🧯 입찰 저널 격리 이벤트
+ * - 저널에 기록되어 응답까지 끝난 입찰을 DB 에 반영하지 못해 격리(dead-letter)했을 때 발행됨
+ * - 입찰 엔진은 DB 와 달라진 장부를 내리고, 다음 입찰에서 DB 상태로 다시 적재
+ *
+ * @param sequence 저널 순번
+ * @param auctionItemId 경매 상품 ID
+ * @param bidderId 입찰자 ID
+ * @param amount 반영하지 못한 최종 입찰 금액
+ * @param reason 격리 사유
+ */
+public record BidJournalDeadLetterEvent(long sequence, Long auctionItemId, Long bidderId, int amount, String reason) {
+}
@@ -0,0 +1,13 @@
+package com.auction.event;
+
+import java.util.List;
+
+/**
+ * 🔗 클러스터 구성원 변경 이벤트
+ * - 입찰을 나눠 맡는 노드가 추가 / 제거되어 상품별 담당 노드가 바뀌었을 때 발행됨
+ * - 입찰 엔진은 더 이상 담당하지 않는 상품의 장부를 메모리에서 내림
+ *
+ * @param nodeIds 현재 구성원 노드 ID 목록
+ */
+public record ClusterMembershipChangedEvent(List<String> nodeIds) {
+}
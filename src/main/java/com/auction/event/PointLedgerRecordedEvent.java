@@ -0,0 +1,15 @@
+package com.auction.event;
+
+import com.auction.domain.PointLedgerType;
+
+/**
+ * 💰 포인트 원장 기록 이벤트
+ * - 원장 기록 트랜잭션 안에서 발행되며, 지표는 커밋된 기록만 반영 (롤백된 기록은 제외)
+ *
+ * @param userId 사용자 ID
+ * @param type 원장 유형
+ * @param amount 금액
+ * @param auctionItemId 관련 경매 상품 ID (충전은 null)
+ */
+public record PointLedgerRecordedEvent(Long userId, PointLedgerType type, int amount, Long auctionItemId) {
+}
@@ -0,0 +1,157 @@
+package com.auction.metrics;
+
+import com.auction.domain.AuctionStatus;
+import com.auction.domain.PointLedgerType;
+import com.auction.event.PointLedgerRecordedEvent;
+import com.auction.service.BidResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📊 경매 핵심 경로 지표 (Micrometer → /actuator/prometheus)
+ * - auction.bid: 입찰 처리 시간 (result 태그: 수락 / 거절 사유별, 백분위수 포함)
+ * - auction.close.lag: 마감 시간 대비 실제 마감 처리 지연
+ * - auction.points.ledger: 포인트 원장 기록 건수와 금액 (type 태그, 커밋된 기록만)
+ * - auction.http.queries: 요청 1건당 실행된 SQL 수 (uri 태그)
+ * - auction.conflict.attempts / auction.conflict.exhausted: 동시 수정 충돌 재시도 (operation 태그)
+ */
+@Component
+public class AuctionMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<BidResult.Status, Timer> bidTimers = new EnumMap<>(BidResult.Status.class);
+    private final Map<AuctionStatus, Timer> closeLagTimers = new EnumMap<>(AuctionStatus.class);
+    private final Map<PointLedgerType, Counter> ledgerCounters = new EnumMap<>(PointLedgerType.class);
+    private final Map<PointLedgerType, DistributionSummary> ledgerAmounts = new EnumMap<>(PointLedgerType.class);
+
+    public AuctionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        for (BidResult.Status status : BidResult.Status.values()) {
+            bidTimers.put(status, Timer.builder("auction.bid")
+                    .description("입찰 처리 시간")
+                    .tag("result", tagValue(status))
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        for (AuctionStatus status : AuctionStatus.values()) {
+            closeLagTimers.put(status, Timer.builder("auction.close.lag")
+                    .description("마감 시간부터 마감 처리 완료까지의 지연")
+                    .tag("result", tagValue(status))
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry));
+        }
+        for (PointLedgerType type : PointLedgerType.values()) {
+            ledgerCounters.put(type, Counter.builder("auction.points.ledger")
+                    .description("포인트 원장 기록 건수")
+                    .tag("type", tagValue(type))
+                    .register(meterRegistry));
+            ledgerAmounts.put(type, DistributionSummary.builder("auction.points.ledger.amount")
+                    .description("포인트 원장 기록 금액")
+                    .baseUnit("points")
+                    .tag("type", tagValue(type))
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 🔹 입찰 처리 결과와 소요 시간 기록
+     */
+    public void recordBid(BidResult.Status status, long elapsedNanos) {
+        bidTimers.get(status).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 🔹 마감 처리 지연 기록 (마감 시간 → 실제 마감 시각)
+     */
+    public void recordClose(AuctionStatus result, LocalDateTime endTime, LocalDateTime closedAt) {
+        Duration lag = Duration.between(endTime, closedAt);
+        closeLagTimers.get(result).record(lag.isNegative() ? Duration.ZERO : lag);
+    }
+
+    /**
+     * 🔹 포인트 원장 기록 커밋 후 반영 (롤백된 충전 / 예치는 지표에 남지 않음)
+     */
+    @TransactionalEventListener
+    public void onPointLedgerRecorded(PointLedgerRecordedEvent event) {
+        recordLedger(event.type(), event.amount());
+    }
+
+    /**
+     * 🔹 포인트 원장 기록
+     */
+    public void recordLedger(PointLedgerType type, int amount) {
+        ledgerCounters.get(type).increment();
+        ledgerAmounts.get(type).record(amount);
+    }
+
+    /**
+     * 🔹 요청 1건당 실행된 SQL 수 기록
+     *
+     * @param uri 요청 URI 패턴 (예: /auction-item/{id})
+     * @param queryCount 실행된 SQL 수
+     */
+    public void recordRequestQueries(String uri, int queryCount) {
+        DistributionSummary.builder("auction.http.queries")
+                .description("요청 1건당 실행된 SQL 수")
+                .tag("uri", uri)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(queryCount);
+    }
+
+    /**
+     * 🔹 충돌 재시도 대상 작업의 시도 1회 기록 (충돌률 = result=conflict / 전체)
+     *
+     * @param operation 작업 이름 (예: bid, charge, close, confirm, ban)
+     * @param conflict 동시 수정 충돌로 롤백되었는지 여부
+     */
+    public void recordConflictAttempt(String operation, boolean conflict) {
+        Counter.builder("auction.conflict.attempts")
+                .description("충돌 재시도 대상 작업의 트랜잭션 시도 수")
+                .tag("operation", operation)
+                .tag("result", conflict ? "conflict" : "committed")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 🔹 재시도 횟수를 모두 써도 충돌이 해소되지 않은 작업 기록
+     */
+    public void recordConflictExhausted(String operation) {
+        Counter.builder("auction.conflict.exhausted")
+                .description("재시도를 모두 소진한 동시 수정 충돌 수")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 🔹 다른 노드가 담당하는 상품의 입찰을 담당 노드로 전달한 결과 기록
+     *
+     * @param outcome 전달 결과 (forwarded, misdirected, rejected, failed)
+     */
+    public void recordBidForward(String outcome) {
+        Counter.builder("auction.bid.forwarded")
+                .description("담당 노드로 전달한 입찰 요청 수")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
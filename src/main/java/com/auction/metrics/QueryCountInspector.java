@@ -0,0 +1,48 @@
+package com.auction.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 🔢 Hibernate 가 실행하는 SQL 수를 스레드(요청) 단위로 세는 StatementInspector
+ * - {@link #start()} ~ {@link #stop()} 사이에 실행된 SQL 만 집계하며, SQL 자체는 변경하지 않음
+ * - N+1 쿼리가 다시 생기면 요청당 SQL 수 지표가 튀어 오르므로 회귀를 바로 확인 가능
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * 🔹 현재 스레드의 SQL 집계 시작 (이전 집계는 초기화)
+     */
+    public static void start() {
+        COUNTER.set(new int[1]);
+    }
+
+    /**
+     * 🔹 현재 스레드의 SQL 집계 종료
+     *
+     * @return 집계 시작 이후 실행된 SQL 수 (집계 중이 아니었으면 0)
+     */
+    public static int stop() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return (counter != null) ? counter[0] : 0;
+    }
+
+    /**
+     * 🔹 집계를 끝내지 않고 현재까지의 SQL 수 조회
+     */
+    public static int current() {
+        int[] counter = COUNTER.get();
+        return (counter != null) ? counter[0] : 0;
+    }
+}
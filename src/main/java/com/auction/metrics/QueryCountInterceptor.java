@@ -0,0 +1,43 @@
+package com.auction.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 🔎 컨트롤러 요청 1건당 실행된 SQL 수를 지표로 기록 (뷰 렌더링 중 지연 로딩 포함)
+ * - 임계값을 넘는 요청은 경고 로그로 남겨 N+1 회귀를 빠르게 찾을 수 있게 함
+ */
+public class QueryCountInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryCountInterceptor.class);
+
+    private final AuctionMetrics auctionMetrics;
+    private final int warnThreshold;
+
+    public QueryCountInterceptor(AuctionMetrics auctionMetrics, int warnThreshold) {
+        this.auctionMetrics = auctionMetrics;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCountInspector.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        int queryCount = QueryCountInspector.stop();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = (pattern != null) ? pattern.toString() : "UNKNOWN";
+
+        auctionMetrics.recordRequestQueries(uri, queryCount);
+        if (queryCount > warnThreshold) {
+            logger.warn("⚠ 요청당 SQL 수 과다 - {} {}: {}건", request.getMethod(), uri, queryCount);
+        }
+    }
+}
@@ -1,11 +1,23 @@
 package com.auction.repository;
 
 import com.auction.domain.AuctionItem;
+import com.auction.domain.AuctionStatus;
 import com.auction.domain.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 🏷️ 경매 상품 리포지토리
@@ -14,24 +26,223 @@ import java.util.List;
 public interface AuctionItemRepository extends JpaRepository<AuctionItem, Long> {
 
     /**
-     * 📌 마감 시간이 임박한 순으로 모든 경매 상품 조회
+     * 📌 목록 화면용 경매 상품 요약 (프로젝션)
+     * - 판매자/낙찰자 연관 없이 목록에 필요한 컬럼만 조회
      */
-    List<AuctionItem> findAllByOrderByEndTimeAsc();
+    interface CatalogEntry {
+        Long getId();
+
+        String getName();
+
+        String getDescription();
+
+        int getStartPrice();
+
+        int getCurrentPrice();
+
+        LocalDateTime getEndTime();
+
+        AuctionStatus getStatus();
+
+        int getBidCount();
+    }
 
     /**
-     * 📌 마감 시간이 지나고 아직 낙찰자가 없는 경매 상품 조회 (유찰된 상품)
+     * 📌 경매 상품 목록 한 페이지 조회 (키셋 페이지네이션)
+     * - (마감 시간, ID) 순으로 정렬하고, 이전 페이지의 마지막 (마감 시간, ID) 이후부터 조회
+     * - OFFSET 없이 (end_time, id) 인덱스를 이어서 읽으므로 뒤쪽 페이지도 비용이 같음
+     *
+     * @param statuses 조회할 경매 상태
+     * @param keyword 상품명 / 설명 검색어 (없으면 null, 검색 색인과 같은 필드)
+     * @param afterEndTime 이전 페이지 마지막 상품의 마감 시간
+     * @param afterId 이전 페이지 마지막 상품의 ID
+     * @param limit 조회 건수
+     * @return 경매 상품 요약 목록
      */
-    List<AuctionItem> findByEndTimeBeforeAndWinnerIsNull(LocalDateTime now);
+    @Query("SELECT a.id AS id, a.name AS name, a.description AS description, a.startPrice AS startPrice, " +
+            "a.currentPrice AS currentPrice, a.endTime AS endTime, a.status AS status, a.bidCount AS bidCount " +
+            "FROM AuctionItem a " +
+            "WHERE a.status IN :statuses " +
+            "AND (:keyword IS NULL OR LOWER(a.name) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "OR LOWER(a.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "AND (a.endTime > :afterEndTime OR (a.endTime = :afterEndTime AND a.id > :afterId)) " +
+            "ORDER BY a.endTime ASC, a.id ASC")
+    List<CatalogEntry> findCatalogPage(@Param("statuses") Collection<AuctionStatus> statuses,
+                                       @Param("keyword") String keyword,
+                                       @Param("afterEndTime") LocalDateTime afterEndTime,
+                                       @Param("afterId") Long afterId,
+                                       Pageable limit);
 
     /**
-     * 📌 낙찰된 상품 목록을 마감 시간 순으로 정렬하여 조회
+     * 📌 ID 목록으로 경매 상품 요약 조회 (검색 색인 결과 표시용, 순서는 보장되지 않음)
+     *
+     * @param ids 경매 상품 ID 목록
+     * @return 경매 상품 요약 목록
      */
-    List<AuctionItem> findByWinnerNotNullOrderByEndTimeDesc();
+    @Query("SELECT a.id AS id, a.name AS name, a.description AS description, a.startPrice AS startPrice, " +
+            "a.currentPrice AS currentPrice, a.endTime AS endTime, a.status AS status, a.bidCount AS bidCount " +
+            "FROM AuctionItem a WHERE a.id IN :ids")
+    List<CatalogEntry> findCatalogEntries(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 📌 ID 로 경매 상품 요약 조회 (입찰 내역 화면 머리글)
+     *
+     * @param id 경매 상품 ID
+     * @return 경매 상품 요약 (없으면 empty)
+     */
+    @Query("SELECT a.id AS id, a.name AS name, a.description AS description, a.startPrice AS startPrice, " +
+            "a.currentPrice AS currentPrice, a.endTime AS endTime, a.status AS status, a.bidCount AS bidCount " +
+            "FROM AuctionItem a WHERE a.id = :id")
+    Optional<CatalogEntry> findCatalogEntryById(@Param("id") Long id);
+
+    /**
+     * 📌 판매자가 등록한 경매 상품 요약 조회 (마이페이지)
+     *
+     * @param sellerId 판매자 ID
+     * @return 마감 시간, ID 순 경매 상품 요약 목록
+     */
+    @Query("SELECT a.id AS id, a.name AS name, a.description AS description, a.startPrice AS startPrice, " +
+            "a.currentPrice AS currentPrice, a.endTime AS endTime, a.status AS status, a.bidCount AS bidCount " +
+            "FROM AuctionItem a WHERE a.seller.id = :sellerId ORDER BY a.endTime ASC, a.id ASC")
+    List<CatalogEntry> findSellerEntries(@Param("sellerId") Long sellerId);
+
+    /**
+     * 📌 낙찰받은 경매 상품 요약 조회 (마이페이지)
+     *
+     * @param winnerId 낙찰자 ID
+     * @return 마감 시간, ID 순 경매 상품 요약 목록
+     */
+    @Query("SELECT a.id AS id, a.name AS name, a.description AS description, a.startPrice AS startPrice, " +
+            "a.currentPrice AS currentPrice, a.endTime AS endTime, a.status AS status, a.bidCount AS bidCount " +
+            "FROM AuctionItem a WHERE a.winner.id = :winnerId ORDER BY a.endTime ASC, a.id ASC")
+    List<CatalogEntry> findWinnerEntries(@Param("winnerId") Long winnerId);
+
+    /**
+     * 📌 입찰에 참여했고 아직 낙찰자가 없는 경매 상품 요약 조회 (마이페이지)
+     * - 입찰 내역 전체를 읽지 않고 (user_id, auction_item_id) 인덱스에서 상품 ID 만 DISTINCT 로 추림
+     *
+     * @param bidderId 입찰자 ID
+     * @return 마감 시간, ID 순 경매 상품 요약 목록
+     */
+    @Query("SELECT a.id AS id, a.name AS name, a.description AS description, a.startPrice AS startPrice, " +
+            "a.currentPrice AS currentPrice, a.endTime AS endTime, a.status AS status, a.bidCount AS bidCount " +
+            "FROM AuctionItem a WHERE a.winner IS NULL AND a.id IN " +
+            "(SELECT DISTINCT b.auctionItem.id FROM Bid b WHERE b.bidder.id = :bidderId) " +
+            "ORDER BY a.endTime ASC, a.id ASC")
+    List<CatalogEntry> findParticipatingEntries(@Param("bidderId") Long bidderId);
+
+    /**
+     * 📌 경매 상품 요약 전체를 스트림으로 조회 (관리자 내보내기)
+     * - 결과를 한 번에 메모리에 올리지 않고 fetch size 단위로 읽음 (트랜잭션 안에서만 사용 가능)
+     *
+     * @param statuses 조회할 경매 상태
+     * @return 마감 시간, ID 순 경매 상품 요약 스트림
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT a.id AS id, a.name AS name, a.description AS description, a.startPrice AS startPrice, " +
+            "a.currentPrice AS currentPrice, a.endTime AS endTime, a.status AS status, a.bidCount AS bidCount " +
+            "FROM AuctionItem a WHERE a.status IN :statuses ORDER BY a.endTime ASC, a.id ASC")
+    Stream<CatalogEntry> streamCatalog(@Param("statuses") Collection<AuctionStatus> statuses);
+
+    /**
+     * 📌 홈 피드 적재용 경매 상품 요약 (프로젝션)
+     */
+    interface FeedRow extends CatalogEntry {
+        LocalDateTime getLastBidAt();
+    }
+
+    /**
+     * 📌 특정 상태의 경매 상품을 홈 피드 적재용으로 스트림 조회 (시작 시 1회, 트랜잭션 안에서만 사용 가능)
+     *
+     * @param status 경매 상태
+     * @return 경매 상품 요약 스트림
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT a.id AS id, a.name AS name, a.description AS description, a.startPrice AS startPrice, " +
+            "a.currentPrice AS currentPrice, a.endTime AS endTime, a.status AS status, a.bidCount AS bidCount, " +
+            "a.lastBidAt AS lastBidAt FROM AuctionItem a WHERE a.status = :status")
+    Stream<FeedRow> streamFeedRows(@Param("status") AuctionStatus status);
+
+    /**
+     * 📌 최근 종결된 경매 상품 요약 조회 (마감 시간 역순, 홈 피드 적재용)
+     *
+     * @param status 경매 상태 (SOLD)
+     * @param limit 조회 건수
+     * @return 경매 상품 요약 목록
+     */
+    @Query("SELECT a.id AS id, a.name AS name, a.description AS description, a.startPrice AS startPrice, " +
+            "a.currentPrice AS currentPrice, a.endTime AS endTime, a.status AS status, a.bidCount AS bidCount " +
+            "FROM AuctionItem a WHERE a.status = :status ORDER BY a.endTime DESC, a.id DESC")
+    List<CatalogEntry> findRecentlyClosed(@Param("status") AuctionStatus status, Pageable limit);
+
+    /**
+     * 📌 마감 스케줄 조회 결과 (프로젝션)
+     */
+    interface CloseSchedule {
+        Long getId();
+
+        LocalDateTime getEndTime();
+    }
+
+    /**
+     * 📌 특정 상태의 경매 상품 마감 스케줄 조회 (마감 스케줄러 적재 시 활용)
+     *
+     * @param status 경매 상태
+     * @return 상품 ID와 마감 시간 목록
+     */
+    @Query("select a.id as id, a.endTime as endTime from AuctionItem a where a.status = :status")
+    List<CloseSchedule> findCloseSchedulesByStatus(@Param("status") AuctionStatus status);
+
+    /**
+     * 📌 마감 시간이 지났지만 아직 마감 처리되지 않은 경매 상품의 스케줄 조회
+     * - 종결(SOLD/UNSOLD)된 상품은 다시 조회되지 않음
+     *
+     * @param status 경매 상태 (OPEN)
+     * @param now 기준 시각
+     * @return 상품 ID와 마감 시간 목록
+     */
+    @Query("select a.id as id, a.endTime as endTime from AuctionItem a where a.status = :status and a.endTime <= :now")
+    List<CloseSchedule> findOverdueCloseSchedules(@Param("status") AuctionStatus status, @Param("now") LocalDateTime now);
+
+    /**
+     * 📌 특정 샤드(ID mod 샤드 수)에 속한 경매 상품의 마감 스케줄 조회 (샤드 임대 시 적재, 다른 노드가 등록한 상품 반영)
+     *
+     * @param status 경매 상태 (OPEN)
+     * @param shardCount 샤드 수
+     * @param shardIds 샤드 번호 목록
+     * @param afterId 이 ID 보다 큰 상품만 조회 (전체는 0)
+     * @return 상품 ID와 마감 시간 목록
+     */
+    @Query("select a.id as id, a.endTime as endTime from AuctionItem a " +
+            "where a.status = :status and a.id > :afterId and mod(a.id, :shardCount) in :shardIds")
+    List<CloseSchedule> findCloseSchedulesInShards(@Param("status") AuctionStatus status,
+                                                   @Param("shardCount") long shardCount,
+                                                   @Param("shardIds") Collection<Long> shardIds,
+                                                   @Param("afterId") long afterId);
+
+    /**
+     * 📌 특정 샤드에 속한 상품 중 마감 시간이 지났지만 아직 마감 처리되지 않은 상품의 스케줄 조회
+     */
+    @Query("select a.id as id, a.endTime as endTime from AuctionItem a " +
+            "where a.status = :status and a.endTime <= :now and mod(a.id, :shardCount) in :shardIds")
+    List<CloseSchedule> findOverdueCloseSchedulesInShards(@Param("status") AuctionStatus status,
+                                                          @Param("now") LocalDateTime now,
+                                                          @Param("shardCount") long shardCount,
+                                                          @Param("shardIds") Collection<Long> shardIds);
+
+    /**
+     * 📌 낙찰자를 함께 조회 (상세 화면, 트랜잭션 밖에서 낙찰자 정보를 읽음)
+     *
+     * @param id 경매 상품 ID
+     * @return 낙찰자가 초기화된 경매 상품 (없으면 empty)
+     */
+    @EntityGraph(attributePaths = "winner")
+    Optional<AuctionItem> findWithWinnerById(Long id);
 
     /**
-     * 📌 최신 경매 상품 3개 조회 (홈페이지에서 활용)
+     * 📌 낙찰된 상품 목록을 마감 시간 순으로 정렬하여 조회
      */
-    List<AuctionItem> findTop3ByOrderByEndTimeDesc();
+    List<AuctionItem> findByWinnerNotNullOrderByEndTimeDesc();
 
     /**
      * 📌 특정 사용자가 판매자로 등록한 경매 상품 조회
@@ -50,11 +261,138 @@ public interface AuctionItemRepository extends JpaRepository<AuctionItem, Long>
     List<AuctionItem> findByWinner(User winner);
 
     /**
-     * 📌 상품명을 기준으로 검색 (대소문자 구분 없이 포함된 문자열 검색)
-     * - 검색 결과는 마감 시간이 임박한 순서대로 정렬됨
+     * 📌 입찰 반영 (조건부 UPDATE)
+     * - 현재가보다 높은 금액이고 마감 전인 경우에만 1행이 갱신됨
+     * - 0 이 반환되면 다른 입찰이 먼저 반영되었거나 경매가 마감된 것이므로 입찰을 거절해야 함
+     * - 마감 연장(soft-close)도 같은 UPDATE 에서 반영되므로 입찰 수락과 연장이 원자적으로 처리됨
+     *   (마감 조건은 연장 전 마감 시간으로 검사됨)
+     * - 마감 처리가 먼저 커밋된 경우에도 입찰이 반영되지 않도록 진행 중(OPEN) 상태를 함께 검사
+     * - 버전을 올려, 입찰 전에 상품을 읽은 마감 처리 / 엔티티 저장이 충돌로 다시 시도되게 함
+     *
+     * @param id 경매 상품 ID
+     * @param amount 입찰 금액
+     * @param bidderId 입찰자 ID
+     * @param bidTime 입찰 시각
+     * @param endTime 입찰 반영 후 마감 시간 (연장되지 않으면 기존 마감 시간, DB 의 마감 시간보다 늦을 때만 반영 - 앞당기지 않음)
+     * @param count 함께 기록되는 입찰 수 (대량 입찰은 여러 건을 한 번에 반영, amount 는 마지막 입찰 금액)
+     * @return 갱신된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("update AuctionItem a set a.currentPrice = :amount, a.highestBidderId = :bidderId, " +
+            "a.bidCount = a.bidCount + :count, a.lastBidAt = :bidTime, " +
+            "a.endTime = case when :endTime > a.endTime then :endTime else a.endTime end, " +
+            "a.version = a.version + 1 " +
+            "where a.id = :id and a.currentPrice < :amount and a.endTime > :bidTime " +
+            "and a.status = com.auction.domain.AuctionStatus.OPEN")
+    int applyBid(@Param("id") Long id, @Param("amount") int amount,
+                 @Param("bidderId") Long bidderId, @Param("bidTime") LocalDateTime bidTime,
+                 @Param("endTime") LocalDateTime endTime, @Param("count") int count);
+
+    /**
+     * 📌 입찰 요약 컬럼 보정 (정합성 점검 작업에서 사용)
+     * - 점검 중 새 입찰이 반영되었으면(입찰 수가 달라졌으면) 갱신하지 않음
+     *
+     * @return 갱신된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("update AuctionItem a set a.currentPrice = :currentPrice, a.highestBidderId = :highestBidderId, " +
+            "a.bidCount = :bidCount, a.lastBidAt = :lastBidAt, a.version = a.version + 1 " +
+            "where a.id = :id and a.bidCount = :expectedBidCount")
+    int repairBidSummary(@Param("id") Long id, @Param("expectedBidCount") int expectedBidCount,
+                         @Param("currentPrice") int currentPrice, @Param("highestBidderId") Long highestBidderId,
+                         @Param("bidCount") int bidCount, @Param("lastBidAt") LocalDateTime lastBidAt);
+
+    /**
+     * 📌 경매 마감 처리 (조건부 UPDATE)
+     * - 진행 중(OPEN)이고 마감 시간이 지난 경우에만 1행이 갱신되므로 한 상품은 정확히 한 번만 마감됨
+     * - 낙찰자를 결정할 때 읽은 버전과 같을 때만 갱신되므로, 그 사이 반영된 입찰이 있으면 0 반환
+     *
+     * @param id 경매 상품 ID
+     * @param version 상품을 읽을 때의 버전
+     * @param open 기대하는 현재 상태 (OPEN)
+     * @param status 마감 결과 상태 (SOLD 또는 UNSOLD)
+     * @param winner 낙찰자 (유찰이면 null)
+     * @param now 기준 시각
+     * @return 갱신된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("update AuctionItem a set a.status = :status, a.winner = :winner, a.version = a.version + 1 " +
+            "where a.id = :id and a.version = :version and a.status = :open and a.endTime <= :now")
+    int close(@Param("id") Long id, @Param("version") long version, @Param("open") AuctionStatus open,
+              @Param("status") AuctionStatus status, @Param("winner") User winner, @Param("now") LocalDateTime now);
+
+    /**
+     * 📌 판매자 ID 조회 (입찰 저널 반영 시 판매자 통계 증분 기록)
+     *
+     * @param id 경매 상품 ID
+     * @return 판매자 ID (상품이 없으면 empty)
+     */
+    @Query("select a.seller.id from AuctionItem a where a.id = :id")
+    Optional<Long> findSellerId(@Param("id") Long id);
+
+    /**
+     * 📌 판매자별 통계 집계 결과 (프로젝션)
+     */
+    interface SellerStatsRow {
+        Long getUserId();
+
+        Long getSoldCount();
+
+        Long getUnsoldCount();
+
+        Long getHammerTotal();
+
+        Long getSalesTotal();
+
+        Long getOpenBidCount();
+    }
+
+    /**
+     * 📌 판매자별 낙찰 / 유찰 수, 낙찰가 합계, 판매 대금 합계, 진행 중 상품의 입찰 수 집계 (통계 재구성)
+     *
+     * @param open 진행 중 상태 (OPEN)
+     * @param sold 낙찰 상태 (SOLD)
+     * @param unsold 유찰 상태 (UNSOLD)
+     * @return 판매자별 집계
+     */
+    @Query("select a.seller.id as userId, " +
+            "sum(case when a.status = :sold then 1 else 0 end) as soldCount, " +
+            "sum(case when a.status = :unsold then 1 else 0 end) as unsoldCount, " +
+            "sum(case when a.status = :sold then a.currentPrice else 0 end) as hammerTotal, " +
+            "sum(case when a.status = :sold and a.purchased = true then a.currentPrice else 0 end) as salesTotal, " +
+            "sum(case when a.status = :open then a.bidCount else 0 end) as openBidCount " +
+            "from AuctionItem a where a.seller is not null group by a.seller.id")
+    List<SellerStatsRow> summarizeStatsBySeller(@Param("open") AuctionStatus open,
+                                                @Param("sold") AuctionStatus sold,
+                                                @Param("unsold") AuctionStatus unsold);
+
+    /**
+     * 📌 낙찰자별 통계 집계 결과 (프로젝션)
+     */
+    interface WinnerStatsRow {
+        Long getUserId();
+
+        Long getWonCount();
+
+        Long getSpentTotal();
+    }
+
+    /**
+     * 📌 낙찰자별 낙찰 수, 구매 확정 금액 합계 집계 (통계 재구성)
+     *
+     * @param sold 낙찰 상태 (SOLD)
+     * @return 낙찰자별 집계
+     */
+    @Query("select a.winner.id as userId, count(a) as wonCount, " +
+            "sum(case when a.purchased = true then a.currentPrice else 0 end) as spentTotal " +
+            "from AuctionItem a where a.status = :sold and a.winner is not null group by a.winner.id")
+    List<WinnerStatsRow> summarizeStatsByWinner(@Param("sold") AuctionStatus sold);
+
+    /**
+     * 📌 ID 기준 키셋 조회 (정합성 점검 작업에서 일정 크기씩 순회)
      *
-     * @param name 검색어
-     * @return 검색 결과에 해당하는 경매 상품 목록
+     * @param id 직전 조회의 마지막 ID
+     * @return ID 오름차순 최대 500개
      */
-    List<AuctionItem> findByNameContainingIgnoreCaseOrderByEndTimeAsc(String name);
-}
\ No newline at end of file
+    List<AuctionItem> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
+}
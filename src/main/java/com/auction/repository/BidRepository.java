@@ -2,9 +2,12 @@ package com.auction.repository;
 
 import com.auction.domain.AuctionItem;
 import com.auction.domain.Bid;
-import com.auction.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -14,12 +17,26 @@ import java.util.List;
 public interface BidRepository extends JpaRepository<Bid, Long> {
 
     /**
-     * 📌 특정 경매 상품의 입찰 내역을 높은 금액 순으로 조회
+     * 📌 입찰 내역 화면용 입찰 1건 (프로젝션)
+     * - 입찰자 이름을 조인으로 함께 읽으므로 입찰 수와 관계없이 쿼리 1건
+     */
+    interface BidRow {
+        String getBidderName();
+
+        int getBidAmount();
+
+        LocalDateTime getBidTime();
+    }
+
+    /**
+     * 📌 특정 경매 상품의 입찰 내역을 높은 금액 순으로 조회 (입찰 내역 화면)
      *
-     * @param auctionItem 경매 상품
+     * @param auctionItemId 경매 상품 ID
      * @return 입찰 내역 리스트 (높은 금액순 정렬)
      */
-    List<Bid> findByAuctionItemOrderByBidAmountDesc(AuctionItem auctionItem);
+    @Query("select u.name as bidderName, b.bidAmount as bidAmount, b.bidTime as bidTime " +
+            "from Bid b join b.bidder u where b.auctionItem.id = :auctionItemId order by b.bidAmount desc")
+    List<BidRow> findBidRows(@Param("auctionItemId") Long auctionItemId);
 
     /**
      * 📌 특정 경매 상품에서 가장 높은 입찰가를 기록한 입찰 조회
@@ -30,12 +47,62 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
     Bid findTopByAuctionItemOrderByBidAmountDesc(AuctionItem auctionItem);
 
     /**
-     * 📌 특정 사용자가 입찰한 모든 입찰 내역 조회
+     * 📌 상품별 입찰 요약 조회 결과 (프로젝션)
+     */
+    interface BidSummary {
+        Long getAuctionItemId();
+
+        Long getBidCount();
+
+        Integer getHighestAmount();
+
+        LocalDateTime getLastBidAt();
+    }
+
+    /**
+     * 📌 여러 경매 상품의 입찰 수, 최고가, 마지막 입찰 시각을 일괄 집계 (정합성 점검용)
+     *
+     * @param auctionItemIds 경매 상품 ID 목록
+     * @return 상품 ID별 입찰 요약 (입찰이 없는 상품은 제외)
+     */
+    @Query("select b.auctionItem.id as auctionItemId, count(b) as bidCount, " +
+            "max(b.bidAmount) as highestAmount, max(b.bidTime) as lastBidAt " +
+            "from Bid b where b.auctionItem.id in :auctionItemIds group by b.auctionItem.id")
+    List<BidSummary> summarizeByAuctionItemIds(@Param("auctionItemIds") Collection<Long> auctionItemIds);
+
+    /**
+     * 📌 여러 경매 상품의 최고 입찰 조회 (정합성 점검용)
+     *
+     * @param auctionItemIds 경매 상품 ID 목록
+     * @return 상품별 최고 입찰 목록
+     */
+    @Query("select b from Bid b where b.auctionItem.id in :auctionItemIds and b.bidAmount = " +
+            "(select max(b2.bidAmount) from Bid b2 where b2.auctionItem = b.auctionItem)")
+    List<Bid> findHighestBidsByAuctionItemIds(@Param("auctionItemIds") Collection<Long> auctionItemIds);
+
+    /**
+     * 📌 입찰자별 입찰 수 (프로젝션)
+     */
+    interface BidderCount {
+        Long getUserId();
+
+        Long getBidCount();
+    }
+
+    /**
+     * 📌 입찰자별 전체 입찰 수 집계 (통계 재구성)
+     */
+    @Query("select b.bidder.id as userId, count(b) as bidCount from Bid b group by b.bidder.id")
+    List<BidderCount> countByBidder();
+
+    /**
+     * 📌 특정 경매 상품의 입찰자별 입찰 수 집계 (상품 삭제 시 입찰자 통계에서 차감)
      *
-     * @param bidder 입찰자 (User 객체)
-     * @return 사용자의 모든 입찰 내역
+     * @param auctionItemId 경매 상품 ID
      */
-    List<Bid> findByBidder(User bidder);
+    @Query("select b.bidder.id as userId, count(b) as bidCount from Bid b " +
+            "where b.auctionItem.id = :auctionItemId group by b.bidder.id")
+    List<BidderCount> countByBidderForItem(@Param("auctionItemId") Long auctionItemId);
 
     /**
      * 📌 특정 경매 상품의 모든 입찰 내역 삭제 (상품 삭제 시 활용)
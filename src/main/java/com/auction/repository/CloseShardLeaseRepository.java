@@ -0,0 +1,72 @@
+package com.auction.repository;
+
+import com.auction.domain.CloseShardLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 🗂️ 마감 처리 샤드 임대 리포지토리
+ * - 모든 임대 변경은 조건부 UPDATE 로 처리하여 여러 노드가 동시에 가져가도 한 노드만 성공
+ */
+public interface CloseShardLeaseRepository extends JpaRepository<CloseShardLease, Integer> {
+
+    /**
+     * 📌 노드가 임대 중인 샤드 번호 (만료되지 않은 것만)
+     */
+    @Query("select l.shardId from CloseShardLease l " +
+            "where l.owner = :owner and l.expiresAt > :now and l.shardId < :shardCount order by l.shardId")
+    List<Integer> findOwnedShardIds(@Param("owner") String owner, @Param("now") LocalDateTime now,
+                                    @Param("shardCount") int shardCount);
+
+    /**
+     * 📌 임대할 수 있는 샤드 번호 (비어 있거나 만료됨)
+     */
+    @Query("select l.shardId from CloseShardLease l " +
+            "where (l.owner is null or l.expiresAt <= :now) and l.shardId < :shardCount order by l.shardId")
+    List<Integer> findClaimableShardIds(@Param("now") LocalDateTime now, @Param("shardCount") int shardCount);
+
+    /**
+     * 📌 샤드 임대 (비어 있거나 만료된 경우에만)
+     *
+     * @return 임대 성공 시 1, 다른 노드가 먼저 가져갔으면 0
+     */
+    @Modifying
+    @Query("update CloseShardLease l set l.owner = :owner, l.expiresAt = :expiresAt " +
+            "where l.shardId = :shardId and (l.owner is null or l.expiresAt <= :now)")
+    int claim(@Param("shardId") int shardId, @Param("owner") String owner,
+              @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 📌 노드가 임대 중인 샤드의 만료 시각 연장 (이미 만료된 임대는 다른 노드가 가져갈 수 있으므로 연장하지 않음)
+     *
+     * @return 연장된 샤드 수
+     */
+    @Modifying
+    @Query("update CloseShardLease l set l.expiresAt = :expiresAt where l.owner = :owner and l.expiresAt > :now")
+    int renew(@Param("owner") String owner, @Param("now") LocalDateTime now,
+              @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 📌 샤드 임대 반납 (즉시 다른 노드가 가져갈 수 있음)
+     *
+     * @return 반납된 샤드 수
+     */
+    @Modifying
+    @Query("update CloseShardLease l set l.owner = null, l.expiresAt = :now " +
+            "where l.owner = :owner and l.shardId in :shardIds")
+    int release(@Param("owner") String owner, @Param("shardIds") Collection<Integer> shardIds,
+                @Param("now") LocalDateTime now);
+
+    /**
+     * 📌 노드가 임대 중인 샤드 모두 반납 (종료 시)
+     */
+    @Modifying
+    @Query("update CloseShardLease l set l.owner = null, l.expiresAt = :now where l.owner = :owner")
+    int releaseAll(@Param("owner") String owner, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,37 @@
+package com.auction.repository;
+
+import com.auction.domain.ClusterNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 🖥️ 클러스터 노드 리포지토리
+ */
+public interface ClusterNodeRepository extends JpaRepository<ClusterNode, String> {
+
+    /**
+     * 📌 생존 신호 기록
+     *
+     * @return 갱신된 행 수 (0 이면 아직 등록되지 않은 노드)
+     */
+    @Modifying
+    @Query("update ClusterNode n set n.heartbeatAt = :now, n.baseUrl = :baseUrl where n.nodeId = :nodeId")
+    int heartbeat(@Param("nodeId") String nodeId, @Param("baseUrl") String baseUrl, @Param("now") LocalDateTime now);
+
+    /**
+     * 📌 기준 시각 이후 생존 신호를 보낸 노드 (노드 ID 순)
+     */
+    List<ClusterNode> findByHeartbeatAtAfterOrderByNodeId(LocalDateTime cutoff);
+
+    /**
+     * 📌 오래전에 멈춘 노드 삭제
+     */
+    @Modifying
+    @Query("delete from ClusterNode n where n.heartbeatAt <= :cutoff")
+    int deleteStale(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,77 @@
+package com.auction.repository;
+
+import com.auction.domain.MailOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 📮 메일 발송 대기열 리포지토리
+ * - 상태 변경은 모두 현재 상태를 조건으로 하는 UPDATE 로 수행하여 중복 처리를 방지
+ */
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    /**
+     * 📌 발송 가능한 메일 ID 조회 (대기 중이거나 점유가 만료된 발송 중 메일, 오래된 순)
+     *
+     * @param statuses 대상 상태 (PENDING, SENDING)
+     * @param now 기준 시각
+     * @param pageable 최대 조회 건수
+     * @return 메일 ID 리스트
+     */
+    @Query("select m.id from MailOutbox m where m.status in :statuses and m.nextAttemptAt <= :now order by m.id asc")
+    List<Long> findDueIds(@Param("statuses") Collection<MailOutbox.Status> statuses,
+                          @Param("now") LocalDateTime now,
+                          Pageable pageable);
+
+    /**
+     * 📌 메일 점유 (발송 가능 상태일 때만 SENDING 으로 변경하고 점유 만료 시각 기록)
+     *
+     * @return 점유 성공 시 1, 다른 작업이 먼저 가져갔으면 0
+     */
+    @Modifying
+    @Query("update MailOutbox m set m.status = :sending, m.attempts = m.attempts + 1, m.nextAttemptAt = :leaseUntil " +
+            "where m.id = :id and m.status in :claimable and m.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id,
+              @Param("claimable") Collection<MailOutbox.Status> claimable,
+              @Param("sending") MailOutbox.Status sending,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 📌 발송 완료 처리
+     */
+    @Modifying
+    @Query("update MailOutbox m set m.status = :sent, m.sentAt = :sentAt, m.lastError = null " +
+            "where m.id in :ids and m.status = :sending")
+    int markSent(@Param("ids") Collection<Long> ids,
+                 @Param("sending") MailOutbox.Status sending,
+                 @Param("sent") MailOutbox.Status sent,
+                 @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * 📌 발송 실패 처리 (재시도 대기 또는 발송 포기)
+     *
+     * @param status 변경할 상태 (PENDING 또는 DEAD)
+     * @param nextAttemptAt 다음 발송 가능 시각
+     */
+    @Modifying
+    @Query("update MailOutbox m set m.status = :status, m.nextAttemptAt = :nextAttemptAt, m.lastError = :error " +
+            "where m.id = :id and m.status = :sending")
+    int markFailed(@Param("id") Long id,
+                   @Param("sending") MailOutbox.Status sending,
+                   @Param("status") MailOutbox.Status status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+
+    /**
+     * 📌 상태별 메일 수 (대기열 길이 지표)
+     */
+    long countByStatus(MailOutbox.Status status);
+}
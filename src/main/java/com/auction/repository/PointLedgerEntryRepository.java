@@ -0,0 +1,11 @@
+package com.auction.repository;
+
+import com.auction.domain.PointLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 🏷️ 포인트 원장 리포지토리
+ * - 포인트 이동 내역을 추가 전용으로 기록
+ */
+public interface PointLedgerEntryRepository extends JpaRepository<PointLedgerEntry, Long> {
+}
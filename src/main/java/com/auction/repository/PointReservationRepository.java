@@ -0,0 +1,49 @@
+package com.auction.repository;
+
+import com.auction.domain.PointReservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 🏷️ 포인트 예치 리포지토리
+ * - 입찰 보증금 예치/반환/확정 상태를 관리
+ */
+public interface PointReservationRepository extends JpaRepository<PointReservation, Long> {
+
+    /**
+     * 📌 특정 경매 상품에 현재 예치 중인 예치 내역 조회 (가장 최근 것)
+     *
+     * @param auctionItemId 경매 상품 ID
+     * @param status 예치 상태
+     * @return 예치 내역 (Optional)
+     */
+    Optional<PointReservation> findFirstByAuctionItemIdAndStatusOrderByIdDesc(Long auctionItemId, PointReservation.Status status);
+
+    /**
+     * 📌 특정 경매 상품의 특정 상태 예치 내역 전체 조회 (상품 삭제 시 활용)
+     *
+     * @param auctionItemId 경매 상품 ID
+     * @param status 예치 상태
+     * @return 예치 내역 리스트
+     */
+    List<PointReservation> findByAuctionItemIdAndStatus(Long auctionItemId, PointReservation.Status status);
+
+    /**
+     * 📌 예치 상태를 조건부로 전이 (현재 상태가 from 이 아니면 0 반환)
+     *
+     * @param id 예치 ID
+     * @param from 기대하는 현재 상태
+     * @param to 변경할 상태
+     * @return 변경된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("update PointReservation r set r.status = :to where r.id = :id and r.status = :from")
+    int transition(@Param("id") Long id,
+                   @Param("from") PointReservation.Status from,
+                   @Param("to") PointReservation.Status to);
+}
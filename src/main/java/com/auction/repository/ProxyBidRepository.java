@@ -0,0 +1,79 @@
+package com.auction.repository;
+
+import com.auction.domain.ProxyBid;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 🏷️ 자동 입찰 리포지토리
+ */
+public interface ProxyBidRepository extends JpaRepository<ProxyBid, Long> {
+
+    /**
+     * 📌 자동 입찰 요약 (입찰 장부 적재용 프로젝션)
+     */
+    interface ProxySummary {
+        Long getId();
+
+        Long getUserId();
+
+        int getMaxAmount();
+
+        LocalDateTime getRegisteredAt();
+    }
+
+    /**
+     * 📌 특정 경매 상품의 특정 상태 자동 입찰 조회
+     *
+     * @param auctionItemId 경매 상품 ID
+     * @param status 자동 입찰 상태
+     * @return 자동 입찰 요약 목록
+     */
+    @Query("SELECT p.id AS id, p.user.id AS userId, p.maxAmount AS maxAmount, p.registeredAt AS registeredAt " +
+            "FROM ProxyBid p WHERE p.auctionItemId = :auctionItemId AND p.status = :status")
+    List<ProxySummary> findSummaries(@Param("auctionItemId") Long auctionItemId, @Param("status") ProxyBid.Status status);
+
+    /**
+     * 📌 사용자·상품별 자동 입찰 조회
+     *
+     * @param auctionItemId 경매 상품 ID
+     * @param userId 사용자 ID
+     * @return 자동 입찰 (Optional)
+     */
+    Optional<ProxyBid> findByAuctionItemIdAndUserId(Long auctionItemId, Long userId);
+
+    /**
+     * 📌 자동 입찰 상태를 조건부로 일괄 변경
+     *
+     * @param ids 자동 입찰 ID 목록
+     * @param from 기대하는 현재 상태
+     * @param to 변경할 상태
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE ProxyBid p SET p.status = :to WHERE p.id IN :ids AND p.status = :from")
+    int transition(@Param("ids") Collection<Long> ids,
+                   @Param("from") ProxyBid.Status from,
+                   @Param("to") ProxyBid.Status to);
+
+    /**
+     * 📌 특정 경매 상품의 자동 입찰 상태를 일괄 변경 (마감 시)
+     *
+     * @param auctionItemId 경매 상품 ID
+     * @param from 기대하는 현재 상태
+     * @param to 변경할 상태
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE ProxyBid p SET p.status = :to WHERE p.auctionItemId = :auctionItemId AND p.status = :from")
+    int transitionAllForItem(@Param("auctionItemId") Long auctionItemId,
+                             @Param("from") ProxyBid.Status from,
+                             @Param("to") ProxyBid.Status to);
+}
@@ -1,10 +1,18 @@
 package com.auction.repository;
 
 import com.auction.domain.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 🏷️ 사용자 레포지토리
@@ -30,12 +38,41 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
     /**
-     * 📌 모든 사용자 목록 조회 (관리자 페이지)
-     * - 사용자 ID 기준으로 오름차순 정렬
+     * 📌 관리자 화면용 사용자 요약 (프로젝션)
+     */
+    interface UserRow {
+        Long getId();
+
+        String getEmail();
+
+        String getName();
+
+        int getPoints();
+
+        boolean isBanned();
+    }
+
+    /**
+     * 📌 사용자 목록 한 페이지 조회 (관리자 페이지, 키셋 페이지네이션)
+     * - 사용자 ID 기준 오름차순, 이전 페이지의 마지막 ID 이후부터 조회
+     *
+     * @param afterId 이전 페이지 마지막 사용자 ID (첫 페이지는 0)
+     * @param limit 조회 건수
+     * @return 사용자 요약 목록
+     */
+    @Query("SELECT u.id AS id, u.email AS email, u.name AS name, u.points AS points, u.isBanned AS banned " +
+            "FROM User u WHERE u.id > :afterId ORDER BY u.id ASC")
+    List<UserRow> findUserPage(@Param("afterId") Long afterId, Pageable limit);
+
+    /**
+     * 📌 사용자 요약 전체를 스트림으로 조회 (관리자 내보내기, 트랜잭션 안에서만 사용 가능)
      *
-     * @return 모든 사용자 리스트
+     * @return 사용자 ID 순 사용자 요약 스트림
      */
-    List<User> findAllByOrderByIdAsc();
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT u.id AS id, u.email AS email, u.name AS name, u.points AS points, u.isBanned AS banned " +
+            "FROM User u ORDER BY u.id ASC")
+    Stream<UserRow> streamUsers();
 
     /**
      * 📌 정지되지 않은 사용자 목록 조회
@@ -44,4 +81,39 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 정지되지 않은 사용자 리스트
      */
     List<User> findByIsBannedFalse();
-}
\ No newline at end of file
+
+    /**
+     * 📌 사용 가능 포인트 조회 (엔티티를 적재하지 않고 잔액만 조회)
+     *
+     * @param id 사용자 ID
+     * @return 사용 가능 포인트 (사용자가 없으면 null)
+     */
+    @Query("select u.points from User u where u.id = :id")
+    Integer findPointsById(@Param("id") Long id);
+
+    /**
+     * 📌 포인트 원자적 적립
+     * - 읽기-수정-쓰기 없이 단일 UPDATE 로 반영되어 동시 적립 시에도 유실되지 않음
+     * - 버전을 함께 올려, 먼저 읽어 둔 엔티티의 저장이 이 변경을 덮어쓰지 못하게 함
+     *
+     * @param id 사용자 ID
+     * @param amount 적립 금액
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("update User u set u.points = u.points + :amount, u.version = u.version + 1 where u.id = :id")
+    int addPoints(@Param("id") Long id, @Param("amount") int amount);
+
+    /**
+     * 📌 포인트 조건부 원자적 차감
+     * - 잔액이 충분할 때만 차감되며, 부족하면 0 반환
+     *
+     * @param id 사용자 ID
+     * @param amount 차감 금액
+     * @return 변경된 행 수 (0 이면 잔액 부족)
+     */
+    @Modifying
+    @Query("update User u set u.points = u.points - :amount, u.version = u.version + 1 " +
+            "where u.id = :id and u.points >= :amount")
+    int subtractPointsIfSufficient(@Param("id") Long id, @Param("amount") int amount);
+}
@@ -0,0 +1,110 @@
+package com.auction.repository;
+
+import com.auction.domain.UserStatCounts;
+import com.auction.domain.UserStatsDelta;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 📊 사용자 통계 증분 리포지토리
+ */
+public interface UserStatsDeltaRepository extends JpaRepository<UserStatsDelta, Long> {
+
+    /**
+     * 📌 사용자별 증분 합계 (프로젝션)
+     */
+    interface DeltaTotals {
+        Long getUserId();
+
+        Long getSoldCount();
+
+        Long getUnsoldCount();
+
+        Long getHammerTotal();
+
+        Long getSalesTotal();
+
+        Long getOpenBidCount();
+
+        Long getBidsPlaced();
+
+        Long getWonCount();
+
+        Long getSpentTotal();
+
+        default UserStatCounts toCounts() {
+            return new UserStatCounts(getSoldCount(), getUnsoldCount(), getHammerTotal(), getSalesTotal(),
+                    getOpenBidCount(), getBidsPlaced(), getWonCount(), getSpentTotal());
+        }
+    }
+
+    /**
+     * 📌 아직 합산 작업이 가져가지 않은 증분 ID (ID 순)
+     *
+     * @param limit 조회 건수 (합산 트랜잭션 1건의 크기)
+     */
+    @Query("select d.id from UserStatsDelta d where d.compactionId is null order by d.id")
+    List<Long> findUnclaimedIds(Pageable limit);
+
+    /**
+     * 📌 합산할 증분 가져가기
+     * - 다른 노드의 합산 작업이 먼저 가져간 증분은 건너뛰므로 같은 증분이 두 번 더해지지 않음
+     *
+     * @param compactionId 합산 작업 ID
+     * @param maxId 이 ID 이하의 증분만 가져감
+     * @return 가져간 증분 수
+     */
+    @Modifying
+    @Query("update UserStatsDelta d set d.compactionId = :compactionId " +
+            "where d.compactionId is null and d.id <= :maxId")
+    int claim(@Param("compactionId") String compactionId, @Param("maxId") Long maxId);
+
+    /**
+     * 📌 합산 작업이 가져간 증분의 사용자별 합계 (사용자 ID 순 → 누적 통계 행을 항상 같은 순서로 잠금)
+     */
+    @Query("select d.userId as userId, " +
+            "sum(d.counts.soldCount) as soldCount, sum(d.counts.unsoldCount) as unsoldCount, " +
+            "sum(d.counts.hammerTotal) as hammerTotal, sum(d.counts.salesTotal) as salesTotal, " +
+            "sum(d.counts.openBidCount) as openBidCount, sum(d.counts.bidsPlaced) as bidsPlaced, " +
+            "sum(d.counts.wonCount) as wonCount, sum(d.counts.spentTotal) as spentTotal " +
+            "from UserStatsDelta d where d.compactionId = :compactionId group by d.userId order by d.userId")
+    List<DeltaTotals> sumByCompaction(@Param("compactionId") String compactionId);
+
+    /**
+     * 📌 아직 누적 통계에 더해지지 않은 사용자 1명의 증분 합계 (대시보드 조회, user_id 인덱스)
+     *
+     * @param userId 사용자 ID
+     * @return 증분 합계 (증분이 없으면 empty)
+     */
+    @Query("select d.userId as userId, " +
+            "sum(d.counts.soldCount) as soldCount, sum(d.counts.unsoldCount) as unsoldCount, " +
+            "sum(d.counts.hammerTotal) as hammerTotal, sum(d.counts.salesTotal) as salesTotal, " +
+            "sum(d.counts.openBidCount) as openBidCount, sum(d.counts.bidsPlaced) as bidsPlaced, " +
+            "sum(d.counts.wonCount) as wonCount, sum(d.counts.spentTotal) as spentTotal " +
+            "from UserStatsDelta d where d.userId = :userId group by d.userId")
+    Optional<DeltaTotals> sumPending(@Param("userId") Long userId);
+
+    /**
+     * 📌 아직 누적 통계에 더해지지 않은 전체 증분의 사용자별 합계 (통계 재구성)
+     */
+    @Query("select d.userId as userId, " +
+            "sum(d.counts.soldCount) as soldCount, sum(d.counts.unsoldCount) as unsoldCount, " +
+            "sum(d.counts.hammerTotal) as hammerTotal, sum(d.counts.salesTotal) as salesTotal, " +
+            "sum(d.counts.openBidCount) as openBidCount, sum(d.counts.bidsPlaced) as bidsPlaced, " +
+            "sum(d.counts.wonCount) as wonCount, sum(d.counts.spentTotal) as spentTotal " +
+            "from UserStatsDelta d group by d.userId")
+    List<DeltaTotals> sumAllPending();
+
+    /**
+     * 📌 합산이 끝난 증분 삭제
+     */
+    @Modifying
+    @Query("delete from UserStatsDelta d where d.compactionId = :compactionId")
+    int deleteByCompactionId(@Param("compactionId") String compactionId);
+}
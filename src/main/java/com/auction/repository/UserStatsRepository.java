@@ -0,0 +1,32 @@
+package com.auction.repository;
+
+import com.auction.domain.UserStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * 📊 사용자 누적 통계 리포지토리
+ */
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    /**
+     * 📌 누적 통계를 쓰기 잠금과 함께 조회 (여러 노드의 합산 작업이 같은 사용자에 동시에 더하지 않도록)
+     *
+     * @param userId 사용자 ID
+     * @return 누적 통계 (아직 합산된 적이 없으면 empty)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UserStats s where s.userId = :userId")
+    Optional<UserStats> findForUpdate(@Param("userId") Long userId);
+
+    /**
+     * 📌 통계 합산 / 재구성 잠금 행을 쓰기 잠금 (트랜잭션이 끝날 때까지 다른 노드의 합산 / 재구성이 대기)
+     */
+    @Query(value = "select id from user_stats_lock where id = 1 for update", nativeQuery = true)
+    Integer lockForMaintenance();
+}
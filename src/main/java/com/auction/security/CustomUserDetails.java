@@ -26,6 +26,15 @@ public class CustomUserDetails implements UserDetails {
         this.user = user;
     }
 
+    /**
+     * 🔹 로그인한 사용자 ID 반환 (요청마다 이메일로 다시 조회하지 않도록 사용)
+     *
+     * @return 사용자 ID
+     */
+    public Long getUserId() {
+        return user.getId();
+    }
+
     /**
      * 🔹 사용자 권한 반환
      * - 관리자는 `ADMIN` 권한을 가짐
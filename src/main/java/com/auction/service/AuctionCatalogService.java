@@ -0,0 +1,299 @@
+package com.auction.service;
+
+import com.auction.domain.AuctionStatus;
+import com.auction.repository.AuctionItemRepository;
+import com.auction.repository.AuctionItemRepository.CatalogEntry;
+import com.auction.repository.UserRepository;
+import com.auction.repository.UserRepository.UserRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 📚 경매 상품 / 사용자 목록 조회 서비스
+ * - 전체 목록을 한 번에 읽던 조회를 (마감 시간, ID) 키셋 페이지네이션으로 대체
+ * - 엔티티 대신 목록에 필요한 컬럼만 프로젝션으로 조회하여 영속성 컨텍스트에 쌓이지 않음
+ * - 관리자 내보내기는 DB 커서로 한 행씩 읽어 바로 출력하므로 전체 결과를 메모리에 올리지 않음
+ * - 검색어가 있으면 검색 색인(AuctionSearchIndex)의 순위 순으로 조회하고, 색인 준비 전에는 DB 검색으로 대체
+ */
+@Service
+public class AuctionCatalogService {
+
+    private static final LocalDateTime FIRST_PAGE_END_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final int FLUSH_EVERY = 500;
+    private static final String FORMULA_PREFIXES = "=+-@\t\r"; // 스프레드시트가 수식으로 해석하는 첫 글자 (탭 / CR 포함)
+    private static final String RANKED_CURSOR_PREFIX = "r"; // 검색 색인 결과 커서 (r + 건너뛸 결과 수)
+    static final int MAX_RANKED_OFFSET = 10_000; // 검색 결과는 이 순위까지만 페이지로 넘길 수 있음
+
+    private final AuctionItemRepository auctionItemRepository;
+    private final UserRepository userRepository;
+    private final AuctionSearchIndex auctionSearchIndex;
+    private final int pageSize;
+    private final int adminPageSize;
+
+    public AuctionCatalogService(AuctionItemRepository auctionItemRepository,
+                                 UserRepository userRepository,
+                                 AuctionSearchIndex auctionSearchIndex,
+                                 @Value("${auction.catalog.page-size:30}") int pageSize,
+                                 @Value("${auction.catalog.admin-page-size:50}") int adminPageSize) {
+        this.auctionItemRepository = auctionItemRepository;
+        this.userRepository = userRepository;
+        this.auctionSearchIndex = auctionSearchIndex;
+        this.pageSize = pageSize;
+        this.adminPageSize = adminPageSize;
+    }
+
+    /**
+     * 목록 상태 필터
+     */
+    public enum StatusFilter {
+        ALL(EnumSet.allOf(AuctionStatus.class)),
+        OPEN(EnumSet.of(AuctionStatus.OPEN)),
+        CLOSED(EnumSet.of(AuctionStatus.SOLD, AuctionStatus.UNSOLD)),
+        SOLD(EnumSet.of(AuctionStatus.SOLD));
+
+        private final Set<AuctionStatus> statuses;
+
+        StatusFilter(Set<AuctionStatus> statuses) {
+            this.statuses = statuses;
+        }
+
+        /**
+         * 🔹 요청 파라미터로 필터 결정 (없거나 알 수 없는 값이면 전체)
+         */
+        public static StatusFilter from(String value) {
+            if (value == null) {
+                return ALL;
+            }
+            for (StatusFilter filter : values()) {
+                if (filter.name().equalsIgnoreCase(value.trim())) {
+                    return filter;
+                }
+            }
+            return ALL;
+        }
+
+        public String getParam() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * 목록 한 페이지 (다음 페이지가 없으면 nextCursor 는 null)
+     */
+    public record CatalogPage<T>(List<T> items, String nextCursor) {
+
+        public boolean hasNext() {
+            return nextCursor != null;
+        }
+    }
+
+    /**
+     * 🔹 경매 상품 목록 한 페이지 조회
+     *
+     * @param filter 상태 필터
+     * @param keyword 상품명 / 설명 검색어 (선택 사항)
+     * @param cursor 이전 페이지에서 받은 커서 (첫 페이지는 null)
+     * @return 경매 상품 요약과 다음 페이지 커서 (검색어가 있으면 검색 순위 순, 없으면 마감 시간이 임박한 순)
+     * @throws IllegalArgumentException 커서 형식이 잘못되었거나 검색 결과를 넘길 수 있는 순위를 넘은 경우
+     */
+    @Transactional(readOnly = true)
+    public CatalogPage<CatalogEntry> getItemPage(StatusFilter filter, String keyword, String cursor) {
+        boolean keysetCursor = cursor != null && !cursor.isBlank() && !cursor.startsWith(RANKED_CURSOR_PREFIX);
+        if (keyword != null && !keyword.isBlank() && !keysetCursor) {
+            Optional<CatalogPage<CatalogEntry>> ranked = rankedPage(filter, keyword, cursor);
+            if (ranked.isPresent()) {
+                return ranked.get();
+            }
+        }
+        return itemPage(filter, keyword, cursor, pageSize);
+    }
+
+    /**
+     * 🔹 관리자 페이지용 경매 상품 목록 한 페이지 조회
+     */
+    @Transactional(readOnly = true)
+    public CatalogPage<CatalogEntry> getAdminItemPage(StatusFilter filter, String cursor) {
+        return itemPage(filter, null, cursor, adminPageSize);
+    }
+
+    /**
+     * 🔹 관리자 페이지용 사용자 목록 한 페이지 조회 (사용자 ID 순)
+     *
+     * @param cursor 이전 페이지에서 받은 커서 (첫 페이지는 null)
+     * @return 사용자 요약과 다음 페이지 커서
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public CatalogPage<UserRow> getUserPage(String cursor) {
+        long afterId = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                afterId = Long.parseLong(cursor.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 페이지 정보입니다.");
+            }
+        }
+
+        // ✅ 한 건 더 읽어서 다음 페이지가 있는지 판단 (COUNT 쿼리 없음)
+        List<UserRow> rows = userRepository.findUserPage(afterId, PageRequest.ofSize(adminPageSize + 1));
+        if (rows.size() <= adminPageSize) {
+            return new CatalogPage<>(rows, null);
+        }
+        List<UserRow> page = rows.subList(0, adminPageSize);
+        return new CatalogPage<>(page, String.valueOf(page.get(page.size() - 1).getId()));
+    }
+
+    /**
+     * 🔹 경매 상품 전체를 CSV 로 출력 (관리자 내보내기)
+     *
+     * @param filter 상태 필터
+     * @param writer 출력 대상
+     */
+    @Transactional(readOnly = true)
+    public void exportItems(StatusFilter filter, Writer writer) {
+        try (Stream<CatalogEntry> entries = auctionItemRepository.streamCatalog(filter.statuses)) {
+            writeCsv(writer, "id,name,status,start_price,current_price,bid_count,end_time", entries,
+                    entry -> List.of(entry.getId(), entry.getName(), entry.getStatus(), entry.getStartPrice(),
+                            entry.getCurrentPrice(), entry.getBidCount(), entry.getEndTime()));
+        }
+    }
+
+    /**
+     * 🔹 사용자 전체를 CSV 로 출력 (관리자 내보내기)
+     *
+     * @param writer 출력 대상
+     */
+    @Transactional(readOnly = true)
+    public void exportUsers(Writer writer) {
+        try (Stream<UserRow> rows = userRepository.streamUsers()) {
+            writeCsv(writer, "id,email,name,points,banned", rows,
+                    row -> List.of(row.getId(), row.getEmail(), row.getName(), row.getPoints(), row.isBanned()));
+        }
+    }
+
+    /**
+     * 🔹 커서 생성 (마감 시간과 ID 를 URL 에 안전한 문자열로 인코딩)
+     */
+    static String encodeCursor(LocalDateTime endTime, Long id) {
+        String raw = endTime + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private CatalogPage<CatalogEntry> itemPage(StatusFilter filter, String keyword, String cursor, int size) {
+        LocalDateTime afterEndTime = FIRST_PAGE_END_TIME;
+        long afterId = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                afterEndTime = LocalDateTime.parse(raw.substring(0, separator));
+                afterId = Long.parseLong(raw.substring(separator + 1));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new IllegalArgumentException("잘못된 페이지 정보입니다.");
+            }
+        }
+        String searchKeyword = (keyword != null && !keyword.isBlank()) ? keyword.trim() : null;
+
+        List<CatalogEntry> entries = auctionItemRepository.findCatalogPage(filter.statuses, searchKeyword,
+                afterEndTime, afterId, PageRequest.ofSize(size + 1));
+        if (entries.size() <= size) {
+            return new CatalogPage<>(entries, null);
+        }
+        List<CatalogEntry> page = entries.subList(0, size);
+        CatalogEntry last = page.get(page.size() - 1);
+        return new CatalogPage<>(page, encodeCursor(last.getEndTime(), last.getId()));
+    }
+
+    private Optional<CatalogPage<CatalogEntry>> rankedPage(StatusFilter filter, String keyword, String cursor) {
+        int offset = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                offset = Integer.parseInt(cursor.trim().substring(RANKED_CURSOR_PREFIX.length()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 페이지 정보입니다.");
+            }
+            if (offset < 0 || offset > MAX_RANKED_OFFSET) {
+                throw new IllegalArgumentException("잘못된 페이지 정보입니다.");
+            }
+        }
+
+        Optional<AuctionSearchIndex.SearchResult> found =
+                auctionSearchIndex.search(keyword, filter.statuses, offset, pageSize);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        AuctionSearchIndex.SearchResult result = found.get();
+
+        // ✅ 색인은 ID 만 돌려주므로 현재 페이지 상품만 조회한 뒤 검색 순위대로 정렬
+        Map<Long, CatalogEntry> byId = new HashMap<>();
+        if (!result.itemIds().isEmpty()) {
+            auctionItemRepository.findCatalogEntries(result.itemIds()).forEach(entry -> byId.put(entry.getId(), entry));
+        }
+        List<CatalogEntry> entries = new ArrayList<>(result.itemIds().size());
+        for (Long itemId : result.itemIds()) {
+            CatalogEntry entry = byId.get(itemId);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        boolean hasNext = result.hasMore() && offset + pageSize <= MAX_RANKED_OFFSET;
+        String nextCursor = hasNext ? RANKED_CURSOR_PREFIX + (offset + pageSize) : null;
+        return Optional.of(new CatalogPage<>(entries, nextCursor));
+    }
+
+    private static <T> void writeCsv(Writer writer, String header, Stream<T> rows,
+                                     Function<T, List<Object>> columns) {
+        try {
+            writer.write(header);
+            writer.write('\n');
+            int written = 0;
+            for (Iterator<T> iterator = rows.iterator(); iterator.hasNext(); ) {
+                List<Object> values = columns.apply(iterator.next());
+                for (int i = 0; i < values.size(); i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writer.write(csvValue(values.get(i)));
+                }
+                writer.write('\n');
+                if (++written % FLUSH_EVERY == 0) {
+                    writer.flush(); // ✅ 일정 행마다 클라이언트로 내보내 버퍼가 커지지 않게 함
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("CSV 출력 실패", e);
+        }
+    }
+
+    /**
+     * CSV 셀 값 변환
+     * - 사용자가 입력한 문자열이 =, +, -, @ 로 시작하면 스프레드시트가 수식으로 실행하지 않도록 ' 를 붙이고 따옴표로 감쌈
+     *   (숫자 / 날짜 등 애플리케이션이 만든 값은 그대로 출력)
+     */
+    static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (value instanceof CharSequence && !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+            return "\"'" + text.replace("\"", "\"\"") + '"';
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
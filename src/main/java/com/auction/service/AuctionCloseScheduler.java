@@ -0,0 +1,286 @@
+package com.auction.service;
+
+import com.auction.config.StartupOrder;
+import com.auction.config.WorkerThreads;
+import com.auction.domain.AuctionStatus;
+import com.auction.event.AuctionItemCreatedEvent;
+import com.auction.event.BidAcceptedEvent;
+import com.auction.repository.AuctionItemRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * ⏰ 경매 마감 스케줄러
+ * - 마감 시간(endTime) 기준 지연 큐(DelayQueue)에 상품을 등록하고, 마감 시각이 되면 즉시 마감 처리
+ * - 시작 시 진행 중(OPEN)인 상품을 한 번 적재하고, 이후에는 상품 등록 이벤트로만 추가됨 (주기적 전체 스캔 없음)
+ * - 마감 처리는 크기가 제한된 작업 풀에서 병렬로 수행
+ * - 여러 노드로 실행하면 샤드 임대({@link CloseShardLeases})로 상품을 나눠 맡아, 각 노드는 임대한 샤드의 상품만 적재 / 마감
+ *   (다른 노드에서 등록된 상품은 임대 갱신 주기마다 추가로 적재)
+ */
+@Component
+public class AuctionCloseScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuctionCloseScheduler.class);
+
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5); // 마감 실패 시 재시도 간격
+    private static final Duration MAX_SCHEDULE_AHEAD = Duration.ofDays(1); // 지연 큐 대기 상한 (넘으면 꺼낼 때 다시 등록)
+
+    private final DelayQueue<CloseTask> queue = new DelayQueue<>();
+    private final Map<Long, LocalDateTime> deadlines = new ConcurrentHashMap<>(); // 상품별 최신 마감 시간
+
+    private final AuctionItemService auctionItemService;
+    private final AuctionItemRepository auctionItemRepository;
+    private final BidEngine bidEngine;
+    private final BidJournal bidJournal;
+    private final ConflictRetry conflictRetry;
+    private final CloseShardLeases closeShardLeases;
+    private final ThreadPoolExecutor closeExecutor;
+    private final Thread dispatcher;
+
+    private volatile long loadedUpToId; // 적재한 상품 ID 의 최댓값 (샤드 임대 시 새로 등록된 상품만 추가 적재)
+
+    public AuctionCloseScheduler(AuctionItemService auctionItemService,
+                                 AuctionItemRepository auctionItemRepository,
+                                 BidEngine bidEngine,
+                                 BidJournal bidJournal,
+                                 ConflictRetry conflictRetry,
+                                 CloseShardLeases closeShardLeases,
+                                 WorkerThreads workerThreads,
+                                 @Value("${auction.close.workers:4}") int workers,
+                                 @Value("${auction.close.queue-capacity:1000}") int queueCapacity) {
+        this.auctionItemService = auctionItemService;
+        this.auctionItemRepository = auctionItemRepository;
+        this.bidEngine = bidEngine;
+        this.bidJournal = bidJournal;
+        this.conflictRetry = conflictRetry;
+        this.closeShardLeases = closeShardLeases;
+        this.closeExecutor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                workerThreads.factory("auction-close-worker"),
+                new ThreadPoolExecutor.CallerRunsPolicy()); // 작업 풀이 가득 차면 디스패처가 직접 처리 (역압)
+        this.dispatcher = workerThreads.factory("auction-close-dispatcher").newThread(this::dispatchLoop);
+        this.dispatcher.setDaemon(true);
+    }
+
+    /**
+     * 🔹 애플리케이션 시작 시 진행 중인 모든 경매의 마감 시간을 적재하고 디스패처 시작
+     * - 이미 마감 시간이 지난 상품은 즉시 마감 처리됨
+     * - 샤드 임대를 사용하면 먼저 샤드를 임대하고 임대한 샤드의 상품만 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(StartupOrder.CLOSE_SCHEDULER)
+    public void start() {
+        if (closeShardLeases.isEnabled()) {
+            rebalanceShards();
+        } else {
+            load(auctionItemRepository.findCloseSchedulesByStatus(AuctionStatus.OPEN));
+        }
+
+        dispatcher.start();
+        logger.info("✅ 경매 마감 스케줄러 시작 - 대기 중인 경매: {}건", deadlines.size());
+    }
+
+    /**
+     * 🔹 샤드 임대 갱신 및 재분배 (샤드 임대를 사용할 때만)
+     * - 반납한 샤드의 상품은 대기 목록에서 제거하고, 새로 임대한 샤드의 상품은 전부 적재
+     * - 계속 임대 중인 샤드는 다른 노드에서 새로 등록된 상품(마지막 적재 ID 이후)만 적재
+     *   (커밋 순서가 뒤바뀌어 놓친 상품은 마감 누락 안전망이 처리)
+     */
+    @Scheduled(fixedDelayString = "${auction.close.sharding.renew-interval-ms:10000}",
+            initialDelayString = "${auction.close.sharding.renew-interval-ms:10000}")
+    public void rebalanceShards() {
+        if (!closeShardLeases.isEnabled()) {
+            return;
+        }
+        CloseShardLeases.Rebalance rebalance = closeShardLeases.rebalance();
+        if (!rebalance.released().isEmpty()) {
+            deadlines.keySet().removeIf(itemId -> rebalance.released().contains(closeShardLeases.shardOf(itemId)));
+        }
+
+        Set<Integer> retained = new HashSet<>(closeShardLeases.getOwnedShards());
+        retained.removeAll(rebalance.acquired());
+        long afterId = loadedUpToId;
+        loadShards(retained, afterId);
+        loadShards(rebalance.acquired(), 0L);
+    }
+
+    /**
+     * 🔹 상품 등록 트랜잭션 커밋 후 마감 시간 등록
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionItemCreated(AuctionItemCreatedEvent event) {
+        if (closeShardLeases.owns(event.auctionItemId())) {
+            schedule(event.auctionItemId(), event.endTime());
+        }
+    }
+
+    /**
+     * 🔹 입찰로 마감 시간이 연장되면 새 마감 시간으로 다시 등록 (전체 재조회 없음)
+     * - 입찰 이벤트는 순서가 뒤바뀌어 도착할 수 있으므로 마감 시간은 늦어지는 방향으로만 변경
+     */
+    @EventListener
+    public void onBidAccepted(BidAcceptedEvent event) {
+        LocalDateTime endTime = event.endTime();
+        LocalDateTime[] replaced = new LocalDateTime[1];
+        deadlines.computeIfPresent(event.auctionItemId(), (id, current) -> {
+            if (endTime.isAfter(current)) {
+                replaced[0] = current;
+                return endTime;
+            }
+            return current;
+        });
+        if (replaced[0] != null) {
+            queue.offer(new CloseTask(event.auctionItemId(), endTime));
+            logger.debug("⏱️ 마감 연장 - 상품 ID: {}, {} → {}", event.auctionItemId(), replaced[0], endTime);
+        }
+    }
+
+    /**
+     * 🔹 마감 시간 등록 또는 변경
+     * - 같은 상품을 다시 등록하면 최신 마감 시간만 유효하며, 이전 항목은 꺼낼 때 무시됨
+     *
+     * @param auctionItemId 경매 상품 ID
+     * @param endTime 마감 시간
+     */
+    public void schedule(Long auctionItemId, LocalDateTime endTime) {
+        deadlines.put(auctionItemId, endTime);
+        queue.offer(new CloseTask(auctionItemId, endTime));
+    }
+
+    /**
+     * 🔹 등록된 마감 대기 건수
+     */
+    public int getPendingCount() {
+        return deadlines.size();
+    }
+
+    /**
+     * 🔹 마감 누락 안전망
+     * - 스케줄러가 놓친 상품(다른 경로로 생성되었거나 처리 중 종료된 경우)이 있으면 한 번에 마감
+     */
+    @Scheduled(fixedDelayString = "${auction.close.sweep-interval-ms:600000}",
+            initialDelayString = "${auction.close.sweep-interval-ms:600000}")
+    public void sweepOverdue() {
+        bidJournal.flush(); // ✅ 저널에만 있는 입찰(마감 연장 포함)을 먼저 반영
+        int closed = closeShardLeases.isEnabled()
+                ? auctionItemService.processAuctionEndings(closeShardLeases.getShardCount(), closeShardLeases.getOwnedShards())
+                : auctionItemService.processAuctionEndings();
+        if (closed > 0) {
+            logger.warn("⚠ 마감 누락 경매 {}건을 안전망에서 마감 처리", closed);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        dispatcher.interrupt();
+        closeExecutor.shutdown();
+    }
+
+    private void dispatchLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                CloseTask task = queue.take();
+                if (!task.endTime().equals(deadlines.get(task.auctionItemId()))) {
+                    continue; // 마감 시간이 변경되어 더 이상 유효하지 않은 항목
+                }
+                if (!closeShardLeases.owns(task.auctionItemId())) {
+                    deadlines.remove(task.auctionItemId(), task.endTime()); // 다른 노드로 넘어간 샤드의 상품
+                    continue;
+                }
+                if (task.endTime().isAfter(LocalDateTime.now())) {
+                    queue.offer(new CloseTask(task.auctionItemId(), task.endTime())); // 대기 상한에 걸려 일찍 꺼낸 항목
+                    continue;
+                }
+                closeExecutor.execute(() -> close(task));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                logger.error("❌ 마감 디스패치 오류: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void loadShards(Set<Integer> shardIds, long afterId) {
+        if (shardIds.isEmpty()) {
+            return;
+        }
+        List<Long> shards = shardIds.stream().map(Integer::longValue).toList();
+        load(auctionItemRepository.findCloseSchedulesInShards(
+                AuctionStatus.OPEN, closeShardLeases.getShardCount(), shards, afterId));
+    }
+
+    private void load(List<AuctionItemRepository.CloseSchedule> schedules) {
+        long maxId = loadedUpToId;
+        for (AuctionItemRepository.CloseSchedule schedule : schedules) {
+            schedule(schedule.getId(), schedule.getEndTime());
+            maxId = Math.max(maxId, schedule.getId());
+        }
+        loadedUpToId = maxId;
+    }
+
+    private void close(CloseTask task) {
+        Long itemId = task.auctionItemId();
+        try {
+            bidEngine.awaitPersisted(itemId); // ✅ 저널에만 있는 입찰(마감 연장 포함)을 먼저 반영
+            Optional<LocalDateTime> extendedEndTime =
+                    conflictRetry.execute("close", () -> auctionItemService.closeAuction(itemId));
+            if (extendedEndTime.isPresent()) {
+                // 마감 시간이 연장된 경우 새 마감 시간으로 다시 등록
+                schedule(itemId, extendedEndTime.get());
+                return;
+            }
+            deadlines.remove(itemId, task.endTime());
+            logger.info("🔨 경매 마감 처리 - 상품 ID: {}, 지연: {}ms",
+                    itemId, Duration.between(task.endTime(), LocalDateTime.now()).toMillis());
+        } catch (RuntimeException e) {
+            logger.error("❌ 경매 마감 실패 - 상품 ID: {}, {}초 후 재시도: {}", itemId, RETRY_DELAY.toSeconds(), e.getMessage(), e);
+            queue.offer(new CloseTask(itemId, task.endTime(), System.nanoTime() + RETRY_DELAY.toNanos()));
+        }
+    }
+
+    /**
+     * 지연 큐 항목 (마감 시각이 되면 꺼낼 수 있음)
+     * - 대기 시간은 0 ~ {@link #MAX_SCHEDULE_AHEAD} 로 제한 (먼 마감 시간의 나노초 변환 / 합산 오버플로 방지)
+     */
+    private record CloseTask(Long auctionItemId, LocalDateTime endTime, long dueNanos) implements Delayed {
+
+        CloseTask(Long auctionItemId, LocalDateTime endTime) {
+            this(auctionItemId, endTime, System.nanoTime() + delayNanos(endTime));
+        }
+
+        private static long delayNanos(LocalDateTime endTime) {
+            Duration delay = Duration.between(LocalDateTime.now(), endTime);
+            if (delay.isNegative()) {
+                return 0L; // 이미 지난 마감 시간은 즉시
+            }
+            return (delay.compareTo(MAX_SCHEDULE_AHEAD) > 0) ? MAX_SCHEDULE_AHEAD.toNanos() : delay.toNanos();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueNanos, ((CloseTask) other).dueNanos);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.auction.service;
+
+import com.auction.config.StartupOrder;
+import com.auction.domain.AuctionItem;
+import com.auction.domain.Bid;
+import com.auction.repository.AuctionItemRepository;
+import com.auction.repository.BidRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 🔍 경매 상품 입찰 요약 컬럼 정합성 점검 서비스
+ * - auction_item 의 currentPrice / highestBidderId / bidCount / lastBidAt 을 bids 테이블로부터 다시 계산
+ * - 차이(drift)가 있으면 로그로 보고하고 컬럼을 보정한 뒤 입찰 장부를 다시 적재하도록 제거
+ * - 애플리케이션 시작 시 1회, 이후 매일 새벽 실행
+ */
+@Service
+public class AuctionItemReconciliationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuctionItemReconciliationService.class);
+
+    private final AuctionItemRepository auctionItemRepository;
+    private final BidRepository bidRepository;
+    private final BidEngine bidEngine;
+    private final TransactionTemplate transactionTemplate;
+
+    public AuctionItemReconciliationService(AuctionItemRepository auctionItemRepository,
+                                            BidRepository bidRepository,
+                                            BidEngine bidEngine,
+                                            TransactionTemplate transactionTemplate) {
+        this.auctionItemRepository = auctionItemRepository;
+        this.bidRepository = bidRepository;
+        this.bidEngine = bidEngine;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 🔹 애플리케이션 시작 시 정합성 점검 (컬럼 추가 이전 데이터 보정 포함)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(StartupOrder.RECONCILE)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * 🔹 전체 경매 상품의 입찰 요약 컬럼 점검 및 보정
+     * - 500개 단위로 나누어 각각 별도 트랜잭션에서 처리
+     *
+     * @return 보정된 상품 수
+     */
+    @Scheduled(cron = "${auction.reconcile.cron:0 0 4 * * *}")
+    public int reconcile() {
+        long lastId = 0L;
+        int checked = 0;
+        int repaired = 0;
+
+        while (true) {
+            final long afterId = lastId;
+            ChunkResult result = transactionTemplate.execute(status -> reconcileChunk(afterId));
+            if (result == null || result.checked() == 0) {
+                break;
+            }
+            lastId = result.lastId();
+            checked += result.checked();
+            repaired += result.repairedIds().size();
+
+            // ✅ 커밋 이후에 장부를 제거해야 보정 전 값으로 다시 적재되지 않음
+            result.repairedIds().forEach(bidEngine::evict);
+        }
+
+        if (repaired > 0) {
+            logger.warn("⚠ 입찰 요약 정합성 점검 완료 - 점검: {}건, 보정: {}건", checked, repaired);
+        } else {
+            logger.info("✅ 입찰 요약 정합성 점검 완료 - 점검: {}건, 불일치 없음", checked);
+        }
+        return repaired;
+    }
+
+    private ChunkResult reconcileChunk(long afterId) {
+        List<AuctionItem> items = auctionItemRepository.findTop500ByIdGreaterThanOrderByIdAsc(afterId);
+        if (items.isEmpty()) {
+            return new ChunkResult(afterId, 0, List.of());
+        }
+
+        List<Long> ids = items.stream().map(AuctionItem::getId).collect(Collectors.toList());
+        Map<Long, BidRepository.BidSummary> summaries = bidRepository.summarizeByAuctionItemIds(ids).stream()
+                .collect(Collectors.toMap(BidRepository.BidSummary::getAuctionItemId, Function.identity()));
+        Map<Long, Bid> highestBids = bidRepository.findHighestBidsByAuctionItemIds(ids).stream()
+                .collect(Collectors.toMap(bid -> bid.getAuctionItem().getId(), Function.identity(),
+                        (first, second) -> first.getId() < second.getId() ? first : second));
+
+        List<Long> repairedIds = new ArrayList<>();
+        for (AuctionItem item : items) {
+            BidRepository.BidSummary summary = summaries.get(item.getId());
+            Bid highestBid = highestBids.get(item.getId());
+
+            int expectedPrice = (summary != null) ? summary.getHighestAmount() : item.getStartPrice();
+            int expectedCount = (summary != null) ? summary.getBidCount().intValue() : 0;
+            LocalDateTime expectedLastBidAt = (summary != null) ? summary.getLastBidAt() : null;
+            Long expectedBidderId = (highestBid != null) ? highestBid.getBidder().getId() : null;
+
+            boolean drifted = item.getCurrentPrice() != expectedPrice
+                    || item.getBidCount() != expectedCount
+                    || !Objects.equals(item.getHighestBidderId(), expectedBidderId)
+                    || !Objects.equals(item.getLastBidAt(), expectedLastBidAt);
+            if (!drifted) {
+                continue;
+            }
+
+            logger.warn("⚠ 입찰 요약 불일치 - 상품 ID: {}, 현재가: {} → {}, 입찰 수: {} → {}, 최고 입찰자: {} → {}",
+                    item.getId(), item.getCurrentPrice(), expectedPrice, item.getBidCount(), expectedCount,
+                    item.getHighestBidderId(), expectedBidderId);
+
+            int updated = auctionItemRepository.repairBidSummary(item.getId(), item.getBidCount(),
+                    expectedPrice, expectedBidderId, expectedCount, expectedLastBidAt);
+            if (updated > 0) {
+                repairedIds.add(item.getId());
+            }
+        }
+        return new ChunkResult(items.get(items.size() - 1).getId(), items.size(), repairedIds);
+    }
+
+    /**
+     * 500개 단위 점검 결과
+     */
+    private record ChunkResult(long lastId, int checked, List<Long> repairedIds) {
+    }
+}
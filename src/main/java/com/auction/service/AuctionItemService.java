@@ -1,20 +1,31 @@
 package com.auction.service;
 
 import com.auction.domain.AuctionItem;
-import com.auction.domain.Bid;
+import com.auction.domain.AuctionStatus;
 import com.auction.domain.User;
+import com.auction.event.AuctionClosedEvent;
+import com.auction.event.AuctionItemCreatedEvent;
+import com.auction.event.AuctionPurchaseConfirmedEvent;
+import com.auction.metrics.AuctionMetrics;
 import com.auction.repository.AuctionItemRepository;
-import com.auction.repository.BidRepository;
 import com.auction.repository.UserRepository;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 🎯 경매 상품 서비스
+ * - 경매 상품 등록 및 마감 스케줄 등록
  * - 경매 종료 시 낙찰자 결정
  * - 낙찰된 상품의 구매 확정 처리
  * - 이메일 알림 발송 기능 포함
@@ -22,40 +33,153 @@ import java.util.List;
 @Service
 public class AuctionItemService {
 
+    private static final Logger logger = LoggerFactory.getLogger(AuctionItemService.class);
+
+    private static final Duration MAX_AUCTION_DURATION = Duration.ofDays(365); // 등록 시점부터 마감까지 최대 기간
+
     private final AuctionItemRepository auctionItemRepository;
-    private final BidRepository bidRepository;
     private final UserRepository userRepository;
     private final MailService mailService;
+    private final PointLedgerService pointLedgerService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuctionMetrics auctionMetrics;
+    private final ConflictRetry conflictRetry;
 
     public AuctionItemService(AuctionItemRepository auctionItemRepository,
-                              BidRepository bidRepository,
                               UserRepository userRepository,
-                              MailService mailService) {
+                              MailService mailService,
+                              PointLedgerService pointLedgerService,
+                              ApplicationEventPublisher eventPublisher,
+                              AuctionMetrics auctionMetrics,
+                              ConflictRetry conflictRetry) {
         this.auctionItemRepository = auctionItemRepository;
-        this.bidRepository = bidRepository;
         this.userRepository = userRepository;
         this.mailService = mailService;
+        this.pointLedgerService = pointLedgerService;
+        this.eventPublisher = eventPublisher;
+        this.auctionMetrics = auctionMetrics;
+        this.conflictRetry = conflictRetry;
+    }
+
+    /**
+     * 🔹 경매 상품 등록
+     * - 커밋 이후 등록 이벤트를 발행하여 마감 스케줄러에 마감 시간을 등록
+     *
+     * @param seller 판매자
+     * @param name 상품명
+     * @param description 상품 설명
+     * @param startPrice 시작 가격
+     * @param endTime 마감 시간
+     * @return 저장된 경매 상품
+     * @throws IllegalArgumentException 마감 시간이 등록 시점부터 최대 기간(1년)을 넘는 경우
+     */
+    @Transactional
+    public AuctionItem registerAuctionItem(User seller, String name, String description,
+                                           int startPrice, LocalDateTime endTime) {
+        if (endTime.isAfter(LocalDateTime.now().plus(MAX_AUCTION_DURATION))) {
+            throw new IllegalArgumentException("마감 시간은 등록 시점부터 " + MAX_AUCTION_DURATION.toDays() + "일 이내여야 합니다.");
+        }
+        AuctionItem item = AuctionItem.builder()
+                .name(name)
+                .description(description)
+                .startPrice(startPrice)
+                .endTime(endTime)
+                .seller(seller)
+                .build();
+        auctionItemRepository.save(item);
+
+        eventPublisher.publishEvent(new AuctionItemCreatedEvent(item.getId(), item.getName(), item.getDescription(),
+                item.getStartPrice(), item.getEndTime()));
+        return item;
     }
 
     /**
-     * 🔹 마감된 경매의 낙찰자를 결정하는 메서드
-     * - 1분마다 실행 (스케줄링)
+     * 🔹 경매 마감 처리 (낙찰자 결정 또는 유찰 처리)
+     * - {@link AuctionCloseScheduler} 가 마감 시각에 호출
+     * - OPEN → SOLD/UNSOLD 조건부 UPDATE 로 처리하므로 중복 호출되어도 한 번만 마감됨
+     * - 상품을 읽은 뒤 입찰이나 다른 마감이 반영되었으면 낙관적 잠금 실패로 롤백되므로
+     *   {@link ConflictRetry} 로 감싸 호출해야 함 (다시 읽으면 최신 최고 입찰자로 마감하거나 종결 상태를 확인)
+     *
+     * @param itemId 경매 상품 ID
+     * @return 아직 마감 시간이 되지 않았으면 현재 마감 시간, 마감되었거나 이미 종결된 경우 empty
+     * @throws OptimisticLockingFailureException 읽은 뒤 상품이 변경된 경우
      */
     @Transactional
-    @Scheduled(fixedRate = 60000) // 1분마다 실행
-    public void processAuctionEndings() {
-        List<AuctionItem> endedAuctions = auctionItemRepository.findByEndTimeBeforeAndWinnerIsNull(LocalDateTime.now());
-
-        for (AuctionItem item : endedAuctions) {
-            Bid highestBid = bidRepository.findTopByAuctionItemOrderByBidAmountDesc(item);
-            item.setWinner((highestBid != null) ? highestBid.getBidder() : null); // 낙찰자 설정
-            auctionItemRepository.save(item);
+    public Optional<LocalDateTime> closeAuction(Long itemId) {
+        AuctionItem item = auctionItemRepository.findById(itemId).orElse(null);
+        if (item == null || item.getStatus() != AuctionStatus.OPEN) {
+            return Optional.empty(); // 삭제되었거나 이미 종결됨
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (item.getEndTime().isAfter(now)) {
+            return Optional.of(item.getEndTime()); // 마감 시간이 연장됨
+        }
+
+        // ✅ 마감 이후에는 입찰이 반영되지 않으므로 요약 컬럼의 최고 입찰자가 곧 낙찰자
+        Long winnerId = item.getHighestBidderId();
+        AuctionStatus result = (winnerId != null) ? AuctionStatus.SOLD : AuctionStatus.UNSOLD;
+        User winner = (winnerId != null) ? userRepository.getReferenceById(winnerId) : null;
+
+        int updated = auctionItemRepository.close(itemId, item.getVersion(), AuctionStatus.OPEN, result, winner, now);
+        if (updated == 0) {
+            // 읽은 뒤 입찰이 반영되었거나 다른 처리에서 먼저 마감함 → 다시 읽어서 판단
+            throw new OptimisticLockingFailureException("마감 처리 중 경매 상품이 변경되었습니다. 상품 ID: " + itemId);
+        }
+
+        auctionMetrics.recordClose(result, item.getEndTime(), now);
+        eventPublisher.publishEvent(new AuctionClosedEvent(itemId, result, winnerId, item.getCurrentPrice(),
+                (item.getSeller() != null) ? item.getSeller().getId() : null, item.getBidCount()));
+        return Optional.empty();
+    }
+
+    /**
+     * 🔹 마감 시간이 지났지만 아직 마감 처리되지 않은 경매를 한 번에 마감 (안전망)
+     * - 평소에는 {@link AuctionCloseScheduler} 가 마감 시각에 처리하므로 대상이 없음
+     * - 종결(SOLD/UNSOLD)된 상품은 조회 대상에서 제외되어 다시 스캔되지 않음
+     * - 상품마다 별도 트랜잭션으로 마감하며, 충돌이 해소되지 않은 상품은 다음 실행에서 다시 처리
+     *
+     * @return 마감 처리된 상품 수
+     */
+    public int processAuctionEndings() {
+        return closeOverdue(auctionItemRepository.findOverdueCloseSchedules(AuctionStatus.OPEN, LocalDateTime.now()));
+    }
+
+    /**
+     * 🔹 지정한 샤드에 속한 상품 중 마감 누락 경매만 마감 (마감 샤드를 여러 노드가 나눠 맡을 때)
+     *
+     * @param shardCount 샤드 수
+     * @param shardIds 이 노드가 담당하는 샤드 번호
+     * @return 마감 처리된 상품 수
+     */
+    public int processAuctionEndings(int shardCount, Collection<Integer> shardIds) {
+        if (shardIds.isEmpty()) {
+            return 0;
+        }
+        List<Long> shards = shardIds.stream().map(Integer::longValue).toList();
+        return closeOverdue(auctionItemRepository.findOverdueCloseSchedulesInShards(
+                AuctionStatus.OPEN, LocalDateTime.now(), shardCount, shards));
+    }
+
+    private int closeOverdue(List<AuctionItemRepository.CloseSchedule> overdue) {
+        int closed = 0;
+        for (AuctionItemRepository.CloseSchedule schedule : overdue) {
+            try {
+                if (conflictRetry.execute("close", () -> closeAuction(schedule.getId())).isEmpty()) {
+                    closed++;
+                }
+            } catch (ConcurrencyFailureException e) {
+                logger.warn("⚠ 마감 처리 충돌 - 상품 ID: {}, 다음 실행에서 재시도: {}", schedule.getId(), e.getMessage());
+            }
         }
+        return closed;
     }
 
     /**
      * 🔹 구매 확정 처리
      * - 낙찰자가 구매 확정을 진행하면, 판매자에게 포인트 지급
+     * - 동시에 확정 요청이 오면 늦게 커밋하는 쪽이 낙관적 잠금 실패로 전체 롤백되므로 판매 대금은 한 번만 지급됨
+     *   ({@link ConflictRetry} 로 다시 시도하면 "이미 구매 확정된 상품" 으로 거절)
      *
      * @param itemId 구매 확정할 경매 상품 ID
      * @param buyer 구매 확정을 진행하는 사용자
@@ -69,24 +193,29 @@ public class AuctionItemService {
             throw new IllegalStateException("이미 구매 확정된 상품입니다.");
         }
 
-        if (!auctionItem.getWinner().equals(buyer)) {
+        if (auctionItem.getWinner() == null || !auctionItem.getWinner().getId().equals(buyer.getId())) {
             throw new IllegalStateException("해당 상품의 낙찰자가 아닙니다.");
         }
 
-        Bid highestBid = bidRepository.findTopByAuctionItemOrderByBidAmountDesc(auctionItem);
-        if (highestBid == null) {
+        if (auctionItem.getHighestBidderId() == null) {
             throw new IllegalStateException("유효한 입찰 내역이 없습니다.");
         }
 
-        int finalPrice = highestBid.getBidAmount();
+        int finalPrice = auctionItem.getCurrentPrice();
         User seller = auctionItem.getSeller();
 
-        // ✅ 판매자에게 포인트 지급
-        seller.setPoints(seller.getPoints() + finalPrice);
-        userRepository.save(seller);
+        // ✅ 낙찰자의 입찰 예치를 사용 확정 (예치 도입 이전 입찰은 이미 차감됨)
+        Long reservationId = pointLedgerService.findHeldReservationId(itemId);
+        if (reservationId != null) {
+            pointLedgerService.capture(reservationId);
+        }
+
+        // ✅ 판매자에게 포인트 지급 (원자적 적립)
+        pointLedgerService.credit(seller.getId(), finalPrice, itemId);
 
         auctionItem.setPurchased(true);
         auctionItemRepository.save(auctionItem);
+        eventPublisher.publishEvent(new AuctionPurchaseConfirmedEvent(itemId, seller.getId(), buyer.getId(), finalPrice));
 
         System.out.println("✅ 구매 확정 완료: " + auctionItem.getName());
     }
@@ -127,19 +256,19 @@ public class AuctionItemService {
             throw new IllegalStateException("경매가 아직 종료되지 않았습니다.");
         }
 
+        closeAuction(itemId);
+
         // ✅ 최고 입찰자 찾기
-        Bid highestBid = bidRepository.findTopByAuctionItemOrderByBidAmountDesc(auctionItem);
-        if (highestBid == null) {
+        if (auctionItem.getHighestBidderId() == null) {
             System.out.println("🚨 낙찰자가 없습니다.");
             return; // 입찰자가 없으면 낙찰자 없음
         }
 
-        User winner = highestBid.getBidder();
-        auctionItem.setWinner(winner);
-        auctionItemRepository.save(auctionItem);
+        User winner = userRepository.findById(auctionItem.getHighestBidderId())
+                .orElseThrow(() -> new IllegalStateException("낙찰자를 찾을 수 없습니다."));
 
         // ✅ 낙찰자에게 이메일 전송
-        sendWinningEmail(winner, auctionItem, highestBid.getBidAmount());
+        sendWinningEmail(winner, auctionItem, auctionItem.getCurrentPrice());
     }
 
     /**
@@ -0,0 +1,56 @@
+package com.auction.service;
+
+import com.auction.domain.AuctionItem;
+import com.auction.repository.AuctionItemRepository.CatalogEntry;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 🏷️ 경매 상품 현재가 일괄 조회 서비스
+ * - 목록/마이페이지/관리자 화면에서 상품마다 최고 입찰가를 따로 조회하던 N+1 쿼리를 제거
+ * - 입찰 엔진 장부에 올라온 상품은 메모리에서, 나머지는 상품의 현재가 컬럼에서 읽으므로 추가 쿼리가 없음
+ */
+@Service
+public class AuctionPriceService {
+
+    private final BidEngine bidEngine;
+
+    public AuctionPriceService(BidEngine bidEngine) {
+        this.bidEngine = bidEngine;
+    }
+
+    /**
+     * 🔹 여러 상품의 현재가를 일괄 조회
+     *
+     * @param items 경매 상품 목록 (중복 허용)
+     * @return 상품 ID별 현재가 (입찰이 없으면 시작 가격)
+     */
+    public Map<Long, Integer> getCurrentPrices(Collection<AuctionItem> items) {
+        Map<Long, Integer> prices = new HashMap<>();
+        for (AuctionItem item : items) {
+            BidBook book = bidEngine.peekBook(item.getId());
+            prices.put(item.getId(), (book != null)
+                    ? book.getHighestAmount()
+                    : Math.max(item.getCurrentPrice(), item.getStartPrice()));
+        }
+        return prices;
+    }
+
+    /**
+     * 🔹 목록 화면용 상품 요약의 현재가를 일괄 조회
+     *
+     * @param entries 경매 상품 요약 목록
+     * @return 상품 ID별 현재가 (입찰이 없으면 시작 가격)
+     */
+    public Map<Long, Integer> getCatalogPrices(Collection<? extends CatalogEntry> entries) {
+        Map<Long, Integer> prices = new HashMap<>();
+        for (CatalogEntry entry : entries) {
+            BidBook book = bidEngine.peekBook(entry.getId());
+            prices.put(entry.getId(), (book != null)
+                    ? book.getHighestAmount()
+                    : Math.max(entry.getCurrentPrice(), entry.getStartPrice()));
+        }
+        return prices;
+    }
+}
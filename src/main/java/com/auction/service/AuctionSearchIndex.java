@@ -0,0 +1,454 @@
+package com.auction.service;
+
+import com.auction.config.StartupOrder;
+import com.auction.domain.AuctionStatus;
+import com.auction.event.AuctionClosedEvent;
+import com.auction.event.AuctionItemCreatedEvent;
+import com.auction.event.AuctionItemDeletedEvent;
+import com.auction.repository.AuctionItemRepository;
+import com.auction.repository.AuctionItemRepository.CatalogEntry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 🔎 경매 상품 검색 색인 (메모리 상주 역색인)
+ * - LIKE '%검색어%' 전체 스캔 대신 상품명/설명의 글자 단위 n-gram(1~2글자) 역색인으로 후보를 찾음
+ * - 형태소 분석 없이도 한국어 부분 일치(예: "노트북" 검색 시 "게이밍노트북")와 접두어 검색이 가능
+ * - 검색 비용은 가장 짧은 게시 목록(posting) 길이에 비례하므로 상품 수가 늘어도 지연이 거의 일정함
+ * - 상품 등록/마감/삭제 이벤트로 즉시 갱신하고, 애플리케이션 시작 시 DB 에서 다시 생성
+ * - 색인 생성이 끝나기 전에는 search 가 빈 결과(Optional.empty)를 반환하므로 호출 측은 DB 검색으로 대체
+ */
+@Service
+public class AuctionSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuctionSearchIndex.class);
+
+    private static final int NAME_BIT = 1;
+    private static final int DESCRIPTION_BIT = 2;
+    private static final int NAME_WEIGHT = 3;        // 상품명에 포함된 n-gram 1개당 점수
+    private static final int DESCRIPTION_WEIGHT = 1; // 설명에 포함된 n-gram 1개당 점수
+    private static final int NAME_MATCH_BONUS = 10;  // 상품명에 검색어가 그대로 포함된 경우
+    private static final int PREFIX_BONUS = 5;       // 상품명의 단어가 검색어로 시작하는 경우
+    private static final int COMPACT_THRESHOLD = 10_000;
+
+    private final AuctionItemRepository auctionItemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer searchTimer;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexState state = new IndexState();
+    private List<Consumer<IndexState>> pendingDuringRebuild; // 재생성 중 들어온 변경 (재생성 후 새 색인에 다시 적용)
+    private volatile boolean ready;
+
+    public AuctionSearchIndex(AuctionItemRepository auctionItemRepository,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry) {
+        this.auctionItemRepository = auctionItemRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.searchTimer = Timer.builder("auction.search.latency")
+                .description("검색 색인 조회 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("auction.search.documents", this, AuctionSearchIndex::size)
+                .description("검색 색인에 등록된 경매 상품 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 검색 결과 한 페이지 (순위 순 경매 상품 ID)
+     */
+    public record SearchResult(List<Long> itemIds, boolean hasMore) {
+    }
+
+    /**
+     * 🔹 애플리케이션 시작 시 별도 스레드에서 색인 생성 (완료 전까지는 DB 검색으로 대체됨)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(StartupOrder.SEARCH_INDEX)
+    public void rebuildOnStartup() {
+        Thread thread = new Thread(this::rebuild, "search-index-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 🔹 DB 의 모든 경매 상품으로 색인을 새로 생성한 뒤 교체
+     * - 생성 중에 발생한 등록/마감/삭제는 교체 직전에 새 색인에 다시 적용
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        IndexState rebuilt = new IndexState();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<CatalogEntry> entries =
+                             auctionItemRepository.streamCatalog(EnumSet.allOf(AuctionStatus.class))) {
+                    entries.forEach(entry -> rebuilt.add(entry.getId(), entry.getName(), entry.getDescription(),
+                            entry.getEndTime(), entry.getStatus()));
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.error("❌ 검색 색인 생성 실패 - DB 검색으로 계속 처리: {}", e.getMessage(), e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild.forEach(change -> change.accept(rebuilt));
+            pendingDuringRebuild = null;
+            state = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("✅ 검색 색인 생성 완료 - 상품: {}건, 색인어: {}개", rebuilt.liveDocs, rebuilt.postings.size());
+    }
+
+    /**
+     * 🔹 상품 등록 트랜잭션 커밋 후 색인에 추가
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionItemCreated(AuctionItemCreatedEvent event) {
+        apply(index -> index.add(event.auctionItemId(), event.name(), event.description(),
+                event.endTime(), AuctionStatus.OPEN));
+    }
+
+    /**
+     * 🔹 경매 마감 시 색인의 상태 갱신 (상태 필터 검색용)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionClosed(AuctionClosedEvent event) {
+        apply(index -> index.updateStatus(event.auctionItemId(), event.status()));
+    }
+
+    /**
+     * 🔹 상품 삭제 트랜잭션 커밋 후 색인에서 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionItemDeleted(AuctionItemDeletedEvent event) {
+        apply(index -> index.remove(event.auctionItemId()));
+    }
+
+    /**
+     * 🔹 검색 (순위 순 페이지네이션)
+     * - 검색어를 단어로 나누어 모든 단어의 n-gram 을 포함한 상품을 후보로 찾고,
+     *   각 단어가 상품명이나 설명에 그대로(연속으로) 포함된 상품만 결과로 선택 (AND 검색, DB 검색과 같은 필드)
+     * - 점수: 상품명 n-gram 일치 × 3 + 설명 n-gram 일치 × 1 + 상품명 포함/접두어 가산점
+     * - 점수가 같으면 마감 시간이 임박한 순, 상품 ID 순
+     *
+     * @param query 검색어
+     * @param statuses 조회할 경매 상태
+     * @param offset 건너뛸 결과 수 (0 이상, 색인된 상품 수 이상이면 빈 결과)
+     * @param limit 조회 건수
+     * @return 검색 결과 (색인 생성 전이면 Optional.empty)
+     */
+    public Optional<SearchResult> search(String query, Set<AuctionStatus> statuses, int offset, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        return Optional.of(searchTimer.record(() -> {
+            lock.readLock().lock();
+            try {
+                return state.search(words(query), statuses, offset, limit);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private int size() {
+        lock.readLock().lock();
+        try {
+            return state.liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<IndexState> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(state);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 🔹 검색용 정규화 (전각/반각 통일, 소문자) 후 글자/숫자 단위 단어로 분리
+     */
+    static List<String> words(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        List<String> words = new ArrayList<>();
+        for (String word : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * 🔹 색인용 n-gram (한 글자 + 연속된 두 글자)
+     */
+    static Set<String> indexGrams(String word) {
+        int[] codePoints = word.codePoints().toArray();
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 1));
+            if (i + 1 < codePoints.length) {
+                grams.add(new String(codePoints, i, 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 🔹 검색어 n-gram (한 글자 단어는 한 글자, 그 외에는 연속된 두 글자만 사용)
+     */
+    static Set<String> queryGrams(String word) {
+        int[] codePoints = word.codePoints().toArray();
+        if (codePoints.length == 1) {
+            return Set.of(word);
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return grams;
+    }
+
+    /**
+     * 색인된 상품 정보 (상품명 / 설명은 검색어 포함 확인과 가산점 계산을 위해 정규화된 형태로 보관)
+     */
+    private record Doc(long itemId, String name, String description, LocalDateTime endTime, AuctionStatus status) {
+    }
+
+    /**
+     * 검색 후보 (점수 높은 순 → 마감 임박 순 → ID 순)
+     */
+    private record Hit(Doc doc, int score) {
+
+        static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::score).reversed()
+                .thenComparing(hit -> hit.doc().endTime())
+                .thenComparingLong(hit -> hit.doc().itemId());
+    }
+
+    /**
+     * n-gram 하나의 게시 목록
+     * - 항목은 (문서 번호 << 2 | 필드 비트) 이며, 문서 번호는 추가 순서대로 증가하므로 항상 정렬되어 있음
+     */
+    private static final class Postings {
+
+        private int[] entries = new int[4];
+        private int size;
+
+        void add(int entry) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size++] = entry;
+        }
+
+        /**
+         * 문서 번호의 필드 비트 (없으면 0)
+         */
+        int bitsOf(int docNo) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int midDocNo = entries[mid] >>> 2;
+                if (midDocNo < docNo) {
+                    low = mid + 1;
+                } else if (midDocNo > docNo) {
+                    high = mid - 1;
+                } else {
+                    return entries[mid] & 3;
+                }
+            }
+            return 0;
+        }
+
+        void retainLive(List<Doc> docs) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (docs.get(entries[i] >>> 2) != null) {
+                    entries[kept++] = entries[i];
+                }
+            }
+            size = kept;
+        }
+    }
+
+    /**
+     * 색인 본체 (잠금은 AuctionSearchIndex 가 담당)
+     * - 수정/삭제된 문서는 번호를 비워 두고(null), 빈 번호가 일정 수를 넘으면 게시 목록에서 정리
+     */
+    private static final class IndexState {
+
+        private final Map<String, Postings> postings = new HashMap<>();
+        private final List<Doc> docs = new ArrayList<>(); // 문서 번호 → 문서 (삭제되면 null)
+        private final Map<Long, Integer> docNoByItemId = new HashMap<>();
+        private int liveDocs;
+        private int deadDocs;
+
+        void add(Long itemId, String name, String description, LocalDateTime endTime, AuctionStatus status) {
+            remove(itemId);
+
+            Map<String, Integer> fieldBits = new HashMap<>();
+            for (String word : words(name)) {
+                indexGrams(word).forEach(gram -> fieldBits.merge(gram, NAME_BIT, (a, b) -> a | b));
+            }
+            for (String word : words(description)) {
+                indexGrams(word).forEach(gram -> fieldBits.merge(gram, DESCRIPTION_BIT, (a, b) -> a | b));
+            }
+
+            int docNo = docs.size();
+            docs.add(new Doc(itemId, String.join(" ", words(name)), String.join(" ", words(description)), endTime, status));
+            docNoByItemId.put(itemId, docNo);
+            liveDocs++;
+            fieldBits.forEach((gram, bits) -> postings.computeIfAbsent(gram, g -> new Postings()).add(docNo << 2 | bits));
+        }
+
+        void updateStatus(Long itemId, AuctionStatus status) {
+            Integer docNo = docNoByItemId.get(itemId);
+            if (docNo != null) {
+                Doc doc = docs.get(docNo);
+                docs.set(docNo, new Doc(doc.itemId(), doc.name(), doc.description(), doc.endTime(), status));
+            }
+        }
+
+        void remove(Long itemId) {
+            Integer docNo = docNoByItemId.remove(itemId);
+            if (docNo == null) {
+                return;
+            }
+            docs.set(docNo, null);
+            liveDocs--;
+            if (++deadDocs >= COMPACT_THRESHOLD && deadDocs > liveDocs) {
+                compact();
+            }
+        }
+
+        SearchResult search(List<String> terms, Set<AuctionStatus> statuses, int offset, int limit) {
+            if (terms.isEmpty()) {
+                return new SearchResult(List.of(), false);
+            }
+            Set<String> grams = new HashSet<>();
+            terms.forEach(term -> grams.addAll(queryGrams(term)));
+
+            List<Postings> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                Postings list = postings.get(gram);
+                if (list == null) {
+                    return new SearchResult(List.of(), false); // 한 n-gram 이라도 없으면 일치하는 상품 없음
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+
+            // ✅ 색인된 상품 수보다 깊은 페이지는 결과가 없으므로, 후보 큐 크기가 색인 크기를 넘지 않도록 제한
+            if (offset >= liveDocs) {
+                return new SearchResult(List.of(), false);
+            }
+            int wanted = offset + Math.min(limit, liveDocs) + 1;
+
+            // ✅ 가장 짧은 게시 목록을 기준으로 나머지 목록을 이진 탐색하며 교집합 계산
+            Postings shortest = lists.get(0);
+            PriorityQueue<Hit> top = new PriorityQueue<>(Math.min(wanted, shortest.size + 1), Hit.RANKING.reversed());
+            candidates:
+            for (int i = 0; i < shortest.size; i++) {
+                int docNo = shortest.entries[i] >>> 2;
+                Doc doc = docs.get(docNo);
+                if (doc == null || !statuses.contains(doc.status())) {
+                    continue;
+                }
+                int score = weight(shortest.entries[i] & 3);
+                for (int j = 1; j < lists.size(); j++) {
+                    int bits = lists.get(j).bitsOf(docNo);
+                    if (bits == 0) {
+                        continue candidates;
+                    }
+                    score += weight(bits);
+                }
+                // ✅ n-gram 이 모두 있어도 흩어져 있을 수 있으므로 각 검색어가 그대로 포함되는지 확인
+                for (String term : terms) {
+                    if (!doc.name().contains(term) && !doc.description().contains(term)) {
+                        continue candidates;
+                    }
+                }
+                for (String term : terms) {
+                    if (doc.name().contains(term)) {
+                        score += NAME_MATCH_BONUS;
+                        if (doc.name().startsWith(term) || doc.name().contains(" " + term)) {
+                            score += PREFIX_BONUS;
+                        }
+                    }
+                }
+
+                top.offer(new Hit(doc, score));
+                if (top.size() > wanted) {
+                    top.poll(); // 순위가 가장 낮은 후보 제거
+                }
+            }
+
+            List<Hit> ranked = new ArrayList<>(top);
+            ranked.sort(Hit.RANKING);
+            boolean hasMore = ranked.size() > offset + limit;
+            List<Long> itemIds = new ArrayList<>(limit);
+            for (int i = offset; i < Math.min(ranked.size(), offset + limit); i++) {
+                itemIds.add(ranked.get(i).doc().itemId());
+            }
+            return new SearchResult(itemIds, hasMore);
+        }
+
+        private static int weight(int bits) {
+            return ((bits & NAME_BIT) != 0 ? NAME_WEIGHT : 0) + ((bits & DESCRIPTION_BIT) != 0 ? DESCRIPTION_WEIGHT : 0);
+        }
+
+        private void compact() {
+            postings.values().removeIf(list -> {
+                list.retainLive(docs);
+                return list.size == 0;
+            });
+            deadDocs = 0;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.auction.service;
+
+import com.auction.domain.AuctionItem;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 📒 경매 상품 1개에 대한 메모리 상주 입찰 장부
+ * - 현재 최고가, 최고 입찰자, 입찰 수를 메모리에 유지하여 가격 조회 시 DB 를 거치지 않음
+ * - 쓰기는 {@link BidEngine} 이 장부 단위 락을 잡은 상태에서만 수행 (상품별 단일 writer)
+ *   락 안에서 DB 기록(JDBC)을 수행하므로 synchronized 대신 ReentrantLock 을 사용
+ *   (가상 스레드가 synchronized 블록 안에서 I/O 대기하면 캐리어 스레드를 점유함)
+ * - 읽기는 volatile 필드로 락 없이 수행
+ * - 응찰 중인 자동 입찰(최대 입찰가)도 함께 보관하며, 자동 입찰은 장부 락 안에서만 읽고 씀
+ */
+public class BidBook {
+
+    private final Long auctionItemId;
+    private final Long sellerId;
+    private final int startPrice;
+
+    private volatile LocalDateTime endTime;
+    private volatile int highestAmount;
+    private volatile Long highestBidderId;
+    private volatile int bidCount;
+    private volatile Long highestReservationId;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, Proxy> proxies = new HashMap<>(); // 입찰자 ID → 자동 입찰 (장부 락 안에서만 접근)
+
+    /**
+     * 응찰 중인 자동 입찰
+     *
+     * @param proxyId 자동 입찰 ID
+     * @param bidderId 입찰자 ID
+     * @param maxAmount 최대 입찰 금액
+     * @param registeredAt 최대 금액 등록 시각
+     */
+    record Proxy(Long proxyId, Long bidderId, int maxAmount, LocalDateTime registeredAt) {
+
+        /**
+         * 우선순위 (최대 금액이 높은 순 → 먼저 등록한 순)
+         */
+        static final Comparator<Proxy> PRIORITY = Comparator.comparingInt(Proxy::maxAmount).reversed()
+                .thenComparing(Proxy::registeredAt)
+                .thenComparing(Proxy::proxyId);
+    }
+
+    BidBook(Long auctionItemId, Long sellerId, int startPrice, LocalDateTime endTime,
+            int highestAmount, Long highestBidderId, int bidCount, Long highestReservationId) {
+        this.auctionItemId = auctionItemId;
+        this.sellerId = sellerId;
+        this.startPrice = startPrice;
+        this.endTime = endTime;
+        this.highestAmount = highestAmount;
+        this.highestBidderId = highestBidderId;
+        this.bidCount = bidCount;
+        this.highestReservationId = highestReservationId;
+    }
+
+    /**
+     * 🔹 DB 에서 읽어온 상품의 입찰 요약 컬럼으로 장부를 생성
+     *
+     * @param item 경매 상품
+     * @param highestReservationId 최고 입찰자의 포인트 예치 ID (없으면 null)
+     * @return 초기화된 입찰 장부
+     */
+    static BidBook of(AuctionItem item, Long highestReservationId) {
+        return new BidBook(
+                item.getId(),
+                (item.getSeller() != null) ? item.getSeller().getId() : null,
+                item.getStartPrice(),
+                item.getEndTime(),
+                Math.max(item.getCurrentPrice(), item.getStartPrice()),
+                item.getHighestBidderId(),
+                item.getBidCount(),
+                highestReservationId);
+    }
+
+    /**
+     * 🔹 장부 락 획득 (반드시 finally 에서 {@link #unlock()} 호출)
+     */
+    void lock() {
+        lock.lock();
+    }
+
+    void unlock() {
+        lock.unlock();
+    }
+
+    /**
+     * 🔹 입찰 수락 반영 (장부 락을 잡은 상태에서만 호출)
+     *
+     * @param endTime 입찰 반영 후 마감 시간 (마감 연장 시 늘어난 시간)
+     */
+    void accept(Long bidderId, int amount, Long reservationId, LocalDateTime endTime) {
+        accept(bidderId, amount, reservationId, endTime, 1);
+    }
+
+    /**
+     * 🔹 같은 입찰자의 여러 입찰을 한 번에 반영 (대량 입찰, 장부 락을 잡은 상태에서만 호출)
+     *
+     * @param amount 마지막(가장 높은) 입찰 금액
+     * @param count 반영할 입찰 수
+     */
+    void accept(Long bidderId, int amount, Long reservationId, LocalDateTime endTime, int count) {
+        this.endTime = endTime;
+        this.highestAmount = amount;
+        this.highestBidderId = bidderId;
+        this.highestReservationId = reservationId;
+        this.bidCount += count;
+    }
+
+    /**
+     * 🔹 자동 입찰 등록/교체 (장부 락을 잡은 상태에서만 호출)
+     */
+    void putProxy(Proxy proxy) {
+        proxies.put(proxy.bidderId(), proxy);
+    }
+
+    /**
+     * 🔹 자동 입찰 제거 (장부 락을 잡은 상태에서만 호출)
+     */
+    void removeProxy(Long bidderId) {
+        proxies.remove(bidderId);
+    }
+
+    /**
+     * 🔹 입찰자의 자동 입찰 (없으면 null, 장부 락을 잡은 상태에서만 호출)
+     */
+    Proxy getProxy(Long bidderId) {
+        return proxies.get(bidderId);
+    }
+
+    boolean hasProxies() {
+        return !proxies.isEmpty();
+    }
+
+    /**
+     * 🔹 우선순위 순 자동 입찰 목록 (장부 락을 잡은 상태에서만 호출)
+     */
+    List<Proxy> rankedProxies() {
+        List<Proxy> ranked = new ArrayList<>(proxies.values());
+        ranked.sort(Proxy.PRIORITY);
+        return ranked;
+    }
+
+    /**
+     * 🔹 자동 입찰이 한 번에 올리는 최소 단위 (현재가 구간별)
+     *
+     * @param price 현재가
+     * @return 최소 입찰 단위
+     */
+    static int minimumIncrement(int price) {
+        if (price < 1_000) {
+            return 10;
+        }
+        if (price < 10_000) {
+            return 100;
+        }
+        if (price < 100_000) {
+            return 500;
+        }
+        return 1_000;
+    }
+
+    /**
+     * 🔹 주어진 시각 기준으로 경매가 마감되었는지 여부
+     */
+    public boolean isEnded(LocalDateTime now) {
+        return !now.isBefore(endTime);
+    }
+
+    public Long getAuctionItemId() {
+        return auctionItemId;
+    }
+
+    /**
+     * 🔹 판매자 ID (판매자 통계 반영용)
+     */
+    public Long getSellerId() {
+        return sellerId;
+    }
+
+    public int getStartPrice() {
+        return startPrice;
+    }
+
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
+    /**
+     * 🔹 현재 가격 (입찰이 없으면 시작 가격)
+     */
+    public int getHighestAmount() {
+        return highestAmount;
+    }
+
+    /**
+     * 🔹 현재 최고 입찰자 ID (입찰이 없으면 null)
+     */
+    public Long getHighestBidderId() {
+        return highestBidderId;
+    }
+
+    public int getBidCount() {
+        return bidCount;
+    }
+
+    /**
+     * 🔹 현재 최고 입찰자의 포인트 예치 ID (예치 도입 이전 입찰이면 null)
+     */
+    public Long getHighestReservationId() {
+        return highestReservationId;
+    }
+}
@@ -0,0 +1,13 @@
+package com.auction.service;
+
+/**
+ * ⚔️ 입찰 충돌 예외
+ * - 조건부 UPDATE 결과 DB 의 현재가가 이미 입찰 금액 이상이거나 경매가 마감된 경우 발생
+ * - 메모리 장부가 DB 보다 뒤처졌다는 신호이므로 호출자는 장부를 다시 적재해야 함
+ */
+public class BidConflictException extends IllegalStateException {
+
+    public BidConflictException(Long auctionItemId, int bidAmount) {
+        super("입찰이 반영되지 않았습니다. (상품 ID: " + auctionItemId + ", 금액: " + bidAmount + ")");
+    }
+}
@@ -0,0 +1,577 @@
+package com.auction.service;
+
+import com.auction.domain.AuctionItem;
+import com.auction.domain.ProxyBid;
+import com.auction.domain.User;
+import com.auction.event.AuctionClosedEvent;
+import com.auction.event.BidAcceptedEvent;
+import com.auction.event.BidJournalDeadLetterEvent;
+import com.auction.event.ClusterMembershipChangedEvent;
+import com.auction.metrics.AuctionMetrics;
+import com.auction.repository.AuctionItemRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ⚡ 메모리 상주 입찰 엔진
+ * - 경매 상품 ID 마다 하나의 {@link BidBook} 을 유지
+ * - 입찰 수락/거절 판단은 메모리에서 수행하고, 수락된 입찰만 DB 에 기록
+ * - 같은 상품에 대한 입찰은 장부 단위로 직렬화되며, 서로 다른 상품은 병렬로 처리됨 (전역 락 없음)
+ * - 자동 입찰(최대 입찰가)끼리의 경합은 장부 락 안에서 한 번에 계산하고, 그 결과로 보이는 입찰만 DB 에 기록
+ * - 입찰 저널을 사용하면 수락된 입찰은 DB 대신 {@link BidJournal} 에 기록되고 DB 반영은 나중에 묶음으로 수행됨
+ * - 입찰 라우팅을 사용하면 이 노드가 담당하는 상품({@link ClusterMembership})의 장부만 유지하며, 다른 노드의 상품 입찰은 {@link BidRouter} 가 담당 노드로 전달
+ */
+@Service
+public class BidEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(BidEngine.class);
+
+    private final Map<Long, BidBook> books = new ConcurrentHashMap<>();
+
+    private final AuctionItemRepository auctionItemRepository;
+    private final BidPersistenceService bidPersistenceService;
+    private final PointLedgerService pointLedgerService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuctionMetrics auctionMetrics;
+    private final ProxyBidService proxyBidService;
+    private final BidJournal bidJournal;
+    private final ConflictRetry conflictRetry;
+    private final ClusterMembership clusterMembership;
+
+    public BidEngine(AuctionItemRepository auctionItemRepository,
+                     BidPersistenceService bidPersistenceService,
+                     PointLedgerService pointLedgerService,
+                     ApplicationEventPublisher eventPublisher,
+                     AuctionMetrics auctionMetrics,
+                     ProxyBidService proxyBidService,
+                     BidJournal bidJournal,
+                     ConflictRetry conflictRetry,
+                     ClusterMembership clusterMembership) {
+        this.auctionItemRepository = auctionItemRepository;
+        this.bidPersistenceService = bidPersistenceService;
+        this.pointLedgerService = pointLedgerService;
+        this.eventPublisher = eventPublisher;
+        this.auctionMetrics = auctionMetrics;
+        this.proxyBidService = proxyBidService;
+        this.bidJournal = bidJournal;
+        this.conflictRetry = conflictRetry;
+        this.clusterMembership = clusterMembership;
+    }
+
+    /**
+     * 🔹 입찰 처리
+     * - 최고가 이하 / 마감 / 포인트 부족은 락 없이 즉시 거절
+     * - 통과한 입찰은 장부 락 안에서 다시 검증한 뒤 DB 에 기록하고 장부를 갱신
+     * - 기록이 동시 수정 충돌로 롤백되면 장부 락을 놓은 뒤 처음부터 다시 검증하여 재시도
+     *
+     * @param bidder 입찰자
+     * @param auctionItemId 경매 상품 ID
+     * @param bidAmount 입찰 금액
+     * @return 입찰 처리 결과
+     */
+    public BidResult placeBid(User bidder, Long auctionItemId, int bidAmount) {
+        long startedAt = System.nanoTime();
+        BidResult result = conflictRetry.retry("bid", () -> process(bidder, auctionItemId, bidAmount));
+        auctionMetrics.recordBid(result.getStatus(), System.nanoTime() - startedAt);
+        return result;
+    }
+
+    private BidResult process(User bidder, Long auctionItemId, int bidAmount) {
+        BidBook book = findBook(auctionItemId);
+        if (book == null) {
+            return BidResult.rejected(BidResult.Status.ITEM_NOT_FOUND, 0);
+        }
+
+        // ✅ 락 없이 빠른 거절 (volatile 읽기)
+        BidResult rejection = checkRejection(book, bidder, bidAmount);
+        if (rejection != null) {
+            return rejection;
+        }
+
+        BidAcceptedEvent accepted;
+        ProxyResolution resolution = null;
+        book.lock();
+        try {
+            // ✅ 장부 락 안에서 재검증 (다른 입찰이 먼저 수락되었을 수 있음)
+            rejection = checkRejection(book, bidder, bidAmount);
+            if (rejection != null) {
+                return rejection;
+            }
+
+            BidPersistenceService.PersistedBid persisted;
+            try {
+                persisted = persist(book, bidder.getId(), List.of(bidAmount));
+            } catch (InsufficientPointsException e) {
+                return BidResult.rejected(BidResult.Status.INSUFFICIENT_POINTS, book.getHighestAmount());
+            } catch (BidConflictException e) {
+                // DB 가 장부보다 앞서 있음 → 장부를 버리고 다음 요청에서 다시 적재
+                logger.warn("⚠ 입찰 장부와 DB 불일치 - 장부 재적재 예정 (상품 ID: {})", auctionItemId);
+                books.remove(auctionItemId, book);
+                return BidResult.rejected(BidResult.Status.AMOUNT_TOO_LOW, book.getHighestAmount());
+            }
+
+            book.accept(bidder.getId(), bidAmount, persisted.reservationId(), persisted.endTime());
+
+            // ✅ 더 높은 최대 입찰가를 가진 자동 입찰이 있으면 즉시 응찰
+            if (book.hasProxies()) {
+                resolution = resolveProxies(book);
+            }
+            accepted = currentPrice(book);
+        } finally {
+            book.unlock();
+        }
+
+        // ✅ 실시간 시세 구독자 등에 전달 (장부 락 밖에서 발행)
+        eventPublisher.publishEvent(accepted);
+        if (resolution != null) {
+            resolution.record(proxyBidService);
+        }
+        return bidder.getId().equals(accepted.bidderId())
+                ? BidResult.accepted(bidAmount)
+                : BidResult.rejected(BidResult.Status.OUTBID, accepted.amount());
+    }
+
+    /**
+     * 🔹 한 입찰자가 같은 상품에 보낸 여러 입찰을 한 번에 처리 (대량 입찰 API)
+     * - 장부 락을 한 번만 잡고 입력 순서대로 수락/거절을 판단 (앞선 입찰보다 높아야 수락)
+     * - 수락된 입찰은 하나의 트랜잭션으로 함께 기록하며(group commit), 예치는 마지막 금액만 수행
+     * - 사용 가능 포인트(자신의 기존 예치 포함)로 감당할 수 있는 앞부분까지만 수락하고 나머지는 INSUFFICIENT_POINTS
+     *
+     * @param bidder 입찰자
+     * @param auctionItemId 경매 상품 ID
+     * @param bidAmounts 입찰 금액 목록 (입력 순서)
+     * @return 입력과 같은 순서의 입찰 처리 결과 (마지막 수락 입찰이 자동 입찰에 즉시 상회되면 OUTBID)
+     */
+    public List<BidResult> placeBids(User bidder, Long auctionItemId, List<Integer> bidAmounts) {
+        long startedAt = System.nanoTime();
+        List<BidResult> results = conflictRetry.retry("bid", () -> processBatch(bidder, auctionItemId, bidAmounts));
+        long elapsedPerBid = (System.nanoTime() - startedAt) / Math.max(1, results.size());
+        results.forEach(result -> auctionMetrics.recordBid(result.getStatus(), elapsedPerBid));
+        return results;
+    }
+
+    private List<BidResult> processBatch(User bidder, Long auctionItemId, List<Integer> bidAmounts) {
+        BidResult[] results = new BidResult[bidAmounts.size()];
+        BidBook book = findBook(auctionItemId);
+        if (book == null) {
+            return fillRemaining(results, BidResult.Status.ITEM_NOT_FOUND, 0);
+        }
+
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        BidAcceptedEvent accepted;
+        ProxyResolution resolution = null;
+        book.lock();
+        try {
+            if (book.isEnded(LocalDateTime.now())) {
+                return fillRemaining(results, BidResult.Status.AUCTION_ENDED, book.getHighestAmount());
+            }
+
+            // ✅ 입력 순서대로 직전 수락 금액보다 높은 입찰만 수락 후보로 선택
+            List<Integer> amounts = new ArrayList<>();
+            int running = book.getHighestAmount();
+            for (int i = 0; i < results.length; i++) {
+                int amount = bidAmounts.get(i);
+                if (amount <= running) {
+                    results[i] = BidResult.rejected(BidResult.Status.AMOUNT_TOO_LOW, running);
+                } else {
+                    acceptedIndexes.add(i);
+                    amounts.add(amount);
+                    running = amount;
+                }
+            }
+            if (amounts.isEmpty()) {
+                return Arrays.asList(results);
+            }
+
+            // ✅ 금액이 오름차순이므로 잔액으로 감당할 수 있는 앞부분까지만 수락
+            //    (다른 상품의 대량 입찰이 먼저 예치하여 잔액이 줄었으면 최신 잔액으로 다시 계산, 매번 한 건 이상 줄어듦)
+            BidPersistenceService.PersistedBid persisted = null;
+            int limit = amounts.size();
+            while (persisted == null) {
+                long available = (long) pointLedgerService.getBalance(bidder.getId())
+                        + (bidder.getId().equals(book.getHighestBidderId()) ? book.getHighestAmount() : 0);
+                int affordable = 0;
+                while (affordable < limit && amounts.get(affordable) <= available) {
+                    affordable++;
+                }
+                if (affordable == 0) {
+                    return fillRemaining(results, BidResult.Status.INSUFFICIENT_POINTS, book.getHighestAmount());
+                }
+                try {
+                    persisted = persist(book, bidder.getId(), amounts.subList(0, affordable));
+                    limit = affordable;
+                } catch (InsufficientPointsException e) {
+                    limit = affordable - 1;
+                } catch (BidConflictException e) {
+                    logger.warn("⚠ 입찰 장부와 DB 불일치 - 장부 재적재 예정 (상품 ID: {})", auctionItemId);
+                    books.remove(auctionItemId, book);
+                    return fillRemaining(results, BidResult.Status.AMOUNT_TOO_LOW, book.getHighestAmount());
+                }
+            }
+            acceptedIndexes = acceptedIndexes.subList(0, limit);
+            amounts = amounts.subList(0, limit);
+
+            int finalAmount = amounts.get(amounts.size() - 1);
+            book.accept(bidder.getId(), finalAmount, persisted.reservationId(), persisted.endTime(), amounts.size());
+            for (int i = 0; i < acceptedIndexes.size(); i++) {
+                results[acceptedIndexes.get(i)] = BidResult.accepted(amounts.get(i));
+            }
+
+            if (book.hasProxies()) {
+                resolution = resolveProxies(book);
+            }
+            accepted = currentPrice(book);
+        } finally {
+            book.unlock();
+        }
+
+        eventPublisher.publishEvent(accepted);
+        if (resolution != null) {
+            resolution.record(proxyBidService);
+        }
+        if (!bidder.getId().equals(accepted.bidderId())) {
+            results[acceptedIndexes.get(acceptedIndexes.size() - 1)] =
+                    BidResult.rejected(BidResult.Status.OUTBID, accepted.amount());
+        }
+        return fillRemaining(results, BidResult.Status.INSUFFICIENT_POINTS, accepted.amount());
+    }
+
+    /**
+     * 🔹 아직 결과가 정해지지 않은 입찰을 같은 결과로 채움
+     */
+    private static List<BidResult> fillRemaining(BidResult[] results, BidResult.Status status, int currentPrice) {
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                results[i] = BidResult.rejected(status, currentPrice);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 🔹 자동 입찰 등록 (최대 입찰가)
+     * - 입찰 엔진이 최대 금액까지 최소 단위로 대신 응찰하며, 다른 자동 입찰과의 경합은 한 번에 계산
+     * - 경합 결과로 보이는 입찰(상회된 쪽의 최대 금액, 이긴 쪽의 최종 금액)만 기록하고 최종 금액만 예치
+     *
+     * @param bidder 입찰자
+     * @param auctionItemId 경매 상품 ID
+     * @param maxAmount 최대 입찰 금액
+     * @return 입찰 처리 결과 (다른 자동 입찰의 최대 금액이 더 높으면 OUTBID)
+     */
+    public BidResult placeProxyBid(User bidder, Long auctionItemId, int maxAmount) {
+        long startedAt = System.nanoTime();
+        BidResult result = processProxy(bidder, auctionItemId, maxAmount);
+        auctionMetrics.recordBid(result.getStatus(), System.nanoTime() - startedAt);
+        return result;
+    }
+
+    private BidResult processProxy(User bidder, Long auctionItemId, int maxAmount) {
+        BidBook book = findBook(auctionItemId);
+        if (book == null) {
+            return BidResult.rejected(BidResult.Status.ITEM_NOT_FOUND, 0);
+        }
+        if (book.isEnded(LocalDateTime.now())) {
+            return BidResult.rejected(BidResult.Status.AUCTION_ENDED, book.getHighestAmount());
+        }
+        if (maxAmount <= book.getHighestAmount()) {
+            return BidResult.rejected(BidResult.Status.AMOUNT_TOO_LOW, book.getHighestAmount());
+        }
+
+        // ✅ 자동 입찰 등록은 장부 락 밖에서 커밋하고, 락 안에서 받아들이지 못하면 락을 놓은 뒤 되돌림
+        ProxyBidService.Registration registration = proxyBidService.register(bidder.getId(), auctionItemId, maxAmount);
+
+        BidAcceptedEvent changed = null;
+        ProxyResolution resolution = null;
+        BidResult rejection = null;
+        book.lock();
+        try {
+            BidBook.Proxy existing = book.getProxy(bidder.getId());
+            if (book.isEnded(LocalDateTime.now())) {
+                rejection = BidResult.rejected(BidResult.Status.AUCTION_ENDED, book.getHighestAmount());
+            } else if (maxAmount <= book.getHighestAmount() || (existing != null && maxAmount <= existing.maxAmount())) {
+                rejection = BidResult.rejected(BidResult.Status.AMOUNT_TOO_LOW, book.getHighestAmount());
+            } else {
+                book.putProxy(new BidBook.Proxy(registration.proxyId(), bidder.getId(), maxAmount,
+                        registration.registeredAt()));
+
+                int bidCountBefore = book.getBidCount();
+                resolution = resolveProxies(book);
+                if (resolution.conflict()) {
+                    rejection = BidResult.rejected(BidResult.Status.AMOUNT_TOO_LOW, book.getHighestAmount());
+                } else {
+                    changed = (book.getBidCount() != bidCountBefore) ? currentPrice(book) : null;
+                }
+            }
+        } finally {
+            book.unlock();
+        }
+
+        if (rejection != null) {
+            proxyBidService.revert(registration);
+            if (resolution != null && resolution.conflict()) {
+                // 장부를 버린 사이 다시 적재된 장부가 되돌리기 전의 자동 입찰을 읽었을 수 있으므로 한 번 더 내림
+                evict(auctionItemId);
+            }
+            return rejection;
+        }
+        if (changed != null) {
+            eventPublisher.publishEvent(changed);
+        }
+        resolution.record(proxyBidService);
+
+        if (resolution.cancelledBidders().contains(bidder.getId())) {
+            return BidResult.rejected(BidResult.Status.INSUFFICIENT_POINTS, book.getHighestAmount());
+        }
+        return bidder.getId().equals(book.getHighestBidderId())
+                ? BidResult.accepted(book.getHighestAmount())
+                : BidResult.rejected(BidResult.Status.OUTBID, book.getHighestAmount());
+    }
+
+    /**
+     * 🔹 자동 입찰 경합 계산 (장부 락을 잡은 상태에서만 호출)
+     * - 최대 금액이 가장 높은 자동 입찰(선두)이 2순위 자동 입찰의 최대 금액 + 최소 단위까지만 올라감
+     *   (2순위가 현재가보다 높으면 2순위의 최대 금액 입찰을 먼저 기록하여 입찰 내역에 남김)
+     * - 최대 금액이 같으면 먼저 등록한 쪽이 그 금액으로 입찰
+     * - 최대 금액이 현재가 이하가 된 자동 입찰은 OUTBID, 포인트가 부족해 응찰하지 못한 자동 입찰은 CANCELLED
+     *
+     * @param book 입찰 장부
+     * @return 경합 결과 (conflict 가 true 이면 장부를 버렸으므로 더 진행하면 안 됨)
+     */
+    private ProxyResolution resolveProxies(BidBook book) {
+        ProxyResolution resolution = new ProxyResolution();
+        while (true) {
+            int price = book.getHighestAmount();
+            List<BidBook.Proxy> ranked = new ArrayList<>();
+            for (BidBook.Proxy proxy : book.rankedProxies()) {
+                boolean holding = proxy.bidderId().equals(book.getHighestBidderId());
+                if (proxy.maxAmount() <= price && !holding) {
+                    book.removeProxy(proxy.bidderId()); // 더 이상 응찰할 수 없음
+                    resolution.outbidProxyIds().add(proxy.proxyId());
+                } else {
+                    ranked.add(proxy);
+                }
+            }
+            if (ranked.isEmpty()) {
+                return resolution;
+            }
+
+            BidBook.Proxy leader = ranked.get(0);
+            BidBook.Proxy challenger = (ranked.size() > 1) ? ranked.get(1) : null;
+            List<BidBook.Proxy> steps = new ArrayList<>(2);
+            List<Integer> amounts = new ArrayList<>(2);
+            if (challenger != null && challenger.maxAmount() > price) {
+                if (challenger.maxAmount() == leader.maxAmount()) {
+                    steps.add(leader);
+                    amounts.add(leader.maxAmount());
+                } else {
+                    steps.add(challenger);
+                    amounts.add(challenger.maxAmount());
+                    steps.add(leader);
+                    amounts.add(Math.min(leader.maxAmount(),
+                            challenger.maxAmount() + BidBook.minimumIncrement(challenger.maxAmount())));
+                }
+            } else if (!leader.bidderId().equals(book.getHighestBidderId())) {
+                steps.add(leader);
+                amounts.add(Math.min(leader.maxAmount(), price + BidBook.minimumIncrement(price)));
+            }
+            if (steps.isEmpty()) {
+                return resolution; // 선두 자동 입찰이 최고 입찰자이고 더 높은 경쟁자가 없음
+            }
+
+            for (int i = 0; i < steps.size(); i++) {
+                BidBook.Proxy proxy = steps.get(i);
+                int amount = amounts.get(i);
+                try {
+                    BidPersistenceService.PersistedBid persisted = persist(book, proxy.bidderId(), List.of(amount));
+                    book.accept(proxy.bidderId(), amount, persisted.reservationId(), persisted.endTime());
+                } catch (InsufficientPointsException e) {
+                    // 포인트가 부족한 자동 입찰은 취소하고 나머지로 다시 계산
+                    book.removeProxy(proxy.bidderId());
+                    resolution.cancelledProxyIds().add(proxy.proxyId());
+                    resolution.cancelledBidders().add(proxy.bidderId());
+                    break;
+                } catch (BidConflictException | ConcurrencyFailureException e) {
+                    // 앞선 단계가 이미 기록되었을 수 있으므로 재시도하지 않고 장부를 버림 (다음 요청에서 DB 상태로 다시 계산)
+                    logger.warn("⚠ 입찰 장부와 DB 불일치 - 장부 재적재 예정 (상품 ID: {})", book.getAuctionItemId());
+                    books.remove(book.getAuctionItemId(), book);
+                    return resolution.markConflict();
+                }
+            }
+        }
+    }
+
+    /**
+     * 🔹 수락된 입찰 기록 (장부 락을 잡은 상태에서만 호출)
+     * - 입찰 저널을 사용하면 저널 fsync 까지만 기다리고, 아니면 DB 트랜잭션으로 바로 기록
+     * - 락을 잡은 채 재시도 / 지연하지 않도록 한 번만 시도하며, 예치 반환 / 예치가 서로 다른 순서로 사용자 행을 잠가
+     *   교착 상태로 롤백되면 {@link ConcurrencyFailureException} 을 그대로 던짐 (장부는 갱신 전이므로 그대로 유효)
+     */
+    private BidPersistenceService.PersistedBid persist(BidBook book, Long bidderId, List<Integer> bidAmounts) {
+        return bidJournal.isEnabled()
+                ? bidJournal.append(book, bidderId, bidAmounts)
+                : conflictRetry.attempt("bid", () -> bidPersistenceService.persistAcceptedBids(book, bidderId, bidAmounts));
+    }
+
+    /**
+     * 🔹 저널에만 기록된 입찰이 DB 에 반영될 때까지 대기 (마감 처리 전에 호출, 저널을 사용하지 않으면 즉시 반환)
+     * - 장부 락을 한 번 잡았다 놓아, 이미 진행 중인 입찰의 저널 기록이 끝난 뒤의 순번까지 기다림
+     *
+     * @param auctionItemId 경매 상품 ID
+     * @throws IllegalStateException 제한 시간 안에 반영되지 않은 경우
+     */
+    public void awaitPersisted(Long auctionItemId) {
+        if (!bidJournal.isEnabled()) {
+            return;
+        }
+        BidBook book = books.get(auctionItemId);
+        if (book != null) {
+            book.lock();
+            book.unlock();
+        }
+        bidJournal.awaitApplied(auctionItemId);
+    }
+
+    private BidAcceptedEvent currentPrice(BidBook book) {
+        return new BidAcceptedEvent(book.getAuctionItemId(), book.getHighestAmount(), book.getHighestBidderId(),
+                book.getBidCount(), book.getEndTime());
+    }
+
+    /**
+     * 🔹 현재 가격 조회 (장부가 있으면 DB 를 거치지 않음)
+     * - 다른 노드가 담당하는 상품은 장부를 적재하지 않고 상품의 요약 컬럼 값을 사용
+     *
+     * @param item 경매 상품
+     * @return 현재 최고 입찰가 (입찰이 없으면 시작 가격)
+     */
+    public int getCurrentPrice(AuctionItem item) {
+        BidBook book = books.get(item.getId());
+        if (book == null) {
+            if (!clusterMembership.isLocal(item.getId())) {
+                return item.getCurrentPrice();
+            }
+            book = loadBook(item);
+        }
+        return book.getHighestAmount();
+    }
+
+    /**
+     * 🔹 메모리에 올라와 있는 장부 조회 (없으면 null, DB 조회 없음)
+     *
+     * @param auctionItemId 경매 상품 ID
+     * @return 입찰 장부 또는 null
+     */
+    public BidBook peekBook(Long auctionItemId) {
+        return books.get(auctionItemId);
+    }
+
+    /**
+     * 🔹 장부 제거 (상품 삭제, 요약 컬럼 보정, 경매 마감 시 호출)
+     *
+     * @param auctionItemId 경매 상품 ID
+     */
+    public void evict(Long auctionItemId) {
+        books.remove(auctionItemId);
+    }
+
+    /**
+     * 🔹 경매 마감이 커밋되면 장부를 메모리에서 내림
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionClosed(AuctionClosedEvent event) {
+        evict(event.auctionItemId());
+    }
+
+    /**
+     * 🔹 클러스터 구성원이 바뀌면 더 이상 담당하지 않는 상품의 장부를 내림 (다시 담당하게 되면 DB 에서 새로 적재)
+     */
+    @EventListener
+    public void onMembershipChanged(ClusterMembershipChangedEvent event) {
+        int before = books.size();
+        books.keySet().removeIf(auctionItemId -> !clusterMembership.isLocal(auctionItemId));
+        logger.info("📒 담당이 바뀐 입찰 장부 {}개를 내림", before - books.size());
+    }
+
+    /**
+     * 🔹 저널 기록을 DB 에 반영하지 못해 격리하면 장부를 내림 (장부에만 남은 입찰을 버리고 다음 입찰에서 DB 상태로 다시 적재)
+     */
+    @EventListener
+    public void onJournalDeadLetter(BidJournalDeadLetterEvent event) {
+        logger.warn("⚠ 반영하지 못한 입찰 저널 기록 - 장부 재적재 예정 (상품 ID: {}, 순번: {})",
+                event.auctionItemId(), event.sequence());
+        evict(event.auctionItemId());
+    }
+
+    private BidResult checkRejection(BidBook book, User bidder, int bidAmount) {
+        if (book.isEnded(LocalDateTime.now())) {
+            return BidResult.rejected(BidResult.Status.AUCTION_ENDED, book.getHighestAmount());
+        }
+        if (bidAmount <= book.getHighestAmount()) {
+            return BidResult.rejected(BidResult.Status.AMOUNT_TOO_LOW, book.getHighestAmount());
+        }
+        // ✅ 최고 입찰자가 금액을 올리면 기존 예치가 먼저 반환되므로 사용 가능 포인트에 포함 (대량 입찰 / 저널과 같은 기준)
+        long available = (long) bidder.getPoints()
+                + (bidder.getId().equals(book.getHighestBidderId()) ? book.getHighestAmount() : 0);
+        if (available < bidAmount) {
+            return BidResult.rejected(BidResult.Status.INSUFFICIENT_POINTS, book.getHighestAmount());
+        }
+        return null;
+    }
+
+    private BidBook findBook(Long auctionItemId) {
+        BidBook book = books.get(auctionItemId);
+        if (book != null) {
+            return book;
+        }
+        return auctionItemRepository.findById(auctionItemId)
+                .map(this::loadBook)
+                .orElse(null);
+    }
+
+    /**
+     * 🔹 상품의 입찰 요약 컬럼으로 장부를 한 번만 적재 (동시에 적재되면 먼저 등록된 장부를 사용)
+     */
+    private BidBook loadBook(AuctionItem item) {
+        Long reservationId = (item.getHighestBidderId() != null)
+                ? pointLedgerService.findHeldReservationId(item.getId())
+                : null;
+        BidBook loaded = BidBook.of(item, reservationId);
+        proxyBidService.findActive(item.getId()).forEach(proxy -> loaded.putProxy(new BidBook.Proxy(
+                proxy.getId(), proxy.getUserId(), proxy.getMaxAmount(), proxy.getRegisteredAt())));
+
+        BidBook existing = books.putIfAbsent(item.getId(), loaded);
+        if (existing != null) {
+            return existing;
+        }
+        logger.debug("📒 입찰 장부 적재 - 상품 ID: {}, 현재가: {}", item.getId(), loaded.getHighestAmount());
+        return loaded;
+    }
+
+    /**
+     * 자동 입찰 경합 결과 (상태 변경은 장부 락 밖에서 DB 에 반영)
+     */
+    private record ProxyResolution(List<Long> outbidProxyIds, List<Long> cancelledProxyIds,
+                                   Set<Long> cancelledBidders, boolean conflict) {
+
+        ProxyResolution() {
+            this(new ArrayList<>(), new ArrayList<>(), new HashSet<>(), false);
+        }
+
+        ProxyResolution markConflict() {
+            return new ProxyResolution(outbidProxyIds, cancelledProxyIds, cancelledBidders, true);
+        }
+
+        void record(ProxyBidService proxyBidService) {
+            proxyBidService.deactivate(outbidProxyIds, ProxyBid.Status.OUTBID);
+            proxyBidService.deactivate(cancelledProxyIds, ProxyBid.Status.CANCELLED);
+        }
+    }
+}
@@ -0,0 +1,724 @@
+package com.auction.service;
+
+import com.auction.config.WorkerThreads;
+import com.auction.event.BidJournalDeadLetterEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 📝 입찰 저널 (write-behind)
+ * - 사용 시 {@link BidEngine} 이 수락한 입찰을 DB 트랜잭션 대신 로컬 저널 파일에 순차 기록하고, fsync 가 끝나면 바로 응답
+ * - fsync 는 전용 스레드가 그동안 쌓인 기록을 모아 한 번에 수행 (group fsync, 여러 상품의 입찰이 fsync 1회를 공유)
+ * - fsync 된 기록은 반영 스레드가 순서대로 묶어 한 트랜잭션씩 DB 에 반영하고, 반영 지점(checkpoint)을 남김
+ * - 시작 시 반영 지점 이후의 기록을 다시 반영 (이미 반영된 입찰은 현재가 조건부 UPDATE 에서 걸러지므로 중복 반영 없음)
+ * - 포인트 예치는 DB 반영 시 이루어지므로, 기록 전에 DB 잔액에서 아직 반영되지 않은 예치 금액을 빼고 검사
+ * - 반영할 수 없는 기록(포인트 부족, 재시도 한도 초과)은 격리 파일(dead-letter)에 남겨 보상 대상으로 표시하고 다음 기록으로 진행
+ */
+@Component
+public class BidJournal {
+
+    private static final Logger logger = LoggerFactory.getLogger(BidJournal.class);
+
+    /**
+     * 저널에만 기록되어 아직 예치 ID 가 없는 입찰의 예치 ID (장부에 보관되며, 반영 시 상품의 예치 내역으로 찾음)
+     */
+    static final Long UNAPPLIED_RESERVATION_ID = 0L;
+
+    private static final String SEGMENT_PREFIX = "bids-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT = "checkpoint";
+    private static final String DEAD_LETTER = "dead-letter.log"; // 반영하지 못한 기록 (세그먼트와 같은 형식, 보상 대상)
+    private static final int RECORD_HEADER = 8; // 본문 길이(4) + CRC32C(4)
+    private static final int RECORD_FIXED_BODY = 72; // 입찰 금액 목록을 제외한 본문 길이
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(30); // 반영 대기 상한 (마감 처리, 종료 시)
+
+    /**
+     * 저널 기록 1건 (수락된 입찰 1건 또는 같은 입찰자의 연속 입찰 묶음)
+     *
+     * @param sequence 저널 순번 (1부터 증가)
+     * @param bidAmounts 입찰 금액 목록 (오름차순, 마지막 금액이 최고 입찰)
+     * @param bidTime 입찰 시각
+     * @param endTime 입찰 반영 후 마감 시간 (마감 연장 포함)
+     * @param previousBidderId 직전 최고 입찰자 ID (없으면 null)
+     * @param previousAmount 직전 최고 입찰 금액
+     * @param previousReservationId 직전 최고 입찰의 예치 ID (예치 도입 이전 입찰이면 null)
+     */
+    public record Entry(long sequence, Long auctionItemId, Long bidderId, List<Integer> bidAmounts,
+                       LocalDateTime bidTime, LocalDateTime endTime,
+                       Long previousBidderId, int previousAmount, Long previousReservationId) {
+
+        public int finalAmount() {
+            return bidAmounts.get(bidAmounts.size() - 1);
+        }
+
+        /**
+         * 기록 본문 직렬화 (시각은 시간대 변환 없이 LocalDateTime 그대로 초 / 나노초로 저장)
+         */
+        ByteBuffer encode() {
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER + RECORD_FIXED_BODY + 4 * bidAmounts.size());
+            buffer.position(RECORD_HEADER);
+            buffer.putLong(sequence).putLong(auctionItemId).putLong(bidderId);
+            buffer.putLong(bidTime.toEpochSecond(ZoneOffset.UTC)).putInt(bidTime.getNano());
+            buffer.putLong(endTime.toEpochSecond(ZoneOffset.UTC)).putInt(endTime.getNano());
+            buffer.putLong(previousBidderId != null ? previousBidderId : -1L).putInt(previousAmount);
+            buffer.putLong(previousReservationId != null ? previousReservationId : -1L);
+            buffer.putInt(bidAmounts.size());
+            bidAmounts.forEach(buffer::putInt);
+
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.array(), RECORD_HEADER, buffer.position() - RECORD_HEADER);
+            buffer.putInt(0, buffer.position() - RECORD_HEADER).putInt(4, (int) crc.getValue());
+            return buffer.flip();
+        }
+
+        static Entry decode(ByteBuffer body) {
+            long sequence = body.getLong();
+            Long auctionItemId = body.getLong();
+            Long bidderId = body.getLong();
+            LocalDateTime bidTime = LocalDateTime.ofEpochSecond(body.getLong(), body.getInt(), ZoneOffset.UTC);
+            LocalDateTime endTime = LocalDateTime.ofEpochSecond(body.getLong(), body.getInt(), ZoneOffset.UTC);
+            long previousBidderId = body.getLong();
+            int previousAmount = body.getInt();
+            long previousReservationId = body.getLong();
+            List<Integer> bidAmounts = new ArrayList<>(body.getInt());
+            while (body.hasRemaining()) {
+                bidAmounts.add(body.getInt());
+            }
+            return new Entry(sequence, auctionItemId, bidderId, List.copyOf(bidAmounts), bidTime, endTime,
+                    (previousBidderId >= 0) ? previousBidderId : null, previousAmount,
+                    (previousReservationId >= 0) ? previousReservationId : null);
+        }
+    }
+
+    private final BidPersistenceService bidPersistenceService;
+    private final PointLedgerService pointLedgerService;
+    private final SoftClosePolicy softClosePolicy;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final Path directory;
+    private final long segmentSize;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+
+    // ✅ 기록 / fsync / 반영 상태 (lock 안에서만 변경)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition written = lock.newCondition();
+    private final Condition synced = lock.newCondition();
+    private final Condition applied = lock.newCondition();
+    private final ArrayDeque<Long> segments = new ArrayDeque<>(); // 남아 있는 세그먼트의 첫 순번 (오래된 순)
+    private final Map<Long, Long> lastSequenceByItem = new HashMap<>(); // 상품별 아직 반영되지 않은 마지막 순번
+    private List<Entry> unsynced = new ArrayList<>();
+    private FileChannel channel;
+    private long channelSize;
+    private volatile long lastSequence;
+    private long syncedSequence;
+    private volatile long appliedSequence;
+    private IOException failure;
+    private boolean closed;
+
+    private final BlockingQueue<Entry> applyQueue = new LinkedBlockingQueue<>();
+
+    // ✅ 입찰자별 아직 반영되지 않은 예치 금액 (같은 입찰자의 검사와 반영 완료 처리는 입찰자 락으로 직렬화)
+    private final Map<Long, Long> unappliedHolds = new ConcurrentHashMap<>();
+    private final ReentrantLock[] bidderLocks = new ReentrantLock[64];
+
+    private final Thread syncer;
+    private final Thread applier;
+    private final Timer syncTimer;
+    private final Counter deadLetterCounter;
+
+    public BidJournal(BidPersistenceService bidPersistenceService,
+                      PointLedgerService pointLedgerService,
+                      SoftClosePolicy softClosePolicy,
+                      TransactionTemplate transactionTemplate,
+                      ApplicationEventPublisher eventPublisher,
+                      MeterRegistry meterRegistry,
+                      WorkerThreads workerThreads,
+                      @Value("${auction.bid-journal.enabled:false}") boolean enabled,
+                      @Value("${auction.bid-journal.directory:data/bid-journal}") Path directory,
+                      @Value("${auction.bid-journal.segment-size:64MB}") DataSize segmentSize,
+                      @Value("${auction.bid-journal.batch-size:500}") int batchSize,
+                      @Value("${auction.bid-journal.max-attempts:5}") int maxAttempts,
+                      @Value("${auction.bid-journal.retry-delay:5s}") Duration retryDelay) {
+        this.bidPersistenceService = bidPersistenceService;
+        this.pointLedgerService = pointLedgerService;
+        this.softClosePolicy = softClosePolicy;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.directory = directory;
+        this.segmentSize = segmentSize.toBytes();
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        for (int i = 0; i < bidderLocks.length; i++) {
+            bidderLocks[i] = new ReentrantLock();
+        }
+
+        this.syncer = workerThreads.factory("bid-journal-sync").newThread(this::syncLoop);
+        this.syncer.setDaemon(true);
+        this.applier = workerThreads.factory("bid-journal-apply").newThread(this::applyLoop);
+        this.applier.setDaemon(true);
+
+        this.syncTimer = Timer.builder("auction.bid.journal.sync")
+                .description("입찰 저널 group fsync 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("auction.bid.journal.lag", this, journal -> journal.lastSequence - journal.appliedSequence)
+                .description("저널에 기록되었지만 아직 DB 에 반영되지 않은 입찰 기록 수")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("auction.bid.journal.dead.letters")
+                .description("DB 에 반영하지 못해 격리한 입찰 저널 기록 수 (보상 필요)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 🔹 시작 시 남아 있는 저널을 DB 에 반영하고, 사용 설정이면 새 세그먼트를 열어 기록 시작
+     * - 웹 요청과 마감 스케줄러가 시작되기 전에 복구가 끝나므로 장부는 복구된 DB 상태로 적재됨
+     * - 사용하지 않도록 바꾼 뒤에도 이전 실행에서 남은 저널은 반영됨
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        if (Files.isDirectory(directory)) {
+            recover();
+        }
+        if (!enabled) {
+            return;
+        }
+
+        Files.createDirectories(directory);
+        lock.lock();
+        try {
+            openSegment(lastSequence + 1);
+        } finally {
+            lock.unlock();
+        }
+        syncer.start();
+        applier.start();
+        logger.info("✅ 입찰 저널 사용 - 경로: {}, 마지막 순번: {}", directory.toAbsolutePath(), lastSequence);
+    }
+
+    /**
+     * 🔹 종료 시 기록된 입찰의 반영을 잠시 기다린 뒤 스레드와 파일을 정리 (남은 기록은 다음 시작 시 반영)
+     */
+    @PreDestroy
+    public void stop() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            flush();
+        } catch (IllegalStateException e) {
+            logger.warn("⚠ 입찰 저널 반영이 끝나지 않은 채 종료 - 다음 시작 시 반영: {}", e.getMessage());
+        }
+        lock.lock();
+        try {
+            closed = true;
+            written.signalAll();
+            synced.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        syncer.interrupt();
+        applier.interrupt();
+        try {
+            syncer.join(AWAIT_TIMEOUT.toMillis());
+            applier.join(AWAIT_TIMEOUT.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lock.lock();
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            logger.warn("⚠ 입찰 저널 세그먼트 닫기 실패: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 🔹 수락된 입찰을 저널에 기록하고 fsync 가 끝날 때까지 대기 (DB 반영은 반영 스레드가 나중에 수행)
+     * - 호출자는 장부 락을 잡고 있어야 하며, 장부의 현재 최고 입찰이 "직전 입찰"로 기록됨
+     * - 입찰자의 DB 잔액에서 아직 반영되지 않은 예치 금액을 빼고, 같은 상품의 자기 최고 입찰 금액은 더해서 검사
+     *
+     * @param book 입찰 장부 (갱신 전 상태)
+     * @param bidderId 입찰자 ID
+     * @param bidAmounts 입찰 금액 목록 (오름차순, 첫 금액은 장부의 현재가보다 높아야 함)
+     * @return 아직 정해지지 않은 예치 ID({@link #UNAPPLIED_RESERVATION_ID})와 반영 후 마감 시간
+     * @throws InsufficientPointsException 입찰자의 포인트가 마지막 입찰 금액보다 부족한 경우
+     * @throws IllegalStateException 저널 기록 또는 fsync 에 실패한 경우
+     */
+    public BidPersistenceService.PersistedBid append(BidBook book, Long bidderId, List<Integer> bidAmounts) {
+        int finalAmount = bidAmounts.get(bidAmounts.size() - 1);
+        reserve(book, bidderId, finalAmount);
+
+        LocalDateTime bidTime = LocalDateTime.now();
+        LocalDateTime endTime = softClosePolicy.endTimeAfterBid(book.getEndTime(), bidTime);
+        lock.lock();
+        try {
+            if (closed || failure != null) {
+                settle(bidderId, finalAmount);
+                throw new IllegalStateException("입찰 저널을 사용할 수 없습니다.", failure);
+            }
+            Entry entry = new Entry(lastSequence + 1, book.getAuctionItemId(), bidderId, List.copyOf(bidAmounts),
+                    bidTime, endTime, book.getHighestBidderId(), book.getHighestAmount(),
+                    book.getHighestReservationId());
+            try {
+                write(entry);
+            } catch (IOException e) {
+                settle(bidderId, finalAmount);
+                fail(e);
+                throw new IllegalStateException("입찰 저널 기록에 실패했습니다.", e);
+            }
+            lastSequence = entry.sequence();
+            lastSequenceByItem.put(entry.auctionItemId(), entry.sequence());
+            unsynced.add(entry);
+            written.signal();
+
+            // ✅ 기록 후에는 취소할 수 없으므로 인터럽트와 관계없이 fsync 완료(또는 실패)까지 대기
+            while (syncedSequence < entry.sequence()) {
+                if (failure != null) {
+                    throw new IllegalStateException("입찰 저널 fsync 에 실패했습니다.", failure);
+                }
+                synced.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return new BidPersistenceService.PersistedBid(UNAPPLIED_RESERVATION_ID, endTime);
+    }
+
+    /**
+     * 🔹 특정 상품의 저널 기록이 모두 DB 에 반영될 때까지 대기 (마감 처리 전에 호출)
+     *
+     * @param auctionItemId 경매 상품 ID
+     * @throws IllegalStateException 제한 시간 안에 반영되지 않은 경우
+     */
+    public void awaitApplied(Long auctionItemId) {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            Long sequence = lastSequenceByItem.get(auctionItemId);
+            if (sequence != null) {
+                awaitApplied(sequence.longValue());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 🔹 지금까지 기록된 저널이 모두 DB 에 반영될 때까지 대기
+     *
+     * @throws IllegalStateException 제한 시간 안에 반영되지 않은 경우
+     */
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            awaitApplied(lastSequence);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 반영 대기 (lock 안에서만 호출)
+     */
+    private void awaitApplied(long sequence) {
+        long remaining = AWAIT_TIMEOUT.toNanos();
+        while (appliedSequence < sequence) {
+            if (remaining <= 0) {
+                throw new IllegalStateException("입찰 저널 반영 대기 시간을 초과했습니다. (순번: " + sequence
+                        + ", 반영된 순번: " + appliedSequence + ")");
+            }
+            try {
+                remaining = applied.awaitNanos(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("입찰 저널 반영 대기가 중단되었습니다.", e);
+            }
+        }
+    }
+
+    /**
+     * 입찰자의 사용 가능 포인트를 검사하고 아직 반영되지 않은 예치 금액에 더함
+     * - 반영 스레드는 커밋 이후에 같은 입찰자 락 안에서 금액을 빼므로, 잔액과 미반영 금액을 함께 읽어도 이중으로 더해지지 않음
+     */
+    private void reserve(BidBook book, Long bidderId, int amount) {
+        ReentrantLock bidderLock = bidderLock(bidderId);
+        bidderLock.lock();
+        try {
+            long available = (long) pointLedgerService.getBalance(bidderId)
+                    - unappliedHolds.getOrDefault(bidderId, 0L)
+                    + (bidderId.equals(book.getHighestBidderId()) ? book.getHighestAmount() : 0);
+            if (amount > available) {
+                throw new InsufficientPointsException();
+            }
+            unappliedHolds.merge(bidderId, (long) amount, Long::sum);
+        } finally {
+            bidderLock.unlock();
+        }
+    }
+
+    private void settle(Long bidderId, int amount) {
+        ReentrantLock bidderLock = bidderLock(bidderId);
+        bidderLock.lock();
+        try {
+            unappliedHolds.computeIfPresent(bidderId, (id, held) -> (held > amount) ? held - amount : null);
+        } finally {
+            bidderLock.unlock();
+        }
+    }
+
+    private ReentrantLock bidderLock(Long bidderId) {
+        return bidderLocks[Math.floorMod(bidderId.hashCode(), bidderLocks.length)];
+    }
+
+    /**
+     * 기록 1건 추가 (lock 안에서만 호출, 세그먼트가 가득 차면 fsync 후 다음 세그먼트로 교체)
+     */
+    private void write(Entry entry) throws IOException {
+        ByteBuffer record = entry.encode();
+        if (channelSize > 0 && channelSize + record.remaining() > segmentSize) {
+            channel.force(false);
+            channel.close();
+            openSegment(entry.sequence());
+        }
+        while (record.hasRemaining()) {
+            channelSize += channel.write(record);
+        }
+    }
+
+    private void openSegment(long firstSequence) throws IOException {
+        channel = FileChannel.open(segmentPath(firstSequence),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        channelSize = 0;
+        segments.addLast(firstSequence);
+    }
+
+    private void fail(IOException e) {
+        if (failure == null) {
+            failure = e;
+            logger.error("❌ 입찰 저널 사용 불가 - 이후 입찰은 거절됨: {}", e.getMessage(), e);
+        }
+        synced.signalAll();
+    }
+
+    /**
+     * fsync 스레드: 이전 fsync 이후 기록된 입찰을 한 번의 fsync 로 확정하고 반영 대기열에 전달
+     */
+    private void syncLoop() {
+        while (true) {
+            List<Entry> batch;
+            FileChannel target;
+            lock.lock();
+            try {
+                while (unsynced.isEmpty()) {
+                    if (closed) {
+                        return;
+                    }
+                    written.await();
+                }
+                batch = unsynced;
+                unsynced = new ArrayList<>();
+                target = channel;
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            long startedAt = System.nanoTime();
+            try {
+                target.force(false);
+            } catch (ClosedChannelException e) {
+                // 세그먼트 교체 시 이전 세그먼트는 닫기 전에 fsync 됨
+            } catch (IOException e) {
+                lock.lock();
+                try {
+                    fail(e);
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+            syncTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+            lock.lock();
+            try {
+                syncedSequence = batch.get(batch.size() - 1).sequence();
+                synced.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            applyQueue.addAll(batch);
+        }
+    }
+
+    /**
+     * 반영 스레드: fsync 된 기록을 순서대로 최대 batchSize 건씩 한 트랜잭션으로 DB 에 반영
+     */
+    private void applyLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<Entry> batch = new ArrayList<>(batchSize);
+                batch.add(applyQueue.take());
+                applyQueue.drainTo(batch, batchSize - 1);
+                apply(batch, true);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                logger.error("❌ 입찰 저널 반영 스레드 오류: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 기록 묶음을 반영하고 반영 지점을 남김
+     * - 묶음 트랜잭션이 실패하면 한 건씩 다시 반영 (포인트 부족은 바로, 그 밖의 오류는 재시도 한도를 넘으면 격리)
+     *
+     * @param live 이번 실행에서 기록된 입찰인지 여부 (미반영 예치 금액 정리 대상)
+     */
+    private void apply(List<Entry> batch, boolean live) throws InterruptedException {
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(this::applyEntry));
+        } catch (RuntimeException e) {
+            logger.warn("⚠ 입찰 저널 묶음 반영 실패 - 한 건씩 다시 반영 ({}건): {}", batch.size(), e.getMessage());
+            for (Entry entry : batch) {
+                applyOne(entry);
+            }
+        }
+
+        if (live) {
+            batch.forEach(entry -> settle(entry.bidderId(), entry.finalAmount()));
+        }
+        long last = batch.get(batch.size() - 1).sequence();
+        writeCheckpoint(last);
+
+        lock.lock();
+        try {
+            appliedSequence = last;
+            batch.forEach(entry -> lastSequenceByItem.remove(entry.auctionItemId(), entry.sequence()));
+            applied.signalAll();
+            // ✅ 다음 세그먼트의 첫 순번 이전까지 모두 반영된 세그먼트는 삭제 (현재 기록 중인 세그먼트 제외)
+            while (segments.size() > 1) {
+                Iterator<Long> iterator = segments.iterator();
+                Long oldest = iterator.next();
+                if (iterator.next() - 1 > last) {
+                    break;
+                }
+                segments.removeFirst();
+                deleteQuietly(segmentPath(oldest));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void applyOne(Entry entry) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> applyEntry(entry));
+                return;
+            } catch (InsufficientPointsException e) {
+                deadLetter(entry, "포인트 부족");
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    logger.error("❌ 입찰 저널 반영 실패 - 재시도 {}회 초과 (순번: {}): {}",
+                            maxAttempts, entry.sequence(), e.getMessage(), e);
+                    deadLetter(entry, "재시도 한도 초과: " + e.getMessage());
+                    return;
+                }
+                logger.warn("⚠ 입찰 저널 반영 실패 - {}ms 후 재시도 ({}/{}, 순번: {}): {}",
+                        retryDelay.toMillis(), attempt, maxAttempts, entry.sequence(), e.getMessage());
+                Thread.sleep(retryDelay.toMillis());
+            }
+        }
+    }
+
+    /**
+     * 반영하지 못한 기록을 격리 파일에 남기고(보상 대상), 입찰 엔진이 DB 와 달라진 장부를 내리도록 알림
+     * - 입찰자에게는 이미 수락으로 응답했으므로, 운영자가 격리 파일을 보고 입찰자에게 보상 / 안내
+     */
+    private void deadLetter(Entry entry, String reason) {
+        try (FileChannel deadLetters = FileChannel.open(directory.resolve(DEAD_LETTER),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer record = entry.encode();
+            while (record.hasRemaining()) {
+                deadLetters.write(record);
+            }
+            deadLetters.force(false);
+        } catch (IOException e) {
+            logger.error("❌ 입찰 저널 격리 파일 기록 실패 (순번: {}): {}", entry.sequence(), e.getMessage(), e);
+        }
+        deadLetterCounter.increment();
+        logger.error("🧯 입찰 저널 기록 격리 - 보상 필요 (순번: {}, 상품 ID: {}, 입찰자 ID: {}, 금액: {}, 사유: {})",
+                entry.sequence(), entry.auctionItemId(), entry.bidderId(), entry.finalAmount(), reason);
+        eventPublisher.publishEvent(new BidJournalDeadLetterEvent(entry.sequence(), entry.auctionItemId(),
+                entry.bidderId(), entry.finalAmount(), reason));
+    }
+
+    private void applyEntry(Entry entry) {
+        if (!bidPersistenceService.applyJournaledBids(entry)) {
+            logger.warn("⚠ 이미 반영되었거나 종결 / 삭제된 상품의 입찰 저널 - 건너뜀 (순번: {}, 상품 ID: {}, 금액: {})",
+                    entry.sequence(), entry.auctionItemId(), entry.finalAmount());
+        }
+    }
+
+    /**
+     * 시작 시 복구: 반영 지점 이후의 기록을 순서대로 반영하고 모든 세그먼트를 삭제
+     * - 세그먼트는 메모리 매핑으로 읽으며, 길이 / CRC 가 맞지 않는 기록(기록 중 중단된 끝부분)에서 해당 세그먼트 읽기를 멈춤
+     */
+    private void recover() throws IOException {
+        long checkpoint = readCheckpoint();
+        List<Path> files = listSegments();
+        long last = checkpoint;
+        int replayed = 0;
+        List<Entry> batch = new ArrayList<>(batchSize);
+        try {
+            for (Path file : files) {
+                for (Entry entry : readSegment(file)) {
+                    last = Math.max(last, entry.sequence());
+                    if (entry.sequence() <= checkpoint) {
+                        continue;
+                    }
+                    batch.add(entry);
+                    if (batch.size() == batchSize) {
+                        apply(batch, false);
+                        replayed += batch.size();
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                apply(batch, false);
+                replayed += batch.size();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("입찰 저널 복구가 중단되었습니다.", e);
+        }
+
+        lastSequence = last;
+        appliedSequence = last;
+        writeCheckpoint(last);
+        files.forEach(BidJournal::deleteQuietly);
+        if (!files.isEmpty()) {
+            logger.info("🔁 입찰 저널 복구 완료 - 세그먼트: {}개, 다시 반영한 기록: {}건, 마지막 순번: {}",
+                    files.size(), replayed, last);
+        }
+    }
+
+    private List<Entry> readSegment(Path file) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        try (FileChannel segment = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = segment.map(FileChannel.MapMode.READ_ONLY, 0, segment.size());
+            CRC32C crc = new CRC32C();
+            while (buffer.remaining() >= RECORD_HEADER) {
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    break;
+                }
+                ByteBuffer body = buffer.slice(buffer.position(), length);
+                crc.reset();
+                crc.update(body.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                entries.add(Entry.decode(body));
+                buffer.position(buffer.position() + length);
+            }
+            if (buffer.hasRemaining()) {
+                logger.warn("⚠ 입찰 저널 끝부분이 손상되어 무시 - {} ({}바이트)", file.getFileName(), buffer.remaining());
+            }
+        }
+        return entries;
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long firstSequence) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+    }
+
+    private long readCheckpoint() throws IOException {
+        Path file = directory.resolve(CHECKPOINT);
+        return Files.exists(file) ? Long.parseLong(Files.readString(file).trim()) : 0L;
+    }
+
+    /**
+     * 반영 지점 기록 (임시 파일을 원자적으로 교체, 유실되더라도 다시 반영이 중복 없이 처리되므로 fsync 하지 않음)
+     */
+    private void writeCheckpoint(long sequence) {
+        try {
+            Path temporary = directory.resolve(CHECKPOINT + ".tmp");
+            Files.writeString(temporary, Long.toString(sequence));
+            Files.move(temporary, directory.resolve(CHECKPOINT),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("⚠ 입찰 저널 반영 지점 기록 실패 (순번: {}): {}", sequence, e.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("⚠ 입찰 저널 세그먼트 삭제 실패 - {}: {}", file.getFileName(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.auction.service;
+
+import com.auction.domain.AuctionItem;
+import com.auction.domain.Bid;
+import com.auction.domain.User;
+import com.auction.repository.AuctionItemRepository;
+import com.auction.repository.BidRepository;
+import com.auction.repository.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 💾 입찰 영속화 서비스
+ * - {@link BidEngine} 이 메모리에서 수락한 입찰을 하나의 트랜잭션으로 DB 에 기록
+ * - 상품 요약 컬럼 조건부 갱신(마감 연장 포함), 이전 최고 입찰자 예치 반환, 새 입찰자 예치, 입찰 저장, 통계 증분 기록을 함께 커밋
+ * - 입찰 저널을 사용하면 같은 처리를 {@link BidJournal} 이 기록 이후에 묶음 단위로 수행
+ */
+@Service
+public class BidPersistenceService {
+
+    private final BidRepository bidRepository;
+    private final AuctionItemRepository auctionItemRepository;
+    private final UserRepository userRepository;
+    private final PointLedgerService pointLedgerService;
+    private final SoftClosePolicy softClosePolicy;
+    private final UserStatsService userStatsService;
+
+    public BidPersistenceService(BidRepository bidRepository,
+                                 AuctionItemRepository auctionItemRepository,
+                                 UserRepository userRepository,
+                                 PointLedgerService pointLedgerService,
+                                 SoftClosePolicy softClosePolicy,
+                                 UserStatsService userStatsService) {
+        this.bidRepository = bidRepository;
+        this.auctionItemRepository = auctionItemRepository;
+        this.userRepository = userRepository;
+        this.pointLedgerService = pointLedgerService;
+        this.softClosePolicy = softClosePolicy;
+        this.userStatsService = userStatsService;
+    }
+
+    /**
+     * 기록된 입찰 결과
+     *
+     * @param reservationId 새 입찰자의 포인트 예치 ID
+     * @param endTime 입찰 반영 후 마감 시간 (마감 연장 시 늘어난 시간)
+     */
+    public record PersistedBid(Long reservationId, LocalDateTime endTime) {
+    }
+
+    /**
+     * 🔹 수락된 입찰을 기록
+     * - 호출자는 장부 락을 잡고 있어야 하며, 장부의 현재 최고 입찰이 "직전 입찰"로 간주됨
+     * - 상품의 현재가를 조건부 UPDATE 로 먼저 갱신하여 DB 수준에서도 동시 입찰을 차단
+     * - 포인트가 부족하면 예외를 던져 트랜잭션 전체를 롤백
+     *
+     * @param book 입찰 장부 (갱신 전 상태)
+     * @param bidderId 입찰자 ID
+     * @param bidAmount 입찰 금액
+     * @return 새 입찰자의 포인트 예치 ID와 반영 후 마감 시간
+     * @throws BidConflictException DB 의 현재가가 이미 입찰 금액 이상이거나 경매가 마감된 경우
+     * @throws InsufficientPointsException 입찰자의 포인트가 부족한 경우
+     */
+    @Transactional
+    public PersistedBid persistAcceptedBid(BidBook book, Long bidderId, int bidAmount) {
+        return persistAcceptedBids(book, bidderId, List.of(bidAmount));
+    }
+
+    /**
+     * 🔹 같은 입찰자가 같은 상품에 연속으로 낸 입찰을 한 트랜잭션으로 기록 (대량 입찰 group commit)
+     * - 상품 요약 컬럼 갱신, 이전 최고 입찰자 예치 반환, 새 예치는 마지막(가장 높은) 금액 기준으로 한 번만 수행
+     * - 입찰 내역은 시퀀스 식별자를 쓰므로 hibernate.jdbc.batch_size 단위의 배치 INSERT 로 저장됨
+     *
+     * @param book 입찰 장부 (갱신 전 상태)
+     * @param bidderId 입찰자 ID
+     * @param bidAmounts 입찰 금액 목록 (오름차순, 첫 금액은 장부의 현재가보다 높아야 함)
+     * @return 새 입찰자의 포인트 예치 ID와 반영 후 마감 시간
+     * @throws BidConflictException DB 의 현재가가 이미 마지막 입찰 금액 이상이거나 경매가 마감된 경우
+     * @throws InsufficientPointsException 입찰자의 포인트가 마지막 입찰 금액보다 부족한 경우
+     */
+    @Transactional
+    public PersistedBid persistAcceptedBids(BidBook book, Long bidderId, List<Integer> bidAmounts) {
+        Long auctionItemId = book.getAuctionItemId();
+        LocalDateTime bidTime = LocalDateTime.now();
+        int finalAmount = bidAmounts.get(bidAmounts.size() - 1);
+
+        // ✅ 상품 현재가 조건부 갱신 (WHERE current_price < :amount) - 동시성 검사 겸용, 마감 연장도 함께 반영
+        LocalDateTime endTime = softClosePolicy.endTimeAfterBid(book.getEndTime(), bidTime);
+        if (!applySummary(auctionItemId, bidderId, bidAmounts, bidTime, endTime)) {
+            throw new BidConflictException(auctionItemId, finalAmount);
+        }
+
+        // ✅ 이전 최고 입찰자 반환과 새 입찰자 예치는 사용자 ID 순서로 행을 잠금
+        //    (두 입찰자가 서로의 상품에서 동시에 상회하면 잠금 순서가 엇갈려 교착 상태가 됨)
+        Long previousBidderId = book.getHighestBidderId();
+        boolean releaseFirst = previousBidderId == null || previousBidderId <= bidderId;
+        if (releaseFirst) {
+            releasePrevious(book);
+        }
+
+        // ✅ 새로운 입찰자 포인트 예치 (부족하면 예외 발생 → 전체 롤백)
+        Long reservationId = pointLedgerService.hold(bidderId, auctionItemId, finalAmount);
+
+        if (!releaseFirst) {
+            releasePrevious(book);
+        }
+
+        saveBids(auctionItemId, bidderId, bidAmounts, bidTime);
+        userStatsService.recordBids(book.getSellerId(), bidderId, bidAmounts.size());
+        return new PersistedBid(reservationId, endTime);
+    }
+
+    /**
+     * 🔹 입찰 저널에 기록된 입찰을 반영 ({@link BidJournal} 의 반영 스레드와 시작 시 복구에서 호출)
+     * - 기록 시점의 입찰 시각과 마감 시간을 그대로 사용하므로 같은 기록을 다시 반영해도 결과가 같음
+     * - 이미 반영된 입찰(현재가가 입찰 금액 이상)과 마감 / 삭제된 상품의 입찰은 반영하지 않음
+     * - 직전 최고 입찰이 아직 저널에만 있던 경우 예치 ID 를 알 수 없으므로, 반영 시점에 상품의 예치 중인 내역을 찾아 반환
+     *
+     * @param entry 저널 기록
+     * @return 반영 여부 (false 면 아무것도 변경하지 않음)
+     * @throws InsufficientPointsException 입찰자의 포인트가 마지막 입찰 금액보다 부족한 경우
+     */
+    @Transactional
+    public boolean applyJournaledBids(BidJournal.Entry entry) {
+        Long auctionItemId = entry.auctionItemId();
+        if (!applySummary(auctionItemId, entry.bidderId(), entry.bidAmounts(), entry.bidTime(), entry.endTime())) {
+            return false;
+        }
+
+        if (entry.previousBidderId() != null) {
+            Long heldReservationId = pointLedgerService.findHeldReservationId(auctionItemId);
+            if (heldReservationId != null) {
+                pointLedgerService.release(heldReservationId);
+            } else if (entry.previousReservationId() == null) {
+                // 예치 도입 이전에 차감된 입찰은 금액을 그대로 적립하여 반환
+                pointLedgerService.credit(entry.previousBidderId(), entry.previousAmount(), auctionItemId);
+            }
+        }
+
+        pointLedgerService.hold(entry.bidderId(), auctionItemId, entry.finalAmount());
+        saveBids(auctionItemId, entry.bidderId(), entry.bidAmounts(), entry.bidTime());
+        userStatsService.recordBids(auctionItemRepository.findSellerId(auctionItemId).orElse(null),
+                entry.bidderId(), entry.bidAmounts().size());
+        return true;
+    }
+
+    /**
+     * 이전 최고 입찰자의 예치 반환 (있을 경우)
+     */
+    private void releasePrevious(BidBook book) {
+        if (book.getHighestReservationId() != null) {
+            pointLedgerService.release(book.getHighestReservationId());
+        } else if (book.getHighestBidderId() != null) {
+            // 예치 도입 이전에 차감된 입찰은 금액을 그대로 적립하여 반환
+            pointLedgerService.credit(book.getHighestBidderId(), book.getHighestAmount(), book.getAuctionItemId());
+        }
+    }
+
+    /**
+     * 상품 요약 컬럼 조건부 갱신 (현재가보다 높은 금액이고 진행 중인 경우에만 반영)
+     */
+    private boolean applySummary(Long auctionItemId, Long bidderId, List<Integer> bidAmounts,
+                                 LocalDateTime bidTime, LocalDateTime endTime) {
+        int finalAmount = bidAmounts.get(bidAmounts.size() - 1);
+        return auctionItemRepository.applyBid(auctionItemId, finalAmount, bidderId, bidTime, endTime,
+                bidAmounts.size()) > 0;
+    }
+
+    private void saveBids(Long auctionItemId, Long bidderId, List<Integer> bidAmounts, LocalDateTime bidTime) {
+        User bidder = userRepository.getReferenceById(bidderId);
+        AuctionItem auctionItem = auctionItemRepository.getReferenceById(auctionItemId);
+        List<Bid> bids = new ArrayList<>(bidAmounts.size());
+        for (int bidAmount : bidAmounts) {
+            bids.add(Bid.createBid(bidder, auctionItem, bidAmount, bidTime));
+        }
+        bidRepository.saveAll(bids);
+    }
+}
@@ -0,0 +1,51 @@
+package com.auction.service;
+
+/**
+ * 🧾 입찰 처리 결과
+ * - {@link BidEngine#placeBid} 의 반환값으로, 수락 여부와 거절 사유를 담음
+ */
+public class BidResult {
+
+    /**
+     * 🔹 입찰 처리 상태
+     */
+    public enum Status {
+        ACCEPTED,            // 입찰 수락
+        ITEM_NOT_FOUND,      // 경매 상품 없음
+        AUCTION_ENDED,       // 이미 마감된 경매
+        AMOUNT_TOO_LOW,      // 현재 최고가 이하 금액
+        INSUFFICIENT_POINTS, // 보유 포인트 부족
+        OUTBID               // 입찰은 기록되었으나 더 높은 자동 입찰에 즉시 상회됨
+    }
+
+    private final Status status;
+    private final int currentPrice;
+
+    private BidResult(Status status, int currentPrice) {
+        this.status = status;
+        this.currentPrice = currentPrice;
+    }
+
+    public static BidResult accepted(int amount) {
+        return new BidResult(Status.ACCEPTED, amount);
+    }
+
+    public static BidResult rejected(Status status, int currentPrice) {
+        return new BidResult(status, currentPrice);
+    }
+
+    public boolean isAccepted() {
+        return status == Status.ACCEPTED;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * 🔹 처리 직후의 현재 가격 (수락 시 입찰 금액, 거절 시 기존 최고가)
+     */
+    public int getCurrentPrice() {
+        return currentPrice;
+    }
+}
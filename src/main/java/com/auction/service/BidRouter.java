@@ -0,0 +1,225 @@
+package com.auction.service;
+
+import com.auction.domain.ClusterNode;
+import com.auction.domain.User;
+import com.auction.metrics.AuctionMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🧭 입찰 라우터
+ * - 입찰 라우팅(auction.cluster.enabled)을 사용하면 상품마다 담당 노드({@link ClusterMembership})의 입찰 엔진만 장부를 유지하고 입찰을 처리
+ *   - 이 노드가 담당하는 상품은 바로 {@link BidEngine} 으로 처리
+ *   - 다른 노드가 담당하는 상품은 담당 노드의 내부 API 로 전달하고 결과를 그대로 돌려줌
+ *   - 담당 노드가 바뀐 직후 잘못 전달되면(421) 구성원 목록을 다시 읽고 한 번 더 전달
+ * - 담당이 넘어가는 동안 두 노드가 잠시 같은 상품을 처리하더라도 입찰 기록은 조건부 UPDATE 라 최고가가 어긋나지 않음
+ * - 사용하지 않으면 모든 입찰을 이 노드의 입찰 엔진이 처리
+ */
+@Service
+public class BidRouter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BidRouter.class);
+
+    public static final String FORWARD_PATH = "/internal/cluster/bids";
+    public static final String SECRET_HEADER = "X-Cluster-Secret";
+    public static final int MISDIRECTED = 421;
+
+    private final BidEngine bidEngine;
+    private final ClusterMembership clusterMembership;
+    private final AuctionMetrics auctionMetrics;
+    private final RestClient restClient;
+    private final byte[] secret;
+
+    public BidRouter(BidEngine bidEngine,
+                     ClusterMembership clusterMembership,
+                     BidJournal bidJournal,
+                     AuctionMetrics auctionMetrics,
+                     @Value("${auction.cluster.secret:}") String secret,
+                     @Value("${auction.cluster.forward-timeout:5s}") Duration forwardTimeout) {
+        if (clusterMembership.isEnabled() && secret.isBlank()) {
+            throw new IllegalArgumentException("입찰 라우팅을 사용하려면 auction.cluster.secret 을 지정해야 합니다.");
+        }
+        if (clusterMembership.isEnabled() && bidJournal.isEnabled()) {
+            // ✅ 저널은 노드의 로컬 디스크에 있으므로 담당이 넘어가면 새 담당 노드가 반영되지 않은 입찰을 볼 수 없음
+            throw new IllegalStateException("입찰 라우팅과 입찰 저널은 함께 사용할 수 없습니다.");
+        }
+        this.bidEngine = bidEngine;
+        this.clusterMembership = clusterMembership;
+        this.auctionMetrics = auctionMetrics;
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(
+                HttpClient.newBuilder().connectTimeout(forwardTimeout).build());
+        requestFactory.setReadTimeout(forwardTimeout);
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    /**
+     * 노드 간에 전달하는 입찰 요청
+     *
+     * @param amounts 입찰 금액 (단건 / 자동 입찰은 1개, 묶음 입찰은 요청 순서대로)
+     */
+    public record ForwardedBid(Type type, Long bidderId, Long auctionItemId, List<Integer> amounts) {
+
+        public enum Type {
+            SINGLE, // 일반 입찰
+            PROXY,  // 자동 입찰(최대 입찰가) 등록
+            BATCH   // 같은 상품에 대한 묶음 입찰
+        }
+    }
+
+    /**
+     * 노드 간에 전달하는 입찰 처리 결과
+     */
+    public record ForwardedResult(BidResult.Status status, int currentPrice) {
+
+        static ForwardedResult of(BidResult result) {
+            return new ForwardedResult(result.getStatus(), result.getCurrentPrice());
+        }
+
+        BidResult toBidResult() {
+            return (status == BidResult.Status.ACCEPTED)
+                    ? BidResult.accepted(currentPrice)
+                    : BidResult.rejected(status, currentPrice);
+        }
+    }
+
+    /**
+     * 🔹 입찰 처리 ({@link BidEngine#placeBid} 참고)
+     *
+     * @throws IllegalStateException 담당 노드에 전달하지 못한 경우
+     */
+    public BidResult placeBid(User bidder, Long auctionItemId, int bidAmount) {
+        if (clusterMembership.isLocal(auctionItemId)) {
+            return bidEngine.placeBid(bidder, auctionItemId, bidAmount);
+        }
+        return forward(bidder, new ForwardedBid(ForwardedBid.Type.SINGLE, bidder.getId(), auctionItemId,
+                List.of(bidAmount))).get(0);
+    }
+
+    /**
+     * 🔹 자동 입찰 등록 ({@link BidEngine#placeProxyBid} 참고)
+     *
+     * @throws IllegalArgumentException 최대 입찰가가 올바르지 않은 경우
+     * @throws IllegalStateException 담당 노드에 전달하지 못한 경우
+     */
+    public BidResult placeProxyBid(User bidder, Long auctionItemId, int maxAmount) {
+        if (clusterMembership.isLocal(auctionItemId)) {
+            return bidEngine.placeProxyBid(bidder, auctionItemId, maxAmount);
+        }
+        return forward(bidder, new ForwardedBid(ForwardedBid.Type.PROXY, bidder.getId(), auctionItemId,
+                List.of(maxAmount))).get(0);
+    }
+
+    /**
+     * 🔹 같은 상품에 대한 묶음 입찰 ({@link BidEngine#placeBids} 참고, 담당 노드로는 요청 1건으로 전달)
+     *
+     * @throws IllegalStateException 담당 노드에 전달하지 못한 경우
+     */
+    public List<BidResult> placeBids(User bidder, Long auctionItemId, List<Integer> bidAmounts) {
+        if (clusterMembership.isLocal(auctionItemId)) {
+            return bidEngine.placeBids(bidder, auctionItemId, bidAmounts);
+        }
+        return forward(bidder, new ForwardedBid(ForwardedBid.Type.BATCH, bidder.getId(), auctionItemId, bidAmounts));
+    }
+
+    /**
+     * 🔹 다른 노드에서 전달된 입찰을 이 노드의 입찰 엔진으로 처리 (다시 전달하지 않음)
+     *
+     * @return 입찰 금액 순서대로의 처리 결과
+     * @throws IllegalArgumentException 요청이 올바르지 않은 경우
+     */
+    public List<ForwardedResult> placeForwarded(User bidder, ForwardedBid bid) {
+        if (bid.type() == null || bid.auctionItemId() == null || bid.amounts() == null || bid.amounts().isEmpty()
+                || (bid.type() != ForwardedBid.Type.BATCH && bid.amounts().size() != 1)) {
+            throw new IllegalArgumentException("전달된 입찰의 형식이 잘못되었습니다.");
+        }
+        List<BidResult> results = switch (bid.type()) {
+            case SINGLE -> List.of(bidEngine.placeBid(bidder, bid.auctionItemId(), bid.amounts().get(0)));
+            case PROXY -> List.of(bidEngine.placeProxyBid(bidder, bid.auctionItemId(), bid.amounts().get(0)));
+            case BATCH -> bidEngine.placeBids(bidder, bid.auctionItemId(), bid.amounts());
+        };
+        return results.stream().map(ForwardedResult::of).toList();
+    }
+
+    /**
+     * 🔹 다른 노드가 보낸 요청인지 확인 (공유 비밀 값 비교)
+     */
+    public boolean isTrusted(String presentedSecret) {
+        return clusterMembership.isEnabled() && presentedSecret != null
+                && MessageDigest.isEqual(secret, presentedSecret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<BidResult> forward(User bidder, ForwardedBid bid) {
+        List<BidResult> results = send(bid);
+        if (results == null) {
+            // ✅ 담당 노드가 바뀌었는데 이 노드의 구성원 목록이 아직 갱신되지 않음
+            clusterMembership.refresh();
+            if (clusterMembership.isLocal(bid.auctionItemId())) {
+                return placeForwarded(bidder, bid).stream().map(ForwardedResult::toBidResult).toList();
+            }
+            results = send(bid);
+        }
+        if (results == null) {
+            throw new IllegalStateException("입찰 담당 노드를 확인하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return results;
+    }
+
+    /**
+     * 담당 노드로 입찰 전달 (담당 노드가 아니라고 응답하면 null)
+     */
+    private List<BidResult> send(ForwardedBid bid) {
+        ClusterNode owner = clusterMembership.ownerOf(bid.auctionItemId());
+        try {
+            ForwardedResult[] results = restClient.post()
+                    .uri(owner.getBaseUrl() + FORWARD_PATH)
+                    .header(SECRET_HEADER, new String(secret, StandardCharsets.UTF_8))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(bid)
+                    .exchange((request, response) -> {
+                        HttpStatusCode status = response.getStatusCode();
+                        if (status.value() == MISDIRECTED) {
+                            return null;
+                        }
+                        if (status.value() == 400) {
+                            Map<?, ?> error = response.bodyTo(Map.class);
+                            throw new IllegalArgumentException(String.valueOf((error != null) ? error.get("error") : null));
+                        }
+                        if (!status.is2xxSuccessful()) {
+                            throw new IllegalStateException("입찰 담당 노드 응답 오류: " + status.value());
+                        }
+                        return response.bodyTo(ForwardedResult[].class);
+                    });
+            if (results == null) {
+                auctionMetrics.recordBidForward("misdirected");
+                return null;
+            }
+            auctionMetrics.recordBidForward("forwarded");
+            return Arrays.stream(results).map(ForwardedResult::toBidResult).toList();
+        } catch (IllegalArgumentException e) {
+            auctionMetrics.recordBidForward("rejected");
+            throw e;
+        } catch (IllegalStateException | RestClientException e) {
+            auctionMetrics.recordBidForward("failed");
+            logger.warn("❌ 입찰 전달 실패 - 상품 ID: {}, 담당 노드: {}, 사유: {}",
+                    bid.auctionItemId(), owner.getNodeId(), e.getMessage());
+            throw new IllegalStateException("입찰 담당 노드에 연결할 수 없습니다. 잠시 후 다시 시도해 주세요.", e);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.auction.service;
+
+import com.auction.config.WorkerThreads;
+import com.auction.domain.User;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * 📦 대량 입찰 처리 서비스 (봇 / 제휴사용 API)
+ * - 요청 본문(JSON 배열 또는 줄 단위 JSON)을 읽어 경매 상품별로 나눈 뒤, 상품마다 하나의 작업으로 병렬 처리
+ * - 같은 상품의 입찰은 {@link BidEngine#placeBids} 에서 장부 락 한 번, 트랜잭션 한 번으로 기록 (group commit)
+ * - 다른 노드가 담당하는 상품의 입찰은 {@link BidRouter} 가 상품별로 요청 1건에 묶어 담당 노드로 전달
+ * - 상품별 처리가 끝나는 대로 결과를 넘겨주므로 전체 처리가 끝나기 전에 응답을 내보낼 수 있음
+ * - 응답을 내보내기 시작한 뒤에는 오류 응답으로 바꿀 수 없으므로, 상품 하나의 처리가 실패하면 그 상품의 입찰마다 오류 결과를 넘기고 계속 처리
+ */
+@Service
+public class BulkBidService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkBidService.class);
+
+    private final BidRouter bidRouter;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor bidExecutor;
+    private final int maxBids;
+
+    public BulkBidService(BidRouter bidRouter,
+                          ObjectMapper objectMapper,
+                          WorkerThreads workerThreads,
+                          @Value("${auction.bulk.workers:4}") int workers,
+                          @Value("${auction.bulk.max-bids:5000}") int maxBids) {
+        this.bidRouter = bidRouter;
+        this.objectMapper = objectMapper;
+        this.maxBids = maxBids;
+        this.bidExecutor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers * 4),
+                workerThreads.factory("auction-bulk-bid-worker"),
+                new ThreadPoolExecutor.CallerRunsPolicy()); // 작업 풀이 가득 차면 요청 스레드가 직접 처리 (역압)
+    }
+
+    /**
+     * 요청 본문의 입찰 1건
+     */
+    public record BulkBidRequest(Long auctionItemId, Integer bidAmount) {
+    }
+
+    /**
+     * 검증된 입찰 1건
+     *
+     * @param index 요청 본문에서의 순서 (0부터)
+     */
+    public record BulkBid(int index, Long auctionItemId, int bidAmount) {
+    }
+
+    /**
+     * 입찰 1건의 처리 결과
+     *
+     * @param index 요청 본문에서의 순서 (0부터)
+     * @param status 처리 결과 (처리하지 못했으면 null)
+     * @param currentPrice 처리 직후의 현재 가격 (처리하지 못했으면 null)
+     * @param error 처리하지 못한 사유 (처리했으면 null)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record BulkBidResult(int index, Long auctionItemId, int bidAmount,
+                                BidResult.Status status, Integer currentPrice, String error) {
+
+        static BulkBidResult failed(BulkBid bid, String error) {
+            return new BulkBidResult(bid.index(), bid.auctionItemId(), bid.bidAmount(), null, null, error);
+        }
+    }
+
+    /**
+     * 🔹 요청 본문을 한 건씩 읽어 검증
+     *
+     * @param body 요청 본문 (JSON 배열 또는 줄 단위 JSON)
+     * @return 입력 순서대로의 입찰 목록
+     * @throws IllegalArgumentException 형식이 잘못되었거나 입찰 수가 한도를 넘은 경우
+     */
+    public List<BulkBid> read(InputStream body) {
+        List<BulkBid> bids = new ArrayList<>();
+        try (MappingIterator<BulkBidRequest> iterator = objectMapper.readerFor(BulkBidRequest.class).readValues(body)) {
+            while (iterator.hasNextValue()) {
+                BulkBidRequest request = iterator.nextValue();
+                if (bids.size() == maxBids) {
+                    throw new IllegalArgumentException("한 번에 보낼 수 있는 입찰은 최대 " + maxBids + "건입니다.");
+                }
+                if (request == null || request.auctionItemId() == null
+                        || request.bidAmount() == null || request.bidAmount() <= 0) {
+                    throw new IllegalArgumentException((bids.size() + 1) + "번째 입찰의 형식이 잘못되었습니다.");
+                }
+                bids.add(new BulkBid(bids.size(), request.auctionItemId(), request.bidAmount()));
+            }
+        } catch (IOException e) {
+            logger.debug("대량 입찰 요청 본문 해석 실패: {}", e.getMessage());
+            throw new IllegalArgumentException("요청 본문을 읽을 수 없습니다. JSON 배열 또는 줄 단위 JSON 이어야 합니다.");
+        }
+        if (bids.isEmpty()) {
+            throw new IllegalArgumentException("입찰이 없습니다.");
+        }
+        return bids;
+    }
+
+    /**
+     * 🔹 입찰을 상품별로 나누어 병렬 처리하고, 상품 하나가 끝날 때마다 결과를 전달
+     * - 같은 상품의 입찰은 요청 본문의 순서대로 처리됨
+     * - sink 는 호출한 스레드에서만 실행됨
+     *
+     * @param bidder 입찰자
+     * @param bids 입찰 목록
+     * @param sink 상품 하나의 처리 결과를 받을 함수
+     */
+    public void process(User bidder, List<BulkBid> bids, Consumer<List<BulkBidResult>> sink) {
+        Map<Long, List<BulkBid>> byItem = new LinkedHashMap<>();
+        for (BulkBid bid : bids) {
+            byItem.computeIfAbsent(bid.auctionItemId(), id -> new ArrayList<>()).add(bid);
+        }
+
+        CompletionService<List<BulkBidResult>> completion = new ExecutorCompletionService<>(bidExecutor);
+        byItem.forEach((auctionItemId, itemBids) -> completion.submit(() -> placeItemBids(bidder, auctionItemId, itemBids)));
+
+        for (int remaining = byItem.size(); remaining > 0; remaining--) {
+            try {
+                sink.accept(completion.take().get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("대량 입찰 처리가 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("대량 입찰 처리 실패", e.getCause());
+            }
+        }
+        logger.info("📦 대량 입찰 처리 완료 - 입찰자 ID: {}, 입찰 {}건, 상품 {}개", bidder.getId(), bids.size(), byItem.size());
+    }
+
+    private List<BulkBidResult> placeItemBids(User bidder, Long auctionItemId, List<BulkBid> itemBids) {
+        List<BidResult> results;
+        try {
+            results = bidRouter.placeBids(bidder, auctionItemId, itemBids.stream().map(BulkBid::bidAmount).toList());
+        } catch (RuntimeException e) {
+            // ✅ 담당 노드 연결 실패, DB 오류 등 - 이 상품의 입찰만 실패로 알리고 나머지 상품은 계속 처리
+            logger.warn("❌ 대량 입찰 상품 처리 실패 - 입찰자 ID: {}, 상품 ID: {}, 입찰 {}건, 사유: {}",
+                    bidder.getId(), auctionItemId, itemBids.size(), e.getMessage());
+            String error = (e instanceof IllegalArgumentException || e instanceof IllegalStateException)
+                    ? e.getMessage() : "입찰을 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.";
+            return itemBids.stream().map(bid -> BulkBidResult.failed(bid, error)).toList();
+        }
+        List<BulkBidResult> itemResults = new ArrayList<>(itemBids.size());
+        for (int i = 0; i < itemBids.size(); i++) {
+            BulkBid bid = itemBids.get(i);
+            BidResult result = results.get(i);
+            itemResults.add(new BulkBidResult(bid.index(), auctionItemId, bid.bidAmount(),
+                    result.getStatus(), result.getCurrentPrice(), null));
+        }
+        return itemResults;
+    }
+
+    @PreDestroy
+    public void stop() {
+        bidExecutor.shutdown();
+    }
+}
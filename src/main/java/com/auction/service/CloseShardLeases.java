@@ -0,0 +1,224 @@
+package com.auction.service;
+
+import com.auction.domain.CloseShardLease;
+import com.auction.repository.CloseShardLeaseRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 🧩 마감 처리 샤드 임대
+ * - 여러 인스턴스가 같은 DB 를 쓸 때, 경매 상품 ID 를 샤드(ID mod 샤드 수)로 나누고 DB 임대로 샤드마다 한 노드만 마감을 처리
+ * - 노드는 주기적으로 생존 신호({@link ClusterMembership})를 남기고 임대를 연장하며, 살아 있는 노드 수로 나눈 몫(올림)만큼만 샤드를 가짐
+ *   - 노드가 추가되면 기존 노드가 몫을 넘는 샤드를 반납하고 새 노드가 가져감
+ *   - 노드가 멈추면 임대가 만료된 뒤 남은 노드가 가져감
+ * - 임대가 만료된 노드가 잠시 마감을 계속하더라도 마감은 버전 조건부 UPDATE 라 한 번만 반영됨 (중복 작업만 발생)
+ * - 모든 노드의 샤드 수 설정이 같아야 하며, 노드 간 시계 오차는 임대 만료 시간보다 충분히 작아야 함
+ * - 사용하지 않으면(auction.close.sharding.enabled=false) 모든 상품을 이 노드가 담당
+ */
+@Component
+public class CloseShardLeases {
+
+    private static final Logger logger = LoggerFactory.getLogger(CloseShardLeases.class);
+
+    private final CloseShardLeaseRepository leaseRepository;
+    private final ClusterMembership clusterMembership;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final boolean enabled;
+    private final String nodeId;
+    private final int shardCount;
+    private final Duration leaseTtl;
+
+    private volatile Set<Integer> ownedShards = Set.of();
+    private volatile boolean shardsCreated;
+
+    public CloseShardLeases(CloseShardLeaseRepository leaseRepository,
+                            ClusterMembership clusterMembership,
+                            TransactionTemplate transactionTemplate,
+                            Clock clock,
+                            MeterRegistry meterRegistry,
+                            @Value("${auction.close.sharding.enabled:false}") boolean enabled,
+                            @Value("${auction.close.sharding.shards:64}") int shardCount,
+                            @Value("${auction.close.sharding.lease-ttl:30s}") Duration leaseTtl) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("auction.close.sharding.shards 는 1 이상이어야 합니다.");
+        }
+        this.leaseRepository = leaseRepository;
+        this.clusterMembership = clusterMembership;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.nodeId = clusterMembership.getNodeId();
+        this.shardCount = shardCount;
+        this.leaseTtl = leaseTtl;
+
+        if (enabled) {
+            Gauge.builder("auction.close.shards.owned", this, leases -> leases.ownedShards.size())
+                    .description("이 노드가 임대 중인 마감 처리 샤드 수")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 🔹 샤드 임대 사용 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 🔹 샤드 수
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * 🔹 경매 상품이 속한 샤드 번호 (DB 조회 조건 mod(id, 샤드 수) 와 같은 값)
+     */
+    public int shardOf(Long auctionItemId) {
+        return (int) Math.floorMod(auctionItemId, (long) shardCount);
+    }
+
+    /**
+     * 🔹 이 노드가 경매 상품의 마감을 담당하는지 여부
+     */
+    public boolean owns(Long auctionItemId) {
+        return !enabled || ownedShards.contains(shardOf(auctionItemId));
+    }
+
+    /**
+     * 🔹 이 노드가 임대 중인 샤드 번호
+     */
+    public Set<Integer> getOwnedShards() {
+        return ownedShards;
+    }
+
+    /**
+     * 🔹 생존 신호 기록, 임대 연장, 몫에 맞춰 샤드 반납 / 임대
+     * - 임대 만료 시간보다 충분히 짧은 주기로 호출해야 함 ({@link AuctionCloseScheduler} 가 주기적으로 호출)
+     * - DB 오류로 처리하지 못하면 담당 샤드를 모두 비움 (다른 노드가 만료 후 가져감)
+     *
+     * @return 이전 호출 이후 새로 임대 / 반납한 샤드
+     */
+    public Rebalance rebalance() {
+        if (!enabled) {
+            return Rebalance.NONE;
+        }
+
+        Set<Integer> previous = ownedShards;
+        Set<Integer> current;
+        try {
+            createShards();
+            current = transactionTemplate.execute(status -> rebalanceOwnedShards(LocalDateTime.now(clock)));
+        } catch (DataAccessException e) {
+            logger.error("❌ 마감 샤드 임대 갱신 실패 - 담당 샤드 {}개를 비움: {}", previous.size(), e.getMessage(), e);
+            current = Set.of();
+        }
+        ownedShards = current;
+
+        Set<Integer> acquired = new TreeSet<>(current);
+        acquired.removeAll(previous);
+        Set<Integer> released = new TreeSet<>(previous);
+        released.removeAll(current);
+        if (!acquired.isEmpty() || !released.isEmpty()) {
+            logger.info("🧩 마감 샤드 재분배 - 노드: {}, 담당: {}개, 임대: {}, 반납: {}",
+                    nodeId, current.size(), acquired, released);
+        }
+        return new Rebalance(acquired, released);
+    }
+
+    /**
+     * 🔹 종료 시 임대를 모두 반납 (다른 노드가 만료를 기다리지 않고 바로 가져감)
+     */
+    @PreDestroy
+    public void stop() {
+        if (!enabled) {
+            return;
+        }
+        ownedShards = Set.of();
+        try {
+            transactionTemplate.executeWithoutResult(status -> leaseRepository.releaseAll(nodeId, LocalDateTime.now(clock)));
+        } catch (DataAccessException e) {
+            logger.warn("⚠ 마감 샤드 임대 반납 실패 - 만료 후 다른 노드가 가져감: {}", e.getMessage());
+        }
+    }
+
+    private Set<Integer> rebalanceOwnedShards(LocalDateTime now) {
+        LocalDateTime expiresAt = now.plus(leaseTtl);
+
+        long liveNodes = clusterMembership.heartbeat();
+        int fairShare = (int) ((shardCount + liveNodes - 1) / liveNodes);
+
+        leaseRepository.renew(nodeId, now, expiresAt);
+        List<Integer> owned = new ArrayList<>(leaseRepository.findOwnedShardIds(nodeId, now, shardCount));
+
+        if (owned.size() > fairShare) {
+            // ✅ 몫을 넘는 샤드를 반납하여 새로 추가된 노드가 가져가게 함
+            List<Integer> surplus = owned.subList(fairShare, owned.size());
+            leaseRepository.release(nodeId, List.copyOf(surplus), now);
+            surplus.clear();
+        } else if (owned.size() < fairShare) {
+            // ✅ 샤드 번호 순으로 임대하여 여러 노드가 동시에 임대해도 행 잠금 순서가 같음
+            for (Integer shardId : leaseRepository.findClaimableShardIds(now, shardCount)) {
+                if (owned.size() >= fairShare) {
+                    break;
+                }
+                if (leaseRepository.claim(shardId, nodeId, now, expiresAt) == 1) {
+                    owned.add(shardId);
+                }
+            }
+        }
+        return Set.copyOf(owned);
+    }
+
+    /**
+     * 설정된 샤드 수만큼 임대 행 생성 (처음 한 번, 다른 노드가 동시에 만들면 무시)
+     * - 없는 행만 INSERT 하므로 그 사이 다른 노드가 만들고 임대한 행을 덮어쓰지 않음
+     */
+    private void createShards() {
+        if (shardsCreated) {
+            return;
+        }
+        Set<Integer> existing = new HashSet<>();
+        leaseRepository.findAll().forEach(lease -> existing.add(lease.getShardId()));
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (int shardId = 0; shardId < shardCount; shardId++) {
+            if (existing.contains(shardId)) {
+                continue;
+            }
+            int id = shardId;
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        leaseRepository.saveAndFlush(CloseShardLease.vacant(id, now)));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 먼저 만듦
+            }
+        }
+        shardsCreated = true;
+    }
+
+    /**
+     * 샤드 재분배 결과
+     *
+     * @param acquired 새로 임대한 샤드
+     * @param released 반납하거나 잃은 샤드
+     */
+    public record Rebalance(Set<Integer> acquired, Set<Integer> released) {
+
+        static final Rebalance NONE = new Rebalance(Set.of(), Set.of());
+    }
+}
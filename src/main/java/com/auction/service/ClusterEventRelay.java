@@ -0,0 +1,251 @@
+package com.auction.service;
+
+import com.auction.config.WorkerThreads;
+import com.auction.domain.ClusterNode;
+import com.auction.event.AuctionClosedEvent;
+import com.auction.event.AuctionItemCreatedEvent;
+import com.auction.event.AuctionItemDeletedEvent;
+import com.auction.event.BidAcceptedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 📡 클러스터 이벤트 전달
+ * - 입찰 라우팅(auction.cluster.enabled)을 사용하면 입찰은 담당 노드에서, 마감은 샤드를 임대한 노드에서, 상품 등록 / 삭제는 요청을 받은 노드에서만
+ *   이벤트가 발행되므로, 다른 노드의 검색 색인 / 홈 피드 / 실시간 시세 구독은 이 이벤트를 받지 못해 오래된 상태로 남음
+ * - 이 노드에서 발행된 입찰 수락 / 상품 등록 / 마감 / 삭제 이벤트를 모아 다른 구성원의 내부 API 로 보내고,
+ *   받은 노드는 같은 이벤트를 로컬에 다시 발행 (다시 전달하지 않음)
+ *   - 트랜잭션 전 단계(BEFORE_COMMIT) 리스너는 트랜잭션 없이 다시 발행된 이벤트를 받지 않으므로 통계 등은 중복 반영되지 않음
+ * - 입찰 경로를 막지 않도록 큐에 넣고 별도 스레드가 묶어서 전송하며, 큐가 가득 차거나 전송에 실패한 이벤트는 버림
+ *   (받지 못한 노드의 메모리 상태는 다음 이벤트나 재시작 시 적재로 맞춰짐)
+ * - 한 노드가 보낸 이벤트는 보낸 순서대로 적용되며, 같은 상품의 입찰은 담당 노드 한 곳에서만 발행되므로 순서가 유지됨
+ */
+@Component
+public class ClusterEventRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterEventRelay.class);
+
+    public static final String EVENTS_PATH = "/internal/cluster/events";
+
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int MAX_BATCH = 500;
+
+    private final ClusterMembership clusterMembership;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RestClient restClient;
+    private final String secret;
+    private final boolean enabled;
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    private final ThreadLocal<Boolean> replaying = ThreadLocal.withInitial(() -> false);
+    private final Thread sender;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter droppedCounter;
+
+    public ClusterEventRelay(ClusterMembership clusterMembership,
+                             ApplicationEventPublisher eventPublisher,
+                             WorkerThreads workerThreads,
+                             MeterRegistry meterRegistry,
+                             @Value("${auction.cluster.secret:}") String secret,
+                             @Value("${auction.cluster.forward-timeout:5s}") Duration forwardTimeout) {
+        this.clusterMembership = clusterMembership;
+        this.eventPublisher = eventPublisher;
+        this.secret = secret;
+        this.enabled = clusterMembership.isEnabled();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(
+                HttpClient.newBuilder().connectTimeout(forwardTimeout).build());
+        requestFactory.setReadTimeout(forwardTimeout);
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+
+        this.sender = workerThreads.factory("cluster-event-relay").newThread(this::sendLoop);
+        this.sender.setDaemon(true);
+
+        this.sentCounter = relayCounter(meterRegistry, "sent");
+        this.failedCounter = relayCounter(meterRegistry, "failed");
+        this.droppedCounter = relayCounter(meterRegistry, "dropped");
+    }
+
+    /**
+     * 노드 간에 전달하는 이벤트 묶음 (적용 순서: 등록 → 입찰 → 마감 → 삭제)
+     *
+     * @param sourceNodeId 보낸 노드 ID
+     */
+    public record RelayedEvents(String sourceNodeId,
+                                List<AuctionItemCreatedEvent> created,
+                                List<BidAcceptedEvent> bids,
+                                List<AuctionClosedEvent> closed,
+                                List<AuctionItemDeletedEvent> deleted) {
+    }
+
+    /**
+     * 🔹 입찰 라우팅을 사용할 때만 전송 스레드 시작
+     */
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            sender.start();
+        }
+    }
+
+    /**
+     * 🔹 종료 시 전송 스레드 중지 (남은 이벤트는 버림)
+     */
+    @PreDestroy
+    public void stop() {
+        sender.interrupt();
+    }
+
+    /**
+     * 🔹 입찰 수락 시 전달 (입찰 담당 노드에서 발행)
+     */
+    @EventListener
+    public void onBidAccepted(BidAcceptedEvent event) {
+        enqueue(event);
+    }
+
+    /**
+     * 🔹 상품 등록 커밋 후 전달
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionItemCreated(AuctionItemCreatedEvent event) {
+        enqueue(event);
+    }
+
+    /**
+     * 🔹 마감 커밋 후 전달 (마감 샤드를 임대한 노드에서 발행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionClosed(AuctionClosedEvent event) {
+        enqueue(event);
+    }
+
+    /**
+     * 🔹 상품 삭제 커밋 후 전달
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionItemDeleted(AuctionItemDeletedEvent event) {
+        enqueue(event);
+    }
+
+    /**
+     * 🔹 다른 노드가 보낸 이벤트를 이 노드에 다시 발행 (다시 전달하지 않음)
+     *
+     * @return 발행한 이벤트 수
+     */
+    public int replay(RelayedEvents events) {
+        if (clusterMembership.getNodeId().equals(events.sourceNodeId())) {
+            return 0;
+        }
+        List<Object> ordered = new ArrayList<>();
+        addAll(ordered, events.created());
+        addAll(ordered, events.bids());
+        addAll(ordered, events.closed());
+        addAll(ordered, events.deleted());
+
+        replaying.set(true);
+        try {
+            ordered.forEach(eventPublisher::publishEvent);
+        } finally {
+            replaying.remove();
+        }
+        return ordered.size();
+    }
+
+    private void enqueue(Object event) {
+        if (!enabled || replaying.get()) {
+            return;
+        }
+        if (!queue.offer(event)) {
+            droppedCounter.increment();
+        }
+    }
+
+    /**
+     * 전송 스레드: 쌓인 이벤트를 최대 MAX_BATCH 건씩 묶어 모든 구성원에게 전송
+     */
+    private void sendLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<Object> batch = new ArrayList<>(MAX_BATCH);
+                batch.add(queue.take());
+                queue.drainTo(batch, MAX_BATCH - 1);
+                send(toRelayedEvents(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                logger.error("❌ 클러스터 이벤트 전송 스레드 오류: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void send(RelayedEvents events) {
+        int size = events.created().size() + events.bids().size() + events.closed().size() + events.deleted().size();
+        for (ClusterNode peer : clusterMembership.getPeers()) {
+            try {
+                restClient.post()
+                        .uri(peer.getBaseUrl() + EVENTS_PATH)
+                        .header(BidRouter.SECRET_HEADER, secret)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(events)
+                        .retrieve()
+                        .toBodilessEntity();
+                sentCounter.increment(size);
+            } catch (RestClientException e) {
+                failedCounter.increment(size);
+                logger.warn("⚠ 클러스터 이벤트 전달 실패 - 노드: {}, 이벤트: {}건, 사유: {}",
+                        peer.getNodeId(), size, e.getMessage());
+            }
+        }
+    }
+
+    private RelayedEvents toRelayedEvents(List<Object> batch) {
+        List<AuctionItemCreatedEvent> created = new ArrayList<>();
+        List<BidAcceptedEvent> bids = new ArrayList<>();
+        List<AuctionClosedEvent> closed = new ArrayList<>();
+        List<AuctionItemDeletedEvent> deleted = new ArrayList<>();
+        for (Object event : batch) {
+            switch (event) {
+                case AuctionItemCreatedEvent e -> created.add(e);
+                case BidAcceptedEvent e -> bids.add(e);
+                case AuctionClosedEvent e -> closed.add(e);
+                case AuctionItemDeletedEvent e -> deleted.add(e);
+                default -> throw new IllegalStateException("전달할 수 없는 이벤트: " + event);
+            }
+        }
+        return new RelayedEvents(clusterMembership.getNodeId(), created, bids, closed, deleted);
+    }
+
+    private static void addAll(List<Object> target, List<?> events) {
+        if (events != null) {
+            target.addAll(events);
+        }
+    }
+
+    private static Counter relayCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auction.cluster.events")
+                .tag("result", result)
+                .description("다른 노드에 전달한 이벤트 수 (sent: 노드별 전송, failed: 노드별 전송 실패, dropped: 큐가 가득 차 버림)")
+                .register(meterRegistry);
+    }
+}
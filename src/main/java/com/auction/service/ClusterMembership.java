@@ -0,0 +1,203 @@
+package com.auction.service;
+
+import com.auction.domain.ClusterNode;
+import com.auction.event.ClusterMembershipChangedEvent;
+import com.auction.repository.ClusterNodeRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 🖥️ 클러스터 구성원 관리
+ * - 같은 DB 를 쓰는 노드들이 cluster_node 테이블에 생존 신호를 남기고, 만료 시간 안에 신호를 보낸 노드를 구성원으로 봄
+ * - 입찰 라우팅(auction.cluster.enabled)을 사용하면 구성원으로 일관된 해시 링을 만들어 상품마다 담당 노드를 정함
+ *   - 구성원이 바뀌면 {@link ClusterMembershipChangedEvent} 발행
+ *   - 사용하지 않으면 모든 상품을 이 노드가 담당
+ * - 마감 샤드 임대({@link CloseShardLeases})도 생존 신호로 구성원 수를 셈
+ * - 구성원 주소로 입찰 / 마감 이벤트를 다른 노드에 전달 ({@link ClusterEventRelay})
+ */
+@Component
+public class ClusterMembership {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterMembership.class);
+
+    private static final int STALE_NODE_TTL_MULTIPLIER = 10; // 생존 신호가 끊긴 뒤 노드 행을 지우기까지의 배수
+
+    private final ClusterNodeRepository nodeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final boolean enabled;
+    private final String nodeId;
+    private final String baseUrl;
+    private final Duration nodeTtl;
+    private final int virtualNodes;
+
+    private volatile Map<String, ClusterNode> members = Map.of();
+    private volatile ConsistentHashRing ring;
+    private volatile boolean registered;
+
+    public ClusterMembership(ClusterNodeRepository nodeRepository,
+                             TransactionTemplate transactionTemplate,
+                             ApplicationEventPublisher eventPublisher,
+                             Clock clock,
+                             @Value("${auction.cluster.enabled:false}") boolean enabled,
+                             @Value("${auction.node-id:}") String nodeId,
+                             @Value("${auction.cluster.base-url:}") String baseUrl,
+                             @Value("${auction.cluster.node-ttl:30s}") Duration nodeTtl,
+                             @Value("${auction.cluster.virtual-nodes:128}") int virtualNodes) {
+        if (enabled && baseUrl.isBlank()) {
+            throw new IllegalArgumentException("입찰 라우팅을 사용하려면 auction.cluster.base-url 을 지정해야 합니다.");
+        }
+        this.nodeRepository = nodeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.baseUrl = baseUrl.isBlank() ? null : baseUrl;
+        this.nodeTtl = nodeTtl;
+        this.virtualNodes = virtualNodes;
+        this.ring = ConsistentHashRing.of(List.of(this.nodeId), virtualNodes);
+    }
+
+    /**
+     * 🔹 입찰 라우팅 사용 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 🔹 노드 ID (auction.node-id, 지정하지 않으면 호스트명-PID)
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 🔹 이 노드가 경매 상품의 입찰을 담당하는지 여부
+     */
+    public boolean isLocal(Long auctionItemId) {
+        return !enabled || nodeId.equals(ring.ownerOf(auctionItemId));
+    }
+
+    /**
+     * 🔹 경매 상품의 입찰을 담당하는 노드
+     */
+    public ClusterNode ownerOf(Long auctionItemId) {
+        String owner = ring.ownerOf(auctionItemId);
+        ClusterNode node = members.get(owner);
+        if (node == null) {
+            throw new IllegalStateException("담당 노드 정보를 찾을 수 없습니다. 노드: " + owner);
+        }
+        return node;
+    }
+
+    /**
+     * 🔹 이 노드를 제외한 구성원 (입찰 라우팅을 사용할 때만, 주소를 알리지 않은 노드는 제외)
+     */
+    public List<ClusterNode> getPeers() {
+        return members.values().stream().filter(node -> !nodeId.equals(node.getNodeId())).toList();
+    }
+
+    /**
+     * 🔹 시작 시 구성원으로 등록하고 구성원 목록을 읽음 (요청을 받기 전에 담당 노드를 알 수 있도록)
+     */
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            heartbeat();
+        }
+    }
+
+    /**
+     * 🔹 주기적으로 생존 신호를 남기고 구성원 목록 갱신 (입찰 라우팅을 사용할 때만)
+     */
+    @Scheduled(fixedDelayString = "${auction.cluster.heartbeat-interval-ms:10000}",
+            initialDelayString = "${auction.cluster.heartbeat-interval-ms:10000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            heartbeat();
+        } catch (DataAccessException e) {
+            logger.error("❌ 클러스터 생존 신호 기록 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 🔹 생존 신호를 남기고 현재 구성원 목록을 읽음 (호출한 트랜잭션이 있으면 함께 처리)
+     *
+     * @return 살아 있는 노드 수 (이 노드 포함, 1 이상)
+     */
+    public int heartbeat() {
+        List<ClusterNode> live = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now(clock);
+            if (nodeRepository.heartbeat(nodeId, baseUrl, now) == 0) {
+                nodeRepository.save(new ClusterNode(nodeId, baseUrl, now));
+            }
+            nodeRepository.deleteStale(now.minus(nodeTtl.multipliedBy(STALE_NODE_TTL_MULTIPLIER)));
+            return nodeRepository.findByHeartbeatAtAfterOrderByNodeId(now.minus(nodeTtl));
+        });
+        registered = true;
+        if (enabled) {
+            updateRing(live);
+        }
+        return Math.max(1, live.size());
+    }
+
+    /**
+     * 🔹 종료 시 구성원에서 빠짐 (다른 노드가 만료를 기다리지 않고 담당을 나눠 가짐)
+     */
+    @PreDestroy
+    public void stop() {
+        if (!registered) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> nodeRepository.deleteById(nodeId));
+        } catch (DataAccessException e) {
+            logger.warn("⚠ 클러스터 구성원 해제 실패 - 만료 후 다른 노드가 담당: {}", e.getMessage());
+        }
+    }
+
+    private void updateRing(List<ClusterNode> live) {
+        Map<String, ClusterNode> current = new LinkedHashMap<>();
+        live.stream().filter(node -> node.getBaseUrl() != null).forEach(node -> current.put(node.getNodeId(), node));
+        if (current.keySet().equals(members.keySet())) {
+            members = current; // 주소만 바뀐 경우
+            return;
+        }
+        members = current;
+        ring = ConsistentHashRing.of(current.isEmpty() ? List.of(nodeId) : current.keySet(), virtualNodes);
+        logger.info("🔗 클러스터 구성원 변경 - {}", current.keySet());
+        eventPublisher.publishEvent(new ClusterMembershipChangedEvent(List.copyOf(current.keySet())));
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = UUID.randomUUID().toString().substring(0, 8);
+        }
+        String nodeId = host + "-" + ProcessHandle.current().pid();
+        return (nodeId.length() > 100) ? nodeId.substring(nodeId.length() - 100) : nodeId;
+    }
+}
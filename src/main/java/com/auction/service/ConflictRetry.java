@@ -0,0 +1,135 @@
+package com.auction.service;
+
+import com.auction.metrics.AuctionMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 🔁 동시 수정 충돌 재시도
+ * - 낙관적 잠금 실패(@Version 불일치, 조건부 UPDATE 0건)나 교착 상태로 트랜잭션이 롤백되면
+ *   새 트랜잭션에서 처음부터 다시 읽고 처리 (정해진 횟수까지, 시도 사이에 임의 지연)
+ * - 롤백된 트랜잭션 안에서는 다시 시도할 수 없으므로, 이미 트랜잭션 안에서 호출되면 한 번만 실행하고
+ *   충돌은 바깥 재시도에 맡김
+ * - 시도 결과와 재시도 소진 건수를 작업별로 기록 (auction.conflict.attempts / auction.conflict.exhausted)
+ */
+@Component
+public class ConflictRetry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConflictRetry.class);
+
+    private final TransactionTemplate transactionTemplate;
+    private final AuctionMetrics auctionMetrics;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public ConflictRetry(TransactionTemplate transactionTemplate,
+                         AuctionMetrics auctionMetrics,
+                         @Value("${auction.retry.max-attempts:3}") int maxAttempts,
+                         @Value("${auction.retry.backoff-ms:10}") long backoffMillis) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("auction.retry.max-attempts 는 1 이상이어야 합니다.");
+        }
+        this.transactionTemplate = transactionTemplate;
+        this.auctionMetrics = auctionMetrics;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+    }
+
+    /**
+     * 🔹 작업을 시도마다 새 트랜잭션에서 실행하고, 동시 수정 충돌이면 다시 시도
+     *
+     * @param operation 지표 / 로그용 작업 이름 (예: bid, charge, close, confirm, ban)
+     * @param action 실행할 작업 (재실행되어도 안전해야 함)
+     * @return 작업 결과
+     * @throws ConcurrencyFailureException 모든 시도가 충돌로 실패한 경우
+     */
+    public <T> T execute(String operation, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+        return retry(operation, () -> attempt(operation, action));
+    }
+
+    /**
+     * 🔹 작업을 새 트랜잭션에서 한 번만 실행 (재시도 / 지연 없음)
+     * - 락을 잡은 채 호출하는 경우에 사용하며, 충돌은 기록만 하고 그대로 던지므로
+     *   호출자가 락을 놓은 뒤 {@link #retry} 로 처음부터 다시 시도
+     *
+     * @param operation 지표 / 로그용 작업 이름
+     * @param action 실행할 작업
+     * @return 작업 결과
+     * @throws ConcurrencyFailureException 충돌로 롤백된 경우
+     */
+    public <T> T attempt(String operation, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+        try {
+            T result = transactionTemplate.execute(status -> action.get());
+            auctionMetrics.recordConflictAttempt(operation, false);
+            return result;
+        } catch (ConcurrencyFailureException e) {
+            auctionMetrics.recordConflictAttempt(operation, true);
+            throw e;
+        }
+    }
+
+    /**
+     * 🔹 충돌하면 임의 지연 후 작업 전체를 다시 실행 (트랜잭션은 작업 안의 {@link #attempt} 가 시작)
+     * - 락 안에서 {@link #attempt} 를 호출하는 작업을 감싸, 재시도 지연 동안 락을 잡고 있지 않게 함
+     *
+     * @param operation 지표 / 로그용 작업 이름
+     * @param action 실행할 작업 (처음부터 다시 검증하므로 재실행되어도 안전해야 함)
+     * @return 작업 결과
+     * @throws ConcurrencyFailureException 모든 시도가 충돌로 실패한 경우
+     */
+    public <T> T retry(String operation, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= maxAttempts) {
+                    auctionMetrics.recordConflictExhausted(operation);
+                    logger.warn("⚠ 동시 수정 충돌 재시도 소진 - 작업: {}, 시도: {}회, 오류: {}", operation, attempt, e.getMessage());
+                    throw e;
+                }
+                logger.debug("동시 수정 충돌 - 작업: {}, 시도: {}회, 재시도 예정", operation, attempt);
+                backoff(attempt, e);
+            }
+        }
+    }
+
+    /**
+     * 🔹 결과가 없는 작업 실행
+     */
+    public void run(String operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 같은 행을 다시 동시에 수정하지 않도록 시도마다 상한이 두 배인 임의 지연 (0 ~ backoff × 2^(시도-1))
+     */
+    private void backoff(int attempt, ConcurrencyFailureException cause) {
+        long bound = backoffMillis << (attempt - 1);
+        if (bound <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.auction.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 🔗 일관된 해시(consistent hashing) 링
+ * - 노드마다 가상 노드 여러 개를 링에 올리고, 경매 상품 ID 의 해시에서 시계 방향으로 처음 만나는 노드가 담당
+ * - 노드가 추가 / 제거되면 그 노드의 구간에 있던 상품만 담당이 바뀜 (나머지 상품은 그대로)
+ * - 불변 객체이며, 구성원이 바뀌면 새 링을 만듦
+ */
+final class ConsistentHashRing {
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    private ConsistentHashRing(Collection<String> nodeIds, int virtualNodes) {
+        for (String nodeId : nodeIds) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(nodeId + "#" + i), nodeId);
+            }
+        }
+    }
+
+    /**
+     * 🔹 노드 목록으로 링 생성
+     *
+     * @param nodeIds 노드 ID 목록 (1개 이상)
+     * @param virtualNodes 노드당 가상 노드 수
+     */
+    static ConsistentHashRing of(Collection<String> nodeIds, int virtualNodes) {
+        if (nodeIds.isEmpty() || virtualNodes < 1) {
+            throw new IllegalArgumentException("해시 링에는 노드와 가상 노드가 1개 이상 있어야 합니다.");
+        }
+        return new ConsistentHashRing(nodeIds, virtualNodes);
+    }
+
+    /**
+     * 🔹 경매 상품을 담당하는 노드 ID
+     */
+    String ownerOf(Long auctionItemId) {
+        Map.Entry<Long, String> entry = ring.ceilingEntry(mix(auctionItemId));
+        return (entry != null) ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * 64비트 FNV-1a 해시를 섞은 값 (노드 ID 가 비슷해도 링 위에 고르게 퍼지도록)
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * MurmurHash3 의 64비트 마무리 함수 (연속된 상품 ID 도 링 위에 고르게 퍼지도록)
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
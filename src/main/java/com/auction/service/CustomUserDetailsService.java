@@ -1,7 +1,5 @@
 package com.auction.service;
 
-import com.auction.domain.User;
-import com.auction.repository.UserRepository;
 import com.auction.security.CustomUserDetails;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -16,15 +14,15 @@ import org.springframework.stereotype.Service;
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
 
     /**
-     * 생성자 - UserRepository 주입
+     * 생성자 - UserCacheService 주입
      *
-     * @param userRepository 사용자 저장소 인터페이스
+     * @param userCacheService 사용자 조회 캐시
      */
-    public CustomUserDetailsService(final UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public CustomUserDetailsService(final UserCacheService userCacheService) {
+        this.userCacheService = userCacheService;
     }
 
     /**
@@ -36,7 +34,7 @@ public class CustomUserDetailsService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(final String email) throws UsernameNotFoundException {
-        return userRepository.findByEmail(email)
+        return userCacheService.findByEmail(email)
                 .map(CustomUserDetails::new)
                 .orElseThrow(() -> {
                     System.out.println("🚨 [ERROR] 사용자 이메일을 찾을 수 없음: " + email);
@@ -0,0 +1,318 @@
+package com.auction.service;
+
+import com.auction.config.StartupOrder;
+import com.auction.domain.AuctionStatus;
+import com.auction.event.AuctionClosedEvent;
+import com.auction.event.AuctionItemCreatedEvent;
+import com.auction.event.AuctionItemDeletedEvent;
+import com.auction.event.BidAcceptedEvent;
+import com.auction.repository.AuctionItemRepository;
+import com.auction.repository.AuctionItemRepository.CatalogEntry;
+import com.auction.repository.AuctionItemRepository.FeedRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 🏠 홈 피드 캐시
+ * - 마감 임박 / 신규 등록 / 인기(최근 입찰 속도) / 최근 낙찰 목록을 메모리에 유지하고, 홈 화면은 스냅샷만 읽음 (DB 조회 없음)
+ * - 시작 시 진행 중인 상품을 한 번 적재한 뒤에는 상품 등록 / 입찰 / 마감 / 삭제 이벤트로 해당 상품만 갱신
+ * - 스냅샷은 변경이 있을 때(또는 입찰 속도 구간이 움직일 때) 주기적으로 다시 만들어 교체
+ */
+@Service
+public class HomeFeedService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HomeFeedService.class);
+
+    private static final int DESCRIPTION_LENGTH = 100; // 카드에 표시하는 설명 길이
+
+    /**
+     * 홈 화면에 표시하는 상품 1개
+     *
+     * @param price 현재가 (낙찰 상품은 낙찰가)
+     * @param recentBids 입찰 속도 구간 안에 들어온 입찰 수
+     */
+    public record FeedItem(Long id, String name, String description, int price, LocalDateTime endTime,
+                           int bidCount, int recentBids) {
+    }
+
+    /**
+     * 홈 화면 스냅샷 (불변)
+     */
+    public record HomeFeed(List<FeedItem> endingSoon, List<FeedItem> newest, List<FeedItem> hottest,
+                           List<FeedItem> recentlySold) {
+
+        static final HomeFeed EMPTY = new HomeFeed(List.of(), List.of(), List.of(), List.of());
+    }
+
+    /**
+     * 진행 중인 상품 1개의 피드 상태 (lock 안에서만 접근)
+     */
+    private static final class Entry {
+        final Long id;
+        final String name;
+        final String description;
+        int price;
+        LocalDateTime endTime;
+        int bidCount;
+        final ArrayDeque<Long> bidTimes = new ArrayDeque<>(); // 입찰 속도 구간 안의 입찰 시각 (epoch ms)
+
+        Entry(Long id, String name, String description, int price, LocalDateTime endTime, int bidCount) {
+            this.id = id;
+            this.name = name;
+            this.description = (description != null && description.length() > DESCRIPTION_LENGTH)
+                    ? description.substring(0, DESCRIPTION_LENGTH) + "…"
+                    : description;
+            this.price = price;
+            this.endTime = endTime;
+            this.bidCount = bidCount;
+        }
+
+        FeedItem toItem() {
+            return new FeedItem(id, name, description, price, endTime, bidCount, bidTimes.size());
+        }
+    }
+
+    private static final Comparator<Entry> BY_END_TIME =
+            Comparator.comparing((Entry entry) -> entry.endTime).thenComparing(entry -> entry.id);
+
+    private final AuctionItemRepository auctionItemRepository;
+    private final int size;
+    private final Duration velocityWindow;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TreeMap<Long, Entry> open = new TreeMap<>(); // ID 순 (ID 가 클수록 최근 등록)
+    private final TreeSet<Entry> byEndTime = new TreeSet<>(BY_END_TIME);
+    private final Map<Long, Entry> active = new HashMap<>(); // 입찰 속도 구간 안에 입찰이 있는 상품
+    private final ArrayDeque<FeedItem> recentlySold = new ArrayDeque<>();
+    private boolean dirty;
+
+    private volatile HomeFeed feed = HomeFeed.EMPTY;
+
+    public HomeFeedService(AuctionItemRepository auctionItemRepository,
+                           @Value("${auction.home-feed.size:6}") int size,
+                           @Value("${auction.home-feed.velocity-window:1h}") Duration velocityWindow) {
+        this.auctionItemRepository = auctionItemRepository;
+        this.size = size;
+        this.velocityWindow = velocityWindow;
+    }
+
+    /**
+     * 🔹 현재 홈 피드 스냅샷 (메모리만 읽음)
+     */
+    public HomeFeed getFeed() {
+        return feed;
+    }
+
+    /**
+     * 🔹 애플리케이션 시작 시 진행 중인 상품과 최근 낙찰 상품을 적재
+     * - 적재하는 동안 들어온 이벤트는 적재가 끝난 뒤 반영됨
+     * - 입찰 속도는 마지막 입찰 시각만으로 추정하여 시작하고, 이후 입찰 이벤트로 채워짐
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(StartupOrder.HOME_FEED)
+    @Transactional(readOnly = true)
+    public void load() {
+        long windowStart = System.currentTimeMillis() - velocityWindow.toMillis();
+        lock.lock();
+        try {
+            open.clear();
+            byEndTime.clear();
+            active.clear();
+            recentlySold.clear();
+            try (Stream<FeedRow> rows = auctionItemRepository.streamFeedRows(AuctionStatus.OPEN)) {
+                rows.forEach(row -> {
+                    Entry entry = put(new Entry(row.getId(), row.getName(), row.getDescription(),
+                            Math.max(row.getCurrentPrice(), row.getStartPrice()), row.getEndTime(), row.getBidCount()));
+                    if (row.getLastBidAt() != null) {
+                        long lastBidAt = toEpochMilli(row.getLastBidAt());
+                        if (lastBidAt >= windowStart) {
+                            entry.bidTimes.add(lastBidAt);
+                            active.put(entry.id, entry);
+                        }
+                    }
+                });
+            }
+            List<CatalogEntry> sold = auctionItemRepository.findRecentlyClosed(AuctionStatus.SOLD, PageRequest.ofSize(size));
+            sold.forEach(entry -> recentlySold.addLast(new FeedItem(entry.getId(), entry.getName(), entry.getDescription(),
+                    entry.getCurrentPrice(), entry.getEndTime(), entry.getBidCount(), 0)));
+            rebuild();
+            logger.info("✅ 홈 피드 적재 완료 - 진행 중인 상품: {}개", open.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 🔹 상품 등록 커밋 후 신규 / 마감 임박 목록에 추가
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionItemCreated(AuctionItemCreatedEvent event) {
+        lock.lock();
+        try {
+            put(new Entry(event.auctionItemId(), event.name(), event.description(), event.startPrice(),
+                    event.endTime(), 0));
+            dirty = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 🔹 입찰 수락 시 현재가 / 입찰 수 / 마감 시간(연장)과 입찰 속도 갱신
+     */
+    @EventListener
+    public void onBidAccepted(BidAcceptedEvent event) {
+        lock.lock();
+        try {
+            Entry entry = open.get(event.auctionItemId());
+            if (entry == null || event.bidCount() < entry.bidCount) {
+                return; // 피드에 없는 상품이거나 늦게 도착한 이전 입찰
+            }
+            byEndTime.remove(entry);
+            entry.price = event.amount();
+            entry.bidCount = event.bidCount();
+            entry.endTime = event.endTime();
+            byEndTime.add(entry);
+            entry.bidTimes.addLast(System.currentTimeMillis());
+            active.put(entry.id, entry);
+            dirty = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 🔹 마감 커밋 후 진행 중 목록에서 제거하고, 낙찰이면 최근 낙찰 목록 맨 앞에 추가
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionClosed(AuctionClosedEvent event) {
+        lock.lock();
+        try {
+            Entry entry = remove(event.auctionItemId());
+            if (entry != null && event.status() == AuctionStatus.SOLD) {
+                recentlySold.addFirst(new FeedItem(entry.id, entry.name, entry.description, event.finalPrice(),
+                        entry.endTime, entry.bidCount, 0));
+                while (recentlySold.size() > size) {
+                    recentlySold.removeLast();
+                }
+            }
+            dirty = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 🔹 상품 삭제 커밋 후 모든 목록에서 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionItemDeleted(AuctionItemDeletedEvent event) {
+        lock.lock();
+        try {
+            remove(event.auctionItemId());
+            recentlySold.removeIf(item -> item.id().equals(event.auctionItemId()));
+            dirty = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 🔹 변경이 있었거나 입찰 속도 구간 안에 입찰이 남아 있으면 스냅샷을 다시 만듦
+     */
+    @Scheduled(fixedDelayString = "${auction.home-feed.refresh-interval-ms:1000}")
+    public void refresh() {
+        lock.lock();
+        try {
+            if (dirty || !active.isEmpty()) {
+                rebuild();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 생성 (lock 안에서만 호출)
+     * - 진행 중인 상품 전체를 훑지 않고 정렬된 인덱스의 앞부분과 최근 입찰이 있는 상품만 확인
+     */
+    private void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        long windowStart = System.currentTimeMillis() - velocityWindow.toMillis();
+
+        List<FeedItem> endingSoon = new ArrayList<>(size);
+        for (Entry entry : byEndTime.tailSet(new Entry(0L, null, null, 0, now, 0), false)) {
+            if (endingSoon.size() == size) {
+                break;
+            }
+            endingSoon.add(entry.toItem());
+        }
+
+        List<FeedItem> newest = new ArrayList<>(size);
+        for (Entry entry : open.descendingMap().values()) {
+            if (newest.size() == size) {
+                break;
+            }
+            if (entry.endTime.isAfter(now)) {
+                newest.add(entry.toItem());
+            }
+        }
+
+        // ✅ 구간을 벗어난 입찰 시각을 버리고, 남은 입찰 수가 많은 순으로 정렬
+        for (Iterator<Entry> iterator = active.values().iterator(); iterator.hasNext(); ) {
+            Entry entry = iterator.next();
+            while (!entry.bidTimes.isEmpty() && entry.bidTimes.peekFirst() < windowStart) {
+                entry.bidTimes.pollFirst();
+            }
+            if (entry.bidTimes.isEmpty()) {
+                iterator.remove();
+            }
+        }
+        List<FeedItem> hottest = active.values().stream()
+                .filter(entry -> entry.endTime.isAfter(now))
+                .sorted(Comparator.comparingInt((Entry entry) -> entry.bidTimes.size()).reversed()
+                        .thenComparing(BY_END_TIME))
+                .limit(size)
+                .map(Entry::toItem)
+                .toList();
+
+        feed = new HomeFeed(List.copyOf(endingSoon), List.copyOf(newest), hottest, List.copyOf(recentlySold));
+        dirty = false;
+    }
+
+    private Entry put(Entry entry) {
+        remove(entry.id);
+        open.put(entry.id, entry);
+        byEndTime.add(entry);
+        return entry;
+    }
+
+    private Entry remove(Long auctionItemId) {
+        Entry entry = open.remove(auctionItemId);
+        if (entry != null) {
+            byEndTime.remove(entry);
+            active.remove(auctionItemId);
+        }
+        return entry;
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
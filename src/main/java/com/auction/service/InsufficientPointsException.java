@@ -0,0 +1,12 @@
+package com.auction.service;
+
+/**
+ * 🚫 포인트 부족 예외
+ * - 입찰/차감 시 사용 가능한 포인트가 요청 금액보다 적을 때 발생
+ */
+public class InsufficientPointsException extends IllegalStateException {
+
+    public InsufficientPointsException() {
+        super("보유 포인트가 부족합니다.");
+    }
+}
@@ -0,0 +1,325 @@
+package com.auction.service;
+
+import com.auction.config.WorkerThreads;
+import com.auction.domain.AuctionStatus;
+import com.auction.event.AuctionClosedEvent;
+import com.auction.event.BidAcceptedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 📡 경매 상품별 실시간 시세 방송 (Server-Sent Events)
+ * - 상품 ID 마다 구독자 채널을 두고, 입찰 수락/남은 시간/마감 소식을 푸시
+ * - 이벤트 1건당 SSE 프레임을 한 번만 직렬화하여 모든 구독자가 공유
+ * - 구독자마다 전송 중인 프레임은 최대 1개이며, 느린 구독자에게는 가장 최신 프레임만 전달 (중간 시세는 건너뜀)
+ * - 읽지 않는 구독자로 전송이 제한 시간을 넘으면 구독을 끊고, 막힌 전송 스레드 대신 전송 스레드를 하나 더 둠
+ *   (전송 풀이 막힌 소켓 쓰기로 채워져 다른 상품의 방송까지 멈추지 않도록)
+ * - 구독자는 연결만 유지하고, 새로고침 없이 시세를 받으므로 DB 조회가 발생하지 않음
+ */
+@Service
+public class LivePriceBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(LivePriceBroadcaster.class);
+
+    private final Map<Long, Set<Subscriber>> channels = new ConcurrentHashMap<>();
+    private final Set<Subscriber> sending = ConcurrentHashMap.newKeySet(); // 전송 중인 구독자 (전송 제한 시간 확인용)
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicInteger stalledSenders = new AtomicInteger(); // 제한 시간을 넘겨 막혀 있는 전송 스레드 수
+
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor sendExecutor;
+    private final int senders;
+    private final Duration timeout;
+    private final Duration sendTimeout;
+    private final int maxSubscribers;
+
+    public LivePriceBroadcaster(ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                WorkerThreads workerThreads,
+                                @Value("${auction.live.senders:4}") int senders,
+                                @Value("${auction.live.timeout:30m}") Duration timeout,
+                                @Value("${auction.live.send-timeout:5s}") Duration sendTimeout,
+                                @Value("${auction.live.max-subscribers:10000}") int maxSubscribers) {
+        this.objectMapper = objectMapper;
+        this.senders = senders;
+        this.timeout = timeout;
+        this.sendTimeout = sendTimeout;
+        this.maxSubscribers = maxSubscribers;
+        // ✅ 구독자마다 대기 작업은 최대 1개이므로 대기열 길이는 구독자 수를 넘지 않음
+        this.sendExecutor = new ThreadPoolExecutor(senders, senders, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxSubscribers),
+                workerThreads.factory("live-price-sender"));
+
+        Gauge.builder("auction.live.subscribers", subscriberCount, AtomicInteger::get)
+                .description("실시간 시세 구독 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 🔹 상품 시세 구독
+     * - 구독 즉시 현재 시세를 1회 전송 (이미 마감된 상품이면 마감 결과를 보내고 연결 종료)
+     *
+     * @param auctionItemId 경매 상품 ID
+     * @param price 현재가
+     * @param bidCount 입찰 수
+     * @param endTime 마감 시간
+     * @param status 경매 상태
+     * @return SSE 연결
+     * @throws IllegalStateException 구독 연결 수가 상한에 도달한 경우
+     */
+    public SseEmitter subscribe(Long auctionItemId, int price, int bidCount, LocalDateTime endTime, AuctionStatus status) {
+        if (subscriberCount.get() >= maxSubscribers) {
+            throw new IllegalStateException("실시간 시세 구독자가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(auctionItemId, emitter);
+        // ✅ 채널에 넣기 전에 종료 콜백을 등록 (등록 직후 마감 방송으로 바로 종료되어도 구독이 정리되도록)
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        subscriberCount.incrementAndGet();
+        channels.computeIfAbsent(auctionItemId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        LiveFrame snapshot = new LiveFrame(auctionItemId, price, bidCount, endTime, status);
+        subscriber.offer((status == AuctionStatus.OPEN) ? frame("price", snapshot) : frame("closed", snapshot).last());
+        return emitter;
+    }
+
+    /**
+     * 🔹 입찰 수락 시 구독자에게 새 시세 전송
+     */
+    @EventListener
+    public void onBidAccepted(BidAcceptedEvent event) {
+        Set<Subscriber> subscribers = channels.get(event.auctionItemId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return; // 구독자가 없으면 직렬화도 하지 않음
+        }
+        Frame frame = frame("price",
+                new LiveFrame(event.auctionItemId(), event.amount(), event.bidCount(), event.endTime(), AuctionStatus.OPEN));
+        subscribers.forEach(subscriber -> subscriber.offer(frame));
+    }
+
+    /**
+     * 🔹 경매 마감 시 구독자에게 마감 결과를 전송하고 연결 종료
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionClosed(AuctionClosedEvent event) {
+        Set<Subscriber> subscribers = channels.remove(event.auctionItemId());
+        if (subscribers == null) {
+            return;
+        }
+        Frame frame = frame("closed",
+                new LiveFrame(event.auctionItemId(), event.finalPrice(), null, null, event.status())).last();
+        subscribers.forEach(subscriber -> subscriber.offer(frame));
+    }
+
+    /**
+     * 🔹 남은 시간 방송 및 연결 유지 (전송 대기 중인 프레임이 없는 구독자에게만)
+     */
+    @Scheduled(fixedRateString = "${auction.live.tick-interval-ms:15000}")
+    public void tick() {
+        LocalDateTime now = LocalDateTime.now();
+        channels.forEach((auctionItemId, subscribers) -> {
+            if (subscribers.isEmpty()) {
+                return;
+            }
+            Frame frame = frame("tick", Map.of("auctionItemId", auctionItemId, "serverTime", now));
+            subscribers.forEach(subscriber -> subscriber.offerIfIdle(frame));
+        });
+    }
+
+    /**
+     * 🔹 전송 제한 시간을 넘긴 구독자 정리
+     * - 클라이언트가 읽지 않아 소켓 쓰기가 막힌 구독자는 구독을 끊고 전송 스레드에 중단을 요청
+     * - 막힌 스레드가 돌아올 때까지 전송 풀에 스레드를 하나 더 두어 다른 구독자의 전송은 계속됨
+     */
+    @Scheduled(fixedRateString = "${auction.live.stall-check-interval-ms:1000}")
+    public void dropStalledSubscribers() {
+        long now = System.nanoTime();
+        sending.forEach(subscriber -> subscriber.dropIfStalled(now));
+    }
+
+    @PreDestroy
+    public void stop() {
+        channels.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        sendExecutor.shutdown();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        channels.computeIfPresent(subscriber.auctionItemId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    /**
+     * 🔹 SSE 연결 생성 (테스트에서 전송을 대신하기 위해 분리)
+     */
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeout.toMillis());
+    }
+
+    /**
+     * 🔹 막힌 전송 스레드 수만큼 전송 풀 크기 조정 (늘릴 때는 대기 중인 전송을 새 스레드가 바로 처리)
+     */
+    private void resizeSenders(int delta) {
+        synchronized (sendExecutor) {
+            int size = senders + stalledSenders.addAndGet(delta);
+            if (delta > 0) {
+                sendExecutor.setMaximumPoolSize(size);
+                sendExecutor.setCorePoolSize(size);
+            } else {
+                sendExecutor.setCorePoolSize(size);
+                sendExecutor.setMaximumPoolSize(size);
+            }
+        }
+    }
+
+    private Frame frame(String name, Object payload) {
+        try {
+            String json = objectMapper.writeValueAsString(payload);
+            return new Frame(SseEmitter.event().name(name).data(json, MediaType.APPLICATION_JSON).build(), false);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("실시간 시세 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 직렬화된 SSE 프레임 (모든 구독자가 공유)
+     */
+    private record Frame(Set<ResponseBodyEmitter.DataWithMediaType> data, boolean terminal) {
+
+        Frame last() {
+            return new Frame(data, true);
+        }
+    }
+
+    /**
+     * 클라이언트로 전송되는 시세 정보
+     */
+    private record LiveFrame(Long auctionItemId, int price, Integer bidCount, LocalDateTime endTime,
+                             AuctionStatus status) {
+    }
+
+    /**
+     * 구독자 1명 (전송 대기 프레임은 최신 1개만 유지)
+     */
+    private final class Subscriber {
+
+        private final Long auctionItemId;
+        private final SseEmitter emitter;
+        private final AtomicReference<Frame> pending = new AtomicReference<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile long sendStartedAt; // 현재 프레임 전송 시작 시각 (System.nanoTime)
+        private Thread sender; // 전송 중인 스레드 (this 로 동기화)
+        private boolean stalled; // 전송 제한 시간 초과로 끊김 (this 로 동기화)
+
+        private Subscriber(Long auctionItemId, SseEmitter emitter) {
+            this.auctionItemId = auctionItemId;
+            this.emitter = emitter;
+        }
+
+        void offer(Frame frame) {
+            pending.set(frame); // ✅ 아직 보내지 못한 이전 프레임은 최신 프레임으로 대체
+            scheduleDrain();
+        }
+
+        void offerIfIdle(Frame frame) {
+            if (pending.compareAndSet(null, frame)) {
+                scheduleDrain();
+            }
+        }
+
+        private void scheduleDrain() {
+            if (closed.get() || !draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sendExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                emitter.complete();
+                unsubscribe(this);
+            }
+        }
+
+        private void drain() {
+            synchronized (this) {
+                sender = Thread.currentThread();
+                sendStartedAt = System.nanoTime(); // 이전 전송의 시작 시각으로 제한 시간을 판단하지 않도록
+            }
+            sending.add(this);
+            try {
+                Frame frame;
+                while (!closed.get() && (frame = pending.getAndSet(null)) != null) {
+                    sendStartedAt = System.nanoTime();
+                    emitter.send(frame.data());
+                    if (frame.terminal()) {
+                        emitter.complete();
+                        unsubscribe(this);
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("📡 실시간 시세 구독 종료 - 상품 ID: {}, 사유: {}", auctionItemId, e.getMessage());
+                unsubscribe(this);
+            } finally {
+                sending.remove(this);
+                synchronized (this) {
+                    sender = null;
+                    if (stalled) {
+                        Thread.interrupted(); // 정리 중에 보낸 중단 요청 해제 (풀의 다음 작업에 남기지 않음)
+                        resizeSenders(-1);
+                    }
+                }
+                draining.set(false);
+                if (!closed.get() && pending.get() != null) {
+                    scheduleDrain(); // 마지막 확인 이후 들어온 프레임 처리
+                }
+            }
+        }
+
+        void dropIfStalled(long now) {
+            synchronized (this) {
+                if (sender == null || stalled || now - sendStartedAt < sendTimeout.toNanos()) {
+                    return;
+                }
+                stalled = true;
+                resizeSenders(1);
+                sender.interrupt(); // 막힌 소켓 쓰기 중단 요청 (중단되지 않아도 연결 종료 / 컨테이너 쓰기 제한 시간에 풀려남)
+            }
+            logger.warn("📡 실시간 시세 전송 제한 시간 초과 - 구독 종료 (상품 ID: {})", auctionItemId);
+            unsubscribe(this);
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.auction.service;
+
+import com.auction.domain.MailOutbox;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✉️ 메일 묶음 발송기
+ * - 여러 메일을 한 번의 {@link JavaMailSender#send(MimeMessage...)} 호출로 보내
+ *   SMTP 연결 1개(접속/인증 1회)를 묶음 전체가 재사용
+ * - 일부 메일만 실패해도 나머지는 발송되며, 실패한 메일과 사유를 돌려줌
+ */
+@Component
+public class MailBatchSender {
+
+    private final JavaMailSender mailSender;
+
+    public MailBatchSender(JavaMailSender mailSender) {
+        this.mailSender = mailSender;
+    }
+
+    /**
+     * 🔹 메일 묶음 발송
+     *
+     * @param mails 발송할 메일 목록
+     * @return 발송에 실패한 메일 ID 와 실패 사유 (모두 성공하면 빈 Map)
+     */
+    public Map<Long, String> send(List<MailOutbox> mails) {
+        Map<Long, String> failures = new HashMap<>();
+        Map<MimeMessage, Long> messageIds = new IdentityHashMap<>();
+        List<MimeMessage> messages = new ArrayList<>(mails.size());
+
+        for (MailOutbox mail : mails) {
+            try {
+                MimeMessage message = toMimeMessage(mail);
+                messageIds.put(message, mail.getId());
+                messages.add(message);
+            } catch (MessagingException e) {
+                failures.put(mail.getId(), "메일 작성 실패: " + e.getMessage()); // 주소 오류 등 (재시도해도 실패)
+            }
+        }
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            mailSender.send(messages.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            Map<Object, Exception> failed = e.getFailedMessages();
+            if (failed.isEmpty()) {
+                messageIds.values().forEach(id -> failures.put(id, e.getMessage())); // 접속/인증 실패
+            } else {
+                failed.forEach((message, cause) -> {
+                    Long id = messageIds.get(message);
+                    if (id != null) {
+                        failures.put(id, cause.getMessage());
+                    }
+                });
+            }
+        } catch (MailException e) {
+            messageIds.values().forEach(id -> failures.put(id, e.getMessage()));
+        }
+        return failures;
+    }
+
+    private MimeMessage toMimeMessage(MailOutbox mail) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setTo(mail.getRecipient());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getBody(), true); // HTML 형식 지원
+        return message;
+    }
+}
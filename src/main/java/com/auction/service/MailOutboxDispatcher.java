@@ -0,0 +1,200 @@
+package com.auction.service;
+
+import com.auction.config.WorkerThreads;
+import com.auction.domain.MailOutbox;
+import com.auction.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📬 메일 발송 대기열 처리기
+ * - 발송 가능한 메일을 주기적으로 점유(claim)하여 크기가 제한된 작업 풀에서 묶음 발송
+ * - 실패한 메일은 지수 백오프로 재시도하고, 재시도 한도를 넘으면 DEAD 로 표시 (발송 포기)
+ * - 점유 후 처리 도중 종료되면 점유 만료 시각 이후 다시 발송 대상이 됨
+ * - 대기열 길이, 발송 지연, 발송 결과를 지표(auction.mail.*)로 노출
+ */
+@Component
+public class MailOutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(MailOutboxDispatcher.class);
+
+    private static final List<MailOutbox.Status> CLAIMABLE = List.of(MailOutbox.Status.PENDING, MailOutbox.Status.SENDING);
+    private static final Duration LEASE = Duration.ofMinutes(5); // 발송 중 점유 유지 시간
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailBatchSender mailBatchSender;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor sendExecutor;
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    private final Timer sendTimer;
+    private final Timer deliveryDelayTimer;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+
+    public MailOutboxDispatcher(MailOutboxRepository mailOutboxRepository,
+                                MailBatchSender mailBatchSender,
+                                TransactionTemplate transactionTemplate,
+                                MeterRegistry meterRegistry,
+                                WorkerThreads workerThreads,
+                                @Value("${auction.mail.workers:2}") int workers,
+                                @Value("${auction.mail.batch-size:20}") int batchSize,
+                                @Value("${auction.mail.max-attempts:6}") int maxAttempts,
+                                @Value("${auction.mail.initial-backoff:30s}") Duration initialBackoff,
+                                @Value("${auction.mail.max-backoff:1h}") Duration maxBackoff) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailBatchSender = mailBatchSender;
+        this.transactionTemplate = transactionTemplate;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.sendExecutor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers),
+                workerThreads.factory("mail-send-worker"),
+                new ThreadPoolExecutor.CallerRunsPolicy()); // 작업 풀이 가득 차면 점유 스레드가 직접 발송 (역압)
+
+        Gauge.builder("auction.mail.outbox.depth", mailOutboxRepository,
+                        repository -> repository.countByStatus(MailOutbox.Status.PENDING))
+                .description("발송 대기 중인 메일 수")
+                .tag("status", "pending")
+                .register(meterRegistry);
+        Gauge.builder("auction.mail.outbox.depth", mailOutboxRepository,
+                        repository -> repository.countByStatus(MailOutbox.Status.DEAD))
+                .description("발송을 포기한 메일 수")
+                .tag("status", "dead")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("auction.mail.send.latency")
+                .description("SMTP 묶음 발송 소요 시간")
+                .register(meterRegistry);
+        this.deliveryDelayTimer = Timer.builder("auction.mail.delivery.delay")
+                .description("발송 요청부터 발송 완료까지 걸린 시간")
+                .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("auction.mail.sent");
+        this.retriedCounter = meterRegistry.counter("auction.mail.retried");
+        this.deadCounter = meterRegistry.counter("auction.mail.dead");
+    }
+
+    /**
+     * 🔹 발송 가능한 메일을 점유하여 작업 풀에 나누어 전달
+     */
+    @Scheduled(fixedDelayString = "${auction.mail.poll-interval-ms:1000}")
+    public void dispatch() {
+        List<Long> claimedIds = transactionTemplate.execute(status -> claimDue());
+        if (claimedIds == null || claimedIds.isEmpty()) {
+            return;
+        }
+
+        List<MailOutbox> mails = mailOutboxRepository.findAllById(claimedIds);
+        int chunkSize = (mails.size() + workers - 1) / workers;
+        for (int from = 0; from < mails.size(); from += chunkSize) {
+            List<MailOutbox> chunk = mails.subList(from, Math.min(from + chunkSize, mails.size()));
+            sendExecutor.execute(() -> send(chunk));
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        sendExecutor.shutdown();
+    }
+
+    /**
+     * 🔹 n번째 시도가 실패한 뒤 다음 시도까지의 대기 시간 (initial × 2^(n-1), 최대 maxBackoff)
+     */
+    static Duration backoff(int attempts, Duration initialBackoff, Duration maxBackoff) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        Duration delay = initialBackoff.multipliedBy(1L << exponent);
+        return (delay.compareTo(maxBackoff) > 0) ? maxBackoff : delay;
+    }
+
+    private List<Long> claimDue() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dueIds = mailOutboxRepository.findDueIds(CLAIMABLE, now, PageRequest.of(0, batchSize));
+
+        List<Long> claimed = new ArrayList<>(dueIds.size());
+        for (Long id : dueIds) {
+            if (mailOutboxRepository.claim(id, CLAIMABLE, MailOutbox.Status.SENDING, now, now.plus(LEASE)) > 0) {
+                claimed.add(id);
+            }
+        }
+        return claimed;
+    }
+
+    private void send(List<MailOutbox> mails) {
+        Map<Long, String> failures;
+        try {
+            failures = sendTimer.record(() -> mailBatchSender.send(mails));
+        } catch (RuntimeException e) {
+            failures = new HashMap<>();
+            for (MailOutbox mail : mails) {
+                failures.put(mail.getId(), e.getMessage());
+            }
+        }
+
+        Map<Long, String> failed = failures;
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyResults(mails, failed, now));
+        } catch (RuntimeException e) {
+            // 결과 기록 실패 시 점유 만료 후 다시 발송됨 (중복 발송 가능)
+            logger.error("❌ 메일 발송 결과 기록 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void applyResults(List<MailOutbox> mails, Map<Long, String> failures, LocalDateTime now) {
+        List<Long> sentIds = new ArrayList<>();
+        for (MailOutbox mail : mails) {
+            String error = failures.get(mail.getId());
+            if (error == null) {
+                sentIds.add(mail.getId());
+                deliveryDelayTimer.record(Duration.between(mail.getCreatedAt(), now));
+                continue;
+            }
+
+            String lastError = (error.length() > 500) ? error.substring(0, 500) : error;
+            if (mail.getAttempts() >= maxAttempts) {
+                mailOutboxRepository.markFailed(mail.getId(), MailOutbox.Status.SENDING,
+                        MailOutbox.Status.DEAD, now, lastError);
+                deadCounter.increment();
+                logger.error("❌ 이메일 발송 포기 - ID: {}, 받는 사람: {}, 시도: {}회, 오류: {}",
+                        mail.getId(), mail.getRecipient(), mail.getAttempts(), error);
+            } else {
+                Duration delay = backoff(mail.getAttempts(), initialBackoff, maxBackoff);
+                mailOutboxRepository.markFailed(mail.getId(), MailOutbox.Status.SENDING,
+                        MailOutbox.Status.PENDING, now.plus(delay), lastError);
+                retriedCounter.increment();
+                logger.warn("⚠ 이메일 발송 실패 - ID: {}, {}초 후 재시도 ({}/{}): {}",
+                        mail.getId(), delay.toSeconds(), mail.getAttempts(), maxAttempts, error);
+            }
+        }
+
+        if (!sentIds.isEmpty()) {
+            mailOutboxRepository.markSent(sentIds, MailOutbox.Status.SENDING, MailOutbox.Status.SENT, now);
+            sentCounter.increment(sentIds.size());
+            logger.info("✅ 이메일 {}건 발송 완료", sentIds.size());
+        }
+    }
+}
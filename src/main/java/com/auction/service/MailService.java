@@ -1,51 +1,43 @@
 package com.auction.service;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
+import com.auction.domain.MailOutbox;
+import com.auction.repository.MailOutboxRepository;
 import org.springframework.stereotype.Service;
-import java.util.logging.Level;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.logging.Logger;
 
 /**
  * 이메일 전송 서비스 클래스
- * JavaMailSender를 사용하여 이메일을 발송하는 기능을 제공한다.
+ * 메일 발송 요청을 발송 대기열(mail_outbox)에 기록한다.
+ * 실제 SMTP 발송은 {@link MailOutboxDispatcher} 가 커밋된 요청을 꺼내 비동기로 처리하므로,
+ * 호출한 트랜잭션은 메일 서버 응답을 기다리지 않는다.
  */
 @Service
 public class MailService {
 
     private static final Logger LOGGER = Logger.getLogger(MailService.class.getName());
-    private final JavaMailSender mailSender;
+    private final MailOutboxRepository mailOutboxRepository;
 
     /**
-     * 생성자 - JavaMailSender 주입
+     * 생성자 - 발송 대기열 리포지토리 주입
      *
-     * @param mailSender JavaMailSender 객체
+     * @param mailOutboxRepository 메일 발송 대기열 리포지토리
      */
-    public MailService(final JavaMailSender mailSender) {
-        this.mailSender = mailSender;
+    public MailService(final MailOutboxRepository mailOutboxRepository) {
+        this.mailOutboxRepository = mailOutboxRepository;
     }
 
     /**
-     * 이메일 전송 메서드
+     * 이메일 전송 요청 메서드
+     * 호출한 트랜잭션에 참여하므로, 업무 트랜잭션이 롤백되면 메일도 발송되지 않는다.
      *
      * @param to      받는 사람 이메일
      * @param subject 이메일 제목
      * @param text    이메일 본문 (HTML 가능)
      */
+    @Transactional
     public void sendEmail(final String to, final String subject, final String text) {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(text, true); // HTML 형식 지원
-
-            mailSender.send(message);
-            LOGGER.info("✅ 이메일 전송 성공: " + to);
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "❌ 이메일 전송 실패: " + e.getMessage(), e);
-        }
+        MailOutbox mail = mailOutboxRepository.save(MailOutbox.pending(to, subject, text));
+        LOGGER.info("📨 이메일 발송 요청 등록: " + to + " (ID: " + mail.getId() + ")");
     }
-}
\ No newline at end of file
+}
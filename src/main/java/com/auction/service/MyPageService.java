@@ -0,0 +1,86 @@
+package com.auction.service;
+
+import com.auction.config.WorkerThreads;
+import com.auction.repository.AuctionItemRepository;
+import com.auction.repository.AuctionItemRepository.CatalogEntry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * 👤 마이페이지 조회 서비스
+ * - 등록한 상품 / 참여 중인 상품 / 낙찰받은 상품을 서로 독립된 쿼리로 동시에 조회하여,
+ *   화면 전체가 가장 느린 쿼리 한 번의 지연 시간 안에 모이도록 함
+ * - 참여 중인 상품은 입찰 내역 전체를 읽지 않고 DISTINCT 서브쿼리로 상품만 조회
+ * - 현재가는 메모리 입찰 장부 또는 상품 요약 컬럼에서 가져오므로 추가 쿼리 없음
+ */
+@Service
+public class MyPageService {
+
+    private final AuctionItemRepository auctionItemRepository;
+    private final AuctionPriceService auctionPriceService;
+    private final ThreadPoolExecutor queryExecutor;
+
+    public MyPageService(AuctionItemRepository auctionItemRepository,
+                         AuctionPriceService auctionPriceService,
+                         WorkerThreads workerThreads,
+                         @Value("${auction.mypage.workers:8}") int workers) {
+        this.auctionItemRepository = auctionItemRepository;
+        this.auctionPriceService = auctionPriceService;
+        this.queryExecutor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers * 4),
+                workerThreads.factory("mypage-query-worker"),
+                new ThreadPoolExecutor.CallerRunsPolicy()); // 작업 풀이 가득 차면 요청 스레드가 직접 조회 (역압)
+    }
+
+    /**
+     * 마이페이지 화면 데이터
+     *
+     * @param listedItems 등록한 경매 상품
+     * @param participatingItems 입찰에 참여했고 아직 낙찰자가 없는 경매 상품
+     * @param wonItems 낙찰받은 경매 상품
+     * @param prices 상품 ID별 현재가 (낙찰 상품은 낙찰가)
+     */
+    public record MyPage(List<CatalogEntry> listedItems, List<CatalogEntry> participatingItems,
+                         List<CatalogEntry> wonItems, Map<Long, Integer> prices) {
+    }
+
+    /**
+     * 🔹 마이페이지 데이터 조회 (세 목록을 동시에 조회)
+     *
+     * @param userId 사용자 ID
+     * @return 마이페이지 화면 데이터
+     */
+    public MyPage getMyPage(Long userId) {
+        CompletableFuture<List<CatalogEntry>> listed = CompletableFuture.supplyAsync(
+                () -> auctionItemRepository.findSellerEntries(userId), queryExecutor);
+        CompletableFuture<List<CatalogEntry>> participating = CompletableFuture.supplyAsync(
+                () -> auctionItemRepository.findParticipatingEntries(userId), queryExecutor);
+        CompletableFuture<List<CatalogEntry>> won = CompletableFuture.supplyAsync(
+                () -> auctionItemRepository.findWinnerEntries(userId), queryExecutor);
+
+        try {
+            CompletableFuture.allOf(listed, participating, won).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        List<CatalogEntry> all = new ArrayList<>(listed.join());
+        all.addAll(participating.join());
+        all.addAll(won.join());
+        return new MyPage(listed.join(), participating.join(), won.join(), auctionPriceService.getCatalogPrices(all));
+    }
+
+    @PreDestroy
+    public void stop() {
+        queryExecutor.shutdown();
+    }
+}
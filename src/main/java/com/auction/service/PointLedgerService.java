@@ -0,0 +1,192 @@
+package com.auction.service;
+
+import com.auction.domain.ChargeHistory;
+import com.auction.domain.PointLedgerEntry;
+import com.auction.domain.PointLedgerType;
+import com.auction.domain.PointReservation;
+import com.auction.domain.User;
+import com.auction.event.PointLedgerRecordedEvent;
+import com.auction.repository.ChargeHistoryRepository;
+import com.auction.repository.PointLedgerEntryRepository;
+import com.auction.repository.PointReservationRepository;
+import com.auction.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 💰 포인트 원장 서비스
+ * - 모든 포인트 이동은 추가 전용 원장(point_ledger)에 기록
+ * - 사용 가능 잔액(users.points)은 조건부 원자적 UPDATE 로만 변경하여
+ *   동시 입찰/충전에서도 갱신 유실이나 행 잠금 대기열 없이 정확하게 유지
+ * - 입찰 보증금은 예치(point_reservation)로 관리하며, 반환/확정은 PK 기준 O(1)
+ * - 원장 기록마다 PointLedgerRecordedEvent 를 발행 (지표는 커밋 이후 반영)
+ */
+@Service
+public class PointLedgerService {
+
+    private final UserRepository userRepository;
+    private final PointLedgerEntryRepository pointLedgerEntryRepository;
+    private final PointReservationRepository pointReservationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserCacheService userCacheService;
+    private final ChargeHistoryRepository chargeHistoryRepository;
+
+    public PointLedgerService(UserRepository userRepository,
+                              PointLedgerEntryRepository pointLedgerEntryRepository,
+                              PointReservationRepository pointReservationRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              UserCacheService userCacheService,
+                              ChargeHistoryRepository chargeHistoryRepository) {
+        this.userRepository = userRepository;
+        this.pointLedgerEntryRepository = pointLedgerEntryRepository;
+        this.pointReservationRepository = pointReservationRepository;
+        this.eventPublisher = eventPublisher;
+        this.userCacheService = userCacheService;
+        this.chargeHistoryRepository = chargeHistoryRepository;
+    }
+
+    /**
+     * 🔹 포인트 적립 (충전, 판매 대금 지급)
+     *
+     * @param userId 사용자 ID
+     * @param amount 적립 금액
+     * @param auctionItemId 관련 경매 상품 ID (충전은 null)
+     */
+    @Transactional
+    public void credit(Long userId, int amount, Long auctionItemId) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("적립 금액은 0보다 커야 합니다.");
+        }
+        if (userRepository.addPoints(userId, amount) == 0) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
+        append(userId, PointLedgerType.CREDIT, amount, auctionItemId);
+    }
+
+    /**
+     * 🔹 포인트 충전 (적립 + 충전 내역 기록)
+     *
+     * @param userId 사용자 ID
+     * @param amount 충전 금액
+     * @return 충전 후 사용 가능 잔액
+     */
+    @Transactional
+    public int charge(Long userId, int amount) {
+        credit(userId, amount, null);
+        chargeHistoryRepository.save(ChargeHistory.createChargeHistory(userRepository.getReferenceById(userId), amount));
+        return getBalance(userId);
+    }
+
+    /**
+     * 🔹 입찰 보증금 예치
+     * - 사용 가능 잔액에서 조건부로 차감하고 예치 내역을 생성
+     *
+     * @param userId 사용자 ID
+     * @param auctionItemId 경매 상품 ID
+     * @param amount 예치 금액
+     * @return 생성된 예치 ID
+     * @throws InsufficientPointsException 사용 가능 잔액이 부족한 경우
+     */
+    @Transactional
+    public Long hold(Long userId, Long auctionItemId, int amount) {
+        if (userRepository.subtractPointsIfSufficient(userId, amount) == 0) {
+            throw new InsufficientPointsException();
+        }
+        User user = userRepository.getReferenceById(userId);
+        PointReservation reservation = pointReservationRepository.save(PointReservation.hold(user, auctionItemId, amount));
+        append(userId, PointLedgerType.HOLD, amount, auctionItemId);
+        return reservation.getId();
+    }
+
+    /**
+     * 🔹 예치 반환 (상위 입찰 발생 시)
+     * - 이미 반환/확정된 예치는 무시되므로 중복 호출에도 안전
+     *
+     * @param reservationId 예치 ID
+     */
+    @Transactional
+    public void release(Long reservationId) {
+        PointReservation reservation = pointReservationRepository.findById(reservationId)
+                .orElseThrow(() -> new IllegalStateException("예치 내역을 찾을 수 없습니다."));
+        release(reservation);
+    }
+
+    /**
+     * 🔹 예치 사용 확정 (낙찰 구매 확정 시)
+     *
+     * @param reservationId 예치 ID
+     * @throws IllegalStateException 이미 반환되었거나 확정된 예치인 경우
+     */
+    @Transactional
+    public void capture(Long reservationId) {
+        PointReservation reservation = pointReservationRepository.findById(reservationId)
+                .orElseThrow(() -> new IllegalStateException("예치 내역을 찾을 수 없습니다."));
+        if (pointReservationRepository.transition(reservationId,
+                PointReservation.Status.HELD, PointReservation.Status.CAPTURED) == 0) {
+            throw new IllegalStateException("이미 처리된 예치 내역입니다.");
+        }
+        append(reservation.getUser().getId(), PointLedgerType.DEBIT, reservation.getAmount(), reservation.getAuctionItemId());
+    }
+
+    /**
+     * 🔹 특정 경매 상품에 예치된 보증금을 모두 반환 (상품 삭제 시)
+     *
+     * @param auctionItemId 경매 상품 ID
+     */
+    @Transactional
+    public void releaseAllForItem(Long auctionItemId) {
+        List<PointReservation> reservations =
+                pointReservationRepository.findByAuctionItemIdAndStatus(auctionItemId, PointReservation.Status.HELD);
+        reservations.forEach(this::release);
+    }
+
+    /**
+     * 🔹 특정 경매 상품에 현재 예치 중인 예치 ID 조회 (입찰 장부 적재 시 활용)
+     *
+     * @param auctionItemId 경매 상품 ID
+     * @return 예치 ID (없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public Long findHeldReservationId(Long auctionItemId) {
+        return pointReservationRepository
+                .findFirstByAuctionItemIdAndStatusOrderByIdDesc(auctionItemId, PointReservation.Status.HELD)
+                .map(PointReservation::getId)
+                .orElse(null);
+    }
+
+    /**
+     * 🔹 사용 가능 잔액 조회 (DB 의 최신 값)
+     *
+     * @param userId 사용자 ID
+     * @return 사용 가능 포인트
+     */
+    @Transactional(readOnly = true)
+    public int getBalance(Long userId) {
+        Integer points = userRepository.findPointsById(userId);
+        return (points != null) ? points : 0;
+    }
+
+    private void release(PointReservation reservation) {
+        if (pointReservationRepository.transition(reservation.getId(),
+                PointReservation.Status.HELD, PointReservation.Status.RELEASED) == 0) {
+            return; // 이미 처리됨
+        }
+        Long userId = reservation.getUser().getId();
+        userRepository.addPoints(userId, reservation.getAmount());
+        append(userId, PointLedgerType.RELEASE, reservation.getAmount(), reservation.getAuctionItemId());
+    }
+
+    private void append(Long userId, PointLedgerType type, int amount, Long auctionItemId) {
+        User user = userRepository.getReferenceById(userId);
+        pointLedgerEntryRepository.save(PointLedgerEntry.create(user, type, amount, auctionItemId));
+        eventPublisher.publishEvent(new PointLedgerRecordedEvent(userId, type, amount, auctionItemId));
+
+        // ✅ 캐시된 사용자 스냅샷의 포인트가 바뀌었으므로 커밋 이후 제거 (DEBIT 은 잔액 변화 없음)
+        if (type != PointLedgerType.DEBIT) {
+            userCacheService.evict(userId);
+        }
+    }
+}
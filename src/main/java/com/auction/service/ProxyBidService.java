@@ -0,0 +1,126 @@
+package com.auction.service;
+
+import com.auction.domain.ProxyBid;
+import com.auction.event.AuctionClosedEvent;
+import com.auction.repository.ProxyBidRepository;
+import com.auction.repository.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 🤖 자동 입찰(최대 입찰가) 저장 서비스
+ * - 자동 입찰의 등록/상태 변경만 DB 에 기록하고, 실제 응찰 계산은 {@link BidEngine} 이 메모리에서 수행
+ */
+@Service
+public class ProxyBidService {
+
+    private final ProxyBidRepository proxyBidRepository;
+    private final UserRepository userRepository;
+
+    public ProxyBidService(ProxyBidRepository proxyBidRepository, UserRepository userRepository) {
+        this.proxyBidRepository = proxyBidRepository;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * 자동 입찰 등록 결과 (입찰 엔진이 등록을 받아들이지 못하면 {@link #revert} 로 등록 전 상태로 되돌림)
+     *
+     * @param proxyId 자동 입찰 ID
+     * @param registeredAt 등록 시각
+     * @param previousMaxAmount 등록 전 최대 금액 (새로 만든 경우 null)
+     * @param previousStatus 등록 전 상태 (새로 만든 경우 null)
+     * @param previousRegisteredAt 등록 전 등록 시각 (새로 만든 경우 null)
+     */
+    public record Registration(Long proxyId, LocalDateTime registeredAt, Integer previousMaxAmount,
+                               ProxyBid.Status previousStatus, LocalDateTime previousRegisteredAt) {
+    }
+
+    /**
+     * 🔹 자동 입찰 등록 (이미 있으면 최대 금액을 올리고 다시 응찰 상태로 전환)
+     * - 입찰 엔진은 장부 락을 잡기 전에 호출하여, 등록 트랜잭션이 장부 락 안에서 커밋되지 않도록 함
+     *
+     * @param userId 사용자 ID
+     * @param auctionItemId 경매 상품 ID
+     * @param maxAmount 최대 입찰 금액
+     * @return 등록 결과 (되돌리기 위한 등록 전 상태 포함)
+     * @throws IllegalArgumentException 응찰 중인 기존 최대 금액 이하로 변경하려는 경우
+     */
+    @Transactional
+    public Registration register(Long userId, Long auctionItemId, int maxAmount) {
+        LocalDateTime now = LocalDateTime.now();
+        return proxyBidRepository.findByAuctionItemIdAndUserId(auctionItemId, userId)
+                .map(proxyBid -> {
+                    if (proxyBid.getStatus() == ProxyBid.Status.ACTIVE && maxAmount <= proxyBid.getMaxAmount()) {
+                        throw new IllegalArgumentException("최대 입찰가는 기존 최대 입찰가보다 높아야 합니다.");
+                    }
+                    Registration registration = new Registration(proxyBid.getId(), now, proxyBid.getMaxAmount(),
+                            proxyBid.getStatus(), proxyBid.getRegisteredAt());
+                    proxyBid.setMaxAmount(maxAmount);
+                    proxyBid.setStatus(ProxyBid.Status.ACTIVE);
+                    proxyBid.setRegisteredAt(now);
+                    return registration;
+                })
+                .orElseGet(() -> {
+                    ProxyBid saved = proxyBidRepository.save(
+                            ProxyBid.register(userRepository.getReferenceById(userId), auctionItemId, maxAmount));
+                    return new Registration(saved.getId(), saved.getRegisteredAt(), null, null, null);
+                });
+    }
+
+    /**
+     * 🔹 입찰 엔진이 받아들이지 못한 자동 입찰 등록을 되돌림 (새로 만든 자동 입찰은 삭제, 기존 자동 입찰은 이전 상태로 복원)
+     *
+     * @param registration 되돌릴 등록 결과
+     */
+    @Transactional
+    public void revert(Registration registration) {
+        if (registration.previousStatus() == null) {
+            proxyBidRepository.deleteById(registration.proxyId());
+            return;
+        }
+        proxyBidRepository.findById(registration.proxyId()).ifPresent(proxyBid -> {
+            proxyBid.setMaxAmount(registration.previousMaxAmount());
+            proxyBid.setStatus(registration.previousStatus());
+            proxyBid.setRegisteredAt(registration.previousRegisteredAt());
+        });
+    }
+
+    /**
+     * 🔹 응찰 중인 자동 입찰 조회 (입찰 장부 적재 시)
+     *
+     * @param auctionItemId 경매 상품 ID
+     * @return 자동 입찰 요약 목록
+     */
+    @Transactional(readOnly = true)
+    public List<ProxyBidRepository.ProxySummary> findActive(Long auctionItemId) {
+        return proxyBidRepository.findSummaries(auctionItemId, ProxyBid.Status.ACTIVE);
+    }
+
+    /**
+     * 🔹 응찰 중인 자동 입찰을 종료 상태로 변경 (상회됨 / 포인트 부족)
+     *
+     * @param proxyIds 자동 입찰 ID 목록
+     * @param status 변경할 상태
+     */
+    @Transactional
+    public void deactivate(Collection<Long> proxyIds, ProxyBid.Status status) {
+        if (!proxyIds.isEmpty()) {
+            proxyBidRepository.transition(proxyIds, ProxyBid.Status.ACTIVE, status);
+        }
+    }
+
+    /**
+     * 🔹 경매 마감이 커밋되면 남아 있는 자동 입찰을 모두 종료
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onAuctionClosed(AuctionClosedEvent event) {
+        proxyBidRepository.transitionAllForItem(event.auctionItemId(), ProxyBid.Status.ACTIVE, ProxyBid.Status.ENDED);
+    }
+}
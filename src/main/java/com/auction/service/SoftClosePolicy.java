@@ -0,0 +1,41 @@
+package com.auction.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * ⏱️ 마감 연장(soft-close) 정책
+ * - 마감 직전 window 안에 들어온 입찰은 마감 시간을 extension 만큼 늦춤
+ * - 마감 직전 몇 초에 입찰이 몰리는 스나이핑을 줄여, 마지막 순간의 입찰 폭주를 연장 시간 동안 분산
+ * - window 가 0 이면 연장하지 않음
+ */
+@Component
+public class SoftClosePolicy {
+
+    private final Duration window;
+    private final Duration extension;
+
+    public SoftClosePolicy(@Value("${auction.soft-close.window:30s}") Duration window,
+                           @Value("${auction.soft-close.extension:30s}") Duration extension) {
+        this.window = window;
+        this.extension = extension;
+    }
+
+    /**
+     * 🔹 입찰 시각 기준으로 적용할 마감 시간
+     *
+     * @param endTime 현재 마감 시간
+     * @param bidTime 입찰 시각
+     * @return 연장 구간이면 endTime + extension, 아니면 endTime
+     */
+    public LocalDateTime endTimeAfterBid(LocalDateTime endTime, LocalDateTime bidTime) {
+        if (window.isZero() || extension.isZero()) {
+            return endTime;
+        }
+        boolean inWindow = !bidTime.isBefore(endTime.minus(window)) && bidTime.isBefore(endTime);
+        return inWindow ? endTime.plus(extension) : endTime;
+    }
+}
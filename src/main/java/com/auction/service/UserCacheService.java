@@ -0,0 +1,112 @@
+package com.auction.service;
+
+import com.auction.domain.User;
+import com.auction.repository.UserRepository;
+import com.auction.security.CustomUserDetails;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 👤 사용자 조회 캐시
+ * - 요청마다 반복되던 findByEmail 을 대신하여, 사용자 ID / 이메일 기준으로 메모리에서 조회
+ * - 크기 상한과 TTL 이 있으며, 포인트 변경 / 정지·해제 / 관리자 수정 시 커밋 이후 제거
+ * - 캐시된 User 는 여러 요청이 공유하는 읽기 전용 스냅샷이므로 값을 변경하면 안 됨
+ *   (변경이 필요하면 UserRepository 로 다시 조회)
+ */
+@Service
+public class UserCacheService {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, User> usersById;
+    private final Cache<String, Long> idsByEmail; // 이메일은 변경되지 않으므로 제거하지 않음
+
+    public UserCacheService(UserRepository userRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${auction.user-cache.max-size:10000}") long maxSize,
+                            @Value("${auction.user-cache.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idsByEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "users");
+    }
+
+    /**
+     * 🔹 로그인한 사용자 조회
+     * - 인증 정보(CustomUserDetails)에 담긴 사용자 ID 로 조회하므로 캐시 적중 시 쿼리 없음
+     *
+     * @param userDetails 로그인한 사용자 정보
+     * @return 사용자 (Optional)
+     */
+    public Optional<User> getCurrentUser(UserDetails userDetails) {
+        if (userDetails instanceof CustomUserDetails customUserDetails) {
+            return findById(customUserDetails.getUserId());
+        }
+        return findByEmail(userDetails.getUsername());
+    }
+
+    /**
+     * 🔹 사용자 ID 로 조회 (캐시에 없으면 DB 조회 후 저장)
+     */
+    public Optional<User> findById(Long userId) {
+        User cached = usersById.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return userRepository.findById(userId).map(this::put);
+    }
+
+    /**
+     * 🔹 이메일로 조회 (캐시에 없으면 DB 조회 후 저장)
+     */
+    public Optional<User> findByEmail(String email) {
+        Long userId = idsByEmail.getIfPresent(email);
+        if (userId != null) {
+            User cached = usersById.getIfPresent(userId);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+        return userRepository.findByEmail(email).map(this::put);
+    }
+
+    /**
+     * 🔹 사용자 캐시 제거
+     * - 트랜잭션 안이면 즉시 한 번, 커밋 이후 한 번 더 제거
+     *   (커밋 전에 다른 요청이 이전 값을 다시 적재해도 커밋 직후 정리됨)
+     *
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        usersById.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    usersById.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    private User put(User user) {
+        usersById.put(user.getId(), user);
+        idsByEmail.put(user.getEmail(), user.getId());
+        return user;
+    }
+}
@@ -6,6 +6,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 /**
  * 사용자 서비스 - 회원가입 및 사용자 관리 로직 처리
  */
@@ -53,4 +55,19 @@ public class UserService {
         // 사용자 저장
         userRepository.save(user);
     }
-}
\ No newline at end of file
+
+    /**
+     * 🔹 사용자 정지 / 정지 해제
+     * - 읽은 뒤 포인트가 변경되었으면 낙관적 잠금 실패로 롤백되므로 {@link ConflictRetry} 로 감싸 호출
+     *
+     * @param userId 사용자 ID
+     * @param banned 정지 여부
+     * @return 변경된 사용자 (없으면 empty)
+     */
+    @Transactional
+    public Optional<User> updateBanned(final Long userId, final boolean banned) {
+        Optional<User> userOptional = userRepository.findById(userId);
+        userOptional.ifPresent(user -> user.setBanned(banned)); // 변경 감지로 커밋 시 버전 검사와 함께 UPDATE
+        return userOptional;
+    }
+}
@@ -0,0 +1,313 @@
+package com.auction.service;
+
+import com.auction.config.StartupOrder;
+import com.auction.domain.AuctionItem;
+import com.auction.domain.AuctionStatus;
+import com.auction.domain.UserStatCounts;
+import com.auction.domain.UserStats;
+import com.auction.domain.UserStatsDelta;
+import com.auction.event.AuctionClosedEvent;
+import com.auction.event.AuctionPurchaseConfirmedEvent;
+import com.auction.repository.AuctionItemRepository;
+import com.auction.repository.BidRepository;
+import com.auction.repository.UserStatsDeltaRepository;
+import com.auction.repository.UserStatsDeltaRepository.DeltaTotals;
+import com.auction.repository.UserStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 📊 판매자 / 입찰자 통계 서비스 (대시보드, 마이페이지)
+ * - 입찰 / 마감 / 구매 확정 / 상품 삭제 트랜잭션에서 사용자별 증분(user_stats_delta)을 INSERT 만 하여 기록
+ *   (인기 판매자의 통계 행 하나에 입찰 트랜잭션의 잠금이 몰리지 않음)
+ * - 주기적으로 증분을 사용자별 누적 통계(user_stats)에 합산하고 삭제 (compaction)
+ * - 조회는 누적 통계 1행 + 아직 합산되지 않은 그 사용자의 증분 합계로, 판매 / 입찰 이력 크기와 관계없이 쿼리 2건
+ * - 증분이 어긋났을 때(입찰 요약 컬럼 보정 등)는 관리자가 원본 테이블로부터 다시 구성({@link #rebuild()})
+ * - 합산 / 재구성 트랜잭션은 잠금 행(user_stats_lock)을 먼저 잠가 여러 노드에서도 서로 겹치지 않음
+ *   (노드 안에서는 ReentrantLock 으로 먼저 줄을 세워, 가상 스레드가 DB 잠금을 기다리며 캐리어 스레드를 붙잡지 않음)
+ */
+@Service
+public class UserStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserStatsService.class);
+
+    private final UserStatsRepository statsRepository;
+    private final UserStatsDeltaRepository deltaRepository;
+    private final AuctionItemRepository auctionItemRepository;
+    private final BidRepository bidRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int compactionBatchSize;
+    private final ReentrantLock maintenanceLock = new ReentrantLock();
+
+    public UserStatsService(UserStatsRepository statsRepository,
+                            UserStatsDeltaRepository deltaRepository,
+                            AuctionItemRepository auctionItemRepository,
+                            BidRepository bidRepository,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${auction.stats.compaction-batch-size:5000}") int compactionBatchSize) {
+        this.statsRepository = statsRepository;
+        this.deltaRepository = deltaRepository;
+        this.auctionItemRepository = auctionItemRepository;
+        this.bidRepository = bidRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.compactionBatchSize = compactionBatchSize;
+    }
+
+    /**
+     * 🔹 사용자 통계 조회 (누적 통계 + 아직 합산되지 않은 증분)
+     * - 한 트랜잭션에서 읽어, 그 사이 합산이 커밋되어도 같은 증분을 두 번 세지 않음 (MySQL REPEATABLE READ 스냅샷)
+     *
+     * @param userId 사용자 ID
+     * @return 사용자 통계 (기록이 없으면 모두 0)
+     */
+    @Transactional(readOnly = true)
+    public UserStatCounts getStats(Long userId) {
+        UserStatCounts compacted = statsRepository.findById(userId)
+                .map(UserStats::getCounts)
+                .orElseGet(UserStatCounts::zero);
+        return deltaRepository.sumPending(userId)
+                .map(pending -> compacted.plus(pending.toCounts()))
+                .orElse(compacted);
+    }
+
+    /**
+     * 🔹 수락된 입찰 반영 (입찰 기록 트랜잭션 안에서 호출)
+     * - 판매자: 진행 중 상품의 입찰 수 + count / 입찰자: 입찰 수 + count
+     *
+     * @param sellerId 판매자 ID
+     * @param bidderId 입찰자 ID
+     * @param count 함께 기록된 입찰 수
+     */
+    public void recordBids(Long sellerId, Long bidderId, int count) {
+        List<UserStatsDelta> deltas = new ArrayList<>(2);
+        if (sellerId != null) {
+            deltas.add(new UserStatsDelta(sellerId, UserStatCounts.builder().openBidCount(count).build()));
+        }
+        deltas.add(new UserStatsDelta(bidderId, UserStatCounts.builder().bidsPlaced(count).build()));
+        deltaRepository.saveAll(deltas);
+    }
+
+    /**
+     * 🔹 경매 마감 반영 (마감 트랜잭션 커밋 직전, 같은 트랜잭션에서 기록)
+     * - 판매자: 낙찰 / 유찰 수 + 1, 낙찰가 합계 + 낙찰가, 진행 중 상품의 입찰 수 - 마감된 상품의 입찰 수
+     * - 낙찰자: 낙찰 수 + 1
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onAuctionClosed(AuctionClosedEvent event) {
+        boolean sold = event.status() == AuctionStatus.SOLD;
+        List<UserStatsDelta> deltas = new ArrayList<>(2);
+        if (event.sellerId() != null) {
+            deltas.add(new UserStatsDelta(event.sellerId(), UserStatCounts.builder()
+                    .soldCount(sold ? 1 : 0)
+                    .unsoldCount(sold ? 0 : 1)
+                    .hammerTotal(sold ? event.finalPrice() : 0)
+                    .openBidCount(-event.bidCount())
+                    .build()));
+        }
+        if (sold && event.winnerId() != null) {
+            deltas.add(new UserStatsDelta(event.winnerId(), UserStatCounts.builder().wonCount(1).build()));
+        }
+        deltaRepository.saveAll(deltas);
+    }
+
+    /**
+     * 🔹 구매 확정 반영 (구매 확정 트랜잭션 커밋 직전, 같은 트랜잭션에서 기록)
+     * - 판매자: 판매 대금 합계 + 낙찰가 / 구매자: 구매 금액 합계 + 낙찰가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onPurchaseConfirmed(AuctionPurchaseConfirmedEvent event) {
+        deltaRepository.saveAll(List.of(
+                new UserStatsDelta(event.sellerId(), UserStatCounts.builder().salesTotal(event.price()).build()),
+                new UserStatsDelta(event.buyerId(), UserStatCounts.builder().spentTotal(event.price()).build())));
+    }
+
+    /**
+     * 🔹 삭제되는 상품이 통계에 반영한 값을 되돌림 (상품 삭제 트랜잭션 안에서 입찰 내역을 지우기 전에 호출)
+     *
+     * @param item 삭제할 경매 상품
+     */
+    public void recordItemRemoved(AuctionItem item) {
+        List<UserStatsDelta> deltas = new ArrayList<>();
+        boolean sold = item.getStatus() == AuctionStatus.SOLD;
+        int salesPrice = (sold && item.isPurchased()) ? item.getCurrentPrice() : 0;
+
+        if (item.getSeller() != null) {
+            UserStatCounts seller = UserStatCounts.builder()
+                    .soldCount(sold ? 1 : 0)
+                    .unsoldCount(item.getStatus() == AuctionStatus.UNSOLD ? 1 : 0)
+                    .hammerTotal(sold ? item.getCurrentPrice() : 0)
+                    .salesTotal(salesPrice)
+                    .openBidCount(item.getStatus() == AuctionStatus.OPEN ? item.getBidCount() : 0)
+                    .build();
+            deltas.add(new UserStatsDelta(item.getSeller().getId(), seller.negate()));
+        }
+        if (sold && item.getWinner() != null) {
+            UserStatCounts winner = UserStatCounts.builder().wonCount(1).spentTotal(salesPrice).build();
+            deltas.add(new UserStatsDelta(item.getWinner().getId(), winner.negate()));
+        }
+        for (BidRepository.BidderCount bidder : bidRepository.countByBidderForItem(item.getId())) {
+            deltas.add(new UserStatsDelta(bidder.getUserId(),
+                    UserStatCounts.builder().bidsPlaced(-bidder.getBidCount()).build()));
+        }
+        deltas.removeIf(delta -> delta.getCounts().isZero());
+        deltaRepository.saveAll(deltas);
+    }
+
+    /**
+     * 🔹 쌓인 증분을 누적 통계에 합산 (주기 실행)
+     * - 증분을 compaction-batch-size 개씩 가져가 각각 별도 트랜잭션에서 합산 후 삭제
+     * - 가져가기(claim)가 조건부 UPDATE 라 여러 노드가 동시에 실행해도 같은 증분을 두 번 더하지 않음
+     * - 실패하면 트랜잭션 전체가 롤백되어 증분이 그대로 남으므로 다음 실행에서 다시 합산
+     *
+     * @return 합산된 증분 수
+     */
+    @Scheduled(fixedDelayString = "${auction.stats.compaction-interval-ms:60000}",
+            initialDelayString = "${auction.stats.compaction-interval-ms:60000}")
+    public int compact() {
+        int compacted = 0;
+        maintenanceLock.lock();
+        try {
+            while (true) {
+                Integer count = transactionTemplate.execute(status -> compactBatch());
+                if (count == null || count == 0) {
+                    break;
+                }
+                compacted += count;
+                if (count < compactionBatchSize) {
+                    break;
+                }
+            }
+        } catch (DataAccessException e) {
+            logger.error("❌ 사용자 통계 합산 실패 - 다음 실행에서 재시도: {}", e.getMessage(), e);
+        } finally {
+            maintenanceLock.unlock();
+        }
+        if (compacted > 0) {
+            logger.debug("📊 사용자 통계 증분 합산 - {}건", compacted);
+        }
+        return compacted;
+    }
+
+    private int compactBatch() {
+        statsRepository.lockForMaintenance();
+        List<Long> ids = deltaRepository.findUnclaimedIds(PageRequest.of(0, compactionBatchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String compactionId = UUID.randomUUID().toString();
+        int claimed = deltaRepository.claim(compactionId, ids.get(ids.size() - 1));
+        if (claimed == 0) {
+            return 0; // 다른 노드가 먼저 가져감
+        }
+
+        for (DeltaTotals totals : deltaRepository.sumByCompaction(compactionId)) {
+            Optional<UserStats> stats = statsRepository.findForUpdate(totals.getUserId());
+            if (stats.isPresent()) {
+                stats.get().add(totals.toCounts());
+            } else {
+                statsRepository.save(new UserStats(totals.getUserId(), totals.toCounts()));
+            }
+        }
+        deltaRepository.deleteByCompactionId(compactionId);
+        return claimed;
+    }
+
+    /**
+     * 🔹 원본 테이블(auction_item, bids)로부터 누적 통계를 다시 구성 (관리자 명령, 시작 시 통계가 비어 있으면 자동 실행)
+     * - 누적 통계 = 원본 집계 - 아직 합산되지 않은 증분 (증분은 그대로 두고 이후 합산에 맡김)
+     * - 집계와 증분을 한 트랜잭션에서 읽으므로 그동안 들어온 입찰은 양쪽 중 한쪽에만 보임
+     * - 잠금 행을 잠근 뒤 읽기 시작하므로 다른 노드의 합산이 끼어들어 합산분이 빠지지 않음
+     *
+     * @return 통계를 구성한 사용자 수
+     */
+    public int rebuild() {
+        Integer users = rebuild(false);
+        return (users != null) ? users : 0;
+    }
+
+    /**
+     * 잠금 행을 잠근 트랜잭션에서 재구성 (onlyIfEmpty 이면 잠근 뒤 다시 확인하여 이미 구성되었으면 null)
+     */
+    private Integer rebuild(boolean onlyIfEmpty) {
+        maintenanceLock.lock();
+        try {
+            Integer users = transactionTemplate.execute(status -> {
+                statsRepository.lockForMaintenance();
+                if (onlyIfEmpty && statsRepository.count() > 0) {
+                    return null; // 다른 노드가 먼저 재구성함
+                }
+                return rebuildLocked();
+            });
+            if (users != null) {
+                logger.info("📊 사용자 통계 재구성 완료 - 사용자 {}명", users);
+            }
+            return users;
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    private int rebuildLocked() {
+        Map<Long, UserStatCounts> rebuilt = new HashMap<>();
+        for (DeltaTotals pending : deltaRepository.sumAllPending()) {
+            rebuilt.merge(pending.getUserId(), pending.toCounts().negate(), UserStatCounts::plus);
+        }
+        for (AuctionItemRepository.SellerStatsRow row : auctionItemRepository.summarizeStatsBySeller(
+                AuctionStatus.OPEN, AuctionStatus.SOLD, AuctionStatus.UNSOLD)) {
+            rebuilt.merge(row.getUserId(), UserStatCounts.builder()
+                    .soldCount(row.getSoldCount())
+                    .unsoldCount(row.getUnsoldCount())
+                    .hammerTotal(row.getHammerTotal())
+                    .salesTotal(row.getSalesTotal())
+                    .openBidCount(row.getOpenBidCount())
+                    .build(), UserStatCounts::plus);
+        }
+        for (AuctionItemRepository.WinnerStatsRow row : auctionItemRepository.summarizeStatsByWinner(AuctionStatus.SOLD)) {
+            rebuilt.merge(row.getUserId(), UserStatCounts.builder()
+                    .wonCount(row.getWonCount())
+                    .spentTotal(row.getSpentTotal())
+                    .build(), UserStatCounts::plus);
+        }
+        for (BidRepository.BidderCount row : bidRepository.countByBidder()) {
+            rebuilt.merge(row.getUserId(), UserStatCounts.builder().bidsPlaced(row.getBidCount()).build(),
+                    UserStatCounts::plus);
+        }
+
+        statsRepository.deleteAllInBatch();
+        statsRepository.flush();
+        statsRepository.saveAll(rebuilt.entrySet().stream()
+                .map(entry -> new UserStats(entry.getKey(), entry.getValue()))
+                .toList());
+        return rebuilt.size();
+    }
+
+    /**
+     * 🔹 시작 시 누적 통계가 비어 있으면 재구성 (통계 도입 이전 이력 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(StartupOrder.USER_STATS)
+    public void rebuildIfEmpty() {
+        try {
+            if (statsRepository.count() == 0) {
+                rebuild(true);
+            }
+        } catch (DataAccessException e) {
+            logger.error("❌ 사용자 통계 재구성 실패: {}", e.getMessage(), e);
+        }
+    }
+}
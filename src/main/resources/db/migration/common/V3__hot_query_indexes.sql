@@ -0,0 +1,22 @@
+-- 자주 실행되는 조회용 인덱스 (HotQueryIndexTest 가 EXPLAIN 으로 사용 여부를 확인)
+-- 외래 키 컬럼으로 시작하는 복합 인덱스이므로 MySQL 이 외래 키용으로 따로 만든 단일 컬럼 인덱스를 대신함
+
+-- 판매자의 등록 상품 (마이페이지, 마감 시간 순)
+create index idx_auction_item_seller_end_time
+    on auction_item (user_id, end_time, id);
+
+-- 낙찰자의 낙찰 상품 (마이페이지 / 낙찰 내역, 마감 시간 순)
+create index idx_auction_item_winner_end_time
+    on auction_item (winner_id, end_time, id);
+
+-- 상품별 입찰 내역 (금액 순), 최고 입찰, 입찰 요약 집계(count / max 금액 / max 시각)를 인덱스만으로 처리
+create index idx_bids_item_amount
+    on bids (auction_item_id, bid_amount, bid_time);
+
+-- 사용자별 충전 내역 (충전 시각 역순)
+create index idx_charge_history_user_charged_at
+    on charge_history (user_id, charged_at);
+
+-- 상품별 예치 포인트 (입찰 수락 / 마감 시 이전 최고 입찰자의 예치금 해제)
+create index idx_point_reservation_item_status
+    on point_reservation (auction_item_id, status);
@@ -0,0 +1,6 @@
+-- 낙관적 잠금 버전 (엔티티 저장과 조건부 UPDATE 마다 1씩 증가)
+-- 기존 행은 0 에서 시작
+
+alter table auction_item add column version bigint not null default 0;
+
+alter table users add column version bigint not null default 0;
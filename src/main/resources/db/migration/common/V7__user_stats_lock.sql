@@ -0,0 +1,9 @@
+-- 사용자 통계 합산 / 재구성 잠금 행
+-- 여러 노드의 합산과 재구성이 겹치지 않도록 각 트랜잭션이 이 행을 select ... for update 로 잠근 뒤 진행
+
+create table user_stats_lock (
+    id integer not null,
+    primary key (id)
+);
+
+insert into user_stats_lock (id) values (1);
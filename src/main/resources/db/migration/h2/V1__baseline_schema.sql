@@ -0,0 +1,66 @@
+-- 기준 스키마 (H2 - 테스트 / 벤치마크용, MySQL 스키마와 같은 구조)
+
+create table auction_item (
+    purchased boolean not null,
+    start_price integer not null,
+    end_time timestamp(6) not null,
+    id bigint generated by default as identity,
+    user_id bigint not null,
+    winner_id bigint,
+    description varchar(500) not null,
+    name varchar(255) not null,
+    primary key (id)
+);
+
+create table bids (
+    bid_amount integer not null,
+    auction_item_id bigint not null,
+    bid_time timestamp(6) not null,
+    id bigint generated by default as identity,
+    user_id bigint not null,
+    primary key (id)
+);
+
+create table charge_history (
+    amount integer not null,
+    charged_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    user_id bigint not null,
+    primary key (id)
+);
+
+create table users (
+    is_admin boolean not null,
+    is_banned boolean not null,
+    points integer not null,
+    id bigint generated by default as identity,
+    email varchar(255) not null unique,
+    name varchar(255) not null,
+    password varchar(255) not null,
+    primary key (id)
+);
+
+alter table if exists auction_item
+   add constraint FKq66269k8oeg8cdb4ganlrydb7
+   foreign key (user_id)
+   references users;
+
+alter table if exists auction_item
+   add constraint FKo078voefeyv6xn5h8fuy0dkay
+   foreign key (winner_id)
+   references users;
+
+alter table if exists bids
+   add constraint FK953whd89fwobpfagdft0k56bf
+   foreign key (auction_item_id)
+   references auction_item;
+
+alter table if exists bids
+   add constraint FKmb21nl8gr3srgnlch3s18oqv9
+   foreign key (user_id)
+   references users;
+
+alter table if exists charge_history
+   add constraint FKeo8b55oc2qugtvn31ou431a5n
+   foreign key (user_id)
+   references users;
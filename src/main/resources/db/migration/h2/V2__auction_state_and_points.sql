@@ -0,0 +1,112 @@
+-- 기준 스키마(V1) 이후 추가된 경매 상태 / 포인트 / 메일 / 자동 입찰 스키마 (H2 - MySQL 스키마와 같은 구조)
+
+alter table auction_item add column bid_count integer default 0 not null;
+
+alter table auction_item add column current_price integer default 0 not null;
+
+alter table auction_item add column highest_bidder_id bigint;
+
+alter table auction_item add column last_bid_at timestamp(6);
+
+alter table auction_item add column status enum ('OPEN','SOLD','UNSOLD') default 'OPEN' not null;
+
+update auction_item a
+   set bid_count = (select count(*) from bids b where b.auction_item_id = a.id),
+       current_price = coalesce((select max(b.bid_amount) from bids b where b.auction_item_id = a.id), a.start_price),
+       highest_bidder_id = (select b.user_id from bids b where b.auction_item_id = a.id
+                            order by b.bid_amount desc, b.bid_time, b.id limit 1),
+       last_bid_at = (select max(b.bid_time) from bids b where b.auction_item_id = a.id);
+
+update auction_item
+   set status = case
+           when winner_id is not null then 'SOLD'
+           when end_time <= current_timestamp(6) and bid_count = 0 then 'UNSOLD'
+           else 'OPEN'
+       end;
+
+alter table bids alter column id drop identity;
+
+alter table charge_history alter column id drop identity;
+
+create sequence bid_seq start with 1 increment by 50;
+
+alter sequence bid_seq restart with (select coalesce(max(id), 0) + 1 from bids);
+
+create sequence charge_history_seq start with 1 increment by 50;
+
+alter sequence charge_history_seq restart with (select coalesce(max(id), 0) + 1 from charge_history);
+
+create table mail_outbox (
+    attempts integer not null,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    next_attempt_at timestamp(6) not null,
+    sent_at timestamp(6),
+    last_error varchar(500),
+    recipient varchar(255) not null,
+    subject varchar(255) not null,
+    body clob not null, -- MySQL 모드의 H2 는 TEXT 를 VARCHAR 로 만들기 때문에 CLOB 으로 지정
+    status enum ('DEAD','PENDING','SENDING','SENT') not null,
+    primary key (id)
+);
+
+create table point_ledger (
+    amount integer not null,
+    auction_item_id bigint,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    user_id bigint not null,
+    type enum ('CREDIT','DEBIT','HOLD','RELEASE') not null,
+    primary key (id)
+);
+
+create table point_reservation (
+    amount integer not null,
+    auction_item_id bigint not null,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    user_id bigint not null,
+    status enum ('CAPTURED','HELD','RELEASED') not null,
+    primary key (id)
+);
+
+create table proxy_bid (
+    max_amount integer not null,
+    auction_item_id bigint not null,
+    id bigint generated by default as identity,
+    registered_at timestamp(6) not null,
+    user_id bigint not null,
+    status enum ('ACTIVE','CANCELLED','ENDED','OUTBID') not null,
+    primary key (id),
+    constraint uk_proxy_bid_item_user unique (auction_item_id, user_id)
+);
+
+create index idx_auction_item_end_time_id
+   on auction_item (end_time, id);
+
+create index idx_auction_item_status_end_time_id
+   on auction_item (status, end_time, id);
+
+create index idx_bids_user_item
+   on bids (user_id, auction_item_id);
+
+create index idx_mail_outbox_status_next_attempt
+   on mail_outbox (status, next_attempt_at);
+
+create index idx_proxy_bid_item_status
+   on proxy_bid (auction_item_id, status);
+
+alter table if exists point_ledger
+   add constraint FKp7dfty41b9y99r4r2sll6wu6i
+   foreign key (user_id)
+   references users;
+
+alter table if exists point_reservation
+   add constraint FKgddx612vw4ox75nce81sn1ucw
+   foreign key (user_id)
+   references users;
+
+alter table if exists proxy_bid
+   add constraint FKlf0j39b4p5xdpevg8nxmt3n1k
+   foreign key (user_id)
+   references users;
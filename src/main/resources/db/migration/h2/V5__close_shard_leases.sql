@@ -0,0 +1,16 @@
+-- 마감 처리 샤드 임대와 클러스터 구성원 (여러 인스턴스가 경매 마감을 나눠 처리하고, 입찰을 담당 노드에 전달)
+-- 샤드 행은 애플리케이션이 설정된 샤드 수만큼 만듦
+
+create table close_shard_lease (
+    shard_id integer not null,
+    owner varchar(100),
+    expires_at timestamp(6) not null,
+    primary key (shard_id)
+);
+
+create table cluster_node (
+    node_id varchar(100) not null,
+    base_url varchar(255),
+    heartbeat_at timestamp(6) not null,
+    primary key (node_id)
+);
@@ -0,0 +1,71 @@
+-- 기준 스키마 (MySQL)
+-- ddl-auto: update 로 운영되던 스키마를 그대로 옮긴 것으로, 기존 DB 는 baseline-on-migrate 로 이 버전을 건너뜀
+-- 이후 추가된 컬럼 / 테이블은 모두 V2 부터 (빈 DB 와 기존 DB 모두에 같은 순서로 적용)
+
+create table auction_item (
+    purchased bit not null,
+    start_price integer not null,
+    end_time datetime(6) not null,
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    winner_id bigint,
+    description varchar(500) not null,
+    name varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table bids (
+    bid_amount integer not null,
+    auction_item_id bigint not null,
+    bid_time datetime(6) not null,
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table charge_history (
+    amount integer not null,
+    charged_at datetime(6) not null,
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table users (
+    is_admin bit not null,
+    is_banned bit not null,
+    points integer not null,
+    id bigint not null auto_increment,
+    email varchar(255) not null,
+    name varchar(255) not null,
+    password varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table users
+   add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table auction_item
+   add constraint FKq66269k8oeg8cdb4ganlrydb7
+   foreign key (user_id)
+   references users (id);
+
+alter table auction_item
+   add constraint FKo078voefeyv6xn5h8fuy0dkay
+   foreign key (winner_id)
+   references users (id);
+
+alter table bids
+   add constraint FK953whd89fwobpfagdft0k56bf
+   foreign key (auction_item_id)
+   references auction_item (id);
+
+alter table bids
+   add constraint FKmb21nl8gr3srgnlch3s18oqv9
+   foreign key (user_id)
+   references users (id);
+
+alter table charge_history
+   add constraint FKeo8b55oc2qugtvn31ou431a5n
+   foreign key (user_id)
+   references users (id);
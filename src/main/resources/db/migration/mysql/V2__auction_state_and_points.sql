@@ -0,0 +1,121 @@
+-- 기준 스키마(V1) 이후 추가된 경매 상태 / 포인트 / 메일 / 자동 입찰 스키마 (MySQL)
+-- 빈 DB 와 V1 으로 baseline 된 기존 DB 모두에 적용되므로, 추가한 컬럼은 기존 행에 맞게 채움
+
+-- ✅ 경매 상품 요약 컬럼 (현재가 / 최고 입찰자 / 입찰 수 / 마지막 입찰 시간) 과 상태
+alter table auction_item
+    add column bid_count integer default 0 not null,
+    add column current_price integer default 0 not null,
+    add column highest_bidder_id bigint,
+    add column last_bid_at datetime(6),
+    add column status enum ('OPEN','SOLD','UNSOLD') default 'OPEN' not null;
+
+update auction_item a
+   set a.bid_count = (select count(*) from bids b where b.auction_item_id = a.id),
+       a.current_price = coalesce((select max(b.bid_amount) from bids b where b.auction_item_id = a.id), a.start_price),
+       a.highest_bidder_id = (select b.user_id from bids b where b.auction_item_id = a.id
+                              order by b.bid_amount desc, b.bid_time, b.id limit 1),
+       a.last_bid_at = (select max(b.bid_time) from bids b where b.auction_item_id = a.id);
+
+-- ✅ 낙찰자가 정해진 상품은 낙찰, 입찰 없이 끝난 상품은 유찰
+--    (입찰이 있는데 아직 낙찰자가 없는 상품은 OPEN 으로 두고 시작 시 마감 처리가 낙찰로 바꿈)
+update auction_item
+   set status = case
+           when winner_id is not null then 'SOLD'
+           when end_time <= current_timestamp(6) and bid_count = 0 then 'UNSOLD'
+           else 'OPEN'
+       end;
+
+-- ✅ 입찰 / 충전 내역 ID 를 자동 증가에서 시퀀스로 변경 (INSERT 를 JDBC 배치로 묶기 위함)
+--    MySQL 은 시퀀스가 없어 Hibernate 가 쓰는 시퀀스 테이블 (next_val 한 행), 기존 최대 ID 다음부터 발급
+alter table bids modify id bigint not null;
+
+alter table charge_history modify id bigint not null;
+
+create table bid_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into bid_seq select coalesce(max(id), 0) + 1 from bids;
+
+create table charge_history_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into charge_history_seq select coalesce(max(id), 0) + 1 from charge_history;
+
+create table mail_outbox (
+    attempts integer not null,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    next_attempt_at datetime(6) not null,
+    sent_at datetime(6),
+    last_error varchar(500),
+    recipient varchar(255) not null,
+    subject varchar(255) not null,
+    body TEXT not null,
+    status enum ('DEAD','PENDING','SENDING','SENT') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table point_ledger (
+    amount integer not null,
+    auction_item_id bigint,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    type enum ('CREDIT','DEBIT','HOLD','RELEASE') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table point_reservation (
+    amount integer not null,
+    auction_item_id bigint not null,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    status enum ('CAPTURED','HELD','RELEASED') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table proxy_bid (
+    max_amount integer not null,
+    auction_item_id bigint not null,
+    id bigint not null auto_increment,
+    registered_at datetime(6) not null,
+    user_id bigint not null,
+    status enum ('ACTIVE','CANCELLED','ENDED','OUTBID') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_auction_item_end_time_id
+   on auction_item (end_time, id);
+
+create index idx_auction_item_status_end_time_id
+   on auction_item (status, end_time, id);
+
+create index idx_bids_user_item
+   on bids (user_id, auction_item_id);
+
+create index idx_mail_outbox_status_next_attempt
+   on mail_outbox (status, next_attempt_at);
+
+create index idx_proxy_bid_item_status
+   on proxy_bid (auction_item_id, status);
+
+alter table proxy_bid
+   add constraint uk_proxy_bid_item_user unique (auction_item_id, user_id);
+
+alter table point_ledger
+   add constraint FKp7dfty41b9y99r4r2sll6wu6i
+   foreign key (user_id)
+   references users (id);
+
+alter table point_reservation
+   add constraint FKgddx612vw4ox75nce81sn1ucw
+   foreign key (user_id)
+   references users (id);
+
+alter table proxy_bid
+   add constraint FKlf0j39b4p5xdpevg8nxmt3n1k
+   foreign key (user_id)
+   references users (id);
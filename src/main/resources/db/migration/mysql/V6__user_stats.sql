@@ -0,0 +1,37 @@
+-- 판매자 / 입찰자 통계
+-- user_stats: 사용자별 누적 통계 (주기적 합산 결과)
+-- user_stats_delta: 입찰 / 마감 / 구매 확정 / 상품 삭제 시 같은 트랜잭션에서 추가하는 증분 (합산되면 삭제)
+
+create table user_stats (
+    user_id bigint not null,
+    sold_count bigint default 0 not null,
+    unsold_count bigint default 0 not null,
+    hammer_total bigint default 0 not null,
+    sales_total bigint default 0 not null,
+    open_bid_count bigint default 0 not null,
+    bids_placed bigint default 0 not null,
+    won_count bigint default 0 not null,
+    spent_total bigint default 0 not null,
+    primary key (user_id)
+) engine=InnoDB;
+
+create table user_stats_delta (
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    sold_count bigint default 0 not null,
+    unsold_count bigint default 0 not null,
+    hammer_total bigint default 0 not null,
+    sales_total bigint default 0 not null,
+    open_bid_count bigint default 0 not null,
+    bids_placed bigint default 0 not null,
+    won_count bigint default 0 not null,
+    spent_total bigint default 0 not null,
+    compaction_id varchar(36),
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_user_stats_delta_user
+   on user_stats_delta (user_id);
+
+create index idx_user_stats_delta_compaction
+   on user_stats_delta (compaction_id, id);
@@ -0,0 +1,423 @@
+package com.auction;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.h2.tools.Server;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 입찰 라우팅 다중 프로세스 테스트 (./gradlew clusterTest)
+ * - 같은 H2(TCP 서버) DB 를 쓰는 애플리케이션 노드 3개를 별도 프로세스로 띄우고, 입찰자들이 임의의 노드로 대량 입찰을 동시에 보냄
+ * - 입찰을 받은 노드는 담당 노드로 전달하므로 어느 노드로 보내도 결과가 같아야 함
+ * - 중간에 노드 하나를 강제 종료하고, 생존 신호가 만료된 뒤 남은 노드가 그 노드의 상품을 이어받아 입찰을 처리하는지 확인
+ * - 마지막에 상품마다 요약 컬럼 / 입찰 기록 / 포인트 예약이 서로 맞는지, 수락된 입찰이 빠지거나 중복되지 않았는지 확인
+ * - 담당 노드가 아닌 노드의 실시간 시세 구독자도 전달된 입찰 이벤트로 새 시세를 받는지 확인
+ */
+@Tag("cluster")
+class ClusterBidRoutingTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterBidRoutingTest.class);
+
+    private static final int NODES = 3;
+    private static final int ITEMS = 24;
+    private static final int BIDDERS = 6;
+    private static final int ROUNDS = 30; // 단계마다 입찰자 1명이 보내는 요청 수
+    private static final int BIDS_PER_REQUEST = 8;
+    private static final int INITIAL_POINTS = 100_000_000;
+    private static final int START_PRICE = 1000;
+    private static final Duration NODE_TTL = Duration.ofSeconds(3);
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofMillis(300);
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(90);
+    private static final String SECRET = "cluster-test-secret";
+    private static final String PASSWORD = "bidder-password";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+    private final AtomicInteger priceTicker = new AtomicInteger(START_PRICE);
+
+    @Test
+    void bidsAreRoutedToOwningNodeAndStayConsistentWhenNodeDies() throws Exception {
+        Server h2 = Server.createTcpServer("-tcpPort", String.valueOf(freePort()), "-ifNotExists").start();
+        String jdbcUrl = "jdbc:h2:tcp://localhost:" + h2.getPort() + "/mem:cluster;MODE=MySQL;DB_CLOSE_DELAY=-1";
+        Path logDirectory = Files.createTempDirectory("auction-cluster-test");
+        List<Node> nodes = new ArrayList<>();
+        try {
+            // ✅ 첫 노드가 스키마 마이그레이션과 관리자 계정 생성을 마친 뒤 나머지 노드 실행
+            nodes.add(Node.start("node-0", jdbcUrl, logDirectory));
+            awaitReady(nodes.get(0));
+            for (int i = 1; i < NODES; i++) {
+                nodes.add(Node.start("node-" + i, jdbcUrl, logDirectory));
+            }
+            for (Node node : nodes) {
+                awaitReady(node);
+            }
+
+            List<String> bidders;
+            long probeBidderId;
+            try (Connection connection = DriverManager.getConnection(jdbcUrl, "sa", "")) {
+                bidders = seed(connection);
+                probeBidderId = queryLong(connection, "select min(id) from users where email like 'bidder-%'");
+            }
+            awaitMembers(jdbcUrl, NODES);
+            assertSingleOwner(nodes, probeBidderId);
+
+            // ✅ 1단계: 노드 3개 모두에 입찰
+            Outcome first = bid(nodes, bidders);
+            assertThat(first.failed.sum()).as("1단계 실패 요청 수 (로그: %s)", logDirectory).isZero();
+            assertThat(first.accepted.sum()).isPositive();
+
+            // ✅ 노드 하나를 강제 종료 (정상 종료 절차 없이) → 생존 신호가 만료되면 남은 노드가 담당을 나눠 가짐
+            Node killed = nodes.remove(NODES - 1);
+            killed.process.destroyForcibly().waitFor(10, TimeUnit.SECONDS);
+            Thread.sleep(NODE_TTL.plus(HEARTBEAT_INTERVAL.multipliedBy(4)).toMillis());
+
+            // ✅ 2단계: 남은 노드에만 입찰 (종료된 노드가 담당하던 상품 포함)
+            Outcome second = bid(nodes, bidders);
+            assertThat(second.failed.sum()).as("2단계 실패 요청 수 (로그: %s)", logDirectory).isZero();
+            assertThat(second.accepted.sum()).isPositive();
+
+            assertSingleOwner(nodes, probeBidderId);
+
+            try (Connection connection = DriverManager.getConnection(jdbcUrl, "sa", "")) {
+                assertConsistent(connection, first.accepted.sum() + second.accepted.sum());
+            }
+            logger.info("입찰 라우팅 - 1단계 수락 {}건, 2단계 수락 {}건", first.accepted.sum(), second.accepted.sum());
+
+            // ✅ 입찰을 처리하지 않은 노드의 구독자도 새 시세를 받음
+            assertPricePushedToAllNodes(nodes, bidders.get(0));
+        } finally {
+            nodes.forEach(Node::stop);
+            h2.stop();
+        }
+    }
+
+    /**
+     * 입찰자마다 ROUNDS 번, 임의의 노드로 여러 상품에 걸친 대량 입찰을 보냄 (금액은 전체에서 계속 증가)
+     */
+    private Outcome bid(List<Node> nodes, List<String> bidders) throws Exception {
+        Outcome outcome = new Outcome();
+        try (ExecutorService executor = Executors.newFixedThreadPool(bidders.size())) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (String bidder : bidders) {
+                futures.add(executor.submit(() -> {
+                    for (int round = 0; round < ROUNDS; round++) {
+                        Node node = nodes.get(ThreadLocalRandom.current().nextInt(nodes.size()));
+                        sendBids(node, bidder, outcome);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return outcome;
+    }
+
+    private void sendBids(Node node, String bidder, Outcome outcome) throws IOException, InterruptedException {
+        List<Map<String, Object>> bids = new ArrayList<>();
+        for (int i = 0; i < BIDS_PER_REQUEST; i++) {
+            long itemId = 1 + ThreadLocalRandom.current().nextInt(ITEMS);
+            bids.add(Map.of("auctionItemId", itemId, "bidAmount", priceTicker.addAndGet(10)));
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(node.baseUrl + "/api/bids/batch"))
+                .header("Authorization", basic(bidder, PASSWORD))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(bids)))
+                .build();
+        HttpResponse<String> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            outcome.failed.increment();
+            return;
+        }
+        List<String> lines = response.body().lines().filter(line -> !line.isBlank()).toList();
+        if (response.statusCode() != 200 || lines.size() != bids.size()) {
+            outcome.failed.increment();
+            return;
+        }
+        for (String line : lines) {
+            JsonNode result = objectMapper.readTree(line);
+            if ("ACCEPTED".equals(result.path("status").asText())) {
+                outcome.accepted.increment();
+            }
+        }
+    }
+
+    /**
+     * 모든 노드에서 같은 상품의 실시간 시세를 구독한 뒤 한 노드로 입찰하면, 담당 노드가 아닌 노드의 구독자도 새 시세를 받아야 함
+     */
+    private void assertPricePushedToAllNodes(List<Node> nodes, String bidder) throws Exception {
+        long itemId = 1;
+        int amount = priceTicker.addAndGet(1000);
+        Map<String, CompletableFuture<Boolean>> received = new LinkedHashMap<>();
+        List<Stream<String>> streams = new ArrayList<>();
+        try {
+            for (Node node : nodes) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(node.baseUrl + "/auction-item/" + itemId + "/stream"))
+                        .header("Authorization", basic(bidder, PASSWORD))
+                        .build();
+                HttpResponse<Stream<String>> response = client.send(request, HttpResponse.BodyHandlers.ofLines());
+                assertThat(response.statusCode()).as("%s 시세 구독", node.id).isEqualTo(200);
+                streams.add(response.body());
+                received.put(node.id, CompletableFuture.supplyAsync(() ->
+                        response.body().anyMatch(line -> line.contains("\"price\":" + amount))));
+            }
+
+            HttpRequest bid = HttpRequest.newBuilder(URI.create(nodes.get(0).baseUrl + "/api/bids/batch"))
+                    .header("Authorization", basic(bidder, PASSWORD))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(
+                            List.of(Map.of("auctionItemId", itemId, "bidAmount", amount)))))
+                    .build();
+            assertThat(client.send(bid, HttpResponse.BodyHandlers.ofString()).body()).contains("ACCEPTED");
+
+            for (Map.Entry<String, CompletableFuture<Boolean>> entry : received.entrySet()) {
+                assertThat(entry.getValue().get(15, TimeUnit.SECONDS)).as("%s 구독자가 받은 시세 %d", entry.getKey(), amount)
+                        .isTrue();
+            }
+        } finally {
+            streams.forEach(Stream::close);
+        }
+    }
+
+    /**
+     * 상품마다 요약 컬럼 = 입찰 기록, 최고 입찰자의 포인트 예약 1건, 입찰자마다 보유 포인트 + 예약 = 초기 포인트
+     */
+    private static void assertConsistent(Connection connection, long acceptedBids) throws SQLException {
+        assertThat(queryLong(connection, "select count(*) from bids")).isEqualTo(acceptedBids);
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "select a.id, a.current_price, a.bid_count, a.highest_bidder_id, "
+                        + "(select count(*) from bids b where b.auction_item_id = a.id) as bids, "
+                        + "(select max(b.bid_amount) from bids b where b.auction_item_id = a.id) as max_bid, "
+                        + "(select b.user_id from bids b where b.auction_item_id = a.id order by b.bid_amount desc limit 1) as max_bidder "
+                        + "from auction_item a where a.status = 'OPEN'");
+             ResultSet items = statement.executeQuery()) {
+            while (items.next()) {
+                long itemId = items.getLong("id");
+                assertThat(items.getInt("bid_count")).as("상품 %d 입찰 수", itemId).isEqualTo(items.getInt("bids"));
+                if (items.getInt("bids") == 0) {
+                    assertThat(items.getInt("current_price")).isEqualTo(START_PRICE);
+                    continue;
+                }
+                assertThat(items.getInt("current_price")).as("상품 %d 현재가", itemId).isEqualTo(items.getInt("max_bid"));
+                assertThat(items.getLong("highest_bidder_id")).as("상품 %d 최고 입찰자", itemId)
+                        .isEqualTo(items.getLong("max_bidder"));
+
+                try (PreparedStatement held = connection.prepareStatement(
+                        "select user_id, amount from point_reservation where auction_item_id = ? and status = 'HELD'")) {
+                    held.setLong(1, itemId);
+                    try (ResultSet reservations = held.executeQuery()) {
+                        assertThat(reservations.next()).as("상품 %d 포인트 예약", itemId).isTrue();
+                        assertThat(reservations.getLong("user_id")).isEqualTo(items.getLong("highest_bidder_id"));
+                        assertThat(reservations.getInt("amount")).isEqualTo(items.getInt("current_price"));
+                        assertThat(reservations.next()).as("상품 %d 중복 예약", itemId).isFalse();
+                    }
+                }
+            }
+        }
+
+        assertThat(queryLong(connection, "select count(*) from users u where u.email like 'bidder-%' and u.points + "
+                + "coalesce((select sum(r.amount) from point_reservation r where r.user_id = u.id and r.status = 'HELD'), 0) <> "
+                + INITIAL_POINTS)).as("포인트가 어긋난 입찰자 수").isZero();
+    }
+
+    private List<String> seed(Connection connection) throws SQLException {
+        String passwordHash = new BCryptPasswordEncoder(4).encode(PASSWORD); // 요청마다 HTTP Basic 검증 비용을 줄이기 위해 낮은 강도
+        List<String> bidders = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement("insert into users "
+                + "(email, password, name, points, is_admin, is_banned) values (?, ?, '입찰자', ?, false, false)")) {
+            for (int i = 0; i < BIDDERS; i++) {
+                String email = "bidder-" + i + "@example.com";
+                statement.setString(1, email);
+                statement.setString(2, passwordHash);
+                statement.setInt(3, INITIAL_POINTS);
+                statement.executeUpdate();
+                bidders.add(email);
+            }
+        }
+        long sellerId = queryLong(connection, "select min(id) from users");
+        try (PreparedStatement statement = connection.prepareStatement("insert into auction_item "
+                + "(name, description, start_price, end_time, user_id, purchased, current_price, bid_count, status) "
+                + "values ('클러스터 상품', '설명', ?, dateadd('DAY', 1, current_timestamp), ?, false, ?, 0, 'OPEN')")) {
+            for (int i = 0; i < ITEMS; i++) {
+                statement.setInt(1, START_PRICE);
+                statement.setLong(2, sellerId);
+                statement.setInt(3, START_PRICE);
+                statement.executeUpdate();
+            }
+        }
+        assertThat(queryLong(connection, "select max(id) from auction_item")).isEqualTo(ITEMS);
+        return bidders;
+    }
+
+    /**
+     * 모든 노드가 생존 신호를 남긴 뒤, 각 노드가 구성원 목록을 한 번 이상 다시 읽을 때까지 대기
+     */
+    private static void awaitMembers(String jdbcUrl, int expected) throws Exception {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, "sa", "")) {
+            while (queryLong(connection, "select count(*) from cluster_node") < expected) {
+                assertThat(System.nanoTime()).as("클러스터 구성원 등록 대기 시간 초과").isLessThan(deadline);
+                Thread.sleep(HEARTBEAT_INTERVAL.toMillis());
+            }
+        }
+        Thread.sleep(HEARTBEAT_INTERVAL.multipliedBy(3).toMillis());
+    }
+
+    private void awaitReady(Node node) throws Exception {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(node.baseUrl + "/login"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        while (true) {
+            assertThat(node.process.isAlive()).as("%s 실행 실패 (로그: %s)", node.id, node.log).isTrue();
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 아직 시작 중
+            }
+            assertThat(System.nanoTime()).as("%s 시작 대기 시간 초과 (로그: %s)", node.id, node.log).isLessThan(deadline);
+            Thread.sleep(200);
+        }
+    }
+
+    /**
+     * 상품마다 정확히 한 노드만 전달된 입찰을 받아들이는지 확인 (나머지 노드는 421 - 모든 노드의 해시 링이 같음)
+     * - 입찰 금액이 현재가보다 낮아 거절되므로 상태는 바뀌지 않음
+     */
+    private void assertSingleOwner(List<Node> nodes, long bidderId) throws Exception {
+        for (long itemId = 1; itemId <= ITEMS; itemId++) {
+            String body = objectMapper.writeValueAsString(Map.of(
+                    "type", "SINGLE", "bidderId", bidderId, "auctionItemId", itemId, "amounts", List.of(1)));
+            int owners = 0;
+            for (Node node : nodes) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(node.baseUrl + "/internal/cluster/bids"))
+                        .header("X-Cluster-Secret", SECRET)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                assertThat(status).as("상품 %d, %s", itemId, node.id).isIn(200, 421);
+                owners += (status == 200) ? 1 : 0;
+            }
+            assertThat(owners).as("상품 %d 담당 노드 수", itemId).isEqualTo(1);
+        }
+    }
+
+    private static long queryLong(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static String basic(String username, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static class Outcome {
+        final LongAdder accepted = new LongAdder();
+        final LongAdder failed = new LongAdder();
+    }
+
+    /**
+     * 별도 JVM 프로세스로 실행한 애플리케이션 노드 (테스트 클래스패스를 그대로 사용)
+     */
+    private record Node(String id, String baseUrl, Process process, Path log) {
+
+        static Node start(String id, String jdbcUrl, Path logDirectory) throws IOException {
+            int port = freePort();
+            String baseUrl = "http://localhost:" + port;
+            Path log = logDirectory.resolve(id + ".log");
+            String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+            Process process = new ProcessBuilder(java, "-Xmx384m",
+                    "-cp", System.getProperty("java.class.path"),
+                    AuctionApplication.class.getName(),
+                    "--server.port=" + port,
+                    "--spring.datasource.url=" + jdbcUrl,
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.datasource.username=sa",
+                    "--spring.datasource.password=",
+                    "--spring.datasource.hikari.maximum-pool-size=10",
+                    "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                    "--spring.jpa.show-sql=false",
+                    "--spring.jpa.properties.hibernate.format_sql=false",
+                    "--spring.main.banner-mode=off",
+                    "--logging.level.root=WARN",
+                    "--logging.level.com.auction=INFO",
+                    "--auction.node-id=" + id,
+                    "--auction.cluster.enabled=true",
+                    "--auction.cluster.base-url=" + baseUrl,
+                    "--auction.cluster.secret=" + SECRET,
+                    "--auction.cluster.node-ttl=" + NODE_TTL.toMillis() + "ms",
+                    "--auction.cluster.heartbeat-interval-ms=" + HEARTBEAT_INTERVAL.toMillis(),
+                    "--auction.reconcile.cron=-",
+                    "--auction.close.sweep-interval-ms=3600000",
+                    "--auction.mail.poll-interval-ms=3600000")
+                    .redirectErrorStream(true)
+                    .redirectOutput(log.toFile())
+                    .start();
+            return new Node(id, baseUrl, process, log);
+        }
+
+        void stop() {
+            process.destroy();
+            try {
+                if (!process.waitFor(15, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                process.destroyForcibly();
+            }
+        }
+    }
+}
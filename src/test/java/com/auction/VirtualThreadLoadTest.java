@@ -0,0 +1,205 @@
+package com.auction;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 처리 스레드 모드별 부하 테스트 (./gradlew loadTest)
+ * - 같은 애플리케이션을 플랫폼 스레드(Tomcat 스레드 풀) / 가상 스레드로 각각 띄워 경매 목록 요청 처리량 / 지연 시간을 비교
+ * - DB 는 H2 인메모리이며, 운영 MySQL 의 네트워크 왕복을 흉내 내기 위해 SQL 실행마다 지연을 추가
+ * - Tomcat 스레드 수 / 커넥션 풀 크기는 운영 설정(application.yml, 지정하지 않으므로 Spring Boot 기본값)을 그대로 사용
+ * - 두 모드 모두 커넥션 풀(기본 10개)에서 대기하므로 처리량 상한은 풀이 정하며, 모드 간 차이는 측정마다 흔들림
+ *   → 가상 스레드 모드가 플랫폼 스레드 모드보다 나쁘지 않은지(측정 오차 범위 안인지)만 확인하고, 수치는 로그로 남김
+ */
+@Tag("load")
+class VirtualThreadLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadLoadTest.class);
+
+    private static final int CLIENTS = 256;
+    private static final Duration STATEMENT_LATENCY = Duration.ofMillis(20);
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(10);
+    private static final double TOLERANCE = 0.1; // 측정 오차로 허용하는 비율 (처리량 -10%, p99 +10%)
+
+    /**
+     * 측정 결과
+     *
+     * @param throughput 초당 처리 요청 수
+     * @param p99 요청 지연 시간 99 백분위
+     */
+    private record Measurement(double throughput, Duration p99) {
+    }
+
+    @Test
+    void virtualThreadsAreNoWorseAtProductionPoolSizes() throws Exception {
+        Measurement platform = measure(false);
+        Measurement virtual = measure(true);
+
+        logger.info("경매 목록 (동시 사용자 {}명, SQL 지연 {}ms) - 플랫폼 스레드: {} req/s, p99 {}ms / 가상 스레드: {} req/s, p99 {}ms",
+                CLIENTS, STATEMENT_LATENCY.toMillis(),
+                Math.round(platform.throughput()), platform.p99().toMillis(),
+                Math.round(virtual.throughput()), virtual.p99().toMillis());
+        assertThat(virtual.throughput()).isGreaterThanOrEqualTo(platform.throughput() * (1 - TOLERANCE));
+        assertThat(virtual.p99().toNanos()).isLessThanOrEqualTo((long) (platform.p99().toNanos() * (1 + TOLERANCE)));
+    }
+
+    private Measurement measure(boolean virtualThreads) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(AuctionApplication.class)
+                .initializers(applicationContext -> applicationContext.getBeanFactory()
+                        .addBeanPostProcessor(new JdbcLatencyPostProcessor()))
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--server.tomcat.accept-count=" + CLIENTS,
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + virtualThreads + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--spring.thymeleaf.cache=true",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.auction.VirtualThreadLoadTest=INFO",
+                        "--auction.reconcile.cron=-",
+                        "--auction.close.sweep-interval-ms=3600000",
+                        "--auction.mail.poll-interval-ms=3600000");
+        try {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .followRedirects(HttpClient.Redirect.NEVER)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+            String sessionCookie = login(client, baseUrl);
+
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/auction-items"))
+                    .header("Cookie", sessionCookie)
+                    .timeout(Duration.ofSeconds(30))
+                    .build();
+            run(client, request, WARMUP);
+            long[] latencies = run(client, request, MEASUREMENT);
+            Arrays.sort(latencies);
+            return new Measurement(latencies.length / (double) MEASUREMENT.toSeconds(),
+                    Duration.ofNanos(latencies[(int) Math.ceil(latencies.length * 0.99) - 1]));
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * 기본 관리자 계정으로 폼 로그인하여 세션 쿠키를 얻음 (요청마다 비밀번호 검증을 하지 않도록)
+     */
+    private static String login(HttpClient client, String baseUrl) throws Exception {
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString("username=admin@auction.com&password=admin123"))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        String cookie = response.headers().firstValue("Set-Cookie").orElseThrow();
+        return cookie.substring(0, cookie.indexOf(';'));
+    }
+
+    /**
+     * 동시 사용자 CLIENTS 명이 주어진 시간 동안 요청을 반복하고, 성공한 요청별 지연 시간(ns)을 반환
+     */
+    private static long[] run(HttpClient client, HttpRequest request, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<Long>>> futures = new ArrayList<>(CLIENTS);
+            for (int i = 0; i < CLIENTS; i++) {
+                futures.add(clients.submit(() -> {
+                    List<Long> latencies = new ArrayList<>();
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        assertThat(response.statusCode()).isEqualTo(200);
+                        latencies.add(System.nanoTime() - start);
+                    }
+                    return latencies;
+                }));
+            }
+            List<Long> latencies = new ArrayList<>();
+            for (Future<List<Long>> future : futures) {
+                latencies.addAll(future.get());
+            }
+            return latencies.stream().mapToLong(Long::longValue).toArray();
+        }
+    }
+
+    /**
+     * DataSource 를 감싸 SQL 실행마다 STATEMENT_LATENCY 만큼 대기 (DB 네트워크 왕복 흉내)
+     */
+    private static class JdbcLatencyPostProcessor implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return withLatency(Connection.class, super.getConnection());
+                }
+
+                @Override
+                public Connection getConnection(String username, String password) throws SQLException {
+                    return withLatency(Connection.class, super.getConnection(username, password));
+                }
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T withLatency(Class<T> type, T target) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> {
+                        if (Statement.class.isAssignableFrom(type) && method.getName().startsWith("execute")) {
+                            Thread.sleep(STATEMENT_LATENCY);
+                        }
+                        Object result = invoke(method, target, args);
+                        if (Connection.class.equals(type) && result instanceof Statement
+                                && Statement.class.isAssignableFrom(method.getReturnType())) {
+                            return withLatency((Class<Object>) method.getReturnType(), result);
+                        }
+                        return result;
+                    });
+        }
+
+        private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.auction.benchmark;
+
+import com.auction.repository.BidRepository;
+import com.auction.service.BidResult;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.ui.Model;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JMH 벤치마크가 설명대로의 경로를 측정하는지 확인 (측정 없이 각 벤치마크 메서드를 1회씩 실행)
+ * - 가장 작은 데이터셋(입찰 10,000건)으로 준비하고, 준비된 데이터와 각 메서드의 결과를 확인
+ * - 마감 벤치마크는 상품 상태를 바꾸므로 마지막에 실행
+ */
+class BenchmarkSmokeTest {
+
+    private static BenchmarkDataset dataset;
+
+    @BeforeAll
+    static void startDataset() {
+        dataset = new BenchmarkDataset();
+        dataset.bidCount = 10_000;
+        dataset.start();
+    }
+
+    @AfterAll
+    static void stopDataset() {
+        dataset.stop();
+    }
+
+    @Test
+    void benchmarksExerciseTheirDocumentedPaths() {
+        // ✅ 데이터셋: 입찰 요약 컬럼이 정합성 점검으로 채워짐
+        assertThat(dataset.items).hasSize(BenchmarkDataset.ITEMS);
+        PriceLookupBenchmark priceLookup = new PriceLookupBenchmark();
+        priceLookup.setUp(dataset);
+        List<BidRepository.BidSummary> summaries = priceLookup.bidSummary(dataset);
+        assertThat(summaries.stream().mapToLong(BidRepository.BidSummary::getBidCount).sum()).isEqualTo(10_000);
+        Map<Long, Integer> prices = priceLookup.currentPrices(dataset);
+        assertThat(prices).hasSize(BenchmarkDataset.ITEMS);
+        summaries.forEach(summary ->
+                assertThat(prices.get(summary.getAuctionItemId())).isEqualTo(summary.getHighestAmount()));
+
+        // ✅ 입찰: 수락 / 메모리 거절 / 묶음 입찰
+        BidPlacementBenchmark bidPlacement = new BidPlacementBenchmark();
+        bidPlacement.setUp(dataset);
+        assertThat(bidPlacement.accepted(dataset).getStatus()).isEqualTo(BidResult.Status.ACCEPTED);
+        assertThat(bidPlacement.rejected(dataset).getStatus()).isEqualTo(BidResult.Status.AMOUNT_TOO_LOW);
+        assertThat(bidPlacement.batched(dataset)).hasSize(20).allMatch(BidResult::isAccepted);
+
+        // ✅ 목록: 첫 페이지 / 중간 페이지 / 진행 중 / 검색 모두 상품이 있음
+        ListingBenchmark listing = new ListingBenchmark();
+        listing.setUp(dataset);
+        for (Model model : List.of(listing.firstPage(), listing.middlePage(), listing.openOnly(), listing.search())) {
+            assertThat((List<?>) model.getAttribute("items")).isNotEmpty();
+        }
+
+        // ✅ 마감: 되돌린 상품 전부를 한 번에 마감
+        AuctionEndingBenchmark ending = new AuctionEndingBenchmark();
+        ending.setUp(dataset);
+        ending.reopen(dataset);
+        assertThat(ending.processAuctionEndings()).isEqualTo(BenchmarkDataset.ITEMS);
+    }
+}
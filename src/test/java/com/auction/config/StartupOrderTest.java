@@ -0,0 +1,46 @@
+package com.auction.config;
+
+import com.auction.service.AuctionCloseScheduler;
+import com.auction.service.AuctionItemReconciliationService;
+import com.auction.service.AuctionSearchIndex;
+import com.auction.service.HomeFeedService;
+import com.auction.service.UserStatsService;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import static org.mockito.Mockito.inOrder;
+
+/**
+ * 애플리케이션 시작 작업이 StartupOrder 순서대로 실행되는지 확인
+ * - 정합성 점검 → 사용자 통계 → 홈 피드 / 검색 색인 → 마감 스케줄러
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class StartupOrderTest {
+
+    @MockitoSpyBean
+    private AuctionItemReconciliationService reconciliationService;
+    @MockitoSpyBean
+    private UserStatsService userStatsService;
+    @MockitoSpyBean
+    private HomeFeedService homeFeedService;
+    @MockitoSpyBean
+    private AuctionSearchIndex auctionSearchIndex;
+    @MockitoSpyBean
+    private AuctionCloseScheduler auctionCloseScheduler;
+
+    @Test
+    void startupListenersRunInDeclaredOrder() {
+        InOrder order = inOrder(reconciliationService, userStatsService, homeFeedService,
+                auctionSearchIndex, auctionCloseScheduler);
+
+        order.verify(reconciliationService).reconcileOnStartup();
+        order.verify(userStatsService).rebuildIfEmpty();
+        order.verify(homeFeedService).load();
+        order.verify(auctionSearchIndex).rebuildOnStartup();
+        order.verify(auctionCloseScheduler).start();
+    }
+}
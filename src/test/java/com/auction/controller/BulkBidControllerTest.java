@@ -0,0 +1,57 @@
+package com.auction.controller;
+
+import com.auction.domain.User;
+import com.auction.service.BidResult;
+import com.auction.service.BulkBidService;
+import com.auction.service.UserCacheService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 대량 입찰 응답(NDJSON)을 내보내는 도중 처리가 중단되면, 응답이 조용히 끊기지 않고 마지막 줄에 오류가 남는지 확인
+ */
+class BulkBidControllerTest {
+
+    @Test
+    void abortedProcessingEndsStreamWithErrorRecord() throws Exception {
+        BulkBidService bulkBidService = mock(BulkBidService.class);
+        UserCacheService userCacheService = mock(UserCacheService.class);
+        UserDetails userDetails = mock(UserDetails.class);
+        User bidder = mock(User.class);
+        when(userCacheService.getCurrentUser(userDetails)).thenReturn(Optional.of(bidder));
+        when(bulkBidService.read(any())).thenReturn(List.of(
+                new BulkBidService.BulkBid(0, 1L, 2000), new BulkBidService.BulkBid(1, 2L, 3000)));
+        doAnswer(invocation -> {
+            Consumer<List<BulkBidService.BulkBidResult>> sink = invocation.getArgument(2);
+            sink.accept(List.of(new BulkBidService.BulkBidResult(0, 1L, 2000, BidResult.Status.ACCEPTED, 2000, null)));
+            throw new IllegalStateException("대량 입찰 처리가 중단되었습니다.");
+        }).when(bulkBidService).process(any(), any(), any());
+
+        BulkBidController controller = new BulkBidController(bulkBidService, userCacheService, new ObjectMapper());
+        ResponseEntity<StreamingResponseBody> response =
+                controller.placeBids(userDetails, new ByteArrayInputStream(new byte[0]));
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        response.getBody().writeTo(body);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(body.toString(StandardCharsets.UTF_8).lines().toList()).containsExactly(
+                "{\"index\":0,\"auctionItemId\":1,\"bidAmount\":2000,\"status\":\"ACCEPTED\",\"currentPrice\":2000}",
+                "{\"error\":\"대량 입찰 처리가 중단되었습니다.\"}");
+    }
+}
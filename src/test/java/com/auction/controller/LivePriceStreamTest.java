@@ -0,0 +1,113 @@
+package com.auction.controller;
+
+import com.auction.domain.AuctionStatus;
+import com.auction.domain.User;
+import com.auction.event.AuctionClosedEvent;
+import com.auction.repository.UserRepository;
+import com.auction.service.BidEngine;
+import com.auction.support.TestData;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 실시간 시세 구독(SSE) 확인
+ * - 구독 즉시 현재 시세, 입찰 수락 시 새 시세, 마감 시 마감 결과를 받고 연결이 종료됨
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class LivePriceStreamTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private BidEngine bidEngine;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long sellerId;
+    private Long itemId;
+    private User bidder;
+
+    @BeforeEach
+    void setUp() {
+        TestData testData = new TestData(jdbcTemplate);
+        sellerId = testData.insertUser(0);
+        itemId = testData.insertOpenItem(sellerId);
+        bidder = userRepository.findById(testData.insertUser(100_000)).orElseThrow();
+    }
+
+    @Test
+    void subscriberReceivesSnapshotBidAndClose() throws Exception {
+        double subscribersBefore = subscribers();
+        MockHttpServletResponse response = mockMvc.perform(get("/auction-item/" + itemId + "/stream")
+                        .with(user(bidder.getEmail())))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+
+        awaitContent(response, "event:price", "\"price\":1000");
+        assertThat(subscribers()).isEqualTo(subscribersBefore + 1);
+
+        assertThat(bidEngine.placeBid(bidder, itemId, 2500).isAccepted()).isTrue();
+        awaitContent(response, "\"price\":2500", "\"bidCount\":1");
+
+        eventPublisher.publishEvent(new AuctionClosedEvent(itemId, AuctionStatus.SOLD, bidder.getId(), 2500, sellerId, 1));
+        awaitContent(response, "event:closed", "\"status\":\"SOLD\"");
+        awaitSubscribers(subscribersBefore);
+    }
+
+    private void awaitContent(MockHttpServletResponse response, String... fragments) throws Exception {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!containsAll(response.getContentAsString(), fragments) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(response.getContentAsString()).contains(fragments);
+    }
+
+    private void awaitSubscribers(double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (subscribers() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(subscribers()).isEqualTo(expected);
+    }
+
+    private static boolean containsAll(String content, String... fragments) {
+        for (String fragment : fragments) {
+            if (!content.contains(fragment)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private double subscribers() {
+        return meterRegistry.get("auction.live.subscribers").gauge().value();
+    }
+}
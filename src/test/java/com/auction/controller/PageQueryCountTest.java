@@ -0,0 +1,149 @@
+package com.auction.controller;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+/**
+ * 화면 1건당 실행되는 SQL 수가 데이터 건수와 관계없이 일정한지 확인 (N+1 회귀 방지)
+ * - open-in-view 가 꺼져 있으므로 뷰 렌더링 중 지연 로딩이 일어나면 요청이 실패함
+ * - SQL 수는 운영과 같은 QueryCountInterceptor 지표(auction.http.queries)로 측정 (뷰 렌더링 포함)
+ * - 같은 화면을 입찰 / 상품 / 충전 내역 건수를 10배로 늘리기 전후로 요청해 SQL 수를 비교
+ * - 비로그인 홈 화면은 홈 피드 스냅샷만 사용하므로 SQL 을 실행하지 않아야 함
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class PageQueryCountTest {
+
+    private static final String ADMIN_EMAIL = "admin@auction.com";
+    private static final int ROWS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long adminId;
+    private Long soldItemId;
+    private static long nextId = 1_000_000; // 시퀀스 할당 범위와 겹치지 않는 입찰 / 충전 내역 ID (테스트 간 DB 공유)
+
+    @BeforeEach
+    void seed() {
+        adminId = jdbcTemplate.queryForObject("select id from users where email = ?", Long.class, ADMIN_EMAIL);
+        // ✅ 관리자가 판매하고 낙찰받은 상품 (상세 화면의 낙찰자 분기, 입찰 내역 화면 대상)
+        jdbcTemplate.update("insert into auction_item (name, description, start_price, end_time, user_id, winner_id, "
+                + "purchased, current_price, bid_count, status) "
+                + "values ('낙찰 상품', '설명', 1000, dateadd('DAY', -1, current_timestamp), ?, ?, false, 1000, 0, 'SOLD')",
+                adminId, adminId);
+        soldItemId = jdbcTemplate.queryForObject("select max(id) from auction_item", Long.class);
+    }
+
+    @Test
+    void queryCountPerPageDoesNotGrowWithRows() throws Exception {
+        addRows(ROWS);
+        requestAll(); // ✅ 사용자 캐시, 입찰 장부 등 첫 요청에만 있는 조회를 제외
+        Map<String, Integer> small = requestAll();
+
+        addRows(ROWS * 9);
+        Map<String, Integer> large = requestAll();
+
+        assertThat(large).isEqualTo(small);
+        assertThat(small.get("/auction-item/{id}/bids")).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void anonymousHomePageRunsNoQueries() throws Exception {
+        addRows(ROWS);
+
+        DistributionSummary summary = meterRegistry.find("auction.http.queries").tag("uri", "/").summary();
+        long requestsBefore = (summary != null) ? summary.count() : 0;
+        double before = queries("/");
+        mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("index"));
+
+        // ✅ 요청이 지표에 기록되었는지 먼저 확인 (기록되지 않아 0 이 되는 경우 제외)
+        summary = meterRegistry.find("auction.http.queries").tag("uri", "/").summary();
+        assertThat(summary).isNotNull();
+        assertThat(summary.count()).isEqualTo(requestsBefore + 1);
+        assertThat(queries("/") - before).isZero();
+    }
+
+    /**
+     * 화면별로 한 번씩 요청하고, 요청 URI 패턴별 실행된 SQL 수를 반환
+     */
+    private Map<String, Integer> requestAll() throws Exception {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        counts.put("/", request("/", "/", "index"));
+        counts.put("/auction-items", request("/auction-items", "/auction-items", "auction-items"));
+        counts.put("/auction-item/{id}", request("/auction-item/" + soldItemId, "/auction-item/{id}", "auction-item-detail"));
+        counts.put("/auction-item/{id}/bids", request("/auction-item/" + soldItemId + "/bids", "/auction-item/{id}/bids", "bid-list"));
+        counts.put("/mypage", request("/mypage", "/mypage", "mypage"));
+        counts.put("/dashboard", request("/dashboard", "/dashboard", "dashboard"));
+        counts.put("/charge-history", request("/charge-history", "/charge-history", "charge-history"));
+        counts.put("/admin", request("/admin", "/admin", "admin"));
+        return counts;
+    }
+
+    private int request(String url, String pattern, String viewName) throws Exception {
+        double before = queries(pattern);
+        mockMvc.perform(get(url).with(admin()))
+                .andExpect(status().isOk())
+                .andExpect(view().name(viewName));
+        return (int) (queries(pattern) - before);
+    }
+
+    private double queries(String pattern) {
+        DistributionSummary summary = meterRegistry.find("auction.http.queries").tag("uri", pattern).summary();
+        return (summary != null) ? summary.totalAmount() : 0;
+    }
+
+    private static RequestPostProcessor admin() {
+        return user(ADMIN_EMAIL).authorities(new SimpleGrantedAuthority("ADMIN"));
+    }
+
+    /**
+     * 입찰자와 입찰, 진행 중 / 낙찰 상품, 충전 내역을 count 건씩 추가
+     */
+    private void addRows(int count) {
+        for (int i = 0; i < count; i++) {
+            long id = nextId++;
+            jdbcTemplate.update("insert into users (email, password, name, points, is_admin, is_banned) "
+                    + "values (?, 'x', ?, 0, false, false)", "bidder" + id + "@example.com", "입찰자" + id);
+            Long bidderId = jdbcTemplate.queryForObject("select max(id) from users", Long.class);
+            jdbcTemplate.update("insert into bids (id, user_id, auction_item_id, bid_amount, bid_time) "
+                    + "values (?, ?, ?, ?, current_timestamp)", id, bidderId, soldItemId, (int) (1000 + id % 100_000));
+            jdbcTemplate.update("insert into auction_item (name, description, start_price, end_time, user_id, winner_id, "
+                    + "purchased, current_price, bid_count, status) "
+                    + "values (?, '설명', 1000, dateadd('DAY', 1, current_timestamp), ?, null, false, 1000, 0, 'OPEN')",
+                    "진행 상품 " + id, adminId);
+            jdbcTemplate.update("insert into auction_item (name, description, start_price, end_time, user_id, winner_id, "
+                    + "purchased, current_price, bid_count, status) "
+                    + "values (?, '설명', 1000, dateadd('DAY', -1, current_timestamp), ?, ?, false, 1000, 0, 'SOLD')",
+                    "낙찰 상품 " + id, bidderId, adminId);
+            jdbcTemplate.update("insert into charge_history (id, user_id, amount, charged_at) "
+                    + "values (?, ?, 1000, current_timestamp)", id, adminId);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.auction.metrics;
+
+import com.auction.domain.User;
+import com.auction.repository.UserRepository;
+import com.auction.service.BidEngine;
+import com.auction.service.BidResult;
+import com.auction.support.TestData;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 입찰 처리 지표(auction.bid) 확인
+ * - 입찰 결과별 result 태그로 기록되고, Prometheus 엔드포인트(관리자 전용)에 노출됨
+ * - 테스트는 기본적으로 지표 내보내기를 끄므로 @AutoConfigureObservability 로 Prometheus 레지스트리를 켬
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class AuctionMetricsTest {
+
+    @Autowired
+    private BidEngine bidEngine;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void bidOutcomesAreTimedByResultAndExposedToPrometheus() throws Exception {
+        TestData testData = new TestData(jdbcTemplate);
+        Long itemId = testData.insertOpenItem(testData.insertUser(0));
+        User bidder = userRepository.findById(testData.insertUser(100_000)).orElseThrow();
+        long acceptedBefore = bidCount("accepted");
+        long tooLowBefore = bidCount("amount_too_low");
+
+        assertThat(bidEngine.placeBid(bidder, itemId, 2000).getStatus()).isEqualTo(BidResult.Status.ACCEPTED);
+        assertThat(bidEngine.placeBid(bidder, itemId, 1500).getStatus()).isEqualTo(BidResult.Status.AMOUNT_TOO_LOW);
+
+        assertThat(bidCount("accepted")).isEqualTo(acceptedBefore + 1);
+        assertThat(bidCount("amount_too_low")).isEqualTo(tooLowBefore + 1);
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus")
+                        .with(user("admin@auction.com").authorities(new SimpleGrantedAuthority("ADMIN"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(scrape).containsPattern("auction_bid_seconds_count\\{[^}]*result=\"accepted\"")
+                .containsPattern("auction_bid_seconds_bucket\\{[^}]*result=\"accepted\"");
+
+        mockMvc.perform(get("/actuator/prometheus").with(user(bidder.getEmail())))
+                .andExpect(status().isForbidden());
+    }
+
+    private long bidCount(String result) {
+        return meterRegistry.get("auction.bid").tag("result", result).timer().count();
+    }
+}
@@ -0,0 +1,98 @@
+package com.auction.repository;
+
+import com.auction.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 경매 상품의 입찰 요약 컬럼(현재가 / 최고 입찰자 / 입찰 수) 조건부 UPDATE 확인
+ * - applyBid 는 현재가보다 높고 마감 전인 진행 중 상품에만 반영되며, 반영하지 못하면 0 을 반환하고 컬럼을 그대로 둠
+ * - repairBidSummary 는 점검 중 새 입찰이 반영되었으면(입찰 수가 달라졌으면) 보정하지 않음
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AuctionItemBidSummaryTest {
+
+    @Autowired
+    private AuctionItemRepository auctionItemRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long itemId;
+    private Long bidderId;
+    private LocalDateTime endTime;
+
+    @BeforeEach
+    void setUp() {
+        TestData testData = new TestData(jdbcTemplate);
+        itemId = testData.insertOpenItem(testData.insertUser(0));
+        bidderId = testData.insertUser(100_000);
+        endTime = jdbcTemplate.queryForObject("select end_time from auction_item where id = ?", LocalDateTime.class, itemId);
+    }
+
+    @Test
+    void applyBidOnlyRaisesPriceOfOpenItemsBeforeDeadline() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        assertThat(applyBid(2000, now)).isEqualTo(1);
+        assertSummary(2000, bidderId, 1, 1L);
+
+        // ✅ 현재가 이하 / 마감 이후 입찰은 반영되지 않음
+        assertThat(applyBid(2000, now)).isZero();
+        assertThat(applyBid(1500, now)).isZero();
+        assertThat(applyBid(3000, endTime.plusSeconds(1))).isZero();
+        assertSummary(2000, bidderId, 1, 1L);
+
+        // ✅ 마감 처리된 상품에는 반영되지 않음
+        jdbcTemplate.update("update auction_item set status = 'UNSOLD' where id = ?", itemId);
+        assertThat(applyBid(3000, now)).isZero();
+        assertSummary(2000, bidderId, 1, 1L);
+    }
+
+    @Test
+    void repairSkipsItemsThatReceivedBidsDuringCheck() {
+        applyBid(2000, LocalDateTime.now());
+
+        // ✅ 점검 시 읽은 입찰 수(0)와 현재 입찰 수(1)가 다르면 보정하지 않음
+        assertThat(repair(0)).isZero();
+        assertSummary(2000, bidderId, 1, 1L);
+
+        assertThat(repair(1)).isEqualTo(1);
+        assertSummary(1000, null, 0, 2L);
+    }
+
+    private int applyBid(int amount, LocalDateTime bidTime) {
+        return transactionTemplate.execute(status ->
+                auctionItemRepository.applyBid(itemId, amount, bidderId, bidTime, endTime, 1));
+    }
+
+    /**
+     * 입찰이 없는 상태(시작 가격, 입찰 0건)로 보정
+     */
+    private int repair(int expectedBidCount) {
+        return transactionTemplate.execute(status ->
+                auctionItemRepository.repairBidSummary(itemId, expectedBidCount, 1000, null, 0, null));
+    }
+
+    private void assertSummary(int currentPrice, Long highestBidderId, int bidCount, long version) {
+        Map<String, Object> row = jdbcTemplate.queryForMap("select current_price, highest_bidder_id, bid_count, version "
+                + "from auction_item where id = ?", itemId);
+        assertThat(row).containsEntry("CURRENT_PRICE", currentPrice)
+                .containsEntry("HIGHEST_BIDDER_ID", highestBidderId)
+                .containsEntry("BID_COUNT", bidCount)
+                .containsEntry("VERSION", version);
+    }
+}
@@ -0,0 +1,70 @@
+package com.auction.repository;
+
+import com.auction.domain.AuctionItem;
+import com.auction.domain.Bid;
+import com.auction.domain.User;
+import com.auction.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 입찰 ID 가 시퀀스에서 50개 단위로 미리 할당되는지 확인 (allocationSize = 50, pooled-lo)
+ * - 입찰마다 시퀀스를 조회하지 않으므로 대량 입찰이 배치 INSERT 로 저장됨
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BidIdAllocationTest {
+
+    private static final int BIDS = 120;
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private BidRepository bidRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AuctionItemRepository auctionItemRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void bidIdsAreAllocatedInBlocks() {
+        TestData testData = new TestData(jdbcTemplate);
+        Long itemId = testData.insertOpenItem(testData.insertUser(0));
+        Long bidderId = testData.insertUser(0);
+        long sequenceBefore = sequenceValue();
+
+        List<Long> ids = transactionTemplate.execute(status -> {
+            User bidder = userRepository.getReferenceById(bidderId);
+            AuctionItem item = auctionItemRepository.getReferenceById(itemId);
+            List<Bid> bids = new ArrayList<>();
+            for (int i = 0; i < BIDS; i++) {
+                bids.add(Bid.createBid(bidder, item, 1000 + i));
+            }
+            return bidRepository.saveAll(bids).stream().map(Bid::getId).toList();
+        });
+
+        // ✅ 120건에 시퀀스 조회는 많아야 3번 (입찰마다 조회하면 120번, 시퀀스가 6,000 증가)
+        long fetches = (sequenceValue() - sequenceBefore) / ALLOCATION_SIZE;
+        assertThat(fetches).isBetween(1L, (long) (BIDS + ALLOCATION_SIZE - 1) / ALLOCATION_SIZE);
+        assertThat(ids).doesNotHaveDuplicates().allSatisfy(id -> assertThat(id).isPositive());
+        assertThat(jdbcTemplate.queryForObject("select count(*) from bids where auction_item_id = ?", Long.class, itemId))
+                .isEqualTo(BIDS);
+    }
+
+    private long sequenceValue() {
+        return jdbcTemplate.queryForObject(
+                "select base_value from information_schema.sequences where sequence_name = 'BID_SEQ'", Long.class);
+    }
+}
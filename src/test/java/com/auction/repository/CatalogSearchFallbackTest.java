@@ -0,0 +1,66 @@
+package com.auction.repository;
+
+import com.auction.domain.AuctionStatus;
+import com.auction.repository.AuctionItemRepository.CatalogEntry;
+import com.auction.service.AuctionSearchIndex;
+import com.auction.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 색인 생성 전 DB 검색(findCatalogPage)과 검색 색인이 같은 상품을 찾는지 확인
+ * - 둘 다 상품명과 설명을 검색하고, 검색어가 그대로 포함된 상품만 결과에 포함
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CatalogSearchFallbackTest {
+
+    private static final Set<AuctionStatus> ALL = EnumSet.allOf(AuctionStatus.class);
+
+    @Autowired
+    private AuctionItemRepository auctionItemRepository;
+    @Autowired
+    private AuctionSearchIndex auctionSearchIndex;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void databaseFallbackAndIndexSearchTheSameFields() {
+        // ✅ 다른 테스트의 상품과 겹치지 않는 검색어
+        String term = "q" + UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+        TestData testData = new TestData(jdbcTemplate);
+        Long sellerId = testData.insertUser(0);
+        Long inName = insertItem(testData, sellerId, term + " 의자", "설명");
+        Long inDescription = insertItem(testData, sellerId, "가방", term + " 포함");
+        // ✅ 검색어의 두 글자 n-gram 은 모두 있지만 두 단어로 나뉘어 있는 상품
+        insertItem(testData, sellerId, term.substring(0, 5) + " " + term.substring(4), "설명");
+        insertItem(testData, sellerId, "키링", "설명");
+
+        Set<Long> fromDatabase = new HashSet<>();
+        auctionItemRepository.findCatalogPage(ALL, term, LocalDateTime.of(1970, 1, 1, 0, 0), 0L, PageRequest.ofSize(10))
+                .stream().map(CatalogEntry::getId).forEach(fromDatabase::add);
+        auctionSearchIndex.rebuild();
+        Set<Long> fromIndex = new HashSet<>(auctionSearchIndex.search(term, ALL, 0, 10).orElseThrow().itemIds());
+
+        assertThat(fromDatabase).containsExactlyInAnyOrder(inName, inDescription);
+        assertThat(fromIndex).isEqualTo(fromDatabase);
+    }
+
+    private Long insertItem(TestData testData, Long sellerId, String name, String description) {
+        Long itemId = testData.insertOpenItem(sellerId);
+        jdbcTemplate.update("update auction_item set name = ?, description = ? where id = ?", name, description, itemId);
+        return itemId;
+    }
+}
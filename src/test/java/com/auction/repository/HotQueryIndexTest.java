@@ -0,0 +1,219 @@
+package com.auction.repository;
+
+import com.auction.domain.AuctionItem;
+import com.auction.domain.AuctionStatus;
+import com.auction.domain.PointReservation;
+import com.auction.domain.User;
+import org.assertj.core.api.SoftAssertions;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 자주 실행되는 리포지토리 조회가 인덱스를 사용하는지 실행 계획(EXPLAIN)으로 확인
+ * - 스키마는 Flyway 마이그레이션(H2)으로 만들고, 엔티티 매핑과 일치하는지 함께 검증 (ddl-auto: validate)
+ * - 리포지토리 메서드를 실제로 호출해 Hibernate 가 만든 SQL 을 가로챈 뒤, 같은 SQL 의 실행 계획을 조회
+ * - 실행 계획의 모든 테이블 접근이 조건이 있는 인덱스 조회여야 함 (전체 테이블 스캔 / 전체 인덱스 스캔 금지)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.auction.repository.HotQueryIndexTest$SqlCapture"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class HotQueryIndexTest {
+
+    private static final int USERS = 200;
+    private static final int ITEMS = 2_000;
+    private static final int ROWS = 20_000; // 입찰 / 충전 / 예치 건수
+
+    // H2 실행 계획의 테이블 접근 표기: /* PUBLIC.인덱스: 조건 */ 또는 /* PUBLIC.테이블.tableScan */
+    private static final Pattern TABLE_ACCESS = Pattern.compile("/\\* (PUBLIC\\.[^*]*?)\\s*\\*/");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private AuctionItemRepository auctionItemRepository;
+    @Autowired
+    private BidRepository bidRepository;
+    @Autowired
+    private ChargeHistoryRepository chargeHistoryRepository;
+    @Autowired
+    private PointReservationRepository pointReservationRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserStatsRepository userStatsRepository;
+    @Autowired
+    private UserStatsDeltaRepository userStatsDeltaRepository;
+
+    private Long userId;
+    private Long itemId;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("insert into users (email, password, name, points, is_admin, is_banned) "
+                + "select 'explain' || x || '@example.com', 'x', 'explain' || x, 0, false, false "
+                + "from system_range(1, ?)", USERS);
+        userId = jdbcTemplate.queryForObject("select min(id) from users", Long.class);
+        // ✅ 3개 중 1개는 낙찰(SOLD), 나머지는 진행 중 (판매자 / 낙찰자는 사용자에게 골고루 분산)
+        jdbcTemplate.update("insert into auction_item (name, description, start_price, end_time, user_id, winner_id, "
+                        + "purchased, current_price, bid_count, status) "
+                        + "select '상품 ' || x, '설명', 1000, dateadd('MINUTE', x, current_timestamp), ? + mod(x, ?), "
+                        + "case when mod(x, 3) = 0 then ? + mod(x * 7, ?) end, false, 1000, 0, "
+                        + "case when mod(x, 3) = 0 then 'SOLD' else 'OPEN' end from system_range(1, ?)",
+                userId, USERS, userId, USERS, ITEMS);
+        itemId = jdbcTemplate.queryForObject("select min(id) from auction_item", Long.class);
+        jdbcTemplate.update("insert into bids (id, user_id, auction_item_id, bid_amount, bid_time) "
+                        + "select x, ? + mod(x, ?), ? + mod(x, ?), 1000 + x, current_timestamp from system_range(1, ?)",
+                userId, USERS, itemId, ITEMS, ROWS);
+        jdbcTemplate.update("insert into charge_history (id, user_id, amount, charged_at) "
+                + "select x, ? + mod(x, ?), 1000, current_timestamp from system_range(1, ?)", userId, USERS, ROWS);
+        jdbcTemplate.update("insert into point_reservation (user_id, auction_item_id, amount, status, created_at) "
+                        + "select ? + mod(x, ?), ? + mod(x, ?), 1000, "
+                        + "case when mod(x, 10) = 0 then 'HELD' else 'RELEASED' end, current_timestamp "
+                        + "from system_range(1, ?)",
+                userId, USERS, itemId, ITEMS, ROWS);
+    }
+
+    @Test
+    void hotQueriesUseIndexes() {
+        User user = userRepository.getReferenceById(userId);
+        AuctionItem item = auctionItemRepository.getReferenceById(itemId);
+        List<Long> itemIds = List.of(itemId, itemId + 1);
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("경매 목록 페이지", () -> auctionItemRepository.findCatalogPage(
+                Set.of(AuctionStatus.OPEN), null, LocalDateTime.MIN, 0L, PageRequest.ofSize(30)));
+        queries.put("상품 요약", () -> auctionItemRepository.findCatalogEntryById(itemId));
+        queries.put("경매 목록 전체 (검색 색인)", () -> auctionItemRepository.streamCatalog(Set.of(AuctionStatus.OPEN)).toList());
+        queries.put("홈 피드 적재", () -> auctionItemRepository.streamFeedRows(AuctionStatus.OPEN).toList());
+        queries.put("최근 낙찰 상품", () -> auctionItemRepository.findRecentlyClosed(AuctionStatus.SOLD, PageRequest.ofSize(6)));
+        queries.put("마감 스케줄", () -> auctionItemRepository.findCloseSchedulesByStatus(AuctionStatus.OPEN));
+        queries.put("마감 누락 상품", () -> auctionItemRepository.findOverdueCloseSchedules(AuctionStatus.OPEN, now));
+        queries.put("샤드별 마감 스케줄", () -> auctionItemRepository.findCloseSchedulesInShards(
+                AuctionStatus.OPEN, 64, List.of(0L, 1L), itemId));
+        queries.put("샤드별 마감 누락 상품", () -> auctionItemRepository.findOverdueCloseSchedulesInShards(
+                AuctionStatus.OPEN, now, 64, List.of(0L, 1L)));
+        queries.put("판매자의 등록 상품", () -> auctionItemRepository.findSellerEntries(userId));
+        queries.put("판매자의 등록 상품 (엔티티)", () -> auctionItemRepository.findBySeller(user));
+        queries.put("낙찰자의 낙찰 상품", () -> auctionItemRepository.findWinnerEntries(userId));
+        queries.put("낙찰자의 낙찰 상품 (엔티티)", () -> auctionItemRepository.findByWinner(user));
+        queries.put("참여 중인 상품", () -> auctionItemRepository.findParticipatingEntries(userId));
+        queries.put("상품별 입찰 내역", () -> bidRepository.findBidRows(itemId));
+        queries.put("상품별 최고 입찰", () -> bidRepository.findTopByAuctionItemOrderByBidAmountDesc(item));
+        queries.put("입찰 요약 집계", () -> bidRepository.summarizeByAuctionItemIds(itemIds));
+        queries.put("상품별 최고 입찰 (정합성 점검)", () -> bidRepository.findHighestBidsByAuctionItemIds(itemIds));
+        queries.put("사용자별 충전 내역", () -> chargeHistoryRepository.findByUserOrderByChargedAtDesc(user));
+        queries.put("상품별 예치금", () -> pointReservationRepository.findByAuctionItemIdAndStatus(
+                itemId, PointReservation.Status.HELD));
+        queries.put("상품별 최근 예치금", () -> pointReservationRepository.findFirstByAuctionItemIdAndStatusOrderByIdDesc(
+                itemId, PointReservation.Status.HELD));
+        queries.put("사용자 누적 통계", () -> userStatsRepository.findById(userId));
+        queries.put("사용자 미합산 통계 증분", () -> userStatsDeltaRepository.sumPending(userId));
+        queries.put("합산할 통계 증분", () -> userStatsDeltaRepository.findUnclaimedIds(PageRequest.ofSize(5000)));
+        queries.put("합산 작업별 통계 증분", () -> userStatsDeltaRepository.sumByCompaction("compaction"));
+        queries.put("상품의 입찰자별 입찰 수", () -> bidRepository.countByBidderForItem(itemId));
+
+        SoftAssertions softly = new SoftAssertions();
+        queries.forEach((name, query) -> {
+            String plan = explain(capture(query));
+            List<String> accesses = tableAccesses(plan);
+            softly.assertThat(accesses).as(name + "\n" + plan).isNotEmpty();
+            accesses.forEach(access -> softly.assertThat(access).as(name + "\n" + plan)
+                    .doesNotContain("tableScan")
+                    .contains(":")); // 조건 없는 인덱스 표기는 인덱스 전체 스캔
+        });
+        softly.assertAll();
+    }
+
+    /**
+     * 조회를 실행하고 마지막으로 실행된 SQL 을 반환
+     */
+    private static String capture(Runnable query) {
+        SqlCapture.start();
+        List<String> statements;
+        try {
+            query.run();
+        } finally {
+            statements = SqlCapture.stop();
+        }
+        if (statements.isEmpty()) {
+            throw new IllegalStateException("실행된 SQL 이 없습니다.");
+        }
+        return statements.get(statements.size() - 1);
+    }
+
+    /**
+     * SQL 의 실행 계획 조회 (H2 는 값과 관계없이 인덱스를 고르므로 파라미터는 null 로 바인딩)
+     */
+    private String explain(String sql) {
+        return jdbcTemplate.execute("explain " + sql, (PreparedStatementCallback<String>) statement -> {
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setObject(i, null);
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1));
+                }
+            }
+            return plan.toString();
+        });
+    }
+
+    private static List<String> tableAccesses(String plan) {
+        List<String> accesses = new ArrayList<>();
+        Matcher matcher = TABLE_ACCESS.matcher(plan);
+        while (matcher.find()) {
+            accesses.add(matcher.group(1));
+        }
+        return accesses;
+    }
+
+    /**
+     * Hibernate 가 실행하는 SQL 을 현재 스레드에서 수집하는 StatementInspector
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = STATEMENTS.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+
+        static void start() {
+            STATEMENTS.set(new ArrayList<>());
+        }
+
+        static List<String> stop() {
+            List<String> statements = STATEMENTS.get();
+            STATEMENTS.remove();
+            return statements;
+        }
+    }
+}
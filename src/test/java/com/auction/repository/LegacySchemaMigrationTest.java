@@ -0,0 +1,116 @@
+package com.auction.repository;
+
+import com.auction.domain.AuctionItem;
+import com.auction.domain.AuctionStatus;
+import com.auction.domain.Bid;
+import com.auction.domain.ChargeHistory;
+import com.auction.domain.User;
+import org.h2.Driver;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ddl-auto: update 로 운영되던 기존 DB (V1 스키마 + 데이터, Flyway 이력 없음) 에서 시작해도
+ * baseline-on-migrate 로 V2 이후 마이그레이션이 모두 적용되고, 엔티티 매핑과 일치하는지 확인 (ddl-auto: validate)
+ * - 추가된 요약 컬럼 / 상태는 기존 입찰로부터 채워져야 함
+ * - 시퀀스로 바꾼 입찰 / 충전 내역 ID 는 기존 ID 뒤부터 발급되어야 함
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=" + LegacySchemaMigrationTest.URL,
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = LegacySchemaMigrationTest.LegacyDatabase.class)
+class LegacySchemaMigrationTest {
+
+    static final String URL = "jdbc:h2:mem:legacy-schema;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AuctionItemRepository auctionItemRepository;
+    @Autowired
+    private BidRepository bidRepository;
+    @Autowired
+    private ChargeHistoryRepository chargeHistoryRepository;
+
+    @Test
+    void migratesV1OnlyDatabase() {
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from \"flyway_schema_history\" where \"type\" = 'BASELINE' and \"version\" = '1'",
+                Long.class)).isEqualTo(1);
+
+        // ✅ 낙찰자가 정해진 상품 → 낙찰, 입찰 요약은 기존 입찰로부터
+        assertThat(row(10)).containsEntry("STATUS", "SOLD").containsEntry("CURRENT_PRICE", 3000)
+                .containsEntry("BID_COUNT", 2).containsEntry("HIGHEST_BIDDER_ID", 3L);
+        // ✅ 입찰 없이 끝난 상품 → 유찰, 현재가는 시작가
+        assertThat(row(11)).containsEntry("STATUS", "UNSOLD").containsEntry("CURRENT_PRICE", 1000)
+                .containsEntry("BID_COUNT", 0).containsEntry("HIGHEST_BIDDER_ID", null);
+        // ✅ 진행 중인 상품과, 끝났지만 아직 낙찰자가 정해지지 않은 상품 → 진행 중 (시작 시 마감 처리가 낙찰로 바꿈)
+        assertThat(row(12)).containsEntry("STATUS", "OPEN").containsEntry("CURRENT_PRICE", 1500)
+                .containsEntry("BID_COUNT", 1).containsEntry("HIGHEST_BIDDER_ID", 2L);
+        assertThat(row(13)).containsEntry("STATUS", "OPEN").containsEntry("HIGHEST_BIDDER_ID", 3L);
+
+        // ✅ 새로 저장하는 입찰 / 충전 내역이 기존 ID 와 겹치지 않음
+        User alice = userRepository.findById(2L).orElseThrow();
+        AuctionItem openItem = auctionItemRepository.findById(12L).orElseThrow();
+        assertThat(openItem.getStatus()).isEqualTo(AuctionStatus.OPEN);
+        Bid bid = bidRepository.saveAndFlush(Bid.createBid(alice, openItem, 1600));
+        ChargeHistory charge = chargeHistoryRepository.saveAndFlush(ChargeHistory.createChargeHistory(alice, 500));
+        assertThat(bid.getId()).isGreaterThan(104L);
+        assertThat(charge.getId()).isGreaterThan(7L);
+    }
+
+    private Map<String, Object> row(long itemId) {
+        return jdbcTemplate.queryForMap("select status, current_price, bid_count, highest_bidder_id "
+                + "from auction_item where id = ?", itemId);
+    }
+
+    /**
+     * Flyway 보다 먼저, 원래 스키마(V1)와 기존 데이터만 있는 DB 를 준비
+     */
+    static class LegacyDatabase implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+        @Override
+        public void initialize(ConfigurableApplicationContext context) {
+            JdbcTemplate legacy = new JdbcTemplate(new SimpleDriverDataSource(new Driver(), URL, "sa", ""));
+            legacy.execute("drop all objects");
+            new ResourceDatabasePopulator(new ClassPathResource("db/migration/h2/V1__baseline_schema.sql"))
+                    .execute(legacy.getDataSource());
+
+            legacy.update("insert into users (id, email, password, name, points, is_admin, is_banned) values "
+                    + "(1, 'seller@example.com', 'x', '판매자', 0, false, false), "
+                    + "(2, 'alice@example.com', 'x', 'alice', 10000, false, false), "
+                    + "(3, 'bob@example.com', 'x', 'bob', 10000, false, false)");
+            legacy.update("insert into auction_item (id, name, description, start_price, end_time, user_id, winner_id, purchased) values "
+                    + "(10, '낙찰', '설명', 1000, dateadd('DAY', -1, current_timestamp), 1, 3, false), "
+                    + "(11, '유찰', '설명', 1000, dateadd('DAY', -1, current_timestamp), 1, null, false), "
+                    + "(12, '진행 중', '설명', 1000, dateadd('DAY', 1, current_timestamp), 1, null, false), "
+                    + "(13, '마감 대기', '설명', 1000, dateadd('MINUTE', -1, current_timestamp), 1, null, false)");
+            legacy.update("insert into bids (id, user_id, auction_item_id, bid_amount, bid_time) values "
+                    + "(101, 2, 10, 2000, dateadd('DAY', -2, current_timestamp)), "
+                    + "(102, 3, 10, 3000, dateadd('DAY', -2, current_timestamp)), "
+                    + "(103, 2, 12, 1500, current_timestamp), "
+                    + "(104, 3, 13, 1200, dateadd('HOUR', -1, current_timestamp))");
+            legacy.update("insert into charge_history (id, user_id, amount, charged_at) values "
+                    + "(7, 2, 10000, current_timestamp)");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.auction.service;
+
+import com.auction.repository.AuctionItemRepository;
+import com.auction.repository.UserRepository;
+import com.auction.repository.UserRepository.UserRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 관리자 CSV 내보내기 셀 변환 확인
+ * - 구분자 / 따옴표 / 줄바꿈이 있는 값은 따옴표로 감쌈
+ * - =, +, -, @, 탭, CR 로 시작하는 사용자 입력은 ' 를 붙여 스프레드시트에서 수식으로 실행되지 않게 함
+ */
+class AuctionCatalogExportTest {
+
+    @Test
+    void quotesSeparatorsAndNeutralizesFormulas() {
+        assertThat(AuctionCatalogService.csvValue("노트북")).isEqualTo("노트북");
+        assertThat(AuctionCatalogService.csvValue("a,b")).isEqualTo("\"a,b\"");
+        assertThat(AuctionCatalogService.csvValue("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+        assertThat(AuctionCatalogService.csvValue(null)).isEmpty();
+
+        assertThat(AuctionCatalogService.csvValue("=HYPERLINK(\"http://evil\",\"x\")"))
+                .isEqualTo("\"'=HYPERLINK(\"\"http://evil\"\",\"\"x\"\")\"");
+        assertThat(AuctionCatalogService.csvValue("+1")).isEqualTo("\"'+1\"");
+        assertThat(AuctionCatalogService.csvValue("-2+3")).isEqualTo("\"'-2+3\"");
+        assertThat(AuctionCatalogService.csvValue("@SUM(A1)")).isEqualTo("\"'@SUM(A1)\"");
+        assertThat(AuctionCatalogService.csvValue("\t=1+1")).isEqualTo("\"'\t=1+1\"");
+        assertThat(AuctionCatalogService.csvValue("\r=1+1")).isEqualTo("\"'\r=1+1\"");
+
+        // ✅ 애플리케이션이 만든 숫자 값은 그대로 출력
+        assertThat(AuctionCatalogService.csvValue(-500)).isEqualTo("-500");
+    }
+
+    @Test
+    void exportedUserNamesCannotInjectFormulas() {
+        UserRepository userRepository = mock(UserRepository.class);
+        UserRow row = mock(UserRow.class);
+        when(row.getId()).thenReturn(7L);
+        when(row.getEmail()).thenReturn("attacker@example.com");
+        when(row.getName()).thenReturn("=cmd|' /C calc'!A0");
+        when(row.getPoints()).thenReturn(1000);
+        when(userRepository.streamUsers()).thenReturn(Stream.of(row));
+        AuctionCatalogService catalog = new AuctionCatalogService(mock(AuctionItemRepository.class), userRepository,
+                mock(AuctionSearchIndex.class), 30, 50);
+
+        StringWriter writer = new StringWriter();
+        catalog.exportUsers(writer);
+
+        assertThat(writer.toString()).isEqualTo("id,email,name,points,banned\n"
+                + "7,attacker@example.com,\"'=cmd|' /C calc'!A0\",1000,false\n");
+    }
+}
@@ -0,0 +1,116 @@
+package com.auction.service;
+
+import com.auction.domain.User;
+import com.auction.repository.UserRepository;
+import com.auction.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 마감 시간 지연 큐 확인 (테스트 설정은 마감 누락 안전망 주기가 1시간이므로 안전망 없이 마감되어야 함)
+ * - 마감 시각이 된 상품은 바로 마감되고 최고 입찰자가 낙찰자가 됨
+ * - 마감 시각이 되지 않은 상품은 그대로 진행 중
+ * - 아주 먼 마감 시간도 등록 / 대기할 수 있고 (대기 상한), 등록 서비스는 허용 기간을 넘는 마감 시간을 거절
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AuctionCloseSchedulerTest {
+
+    private static final Duration DUE_IN = Duration.ofSeconds(1);
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private AuctionCloseScheduler auctionCloseScheduler;
+    @Autowired
+    private AuctionItemService auctionItemService;
+    @Autowired
+    private BidEngine bidEngine;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestData testData;
+    private Long sellerId;
+    private User bidder;
+
+    @BeforeEach
+    void setUp() {
+        testData = new TestData(jdbcTemplate);
+        sellerId = testData.insertUser(0);
+        bidder = userRepository.findById(testData.insertUser(100_000)).orElseThrow();
+    }
+
+    @Test
+    void dueItemClosesWithoutWaitingForSweep() throws Exception {
+        Long dueItemId = testData.insertOpenItem(sellerId);
+        Long laterItemId = testData.insertOpenItem(sellerId);
+        assertThat(bidEngine.placeBid(bidder, dueItemId, 3000).isAccepted()).isTrue();
+
+        auctionCloseScheduler.schedule(dueItemId, setEndTime(dueItemId, LocalDateTime.now().plus(DUE_IN)));
+        auctionCloseScheduler.schedule(laterItemId, setEndTime(laterItemId, LocalDateTime.now().plusHours(1)));
+
+        Map<String, Object> closed = awaitClosed(dueItemId);
+        assertThat(closed).containsEntry("STATUS", "SOLD")
+                .containsEntry("WINNER_ID", bidder.getId())
+                .containsEntry("CURRENT_PRICE", 3000);
+        assertThat(item(laterItemId)).containsEntry("STATUS", "OPEN");
+    }
+
+    @Test
+    void farFutureItemStaysPendingWithoutBlockingOtherCloses() throws Exception {
+        Long farItemId = testData.insertOpenItem(sellerId);
+        Long dueItemId = testData.insertOpenItem(sellerId);
+        int pendingBefore = auctionCloseScheduler.getPendingCount();
+
+        auctionCloseScheduler.schedule(farItemId, setEndTime(farItemId, LocalDateTime.of(9999, 12, 31, 23, 59)));
+        auctionCloseScheduler.schedule(dueItemId, setEndTime(dueItemId, LocalDateTime.now().plus(DUE_IN)));
+
+        assertThat(awaitClosed(dueItemId)).containsEntry("STATUS", "UNSOLD");
+        assertThat(item(farItemId)).containsEntry("STATUS", "OPEN");
+        assertThat(auctionCloseScheduler.getPendingCount()).isEqualTo(pendingBefore + 1);
+    }
+
+    @Test
+    void registrationRejectsEndTimeBeyondMaxDuration() {
+        User seller = userRepository.findById(sellerId).orElseThrow();
+
+        assertThatThrownBy(() -> auctionItemService.registerAuctionItem(seller, "먼 마감", "설명", 1000,
+                LocalDateTime.of(9999, 12, 31, 23, 59)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(auctionItemService.registerAuctionItem(seller, "한 달 마감", "설명", 1000,
+                LocalDateTime.now().plusDays(30)).getId()).isNotNull();
+    }
+
+    private LocalDateTime setEndTime(Long itemId, LocalDateTime endTime) {
+        LocalDateTime truncated = endTime.truncatedTo(ChronoUnit.MICROS);
+        jdbcTemplate.update("update auction_item set end_time = ? where id = ?", truncated, itemId);
+        return truncated;
+    }
+
+    private Map<String, Object> awaitClosed(Long itemId) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        Map<String, Object> row = item(itemId);
+        while ("OPEN".equals(row.get("STATUS")) && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+            row = item(itemId);
+        }
+        return row;
+    }
+
+    private Map<String, Object> item(Long itemId) {
+        return jdbcTemplate.queryForMap("select status, winner_id, current_price from auction_item where id = ?", itemId);
+    }
+}
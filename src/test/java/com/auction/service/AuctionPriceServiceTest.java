@@ -0,0 +1,54 @@
+package com.auction.service;
+
+import com.auction.domain.AuctionItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 현재가 일괄 조회 확인 (DB 조회 없이 장부 / 현재가 컬럼만 사용)
+ * - 장부가 있는 상품은 장부의 최고가 (DB 컬럼이 뒤처져 있어도 장부 우선)
+ * - 장부가 없는 상품은 현재가 컬럼, 입찰이 없거나 컬럼이 채워지기 전이면 시작 가격
+ */
+class AuctionPriceServiceTest {
+
+    private static final LocalDateTime END_TIME = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private BidEngine bidEngine;
+    private AuctionPriceService priceService;
+
+    @BeforeEach
+    void setUp() {
+        bidEngine = mock(BidEngine.class);
+        priceService = new AuctionPriceService(bidEngine);
+        when(bidEngine.peekBook(1L)).thenReturn(new BidBook(1L, 9L, 1000, END_TIME, 5000, 7L, 3, null));
+    }
+
+    @Test
+    void residentBookWinsOverColumnAndMissingBidsFallBackToStartPrice() {
+        AuctionItem resident = item(1L, 1000, 4000);  // 장부 반영 전 컬럼 값
+        AuctionItem noBids = item(2L, 1500, 0);       // 현재가 컬럼이 채워지기 전 상품
+        AuctionItem persisted = item(3L, 1000, 2500);
+
+        assertThat(priceService.getCurrentPrices(List.of(resident, noBids, persisted, resident)))
+                .hasSize(3)
+                .containsEntry(1L, 5000)
+                .containsEntry(2L, 1500)
+                .containsEntry(3L, 2500);
+    }
+
+    private static AuctionItem item(Long id, int startPrice, int currentPrice) {
+        return AuctionItem.builder()
+                .id(id)
+                .startPrice(startPrice)
+                .currentPrice(currentPrice)
+                .endTime(END_TIME)
+                .build();
+    }
+}
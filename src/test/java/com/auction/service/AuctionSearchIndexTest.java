@@ -0,0 +1,136 @@
+package com.auction.service;
+
+import com.auction.domain.AuctionStatus;
+import com.auction.event.AuctionClosedEvent;
+import com.auction.event.AuctionItemCreatedEvent;
+import com.auction.repository.AuctionItemRepository;
+import com.auction.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * n-gram 검색 색인의 단어 분리 / 순위 / 순위 커서 페이지네이션 확인
+ * - DB 없이 빈 색인을 만든 뒤 상품 등록 이벤트로 문서를 추가
+ */
+class AuctionSearchIndexTest {
+
+    private static final Set<AuctionStatus> ALL = EnumSet.allOf(AuctionStatus.class);
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private AuctionItemRepository auctionItemRepository;
+    private AuctionSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        auctionItemRepository = mock(AuctionItemRepository.class);
+        when(auctionItemRepository.streamCatalog(any())).thenReturn(Stream.empty());
+        index = new AuctionSearchIndex(auctionItemRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new SimpleMeterRegistry());
+        index.rebuild();
+    }
+
+    @Test
+    void splitsAndNormalizesWords() {
+        assertThat(AuctionSearchIndex.words("Galaxy-S24 울트라!")).containsExactly("galaxy", "s24", "울트라");
+        assertThat(AuctionSearchIndex.words("ＧＡＬＡＸＹ")).containsExactly("galaxy"); // 전각 → 반각
+        assertThat(AuctionSearchIndex.words("  ")).isEmpty();
+
+        assertThat(AuctionSearchIndex.indexGrams("노트북")).containsExactlyInAnyOrder("노", "트", "북", "노트", "트북");
+        assertThat(AuctionSearchIndex.queryGrams("노트북")).containsExactlyInAnyOrder("노트", "트북");
+        assertThat(AuctionSearchIndex.queryGrams("폰")).containsExactly("폰");
+    }
+
+    @Test
+    void ranksNameMatchesAboveDescriptionMatches() {
+        add(1L, "중고 의자", "노트북 받침대 포함", NOW.plusHours(1));
+        add(2L, "게이밍노트북", "상태 좋음", NOW.plusHours(3));
+        add(3L, "노트북 가방", "새 제품", NOW.plusHours(2));
+        add(4L, "키보드", "노트 필기용", NOW.plusHours(1)); // "트북" 이 없으므로 후보 아님
+
+        // ✅ 상품명 접두어 일치 > 상품명 포함 > 설명에만 포함
+        assertThat(search("노트북", 0, 10)).containsExactly(3L, 2L, 1L);
+        // ✅ 점수가 같으면 마감이 임박한 순
+        add(5L, "노트북 파우치", "새 제품", NOW.plusHours(1));
+        assertThat(search("노트북", 0, 2)).containsExactly(5L, 3L);
+        // ✅ 모든 검색어의 n-gram 을 포함해야 함 (AND)
+        assertThat(search("노트북 가방", 0, 10)).containsExactly(3L);
+        // ✅ 마감된 상품은 상태 필터로 제외
+        index.onAuctionClosed(new AuctionClosedEvent(3L, AuctionStatus.SOLD, 9L, 5000, 9L, 1));
+        assertThat(index.search("노트북", EnumSet.of(AuctionStatus.OPEN), 0, 10).orElseThrow().itemIds())
+                .containsExactly(5L, 2L, 1L);
+    }
+
+    @Test
+    void rejectsCandidatesWhoseGramsAreScattered() {
+        add(1L, "abxbc", "설명", NOW);         // "ab", "bc" 는 있지만 "abc" 는 없음
+        add(2L, "가방", "abc 포함", NOW);       // 설명에 그대로 포함
+        add(3L, "ab 세트", "bc 부품", NOW);     // 상품명과 설명에 나뉘어 있음
+        add(4L, "abc 키링", "설명", NOW);
+
+        assertThat(search("abc", 0, 10)).containsExactly(4L, 2L);
+    }
+
+    @Test
+    void pagesByRankOffset() {
+        for (long id = 1; id <= 5; id++) {
+            add(id, "카메라 " + id, "설명", NOW.plusMinutes(id));
+        }
+
+        AuctionSearchIndex.SearchResult first = index.search("카메라", ALL, 0, 2).orElseThrow();
+        AuctionSearchIndex.SearchResult second = index.search("카메라", ALL, 2, 2).orElseThrow();
+        AuctionSearchIndex.SearchResult last = index.search("카메라", ALL, 4, 2).orElseThrow();
+        assertThat(first.itemIds()).containsExactly(1L, 2L);
+        assertThat(first.hasMore()).isTrue();
+        assertThat(second.itemIds()).containsExactly(3L, 4L);
+        assertThat(second.hasMore()).isTrue();
+        assertThat(last.itemIds()).containsExactly(5L);
+        assertThat(last.hasMore()).isFalse();
+        assertThat(search("카메라", 5, 2)).isEmpty();
+    }
+
+    @Test
+    void hugeOffsetReturnsEmptyPageWithoutSizingQueueByOffset() {
+        add(1L, "카메라", "설명", NOW);
+
+        assertThat(search("카메라", Integer.MAX_VALUE, 30)).isEmpty();
+        assertThat(search("카메라", 2_000_000_000, 30)).isEmpty();
+    }
+
+    @Test
+    void catalogRejectsMalformedOrTooDeepRankedCursor() {
+        add(1L, "카메라", "설명", NOW);
+        AuctionCatalogService catalog = new AuctionCatalogService(auctionItemRepository, mock(UserRepository.class),
+                index, 30, 50);
+
+        assertThat(catalog.getItemPage(AuctionCatalogService.StatusFilter.ALL, "카메라", "r0").items()).isEmpty();
+        for (String cursor : List.of("r-1", "rabc", "r2147483647", "r99999999999",
+                "r" + (AuctionCatalogService.MAX_RANKED_OFFSET + 1))) {
+            assertThatThrownBy(() -> catalog.getItemPage(AuctionCatalogService.StatusFilter.ALL, "카메라", cursor))
+                    .as(cursor)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private void add(Long itemId, String name, String description, LocalDateTime endTime) {
+        index.onAuctionItemCreated(new AuctionItemCreatedEvent(itemId, name, description, 1000, endTime));
+    }
+
+    private List<Long> search(String query, int offset, int limit) {
+        return index.search(query, ALL, offset, limit).orElseThrow().itemIds();
+    }
+}
@@ -0,0 +1,169 @@
+package com.auction.service;
+
+import com.auction.domain.User;
+import com.auction.repository.UserRepository;
+import com.auction.support.TestData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.reset;
+
+/**
+ * 메모리 입찰 장부(BidBook) 동시 입찰 확인
+ * - 여러 입찰자가 같은 상품에 동시에 입찰해도 장부 단위로 직렬화되어 수락된 입찰은 항상 직전 최고가보다 높음
+ * - 최종 DB 상태(현재가 / 최고 입찰자 / 입찰 수)와 보증금 예치가 수락된 입찰과 일치
+ * - 최고 입찰자가 자기 입찰가를 올릴 때는 기존 예치를 포함한 포인트로 판단
+ * - 기록이 교착 상태로 롤백되면 장부 락 안에서 재시도하지 않고, 락을 놓은 뒤 처음부터 다시 검증하여 기록
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BidEngineTest {
+
+    private static final int BIDDERS = 16;
+    private static final int BIDS_PER_BIDDER = 10;
+    private static final int POINTS = 100_000;
+
+    @Autowired
+    private BidEngine bidEngine;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @MockitoSpyBean
+    private BidPersistenceService bidPersistenceService;
+
+    private TestData testData;
+    private Long itemId;
+    private List<User> bidders;
+
+    @BeforeEach
+    void setUp() {
+        testData = new TestData(jdbcTemplate);
+        itemId = testData.insertOpenItem(testData.insertUser(0));
+        bidders = new ArrayList<>();
+        for (int i = 0; i < BIDDERS; i++) {
+            bidders.add(userRepository.findById(testData.insertUser(POINTS)).orElseThrow());
+        }
+    }
+
+    @Test
+    void concurrentBidsOnOneItemAreSerializedByTheBook() throws Exception {
+        // ✅ 서로 다른 금액(최소 단위 100 의 배수)을 섞어 입찰자마다 나눠 줌
+        List<Integer> amounts = new ArrayList<>();
+        for (int i = 0; i < BIDDERS * BIDS_PER_BIDDER; i++) {
+            amounts.add(1100 + i * 100);
+        }
+        Collections.shuffle(amounts, new Random(42));
+        int maxAmount = Collections.max(amounts);
+
+        List<Future<List<BidResult>>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(BIDDERS)) {
+            for (int i = 0; i < BIDDERS; i++) {
+                User bidder = bidders.get(i);
+                List<Integer> own = amounts.subList(i * BIDS_PER_BIDDER, (i + 1) * BIDS_PER_BIDDER);
+                futures.add(executor.submit(() -> own.stream()
+                        .map(amount -> bidEngine.placeBid(bidder, itemId, amount))
+                        .toList()));
+            }
+        }
+        long accepted = 0;
+        for (Future<List<BidResult>> future : futures) {
+            accepted += future.get().stream().filter(BidResult::isAccepted).count();
+        }
+        Long winnerId = bidders.get(amounts.indexOf(maxAmount) / BIDS_PER_BIDDER).getId();
+
+        // ✅ 최고 금액 입찰은 항상 수락되고, 수락된 입찰만 기록됨
+        Map<String, Object> item = jdbcTemplate.queryForMap(
+                "select current_price, highest_bidder_id, bid_count from auction_item where id = ?", itemId);
+        assertThat(item).containsEntry("CURRENT_PRICE", maxAmount)
+                .containsEntry("HIGHEST_BIDDER_ID", winnerId)
+                .containsEntry("BID_COUNT", (int) accepted);
+        List<Integer> recorded = jdbcTemplate.queryForList(
+                "select bid_amount from bids where auction_item_id = ? order by id", Integer.class, itemId);
+        assertThat(recorded).hasSize((int) accepted).isSorted().doesNotHaveDuplicates();
+
+        // ✅ 보증금은 최고 입찰자의 최종 금액만 예치되고 나머지는 모두 반환됨
+        assertThat(jdbcTemplate.queryForList("select user_id || ':' || amount from point_reservation "
+                + "where auction_item_id = ? and status = 'HELD'", String.class, itemId))
+                .containsExactly(winnerId + ":" + maxAmount);
+        int total = bidders.stream().mapToInt(bidder -> testData.balance(bidder.getId())).sum();
+        assertThat(total).isEqualTo(BIDDERS * POINTS - maxAmount);
+    }
+
+    @Test
+    void leaderCanRaiseOwnBidWithHeldPoints() {
+        Long leaderId = testData.insertUser(5000);
+        User leader = userRepository.findById(leaderId).orElseThrow();
+        assertThat(bidEngine.placeBid(leader, itemId, 3000).isAccepted()).isTrue();
+
+        // ✅ 잔액(2000)은 새 금액(4000)보다 적지만 올린 금액(1000)보다 많음
+        User refreshed = userRepository.findById(leaderId).orElseThrow();
+        assertThat(refreshed.getPoints()).isEqualTo(2000);
+        assertThat(bidEngine.placeBid(refreshed, itemId, 4000).isAccepted()).isTrue();
+
+        assertThat(testData.balance(leaderId)).isEqualTo(1000);
+        assertThat(jdbcTemplate.queryForList("select amount from point_reservation "
+                + "where auction_item_id = ? and status = 'HELD'", Integer.class, itemId))
+                .containsExactly(4000);
+
+        // ✅ 기존 예치를 포함해도 부족하면 거절
+        User afterRaise = userRepository.findById(leaderId).orElseThrow();
+        assertThat(bidEngine.placeBid(afterRaise, itemId, 5100).getStatus())
+                .isEqualTo(BidResult.Status.INSUFFICIENT_POINTS);
+    }
+
+    @Test
+    void deadlockedPersistIsRetriedOutsideTheBookLock() {
+        User bidder = bidders.get(0);
+        double conflictsBefore = conflicts();
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            // ✅ 첫 시도만 교착 상태로 롤백된 것처럼 실패
+            if (calls.incrementAndGet() == 1) {
+                throw new CannotAcquireLockException("교착 상태");
+            }
+            return invocation.callRealMethod();
+        }).when(bidPersistenceService).persistAcceptedBids(any(), eq(bidder.getId()), any());
+        try {
+            assertThat(bidEngine.placeBid(bidder, itemId, 2000).isAccepted()).isTrue();
+        } finally {
+            reset(bidPersistenceService);
+        }
+
+        assertThat(calls).hasValue(2);
+        assertThat(conflicts()).isEqualTo(conflictsBefore + 1);
+        assertThat(jdbcTemplate.queryForMap("select current_price, bid_count from auction_item where id = ?", itemId))
+                .containsEntry("CURRENT_PRICE", 2000)
+                .containsEntry("BID_COUNT", 1);
+    }
+
+    private double conflicts() {
+        Counter counter = meterRegistry.find("auction.conflict.attempts")
+                .tag("operation", "bid").tag("result", "conflict").counter();
+        return (counter != null) ? counter.count() : 0;
+    }
+}
@@ -0,0 +1,230 @@
+package com.auction.service;
+
+import com.auction.config.WorkerThreads;
+import com.auction.domain.User;
+import com.auction.repository.UserRepository;
+import com.auction.support.TestData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+
+/**
+ * 입찰 저널 사용 시 입찰 기록 / DB 반영 / 시작 시 복구 테스트
+ * - 애플리케이션은 저널을 켠 상태(임시 디렉터리)로 H2 에서 실행
+ * - 복구는 직접 만든 세그먼트(끝부분이 잘린 기록 포함)를 별도 저널 인스턴스로 시작하여 확인
+ * - 반영할 수 없는 기록은 DB 반영을 실패시키도록 감싼 BidPersistenceService 로 만들어 격리 여부를 확인
+ */
+@SpringBootTest(properties = {
+        "auction.bid-journal.enabled=true",
+        "auction.bid-journal.max-attempts=2",
+        "auction.bid-journal.retry-delay=10ms"
+})
+@ActiveProfiles("test")
+class BidJournalTest {
+
+    private static Path journalDirectory;
+
+    @DynamicPropertySource
+    static void journalDirectory(DynamicPropertyRegistry registry) throws IOException {
+        journalDirectory = Files.createTempDirectory("bid-journal");
+        registry.add("auction.bid-journal.directory", journalDirectory::toString);
+    }
+
+    @Autowired
+    private BidEngine bidEngine;
+    @MockitoSpyBean
+    private BidPersistenceService bidPersistenceService;
+    @Autowired
+    private PointLedgerService pointLedgerService;
+    @Autowired
+    private SoftClosePolicy softClosePolicy;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestData testData;
+    private Long itemId;
+    private Long firstBidderId;
+    private Long secondBidderId;
+
+    @BeforeEach
+    void seed() {
+        testData = new TestData(jdbcTemplate);
+        firstBidderId = testData.insertUser(10_000);
+        secondBidderId = testData.insertUser(10_000);
+        itemId = insertItem();
+    }
+
+    @Test
+    void acceptedBidsAreJournaledThenAppliedToDatabase() {
+        assertThat(bidEngine.placeBid(user(firstBidderId), itemId, 2000).isAccepted()).isTrue();
+        assertThat(bidEngine.placeBid(user(secondBidderId), itemId, 3000).isAccepted()).isTrue();
+        assertThat(bidEngine.placeBid(user(firstBidderId), itemId, 4000).isAccepted()).isTrue();
+        // ✅ 다른 상품 입찰은 아직 반영되지 않은 예치 금액까지 빼고 검사 (잔액 10,000 중 4,000 예치)
+        Long otherItemId = insertItem();
+        assertThat(bidEngine.placeBid(user(firstBidderId), otherItemId, 7000).getStatus())
+                .isEqualTo(BidResult.Status.INSUFFICIENT_POINTS);
+
+        bidEngine.awaitPersisted(itemId);
+
+        assertItem(4000, 3, firstBidderId);
+        assertThat(balance(firstBidderId)).isEqualTo(6000);
+        assertThat(balance(secondBidderId)).isEqualTo(10_000);
+        assertThat(heldReservations()).containsExactly(firstBidderId + ":4000");
+    }
+
+    @Test
+    void recoveryReplaysUnappliedEntriesOnceAndIgnoresTornTail() throws IOException {
+        LocalDateTime bidTime = LocalDateTime.now();
+        LocalDateTime endTime = bidTime.plusDays(1);
+        List<BidJournal.Entry> entries = List.of(
+                new BidJournal.Entry(1, itemId, firstBidderId, List.of(1500, 2000), bidTime, endTime, null, 1000, null),
+                new BidJournal.Entry(2, itemId, secondBidderId, List.of(3000), bidTime, endTime,
+                        firstBidderId, 2000, BidJournal.UNAPPLIED_RESERVATION_ID));
+        Path directory = Files.createTempDirectory("bid-journal-recovery");
+        writeSegment(directory, entries, true);
+
+        journal(directory).start();
+
+        assertItem(3000, 3, secondBidderId);
+        assertThat(balance(firstBidderId)).isEqualTo(10_000);
+        assertThat(balance(secondBidderId)).isEqualTo(7000);
+        assertThat(heldReservations()).containsExactly(secondBidderId + ":3000");
+        assertThat(Files.readString(directory.resolve("checkpoint"))).isEqualTo("2");
+
+        // ✅ 반영 지점 기록 전에 중단된 경우: 같은 기록을 다시 반영해도 결과가 같아야 함
+        Files.delete(directory.resolve("checkpoint"));
+        writeSegment(directory, entries, false);
+        journal(directory).start();
+
+        assertItem(3000, 3, secondBidderId);
+        assertThat(balance(secondBidderId)).isEqualTo(7000);
+        assertThat(heldReservations()).containsExactly(secondBidderId + ":3000");
+    }
+
+    @Test
+    void unappliableEntriesAreDeadLetteredWithoutBlockingLaterEntries() throws IOException {
+        Long poisonItemId = insertItem();
+        Long shortItemId = insertItem();
+        doThrow(new IllegalStateException("반영 불가")).when(bidPersistenceService)
+                .applyJournaledBids(argThat(entry -> poisonItemId.equals(entry.auctionItemId())));
+        doThrow(new InsufficientPointsException()).when(bidPersistenceService)
+                .applyJournaledBids(argThat(entry -> shortItemId.equals(entry.auctionItemId())));
+
+        assertThat(bidEngine.placeBid(user(firstBidderId), poisonItemId, 2000).isAccepted()).isTrue();
+        assertThat(bidEngine.placeBid(user(secondBidderId), shortItemId, 2000).isAccepted()).isTrue();
+        assertThat(bidEngine.placeBid(user(secondBidderId), itemId, 3000).isAccepted()).isTrue();
+
+        // ✅ 반영할 수 없는 기록이 있어도 반영 대기가 끝나고, 뒤의 기록은 반영됨
+        bidEngine.awaitPersisted(poisonItemId);
+        bidEngine.awaitPersisted(shortItemId);
+        bidEngine.awaitPersisted(itemId);
+        assertItem(3000, 1, secondBidderId);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from bids where auction_item_id in (?, ?)",
+                Integer.class, poisonItemId, shortItemId)).isZero();
+        assertThat(balance(firstBidderId)).isEqualTo(10_000);
+        assertThat(balance(secondBidderId)).isEqualTo(7000);
+
+        // ✅ 격리된 기록은 보상 대상으로 격리 파일에 남음
+        assertThat(readDeadLetters()).extracting(BidJournal.Entry::auctionItemId, BidJournal.Entry::finalAmount)
+                .containsExactlyInAnyOrder(tuple(poisonItemId, 2000), tuple(shortItemId, 2000));
+
+        // ✅ DB 와 달라진 장부는 내려가고, 다음 입찰은 DB 상태(입찰 없음)로 다시 적재한 장부로 처리
+        assertThat(bidEngine.peekBook(poisonItemId)).isNull();
+        assertThat(bidEngine.peekBook(shortItemId)).isNull();
+        reset(bidPersistenceService);
+        assertThat(bidEngine.placeBid(user(secondBidderId), poisonItemId, 1500).isAccepted()).isTrue();
+        bidEngine.awaitPersisted(poisonItemId);
+        assertThat(jdbcTemplate.queryForObject("select current_price from auction_item where id = ?",
+                Integer.class, poisonItemId)).isEqualTo(1500);
+    }
+
+    private static List<BidJournal.Entry> readDeadLetters() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(journalDirectory.resolve("dead-letter.log")));
+        List<BidJournal.Entry> entries = new ArrayList<>();
+        while (buffer.hasRemaining()) {
+            int length = buffer.getInt();
+            buffer.getInt(); // CRC32C
+            entries.add(BidJournal.Entry.decode(buffer.slice(buffer.position(), length)));
+            buffer.position(buffer.position() + length);
+        }
+        return entries;
+    }
+
+    private BidJournal journal(Path directory) {
+        return new BidJournal(bidPersistenceService, pointLedgerService, softClosePolicy, transactionTemplate,
+                eventPublisher, new SimpleMeterRegistry(), new WorkerThreads(false), false, directory,
+                DataSize.ofMegabytes(1), 500, 2, Duration.ofMillis(10));
+    }
+
+    private static void writeSegment(Path directory, List<BidJournal.Entry> entries, boolean tornTail) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory.resolve("bids-00000000000000000001.log"),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (BidJournal.Entry entry : entries) {
+                channel.write(entry.encode());
+            }
+            if (tornTail) {
+                ByteBuffer torn = entries.get(0).encode();
+                channel.write(torn.limit(torn.limit() / 2)); // 기록 도중 중단된 마지막 기록
+            }
+        }
+    }
+
+    private void assertItem(int currentPrice, int bidCount, Long highestBidderId) {
+        assertThat(jdbcTemplate.queryForMap("select current_price, bid_count, highest_bidder_id from auction_item where id = ?", itemId))
+                .containsEntry("CURRENT_PRICE", currentPrice)
+                .containsEntry("BID_COUNT", bidCount)
+                .containsEntry("HIGHEST_BIDDER_ID", highestBidderId);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from bids where auction_item_id = ?", Integer.class, itemId))
+                .isEqualTo(bidCount);
+    }
+
+    private List<String> heldReservations() {
+        return jdbcTemplate.queryForList("select user_id || ':' || amount from point_reservation "
+                + "where auction_item_id = ? and status = 'HELD'", String.class, itemId);
+    }
+
+    private int balance(Long userId) {
+        return testData.balance(userId);
+    }
+
+    private User user(Long id) {
+        return userRepository.findById(id).orElseThrow();
+    }
+
+    private Long insertItem() {
+        return testData.insertOpenItem(testData.insertUser(0));
+    }
+}
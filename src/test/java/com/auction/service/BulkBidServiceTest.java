@@ -0,0 +1,78 @@
+package com.auction.service;
+
+import com.auction.config.WorkerThreads;
+import com.auction.domain.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 대량 입찰 처리에서 상품 하나의 처리가 실패해도 나머지 상품은 계속 처리되고,
+ * 실패한 상품의 입찰마다 오류 결과 줄(NDJSON)이 나가는지 확인
+ */
+class BulkBidServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private BidRouter bidRouter;
+    private BulkBidService bulkBidService;
+    private User bidder;
+
+    @BeforeEach
+    void setUp() {
+        bidRouter = mock(BidRouter.class);
+        bidder = mock(User.class);
+        when(bidder.getId()).thenReturn(7L);
+        bulkBidService = new BulkBidService(bidRouter, objectMapper, new WorkerThreads(false), 2, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkBidService.stop();
+    }
+
+    @Test
+    void failedItemYieldsErrorLinesWhileOtherItemsComplete() throws Exception {
+        when(bidRouter.placeBids(any(), eq(1L), anyList()))
+                .thenReturn(List.of(BidResult.accepted(2000), BidResult.accepted(2100)));
+        when(bidRouter.placeBids(any(), eq(2L), anyList()))
+                .thenThrow(new IllegalStateException("입찰 담당 노드에 연결할 수 없습니다."));
+        when(bidRouter.placeBids(any(), eq(3L), anyList()))
+                .thenReturn(List.of(BidResult.rejected(BidResult.Status.AMOUNT_TOO_LOW, 5000)));
+
+        List<BulkBidService.BulkBid> bids = bulkBidService.read(new ByteArrayInputStream((
+                "{\"auctionItemId\":1,\"bidAmount\":2000}\n"
+                        + "{\"auctionItemId\":2,\"bidAmount\":3000}\n"
+                        + "{\"auctionItemId\":1,\"bidAmount\":2100}\n"
+                        + "{\"auctionItemId\":2,\"bidAmount\":3100}\n"
+                        + "{\"auctionItemId\":3,\"bidAmount\":4000}\n").getBytes(StandardCharsets.UTF_8)));
+
+        List<BulkBidService.BulkBidResult> results = new ArrayList<>();
+        bulkBidService.process(bidder, bids, results::addAll);
+        results.sort(Comparator.comparingInt(BulkBidService.BulkBidResult::index));
+
+        assertThat(results).extracting(BulkBidService.BulkBidResult::status).containsExactly(
+                BidResult.Status.ACCEPTED, null, BidResult.Status.ACCEPTED, null, BidResult.Status.AMOUNT_TOO_LOW);
+        assertThat(results.get(1).error()).isEqualTo("입찰 담당 노드에 연결할 수 없습니다.");
+        assertThat(results.get(3).error()).isEqualTo("입찰 담당 노드에 연결할 수 없습니다.");
+
+        // ✅ 결과 줄: 처리한 입찰은 status / currentPrice, 처리하지 못한 입찰은 error 만
+        assertThat(objectMapper.writeValueAsString(results.get(0)))
+                .isEqualTo("{\"index\":0,\"auctionItemId\":1,\"bidAmount\":2000,\"status\":\"ACCEPTED\",\"currentPrice\":2000}");
+        assertThat(objectMapper.writeValueAsString(results.get(1)))
+                .isEqualTo("{\"index\":1,\"auctionItemId\":2,\"bidAmount\":3000,\"error\":\"입찰 담당 노드에 연결할 수 없습니다.\"}");
+    }
+}
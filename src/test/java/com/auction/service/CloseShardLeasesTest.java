@@ -0,0 +1,154 @@
+package com.auction.service;
+
+import com.auction.domain.AuctionStatus;
+import com.auction.domain.CloseShardLease;
+import com.auction.repository.AuctionItemRepository;
+import com.auction.repository.ClusterNodeRepository;
+import com.auction.repository.CloseShardLeaseRepository;
+import com.auction.support.MutableClock;
+import com.auction.support.TestData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 마감 처리 샤드 임대의 분배 / 재분배 / 장애 노드 인수 테스트
+ * - 애플리케이션 자체는 샤드 임대를 끈 상태로 실행하고, 노드는 같은 DB 를 쓰는 임대 인스턴스를 직접 만들어 흉내 냄
+ * - 임대 만료는 시계를 앞당겨 확인 (실제로 기다리지 않음)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CloseShardLeasesTest {
+
+    private static final int SHARDS = 8;
+    private static final Duration LEASE_TTL = Duration.ofSeconds(30);
+
+    @Autowired
+    private CloseShardLeaseRepository leaseRepository;
+    @Autowired
+    private ClusterNodeRepository nodeRepository;
+    @Autowired
+    private AuctionItemRepository auctionItemRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Map<String, ClusterMembership> memberships = new HashMap<>();
+    private final MutableClock clock = MutableClock.startingNow();
+
+    @AfterEach
+    void tearDown() {
+        memberships.values().forEach(ClusterMembership::stop);
+        jdbcTemplate.update("delete from close_shard_lease");
+    }
+
+    @Test
+    void shardsAreSplitBetweenNodesAndTakenOverWhenNodeStops() {
+        CloseShardLeases first = node("node-a");
+        CloseShardLeases second = node("node-b");
+
+        // ✅ 혼자 실행 중이면 모든 샤드를 임대
+        assertThat(first.rebalance().acquired()).hasSize(SHARDS);
+
+        // ✅ 노드가 추가되면 기존 노드가 몫을 넘는 샤드를 반납하고 새 노드가 가져감
+        second.rebalance();
+        assertThat(first.rebalance().released()).hasSize(SHARDS / 2);
+        assertThat(second.rebalance().acquired()).hasSize(SHARDS / 2);
+        assertThat(first.getOwnedShards()).doesNotContainAnyElementsOf(second.getOwnedShards());
+        assertThat(union(first, second)).isEqualTo(allShards());
+
+        // ✅ 같은 상품은 정확히 한 노드만 담당
+        for (long itemId = 1; itemId <= 100; itemId++) {
+            assertThat(first.owns(itemId)).isNotEqualTo(second.owns(itemId));
+        }
+
+        // ✅ 노드가 멈추면(임대 갱신 중단) 만료 후 남은 노드가 모두 가져감
+        clock.advance(LEASE_TTL.multipliedBy(2));
+        assertThat(second.rebalance().acquired()).isEqualTo(first.getOwnedShards());
+        assertThat(second.getOwnedShards()).isEqualTo(allShards());
+
+        // ✅ 정상 종료한 노드의 샤드는 만료를 기다리지 않고 바로 가져감
+        second.stop();
+        memberships.get("node-b").stop();
+        first.rebalance();
+        assertThat(first.getOwnedShards()).isEqualTo(allShards());
+        first.stop();
+    }
+
+    @Test
+    void creatingShardsNeverOverwritesExistingLease() {
+        CloseShardLeases owner = node("node-owner");
+        owner.rebalance();
+        LocalDateTime expiresAt = leaseRepository.findById(0).orElseThrow().getExpiresAt();
+
+        // ✅ 다른 노드가 같은 샤드 행을 늦게 만들려 해도 INSERT 만 시도하므로 키 중복으로 실패하고 임대는 그대로
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+                leaseRepository.saveAndFlush(CloseShardLease.vacant(0, LocalDateTime.now(clock)))))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(leaseRepository.findById(0).orElseThrow())
+                .satisfies(lease -> assertThat(lease.getOwner()).isEqualTo("node-owner"))
+                .satisfies(lease -> assertThat(lease.getExpiresAt()).isEqualTo(expiresAt));
+
+        // ✅ 나중에 시작한 노드도 기존 임대를 비우지 않음
+        node("node-late").rebalance();
+        assertThat(owner.rebalance().released()).hasSize(SHARDS / 2);
+        owner.stop();
+    }
+
+    @Test
+    void shardQueryReturnsOnlyItemsOfGivenShards() {
+        TestData testData = new TestData(jdbcTemplate);
+        Long sellerId = testData.insertUser(0);
+        for (int i = 0; i < 20; i++) {
+            testData.insertOpenItem(sellerId);
+        }
+        CloseShardLeases leases = node("node-query");
+
+        List<AuctionItemRepository.CloseSchedule> schedules =
+                auctionItemRepository.findCloseSchedulesInShards(AuctionStatus.OPEN, SHARDS, List.of(1L, 3L), 0L);
+
+        assertThat(schedules).isNotEmpty()
+                .allSatisfy(schedule -> assertThat(leases.shardOf(schedule.getId())).isIn(1, 3));
+        long expected = jdbcTemplate.queryForList("select id from auction_item where status = 'OPEN'", Long.class)
+                .stream().filter(id -> id % SHARDS == 1 || id % SHARDS == 3).count();
+        assertThat(schedules).hasSize((int) expected);
+    }
+
+    private CloseShardLeases node(String nodeId) {
+        ClusterMembership membership = new ClusterMembership(nodeRepository, transactionTemplate, event -> { }, clock,
+                false, nodeId, "", LEASE_TTL, 1);
+        memberships.put(nodeId, membership);
+        return new CloseShardLeases(leaseRepository, membership, transactionTemplate, clock, new SimpleMeterRegistry(),
+                true, SHARDS, LEASE_TTL);
+    }
+
+    private static Set<Integer> union(CloseShardLeases first, CloseShardLeases second) {
+        Set<Integer> union = new HashSet<>(first.getOwnedShards());
+        union.addAll(second.getOwnedShards());
+        return union;
+    }
+
+    private static Set<Integer> allShards() {
+        return IntStream.range(0, SHARDS).boxed().collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,121 @@
+package com.auction.service;
+
+import com.auction.domain.User;
+import com.auction.repository.UserRepository;
+import com.auction.support.TestData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 낙관적 잠금(@Version)과 충돌 재시도로 갱신 유실 / 중복 처리가 일어나지 않는지 확인
+ * - 엔티티를 읽은 뒤 다른 트랜잭션이 조건부 UPDATE 로 같은 행을 바꾸면 저장이 롤백되고 다시 읽어서 처리됨
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ConflictRetryTest {
+
+    @Autowired
+    private ConflictRetry conflictRetry;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private AuctionItemService auctionItemService;
+    @Autowired
+    private PointLedgerService pointLedgerService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TestData testData;
+
+    @BeforeEach
+    void setUp() {
+        testData = new TestData(jdbcTemplate);
+    }
+
+    @Test
+    void banRetriesInsteadOfOverwritingConcurrentPointChange() {
+        Long userId = testData.insertUser(1000);
+        double conflictsBefore = attempts("ban", "conflict");
+        AtomicInteger attempt = new AtomicInteger();
+
+        Optional<User> banned = conflictRetry.execute("ban", () -> {
+            Optional<User> user = userService.updateBanned(userId, true);
+            if (attempt.incrementAndGet() == 1) {
+                // ✅ 엔티티를 읽은 뒤, 커밋 전에 다른 트랜잭션에서 포인트 적립
+                CompletableFuture.runAsync(() -> pointLedgerService.credit(userId, 500, null)).join();
+            }
+            return user;
+        });
+
+        assertThat(banned).isPresent();
+        assertThat(attempt.get()).isEqualTo(2);
+        assertThat(attempts("ban", "conflict") - conflictsBefore).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForMap("select points, is_banned from users where id = ?", userId))
+                .containsEntry("POINTS", 1500)
+                .containsEntry("IS_BANNED", true);
+    }
+
+    @Test
+    void concurrentConfirmationsPaySellerOnce() throws Exception {
+        Long sellerId = testData.insertUser(0);
+        Long buyerId = testData.insertUser(0);
+        Long itemId = testData.insertSoldItem(sellerId, buyerId, 5000);
+        User buyer = userRepository.findById(buyerId).orElseThrow();
+
+        int requests = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < requests; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                        conflictRetry.run("confirm", () -> auctionItemService.confirmPurchase(itemId, buyer));
+                        return true;
+                    } catch (IllegalStateException e) {
+                        return false; // 이미 구매 확정된 상품
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }, executor));
+            }
+            start.countDown();
+            long confirmed = results.stream().filter(CompletableFuture::join).count();
+
+            assertThat(confirmed).isEqualTo(1);
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(pointLedgerService.getBalance(sellerId)).isEqualTo(5000);
+        assertThat(jdbcTemplate.queryForObject("select purchased from auction_item where id = ?", Boolean.class, itemId))
+                .isTrue();
+    }
+
+    private double attempts(String operation, String result) {
+        Counter counter = meterRegistry.find("auction.conflict.attempts")
+                .tag("operation", operation).tag("result", result).counter();
+        return (counter != null) ? counter.count() : 0;
+    }
+}
@@ -0,0 +1,116 @@
+package com.auction.service;
+
+import com.auction.config.WorkerThreads;
+import com.auction.domain.AuctionStatus;
+import com.auction.event.BidAcceptedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실시간 시세 전송 제한 시간 확인 (전송 스레드 1개, 소켓 쓰기 대신 SseEmitter 를 대신함)
+ * - 읽지 않는 구독자로 전송이 막히면 다른 상품의 구독자도 전송을 받지 못함
+ * - 제한 시간을 넘긴 구독자를 정리하면 그 구독만 끊기고, 막힌 스레드가 풀리지 않아도 다른 구독자의 전송은 계속됨
+ */
+class LivePriceBroadcasterTest {
+
+    private static final Duration SEND_TIMEOUT = Duration.ofMillis(200);
+    private static final Long STUCK_ITEM_ID = 1L;
+    private static final Long HEALTHY_ITEM_ID = 2L;
+
+    private final CountDownLatch stuckSendStarted = new CountDownLatch(1);
+    private final CountDownLatch stuckSendInterrupted = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final BlockingQueue<String> delivered = new LinkedBlockingQueue<>();
+
+    private SimpleMeterRegistry meterRegistry;
+    private LivePriceBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new LivePriceBroadcaster(new ObjectMapper().findAndRegisterModules(), meterRegistry,
+                new WorkerThreads(false), 1, Duration.ofMinutes(30), SEND_TIMEOUT, 100) {
+            private boolean first = true;
+
+            @Override
+            SseEmitter createEmitter() {
+                boolean stuck = first;
+                first = false;
+                return stuck ? new StuckEmitter() : new RecordingEmitter();
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        broadcaster.stop();
+    }
+
+    @Test
+    void stalledSubscriberIsDroppedWithoutBlockingOtherItems() throws Exception {
+        LocalDateTime endTime = LocalDateTime.now().plusHours(1);
+        broadcaster.subscribe(STUCK_ITEM_ID, 1000, 0, endTime, AuctionStatus.OPEN);
+        assertThat(stuckSendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        broadcaster.subscribe(HEALTHY_ITEM_ID, 2000, 0, endTime, AuctionStatus.OPEN);
+
+        // ✅ 유일한 전송 스레드가 막혀 있으므로 다른 상품의 구독자도 현재 시세를 받지 못함
+        assertThat(delivered.poll(SEND_TIMEOUT.toMillis() * 2, TimeUnit.MILLISECONDS)).isNull();
+
+        broadcaster.dropStalledSubscribers();
+
+        assertThat(delivered.poll(5, TimeUnit.SECONDS)).contains("\"price\":2000");
+        assertThat(stuckSendInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("auction.live.subscribers").gauge().value()).isEqualTo(1);
+
+        broadcaster.onBidAccepted(new BidAcceptedEvent(HEALTHY_ITEM_ID, 2500, 7L, 1, endTime));
+        assertThat(delivered.poll(5, TimeUnit.SECONDS)).contains("\"price\":2500");
+    }
+
+    /**
+     * 클라이언트가 읽지 않아 소켓 쓰기가 끝나지 않는 연결 (중단 요청에도 풀리지 않음)
+     */
+    private class StuckEmitter extends SseEmitter {
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            stuckSendStarted.countDown();
+            while (true) {
+                try {
+                    release.await();
+                    throw new IOException("연결 종료");
+                } catch (InterruptedException e) {
+                    stuckSendInterrupted.countDown();
+                }
+            }
+        }
+    }
+
+    /**
+     * 전송된 프레임을 기록하는 연결
+     */
+    private class RecordingEmitter extends SseEmitter {
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            StringBuilder frame = new StringBuilder();
+            items.forEach(item -> frame.append(item.getData()));
+            delivered.add(frame.toString());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.auction.service;
+
+import com.auction.domain.MailOutbox;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 가짜 SMTP 서버(GreenMail)를 대상으로 한 메일 묶음 발송 테스트
+ */
+class MailBatchSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Test
+    void sendsWholeBatchOverSingleCall() throws Exception {
+        MailBatchSender sender = new MailBatchSender(mailSender(greenMail.getSmtp().getPort()));
+
+        Map<Long, String> failures = sender.send(List.of(
+                mail(1L, "winner1@example.com", "낙찰 안내 1"),
+                mail(2L, "winner2@example.com", "낙찰 안내 2")));
+
+        assertThat(failures).isEmpty();
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(2);
+        assertThat(received[0].getSubject()).isEqualTo("낙찰 안내 1");
+    }
+
+    @Test
+    void reportsOnlyMalformedMessagesAsFailed() {
+        MailBatchSender sender = new MailBatchSender(mailSender(greenMail.getSmtp().getPort()));
+
+        Map<Long, String> failures = sender.send(List.of(
+                mail(1L, "winner@example.com", "낙찰 안내"),
+                mail(2L, "not an address", "낙찰 안내")));
+
+        assertThat(failures).containsOnlyKeys(2L);
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    }
+
+    @Test
+    void reportsEveryMessageWhenServerIsUnreachable() {
+        MailBatchSender sender = new MailBatchSender(mailSender(1)); // 연결 불가 포트
+
+        Map<Long, String> failures = sender.send(List.of(
+                mail(1L, "winner1@example.com", "낙찰 안내 1"),
+                mail(2L, "winner2@example.com", "낙찰 안내 2")));
+
+        assertThat(failures).containsOnlyKeys(1L, 2L);
+    }
+
+    @Test
+    void backoffDoublesUntilCap() {
+        Duration initial = Duration.ofSeconds(30);
+        Duration max = Duration.ofMinutes(5);
+
+        assertThat(MailOutboxDispatcher.backoff(1, initial, max)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(MailOutboxDispatcher.backoff(2, initial, max)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(MailOutboxDispatcher.backoff(4, initial, max)).isEqualTo(Duration.ofSeconds(240));
+        assertThat(MailOutboxDispatcher.backoff(5, initial, max)).isEqualTo(max);
+        assertThat(MailOutboxDispatcher.backoff(100, initial, max)).isEqualTo(max);
+    }
+
+    private static JavaMailSenderImpl mailSender(int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+        mailSender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "2000");
+        return mailSender;
+    }
+
+    private static MailOutbox mail(Long id, String recipient, String subject) {
+        return MailOutbox.builder()
+                .id(id)
+                .recipient(recipient)
+                .subject(subject)
+                .body("<p>" + subject + "</p>")
+                .status(MailOutbox.Status.SENDING)
+                .attempts(1)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
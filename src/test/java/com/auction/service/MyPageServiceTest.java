@@ -0,0 +1,91 @@
+package com.auction.service;
+
+import com.auction.config.WorkerThreads;
+import com.auction.repository.AuctionItemRepository;
+import com.auction.repository.AuctionItemRepository.CatalogEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 마이페이지 목록 동시 조회 확인 (DB 없이 AuctionItemRepository 를 대신함)
+ * - 세 목록 조회가 모두 동시에 진행 중이어야 통과하는 래치로, 순차 조회로 바뀌면 실패
+ * - 한 목록 조회가 실패하면 원래 예외가 그대로 전달됨
+ */
+class MyPageServiceTest {
+
+    private static final Long USER_ID = 7L;
+
+    private AuctionItemRepository auctionItemRepository;
+    private MyPageService myPageService;
+
+    @BeforeEach
+    void setUp() {
+        auctionItemRepository = mock(AuctionItemRepository.class);
+        BidEngine bidEngine = mock(BidEngine.class);
+        myPageService = new MyPageService(auctionItemRepository, new AuctionPriceService(bidEngine),
+                new WorkerThreads(false), 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        myPageService.stop();
+    }
+
+    @Test
+    void loadsTheThreeListsConcurrently() {
+        CountDownLatch allRunning = new CountDownLatch(3);
+        CatalogEntry listed = entry(1L, 1000, 1500);
+        CatalogEntry participating = entry(2L, 1000, 0);
+        CatalogEntry won = entry(3L, 1000, 4000);
+        when(auctionItemRepository.findSellerEntries(USER_ID)).thenAnswer(invocation -> await(allRunning, listed));
+        when(auctionItemRepository.findParticipatingEntries(USER_ID)).thenAnswer(invocation -> await(allRunning, participating));
+        when(auctionItemRepository.findWinnerEntries(USER_ID)).thenAnswer(invocation -> await(allRunning, won));
+
+        MyPageService.MyPage page = myPageService.getMyPage(USER_ID);
+
+        assertThat(page.listedItems()).containsExactly(listed);
+        assertThat(page.participatingItems()).containsExactly(participating);
+        assertThat(page.wonItems()).containsExactly(won);
+        assertThat(page.prices()).containsEntry(1L, 1500).containsEntry(2L, 1000).containsEntry(3L, 4000);
+    }
+
+    @Test
+    void failingQueryPropagatesOriginalException() {
+        when(auctionItemRepository.findSellerEntries(USER_ID)).thenReturn(List.of());
+        when(auctionItemRepository.findParticipatingEntries(USER_ID)).thenThrow(new IllegalStateException("조회 실패"));
+        when(auctionItemRepository.findWinnerEntries(USER_ID)).thenReturn(List.of());
+
+        assertThatThrownBy(() -> myPageService.getMyPage(USER_ID))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("조회 실패");
+    }
+
+    /**
+     * 세 조회가 모두 시작될 때까지 대기한 뒤 결과 반환 (제한 시간 안에 모이지 않으면 실패)
+     */
+    private static List<CatalogEntry> await(CountDownLatch allRunning, CatalogEntry entry) throws InterruptedException {
+        allRunning.countDown();
+        if (!allRunning.await(5, TimeUnit.SECONDS)) {
+            throw new AssertionError("마이페이지 목록이 동시에 조회되지 않음");
+        }
+        return List.of(entry);
+    }
+
+    private static CatalogEntry entry(Long id, int startPrice, int currentPrice) {
+        CatalogEntry entry = mock(CatalogEntry.class);
+        when(entry.getId()).thenReturn(id);
+        when(entry.getStartPrice()).thenReturn(startPrice);
+        when(entry.getCurrentPrice()).thenReturn(currentPrice);
+        return entry;
+    }
+}
@@ -0,0 +1,121 @@
+package com.auction.service;
+
+import com.auction.support.TestData;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 포인트 원장 서비스 확인
+ * - 동시 예치는 조건부 UPDATE 로 잔액을 넘지 않고, 원장 합계가 잔액과 일치
+ * - 예치 반환은 중복 호출에도 한 번만 반영되고, 이미 처리된 예치는 확정할 수 없음
+ * - 원장 지표(auction.points.ledger)는 커밋된 기록만 반영
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PointLedgerServiceTest {
+
+    @Autowired
+    private PointLedgerService pointLedgerService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestData testData;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        testData = new TestData(jdbcTemplate);
+        userId = testData.insertUser(0);
+    }
+
+    @Test
+    void concurrentHoldsNeverOverdrawBalance() throws Exception {
+        pointLedgerService.charge(userId, 10_000);
+        Long itemId = testData.insertOpenItem(testData.insertUser(0));
+
+        List<Future<Boolean>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 40; i++) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        pointLedgerService.hold(userId, itemId, 1000);
+                        return true;
+                    } catch (InsufficientPointsException e) {
+                        return false;
+                    }
+                }));
+            }
+        }
+        int held = 0;
+        for (Future<Boolean> future : futures) {
+            held += future.get() ? 1 : 0;
+        }
+
+        assertThat(held).isEqualTo(10);
+        assertThat(testData.balance(userId)).isZero();
+        assertThat(ledgerSum("CREDIT") - ledgerSum("HOLD")).isEqualTo(testData.balance(userId));
+    }
+
+    @Test
+    void releaseIsIdempotentAndBlocksCapture() {
+        pointLedgerService.charge(userId, 5000);
+        Long itemId = testData.insertOpenItem(testData.insertUser(0));
+        Long reservationId = pointLedgerService.hold(userId, itemId, 3000);
+        assertThat(testData.balance(userId)).isEqualTo(2000);
+
+        pointLedgerService.release(reservationId);
+        pointLedgerService.release(reservationId);
+
+        assertThat(testData.balance(userId)).isEqualTo(5000);
+        assertThat(ledgerSum("RELEASE")).isEqualTo(3000);
+        assertThatThrownBy(() -> pointLedgerService.capture(reservationId))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(ledgerSum("DEBIT")).isZero();
+    }
+
+    @Test
+    void ledgerMetricCountsOnlyCommittedEntries() {
+        double before = creditCount();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            pointLedgerService.charge(userId, 5000);
+            status.setRollbackOnly();
+        });
+
+        assertThat(creditCount()).isEqualTo(before);
+        assertThat(testData.balance(userId)).isZero();
+
+        pointLedgerService.charge(userId, 5000);
+
+        assertThat(creditCount()).isEqualTo(before + 1);
+        assertThat(testData.balance(userId)).isEqualTo(5000);
+    }
+
+    private int ledgerSum(String type) {
+        return jdbcTemplate.queryForObject("select coalesce(sum(amount), 0) from point_ledger where user_id = ? and type = ?",
+                Integer.class, userId, type);
+    }
+
+    private double creditCount() {
+        return meterRegistry.get("auction.points.ledger").tag("type", "credit").counter().count();
+    }
+}
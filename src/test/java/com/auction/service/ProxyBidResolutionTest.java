@@ -0,0 +1,132 @@
+package com.auction.service;
+
+import com.auction.domain.User;
+import com.auction.repository.UserRepository;
+import com.auction.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자동 입찰 경합 계산 (BidEngine.resolveProxies) 확인
+ * - 최대 금액이 같으면 먼저 등록한 쪽이 그 금액으로 입찰
+ * - 최대 금액에 도달한 자동 입찰은 더 높은 입찰이 들어오면 OUTBID
+ * - 장부와 DB 가 어긋나(conflict) 거절되면 자동 입찰 등록을 되돌리고 장부를 내림
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProxyBidResolutionTest {
+
+    @Autowired
+    private BidEngine bidEngine;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestData testData;
+    private Long itemId;
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        testData = new TestData(jdbcTemplate);
+        itemId = testData.insertOpenItem(testData.insertUser(0));
+        alice = user(testData.insertUser(100_000));
+        bob = user(testData.insertUser(100_000));
+    }
+
+    @Test
+    void equalMaximumsGoToTheEarlierProxyAtThatAmount() {
+        BidResult first = bidEngine.placeProxyBid(alice, itemId, 5000);
+        assertThat(first.isAccepted()).isTrue();
+        assertThat(first.getCurrentPrice()).isEqualTo(1100); // 시작가 + 최소 단위
+
+        BidResult second = bidEngine.placeProxyBid(bob, itemId, 5000);
+
+        assertThat(second.getStatus()).isEqualTo(BidResult.Status.OUTBID);
+        assertThat(second.getCurrentPrice()).isEqualTo(5000);
+        assertItem(5000, alice.getId());
+        assertThat(proxyStatuses()).containsExactly(alice.getId() + ":ACTIVE", bob.getId() + ":OUTBID");
+        assertThat(bids()).containsExactly(alice.getId() + ":1100", alice.getId() + ":5000");
+    }
+
+    @Test
+    void higherChallengerStopsOneIncrementAboveTheOtherMaximum() {
+        bidEngine.placeProxyBid(alice, itemId, 3000);
+        BidResult challenger = bidEngine.placeProxyBid(bob, itemId, 8000);
+
+        // ✅ 2순위의 최대 금액 입찰을 먼저 기록한 뒤 선두가 최소 단위만큼 올라감
+        assertThat(challenger.isAccepted()).isTrue();
+        assertThat(challenger.getCurrentPrice()).isEqualTo(3100);
+        assertThat(bids()).containsExactly(alice.getId() + ":1100", alice.getId() + ":3000", bob.getId() + ":3100");
+        assertThat(proxyStatuses()).containsExactly(alice.getId() + ":OUTBID", bob.getId() + ":ACTIVE");
+    }
+
+    @Test
+    void proxyAtItsMaximumIsOutbidByHigherManualBid() {
+        bidEngine.placeProxyBid(alice, itemId, 3000);
+
+        // ✅ 수동 입찰에 자동 응찰 (최대 금액까지)
+        assertThat(bidEngine.placeBid(bob, itemId, 2950).getStatus()).isEqualTo(BidResult.Status.OUTBID);
+        assertItem(3000, alice.getId());
+
+        // ✅ 최대 금액을 넘는 입찰에는 응찰하지 못하고 OUTBID
+        assertThat(bidEngine.placeBid(bob, itemId, 3500).isAccepted()).isTrue();
+        assertItem(3500, bob.getId());
+        assertThat(proxyStatuses()).containsExactly(alice.getId() + ":OUTBID");
+    }
+
+    @Test
+    void conflictRevertsRegistrationAndEvictsBook() {
+        bidEngine.placeBid(alice, itemId, 2000);
+        assertThat(bidEngine.peekBook(itemId)).isNotNull();
+        // ✅ 다른 경로로 DB 가 장부보다 앞서 나감
+        jdbcTemplate.update("update auction_item set current_price = 9000 where id = ?", itemId);
+
+        BidResult result = bidEngine.placeProxyBid(bob, itemId, 8000);
+
+        assertThat(result.getStatus()).isEqualTo(BidResult.Status.AMOUNT_TOO_LOW);
+        assertThat(proxyStatuses()).isEmpty();
+        assertThat(bidEngine.peekBook(itemId)).isNull();
+
+        // ✅ 상회된 자동 입찰의 최대 금액을 다시 올리다 거절되면 이전 상태로 복원
+        jdbcTemplate.update("update auction_item set current_price = 2000 where id = ?", itemId);
+        bidEngine.placeProxyBid(bob, itemId, 3000);
+        bidEngine.placeBid(alice, itemId, 3500);
+        jdbcTemplate.update("update auction_item set current_price = 9500 where id = ?", itemId);
+
+        assertThat(bidEngine.placeProxyBid(bob, itemId, 9000).getStatus()).isEqualTo(BidResult.Status.AMOUNT_TOO_LOW);
+        assertThat(proxyStatuses()).containsExactly(bob.getId() + ":OUTBID");
+        assertThat(jdbcTemplate.queryForObject("select max_amount from proxy_bid where auction_item_id = ?",
+                Integer.class, itemId)).isEqualTo(3000);
+    }
+
+    private void assertItem(int currentPrice, Long highestBidderId) {
+        assertThat(jdbcTemplate.queryForMap("select current_price, highest_bidder_id from auction_item where id = ?", itemId))
+                .containsEntry("CURRENT_PRICE", currentPrice)
+                .containsEntry("HIGHEST_BIDDER_ID", highestBidderId);
+    }
+
+    private List<String> proxyStatuses() {
+        return jdbcTemplate.queryForList("select user_id || ':' || status from proxy_bid "
+                + "where auction_item_id = ? order by id", String.class, itemId);
+    }
+
+    private List<String> bids() {
+        return jdbcTemplate.queryForList("select user_id || ':' || bid_amount from bids "
+                + "where auction_item_id = ? order by bid_amount", String.class, itemId);
+    }
+
+    private User user(Long id) {
+        return userRepository.findById(id).orElseThrow();
+    }
+}
@@ -0,0 +1,95 @@
+package com.auction.service;
+
+import com.auction.domain.User;
+import com.auction.repository.AuctionItemRepository;
+import com.auction.repository.UserRepository;
+import com.auction.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마감 연장(soft-close) 확인 (기본 설정: 마감 30초 전부터 입찰 시 30초 연장)
+ * - 연장 구간 안의 입찰은 DB 의 마감 시간을 늦추고, 구간 밖의 입찰은 그대로 둠
+ * - 늦게 반영되는 입찰이 오래된 마감 시간을 가져와도 DB 의 마감 시간을 앞당기지 않음
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SoftCloseTest {
+
+    private static final Duration EXTENSION = Duration.ofSeconds(30);
+
+    @Autowired
+    private BidEngine bidEngine;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AuctionItemRepository auctionItemRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long itemId;
+    private User bidder;
+
+    @BeforeEach
+    void setUp() {
+        TestData testData = new TestData(jdbcTemplate);
+        itemId = testData.insertOpenItem(testData.insertUser(0));
+        bidder = userRepository.findById(testData.insertUser(100_000)).orElseThrow();
+    }
+
+    @Test
+    void bidInsideWindowExtendsEndTime() {
+        LocalDateTime endTime = setEndTime(LocalDateTime.now().plusSeconds(10));
+
+        BidResult result = bidEngine.placeBid(bidder, itemId, 2000);
+
+        assertThat(result.isAccepted()).isTrue();
+        assertThat(endTime()).isEqualTo(endTime.plus(EXTENSION));
+    }
+
+    @Test
+    void bidOutsideWindowKeepsEndTime() {
+        LocalDateTime endTime = setEndTime(LocalDateTime.now().plusMinutes(10));
+
+        BidResult result = bidEngine.placeBid(bidder, itemId, 2000);
+
+        assertThat(result.isAccepted()).isTrue();
+        assertThat(endTime()).isEqualTo(endTime);
+    }
+
+    @Test
+    void staleEndTimeNeverMovesDeadlineBack() {
+        LocalDateTime extended = setEndTime(LocalDateTime.now().plusSeconds(40));
+        LocalDateTime stale = extended.minus(EXTENSION);
+
+        // ✅ 다른 입찰이 먼저 연장한 뒤, 연장 전 마감 시간으로 계산된 입찰이 반영됨
+        int updated = transactionTemplate.execute(status ->
+                auctionItemRepository.applyBid(itemId, 3000, bidder.getId(), LocalDateTime.now(), stale, 1));
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(endTime()).isEqualTo(extended);
+    }
+
+    private LocalDateTime setEndTime(LocalDateTime endTime) {
+        LocalDateTime truncated = endTime.truncatedTo(ChronoUnit.MICROS);
+        jdbcTemplate.update("update auction_item set end_time = ? where id = ?", truncated, itemId);
+        return truncated;
+    }
+
+    private LocalDateTime endTime() {
+        return jdbcTemplate.queryForObject("select end_time from auction_item where id = ?", LocalDateTime.class, itemId);
+    }
+}
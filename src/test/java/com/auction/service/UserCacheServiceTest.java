@@ -0,0 +1,85 @@
+package com.auction.service;
+
+import com.auction.domain.User;
+import com.auction.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 사용자 조회 캐시 확인 (DB 없이 UserRepository 를 대신함)
+ * - 같은 사용자를 ID / 이메일로 다시 조회하면 DB 를 조회하지 않음
+ * - 트랜잭션 안에서 제거하면 커밋 전에 다시 적재된 이전 값도 트랜잭션 종료 시 제거됨
+ */
+class UserCacheServiceTest {
+
+    private static final Long USER_ID = 7L;
+    private static final String EMAIL = "user@example.com";
+
+    private UserRepository userRepository;
+    private UserCacheService userCacheService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        User user = user(1000);
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        userCacheService = new UserCacheService(userRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void repeatedLookupsByIdAndEmailHitTheCache() {
+        assertThat(userCacheService.findByEmail(EMAIL)).map(User::getId).contains(USER_ID);
+        assertThat(userCacheService.findByEmail(EMAIL)).isPresent();
+        assertThat(userCacheService.findById(USER_ID)).isPresent();
+
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+        verify(userRepository, times(0)).findById(USER_ID);
+    }
+
+    @Test
+    void evictInsideTransactionDropsValueReloadedBeforeCommit() {
+        userCacheService.findById(USER_ID);
+
+        TransactionSynchronizationManager.initSynchronization();
+        userCacheService.evict(USER_ID);
+        // ✅ 커밋 전에 다른 요청이 이전 값을 다시 적재
+        assertThat(userCacheService.findById(USER_ID)).map(User::getPoints).contains(1000);
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user(3000)));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(userCacheService.findById(USER_ID)).map(User::getPoints).contains(3000);
+        verify(userRepository, times(3)).findById(USER_ID);
+    }
+
+    private static User user(int points) {
+        User user = new User();
+        user.setId(USER_ID);
+        user.setEmail(EMAIL);
+        user.setName("사용자");
+        user.setPoints(points);
+        return user;
+    }
+}
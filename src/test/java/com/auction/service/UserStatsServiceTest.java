@@ -0,0 +1,137 @@
+package com.auction.service;
+
+import com.auction.controller.AdminController;
+import com.auction.domain.User;
+import com.auction.domain.UserStatCounts;
+import com.auction.repository.UserRepository;
+import com.auction.repository.UserStatsRepository;
+import com.auction.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.ui.ExtendedModelMap;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 입찰 / 마감 / 구매 확정 / 상품 삭제 시 기록한 통계 증분이 원본 테이블로부터 다시 구성한 통계와 같은지 확인
+ * - 합산(compaction) 전후로 조회 결과가 달라지지 않아야 함
+ * - 재구성은 다른 노드의 합산 / 재구성이 잡고 있는 잠금 행을 기다린 뒤 진행
+ */
+@SpringBootTest(properties = "auction.stats.compaction-batch-size=3")
+@ActiveProfiles("test")
+class UserStatsServiceTest {
+
+    @Autowired
+    private UserStatsService userStatsService;
+    @Autowired
+    private BidEngine bidEngine;
+    @Autowired
+    private AuctionItemService auctionItemService;
+    @Autowired
+    private AdminController adminController;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserStatsRepository userStatsRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void incrementalStatsMatchRebuiltStats() {
+        TestData testData = new TestData(jdbcTemplate);
+        Long sellerId = testData.insertUser(0);
+        User alice = userRepository.findById(testData.insertUser(100_000)).orElseThrow();
+        User bob = userRepository.findById(testData.insertUser(100_000)).orElseThrow();
+
+        Long soldItemId = testData.insertOpenItem(sellerId);
+        Long unsoldItemId = testData.insertOpenItem(sellerId);
+        Long openItemId = testData.insertOpenItem(sellerId);
+        Long deletedItemId = testData.insertOpenItem(sellerId);
+
+        // ✅ 낙찰될 상품: alice 2회, bob 1회 (최종 낙찰자 bob)
+        bidEngine.placeBid(alice, soldItemId, 2000);
+        bidEngine.placeBids(alice, soldItemId, List.of(3000));
+        bidEngine.placeBid(bob, soldItemId, 4000);
+        // ✅ 진행 중으로 남을 상품: alice 1회, bob 묶음 2회
+        bidEngine.placeBid(alice, openItemId, 1500);
+        bidEngine.placeBids(bob, openItemId, List.of(1600, 1700));
+        // ✅ 삭제될 상품의 입찰은 삭제 후 통계에서 빠져야 함
+        bidEngine.placeBid(alice, deletedItemId, 5000);
+        List.of(soldItemId, openItemId, deletedItemId).forEach(bidEngine::awaitPersisted);
+
+        // ✅ 마감 시간을 지나게 한 뒤 마감 → 낙찰 / 유찰, 이어서 구매 확정
+        jdbcTemplate.update("update auction_item set end_time = dateadd('SECOND', -1, current_timestamp) where id in (?, ?)",
+                soldItemId, unsoldItemId);
+        auctionItemService.closeAuction(soldItemId);
+        auctionItemService.closeAuction(unsoldItemId);
+        auctionItemService.confirmPurchase(soldItemId, bob);
+        assertThat(adminController.deleteItem(deletedItemId, new ExtendedModelMap())).isEqualTo("redirect:/admin");
+
+        List<Long> userIds = List.of(sellerId, alice.getId(), bob.getId());
+        Map<Long, UserStatCounts> incremental = statsOf(userIds);
+
+        UserStatCounts seller = incremental.get(sellerId);
+        assertThat(seller.getSoldCount()).isEqualTo(1);
+        assertThat(seller.getUnsoldCount()).isEqualTo(1);
+        assertThat(seller.getSellThroughRate()).isEqualTo(0.5);
+        assertThat(seller.getAverageHammerPrice()).isEqualTo(4000);
+        assertThat(seller.getSalesTotal()).isEqualTo(4000);
+        assertThat(seller.getOpenBidCount()).isEqualTo(3);
+        assertThat(incremental.get(alice.getId()).getBidsPlaced()).isEqualTo(3);
+        assertThat(incremental.get(bob.getId()))
+                .isEqualTo(UserStatCounts.builder().bidsPlaced(3).wonCount(1).spentTotal(4000).build());
+
+        // ✅ 합산 전후 조회 결과가 같고, 합산 후 증분이 남지 않음
+        assertThat(userStatsService.compact()).isPositive();
+        assertThat(statsOf(userIds)).isEqualTo(incremental);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from user_stats_delta", Long.class)).isZero();
+
+        // ✅ 원본 테이블로부터 다시 구성해도 같은 값
+        userStatsService.rebuild();
+        assertThat(statsOf(userIds)).isEqualTo(incremental);
+    }
+
+    @Test
+    void rebuildWaitsForMaintenanceLockHeldElsewhere() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // ✅ 다른 노드의 합산 트랜잭션이 잠금 행을 잡고 있는 상황
+        CompletableFuture<Void> otherNode = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    userStatsRepository.lockForMaintenance();
+                    locked.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Integer> rebuild = CompletableFuture.supplyAsync(userStatsService::rebuild);
+        Thread.sleep(300);
+        assertThat(rebuild).isNotDone();
+
+        release.countDown();
+        otherNode.get(5, TimeUnit.SECONDS);
+        assertThat(rebuild.get(5, TimeUnit.SECONDS)).isNotNegative();
+    }
+
+    private Map<Long, UserStatCounts> statsOf(List<Long> userIds) {
+        return userIds.stream().collect(Collectors.toMap(Function.identity(), userStatsService::getStats));
+    }
+}
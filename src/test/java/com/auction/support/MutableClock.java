@@ -0,0 +1,49 @@
+package com.auction.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * 테스트에서 직접 앞당길 수 있는 시계 (만료 시간을 기다리지 않고 시험하기 위함)
+ */
+public class MutableClock extends Clock {
+
+    private final ZoneId zone;
+    private volatile Instant instant;
+
+    public MutableClock(Instant instant, ZoneId zone) {
+        this.instant = instant;
+        this.zone = zone;
+    }
+
+    /**
+     * 🔹 현재 시각에서 시작하는 시계
+     */
+    public static MutableClock startingNow() {
+        return new MutableClock(Instant.now(), ZoneId.systemDefault());
+    }
+
+    /**
+     * 🔹 시간을 앞당김
+     */
+    public void advance(Duration duration) {
+        instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return new MutableClock(instant, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
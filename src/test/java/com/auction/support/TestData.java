@@ -0,0 +1,64 @@
+package com.auction.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 테스트 데이터 생성 도우미 (JDBC 로 직접 INSERT 하여 서비스 로직을 거치지 않음)
+ */
+public class TestData {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TestData(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 🔹 일반 사용자 추가
+     *
+     * @param points 보유 포인트
+     * @return 사용자 ID
+     */
+    public Long insertUser(int points) {
+        jdbcTemplate.update("insert into users (email, password, name, points, is_admin, is_banned) "
+                + "values (random_uuid() || '@example.com', 'x', '사용자', ?, false, false)", points);
+        return jdbcTemplate.queryForObject("select max(id) from users", Long.class);
+    }
+
+    /**
+     * 🔹 진행 중인 경매 상품 추가 (시작 가격 1,000, 하루 뒤 마감, 입찰 없음)
+     *
+     * @param sellerId 판매자 ID
+     * @return 경매 상품 ID
+     */
+    public Long insertOpenItem(Long sellerId) {
+        jdbcTemplate.update("insert into auction_item (name, description, start_price, end_time, user_id, winner_id, "
+                + "purchased, current_price, bid_count, status) "
+                + "values ('상품', '설명', 1000, dateadd('DAY', 1, current_timestamp), ?, null, false, 1000, 0, 'OPEN')",
+                sellerId);
+        return jdbcTemplate.queryForObject("select max(id) from auction_item", Long.class);
+    }
+
+    /**
+     * 🔹 낙찰된(구매 확정 전) 경매 상품 추가 (어제 마감, 입찰 1건이 반영된 요약 컬럼)
+     *
+     * @param sellerId 판매자 ID
+     * @param winnerId 낙찰자 ID
+     * @param price 낙찰가
+     * @return 경매 상품 ID
+     */
+    public Long insertSoldItem(Long sellerId, Long winnerId, int price) {
+        jdbcTemplate.update("insert into auction_item (name, description, start_price, end_time, user_id, winner_id, "
+                + "purchased, current_price, highest_bidder_id, bid_count, status) "
+                + "values ('낙찰 상품', '설명', 1000, dateadd('DAY', -1, current_timestamp), ?, ?, false, ?, ?, 1, 'SOLD')",
+                sellerId, winnerId, price, winnerId);
+        return jdbcTemplate.queryForObject("select max(id) from auction_item", Long.class);
+    }
+
+    /**
+     * 🔹 사용자의 보유 포인트 (DB 값)
+     */
+    public int balance(Long userId) {
+        return jdbcTemplate.queryForObject("select points from users where id = ?", Integer.class, userId);
+    }
+}